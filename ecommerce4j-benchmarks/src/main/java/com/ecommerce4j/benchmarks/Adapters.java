@@ -0,0 +1,36 @@
+package com.ecommerce4j.benchmarks;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+
+/**
+ * 访问适配器内部实现的辅助方法
+ */
+final class Adapters {
+
+    private Adapters() {
+    }
+
+    /**
+     * 与 AbstractAdapter 中的 ObjectMapper 配置一致
+     */
+    static ObjectMapper objectMapper() {
+        return new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+
+    /**
+     * 绑定到指定实例的私有方法句柄，JIT 之后与直接调用的开销相当
+     */
+    static MethodHandle privateMethod(Object target, String name, Class<?>... parameterTypes) throws ReflectiveOperationException {
+        Method method = target.getClass().getDeclaredMethod(name, parameterTypes);
+        method.setAccessible(true);
+        return MethodHandles.lookup().unreflect(method).bindTo(target);
+    }
+}
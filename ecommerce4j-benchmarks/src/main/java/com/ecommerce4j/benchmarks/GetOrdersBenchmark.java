@@ -0,0 +1,74 @@
+package com.ecommerce4j.benchmarks;
+
+import com.ecommerce4j.api.EcommOrderService;
+import com.ecommerce4j.api.dto.AuthContext;
+import com.ecommerce4j.api.dto.OrderQuery;
+import com.ecommerce4j.api.dto.PaginatedResult;
+import com.ecommerce4j.api.dto.UnifiedOrder;
+import com.ecommerce4j.api.enums.Platform;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 端到端的 getOrders：签名、共享传输层（重试、限流、日志拦截器）、本机 HTTP、反序列化和映射。
+ * <p>
+ * 每次调用取一页订单：Shopee 为列表 + 详情两次请求，Lazada 为订单头 + 批量商品行两次请求，
+ * TikTok Shop 为一次请求，Mercado Libre 为订单搜索 + 每单一次货运查询 + 批量商品查询。
+ * 运行：java -jar target/benchmarks.jar GetOrders -prof gc
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GetOrdersBenchmark {
+
+    @Param({"SHOPEE", "TIKTOK_SHOP", "MERCADO_LIBRE", "LAZADA"})
+    public Platform platform;
+
+    @Param({"50"})
+    public int ordersPerPage;
+
+    private PlatformStubs stubs;
+
+    private EcommOrderService orderService;
+
+    private AuthContext authContext;
+
+    private OrderQuery query;
+
+    @Setup
+    public void setUp() throws Exception {
+        stubs = new PlatformStubs(ordersPerPage);
+        orderService = stubs.adapter(platform);
+        authContext = PlatformStubs.authContext(platform);
+        query = PlatformStubs.orderQuery(ordersPerPage);
+        PaginatedResult<UnifiedOrder> page = orderService.getOrders(authContext, query);
+        if (page.getData().size() != ordersPerPage) {
+            throw new IllegalStateException(platform + " 返回了 " + page.getData().size() + " 个订单，预期 " + ordersPerPage);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        stubs.close();
+    }
+
+    @Benchmark
+    public PaginatedResult<UnifiedOrder> getOrders() {
+        return orderService.getOrders(authContext, query);
+    }
+}
@@ -0,0 +1,92 @@
+package com.ecommerce4j.benchmarks;
+
+import com.ecommerce4j.api.platform.lazada.dto.LazadaOrderModels;
+import com.ecommerce4j.api.platform.mercadolibre.dto.MercadoLibreOrderSearchResponse;
+import com.ecommerce4j.api.platform.shopee.dto.ShopeeModels;
+import com.ecommerce4j.api.platform.tiktok.dto.TikTokApiResponse;
+import com.ecommerce4j.api.platform.tiktok.dto.TikTokOrder;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 一页订单响应的反序列化，ObjectMapper 配置与 AbstractAdapter 相同。
+ * <p>
+ * tikTokOrderSearch 按适配器的实际做法，先读成 Map，再对每个订单 convertValue。
+ * 运行：java -jar target/benchmarks.jar JsonParsing -prof gc
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonParsingBenchmark {
+
+    @Param({"50"})
+    public int ordersPerPage;
+
+    private ObjectMapper objectMapper;
+
+    private byte[] shopeeOrderDetail;
+    private byte[] tikTokOrderSearch;
+    private byte[] mercadoOrderSearch;
+    private byte[] lazadaOrders;
+    private byte[] lazadaOrderItems;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Adapters.objectMapper();
+        shopeeOrderDetail = Payloads.bytes(Payloads.shopeeOrderDetail(ordersPerPage));
+        tikTokOrderSearch = Payloads.bytes(Payloads.tikTokOrderSearch(ordersPerPage));
+        mercadoOrderSearch = Payloads.bytes(Payloads.mercadoOrderSearch(ordersPerPage));
+        lazadaOrders = Payloads.bytes(Payloads.lazadaOrders(ordersPerPage));
+        lazadaOrderItems = Payloads.bytes(Payloads.lazadaOrderItems(ordersPerPage));
+    }
+
+    @Benchmark
+    public ShopeeModels.OrderDetailResponse shopeeOrderDetail() throws IOException {
+        return objectMapper.readValue(shopeeOrderDetail, ShopeeModels.OrderDetailResponse.class);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public void tikTokOrderSearch(Blackhole blackhole) throws IOException {
+        TikTokApiResponse<Map<String, Object>> response = objectMapper.readValue(tikTokOrderSearch,
+            new TypeReference<TikTokApiResponse<Map<String, Object>>>() {});
+        for (Map<String, Object> order : (List<Map<String, Object>>) response.getData().get("orders")) {
+            blackhole.consume(objectMapper.convertValue(order, TikTokOrder.class));
+        }
+    }
+
+    @Benchmark
+    public MercadoLibreOrderSearchResponse mercadoOrderSearch() throws IOException {
+        return objectMapper.readValue(mercadoOrderSearch, MercadoLibreOrderSearchResponse.class);
+    }
+
+    @Benchmark
+    public LazadaOrderModels.OrdersResponse lazadaOrders() throws IOException {
+        return objectMapper.readValue(lazadaOrders, LazadaOrderModels.OrdersResponse.class);
+    }
+
+    @Benchmark
+    public LazadaOrderModels.MultipleOrderItemsResponse lazadaOrderItems() throws IOException {
+        return objectMapper.readValue(lazadaOrderItems, LazadaOrderModels.MultipleOrderItemsResponse.class);
+    }
+}
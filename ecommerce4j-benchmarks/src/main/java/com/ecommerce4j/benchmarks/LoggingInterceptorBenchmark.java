@@ -0,0 +1,87 @@
+package com.ecommerce4j.benchmarks;
+
+import com.ecommerce4j.api.platform.ApiLoggingInterceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Okio;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ApiLoggingInterceptor} 在一次调用上增加的开销。
+ * <p>
+ * 调用链末端是直接返回固定响应的拦截器，不经过网络；logback 配置把 SDK 日志交给 NOPAppender，
+ * 因此测到的是拦截器本身（复制请求体、预览响应体、过滤响应头、创建日志事件）的成本，不含日志落盘。
+ * level=OFF 表示不安装拦截器，作为基线。
+ * 运行：java -jar target/benchmarks.jar LoggingInterceptor -prof gc
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoggingInterceptorBenchmark {
+
+    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+
+    @Param({"OFF", "NONE", "BASIC", "BODY"})
+    public String level;
+
+    private OkHttpClient client;
+
+    private Request request;
+
+    private byte[] responseBody;
+
+    @Setup
+    public void setUp() {
+        responseBody = Payloads.bytes(Payloads.shopeeOrderDetail(50));
+        OkHttpClient.Builder builder = new OkHttpClient.Builder();
+        if (!"OFF".equals(level)) {
+            builder.addInterceptor(new ApiLoggingInterceptor(ApiLoggingInterceptor.Level.valueOf(level), 1.0D, 1500));
+        }
+        client = builder
+            .addInterceptor(chain -> new Response.Builder()
+                .request(chain.request())
+                .protocol(Protocol.HTTP_1_1)
+                .code(200)
+                .message("OK")
+                .header("Content-Type", "application/json")
+                .header("Date", "Wed, 15 Nov 2023 00:00:00 GMT")
+                .header("X-Tts-Logid", "20231115000000010203040506070809")
+                .header("Server", "nginx")
+                .body(ResponseBody.create(responseBody, JSON))
+                .build())
+            .build();
+        request = new Request.Builder()
+            .url("https://partner.shopeemobile.com/api/v2/order/get_order_detail?partner_id=2001887&timestamp=1700000000"
+                + "&access_token=6a4d8f0b2c4e6a8d0f2b4c6e8a0d2f4b&shop_id=123456789&sign=0123456789abcdef")
+            .post(RequestBody.create("{\"order_sn_list\":[\"2311151000000XK\",\"2311151000001XK\"],\"response_optional_fields\":\"buyer_user_id\"}", JSON))
+            .build();
+    }
+
+    @Benchmark
+    public long call() throws IOException {
+        try (Response response = client.newCall(request).execute()) {
+            return response.body().source().readAll(Okio.blackhole());
+        }
+    }
+}
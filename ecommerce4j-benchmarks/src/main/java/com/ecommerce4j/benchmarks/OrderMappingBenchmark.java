@@ -0,0 +1,133 @@
+package com.ecommerce4j.benchmarks;
+
+import com.ecommerce4j.api.dto.AuthContext;
+import com.ecommerce4j.api.enums.Platform;
+import com.ecommerce4j.api.platform.lazada.dto.LazadaOrderModels;
+import com.ecommerce4j.api.platform.mercadolibre.dto.MercadoLibreOrder;
+import com.ecommerce4j.api.platform.mercadolibre.dto.MercadoLibreOrderSearchResponse;
+import com.ecommerce4j.api.platform.shopee.dto.ShopeeModels;
+import com.ecommerce4j.api.platform.tiktok.dto.TikTokApiResponse;
+import com.ecommerce4j.api.platform.tiktok.dto.TikTokOrder;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 各适配器 mapToUnifiedOrder 把一页已解析的平台订单转换为 UnifiedOrder 的开销。
+ * <p>
+ * Mercado Libre 的映射会逐个查询货运状态，这里的货运接口由调用链末端的拦截器直接应答（不经过套接字），
+ * 因此该项包含一次完整的 OkHttp 拦截器链和货运报文解析，不能与其它平台直接比较。
+ * 运行：java -jar target/benchmarks.jar OrderMapping -prof gc
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderMappingBenchmark {
+
+    @Param({"50"})
+    public int ordersPerPage;
+
+    private PlatformStubs stubs;
+
+    private MethodHandle shopeeMapper;
+    private MethodHandle tikTokMapper;
+    private MethodHandle mercadoMapper;
+    private MethodHandle lazadaMapper;
+
+    private List<ShopeeModels.Order> shopeeOrders;
+    private List<TikTokOrder> tikTokOrders;
+    private List<MercadoLibreOrder> mercadoOrders;
+    private List<LazadaOrderModels.Order> lazadaOrders;
+    private Map<String, List<LazadaOrderModels.OrderItem>> lazadaItems;
+
+    private AuthContext mercadoAuth;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Throwable {
+        stubs = new PlatformStubs(ordersPerPage);
+        ObjectMapper objectMapper = Adapters.objectMapper();
+
+        shopeeMapper = Adapters.privateMethod(stubs.adapter(Platform.SHOPEE), "mapToUnifiedOrder", ShopeeModels.Order.class);
+        tikTokMapper = Adapters.privateMethod(stubs.adapter(Platform.TIKTOK_SHOP), "mapToUnifiedOrder", TikTokOrder.class);
+        mercadoMapper = Adapters.privateMethod(stubs.inProcessAdapter(Platform.MERCADO_LIBRE), "mapToUnifiedOrder", AuthContext.class, MercadoLibreOrder.class);
+        lazadaMapper = Adapters.privateMethod(stubs.adapter(Platform.LAZADA), "mapToUnifiedOrder", LazadaOrderModels.Order.class, List.class);
+        mercadoAuth = PlatformStubs.authContext(Platform.MERCADO_LIBRE);
+
+        shopeeOrders = objectMapper.readValue(Payloads.shopeeOrderDetail(ordersPerPage), ShopeeModels.OrderDetailResponse.class)
+            .getResponse().getOrderList();
+
+        TikTokApiResponse<Map<String, Object>> tikTokResponse = objectMapper.readValue(Payloads.tikTokOrderSearch(ordersPerPage),
+            new TypeReference<TikTokApiResponse<Map<String, Object>>>() {});
+        tikTokOrders = new ArrayList<>();
+        for (Map<String, Object> order : (List<Map<String, Object>>) tikTokResponse.getData().get("orders")) {
+            tikTokOrders.add(objectMapper.convertValue(order, TikTokOrder.class));
+        }
+
+        mercadoOrders = objectMapper.readValue(Payloads.mercadoOrderSearch(ordersPerPage), MercadoLibreOrderSearchResponse.class)
+            .getResults();
+
+        lazadaOrders = objectMapper.readValue(Payloads.lazadaOrders(ordersPerPage), LazadaOrderModels.OrdersResponse.class)
+            .getData().getOrders();
+        lazadaItems = new HashMap<>();
+        for (LazadaOrderModels.OrderItemsGroup group : objectMapper.readValue(Payloads.lazadaOrderItems(ordersPerPage),
+            LazadaOrderModels.MultipleOrderItemsResponse.class).getData()) {
+            lazadaItems.put(group.getOrderId(), group.getOrderItems());
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        stubs.close();
+    }
+
+    @Benchmark
+    public void shopee(Blackhole blackhole) throws Throwable {
+        for (ShopeeModels.Order order : shopeeOrders) {
+            blackhole.consume(shopeeMapper.invoke(order));
+        }
+    }
+
+    @Benchmark
+    public void tikTok(Blackhole blackhole) throws Throwable {
+        for (TikTokOrder order : tikTokOrders) {
+            blackhole.consume(tikTokMapper.invoke(order));
+        }
+    }
+
+    @Benchmark
+    public void mercadoWithShipmentLookup(Blackhole blackhole) throws Throwable {
+        for (MercadoLibreOrder order : mercadoOrders) {
+            blackhole.consume(mercadoMapper.invoke(mercadoAuth, order));
+        }
+    }
+
+    @Benchmark
+    public void lazada(Blackhole blackhole) throws Throwable {
+        for (LazadaOrderModels.Order order : lazadaOrders) {
+            blackhole.consume(lazadaMapper.invoke(order, lazadaItems.get(order.getOrderId())));
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package com.ecommerce4j.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 按平台文档示例构造的订单响应体。
+ * <p>
+ * 每个订单带 2 个商品行、完整的收货地址和若干 SDK 不读取的字段（平台真实响应里都有，反序列化时需要跳过），
+ * 文本里混有中文和西语字符，与生产环境的报文大小和结构接近。订单号按序号生成，同一页内互不相同。
+ */
+final class Payloads {
+
+    static final int ITEMS_PER_ORDER = 2;
+
+    private Payloads() {
+    }
+
+    // --- Shopee ---
+
+    static String shopeeOrderList(int orders) {
+        StringBuilder builder = new StringBuilder("{\"error\":\"\",\"message\":\"\",\"request_id\":\"b7f0c2d1e4a5\",")
+            .append("\"response\":{\"more\":true,\"next_cursor\":\"").append(orders).append("\",\"order_list\":[");
+        for (int i = 0; i < orders; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("{\"order_sn\":\"").append(shopeeOrderSn(i)).append("\",\"order_status\":\"READY_TO_SHIP\"}");
+        }
+        return builder.append("]}}").toString();
+    }
+
+    static String shopeeOrderDetail(int orders) {
+        StringBuilder builder = new StringBuilder("{\"error\":\"\",\"message\":\"\",\"request_id\":\"c8a1d3e5f7b9\",")
+            .append("\"response\":{\"order_list\":[");
+        for (int i = 0; i < orders; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("""
+                {"order_sn":"%1$s","region":"SG","currency":"SGD","cod":false,"total_amount":%2$d.80,
+                "order_status":"READY_TO_SHIP","shipping_carrier":"Shopee Xpress","payment_method":"Credit Card/Debit Card",
+                "estimated_shipping_fee":2.99,"message_to_seller":"请在周五前发货 / por favor","days_to_ship":3,
+                "ship_by_date":1700259200,"create_time":1700000000,"update_time":%3$d,"buyer_user_id":%4$d,
+                "buyer_username":"buyer_%4$d","actual_shipping_fee":2.99,"actual_shipping_fee_confirmed":false,
+                "goods_to_declare":false,"note":"","note_update_time":0,"pickup_done_time":0,"split_up":false,
+                "buyer_cancel_reason":"","cancel_by":"","cancel_reason":"","fulfillment_flag":"fulfilled_by_local_seller",
+                "recipient_address":{"name":"陈小明 %4$d","phone":"6591234567","town":"","district":"Downtown Core",
+                "city":"Singapore","state":"Central Singapore","region":"SG","zipcode":"018956",
+                "full_address":"10 Bayfront Avenue, #12-34 Marina Bay Residences, Singapore 018956"},
+                "item_list":[%5$s],
+                "package_list":[{"package_number":"OFG%4$d","logistics_status":"LOGISTICS_READY",
+                "shipping_carrier":"Shopee Xpress","logistics_channel_id":18025,"item_list":[
+                {"item_id":100%4$d,"model_id":200%4$d,"model_quantity":1,"order_item_id":100%4$d,"product_location_id":"SGZ"},
+                {"item_id":101%4$d,"model_id":201%4$d,"model_quantity":2,"order_item_id":101%4$d,"product_location_id":"SGZ"}]}],
+                "invoice_data":null,"checkout_shipping_carrier":null,"reverse_shipping_fee":0,"edt_from":1700259200,"edt_to":1700518400}
+                """.formatted(shopeeOrderSn(i), 20 + i, 1700003600L + i, 900000 + i, shopeeItems(i)));
+        }
+        return builder.append("]},\"warning\":[]}").toString();
+    }
+
+    private static String shopeeItems(int order) {
+        StringBuilder builder = new StringBuilder();
+        for (int j = 0; j < ITEMS_PER_ORDER; j++) {
+            if (j > 0) {
+                builder.append(',');
+            }
+            builder.append("""
+                {"item_id":10%2$d%1$d,"item_name":"无线机械键盘 Teclado mecánico %2$d","item_sku":"KB-%1$d",
+                "model_id":20%2$d%1$d,"model_name":"青轴 / Blue Switch","model_sku":"KB-%1$d-BLUE-%2$d",
+                "model_quantity_purchased":%3$d,"model_original_price":12.90,"model_discounted_price":10.90,
+                "wholesale":false,"weight":0.85,"add_on_deal":false,"main_item":false,"add_on_deal_id":0,
+                "promotion_type":"","promotion_id":0,"order_item_id":10%2$d%1$d,"promotion_group_id":0,
+                "image_info":{"image_url":"https://cf.shopee.sg/file/sg-11134207-7r98o-lq2x%1$d"},
+                "product_location_id":["SGZ"],"is_prescription_item":false,"is_b2c_owned_item":false}
+                """.formatted(900000 + order, j, j + 1));
+        }
+        return builder.toString();
+    }
+
+    static String shopeeOrderSn(int index) {
+        return "231115" + (1000000 + index) + "XK";
+    }
+
+    // --- TikTok Shop ---
+
+    static String tikTokOrderSearch(int orders) {
+        StringBuilder builder = new StringBuilder("{\"code\":0,\"message\":\"Success\",\"request_id\":\"202311150312\",")
+            .append("\"data\":{\"next_page_token\":\"aDU2dHB4M0sxQ2\",\"total_count\":").append(orders * 10).append(",\"orders\":[");
+        for (int i = 0; i < orders; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("""
+                {"id":"57%1$d","status":"AWAITING_SHIPMENT","create_time":1700000000,"update_time":%2$d,
+                "paid_time":1700000060,"buyer_email":"v2@scs.tiktokw.us","buyer_message":"请尽快发货",
+                "shipping_provider":"J&T Express","shipping_provider_id":"6617675021119438849",
+                "shipping_type":"TIKTOK","fulfillment_type":"FULFILLMENT_BY_SELLER","delivery_type":"HOME_DELIVERY",
+                "tracking_number":"","is_cod":false,"is_sample_order":false,"is_on_hold_order":false,
+                "user_id":"7494%1$d","warehouse_id":"7068517275539719942","rts_sla_time":1700172800,
+                "recipient_address":{"full_address":"Jl. Sudirman No. %3$d, Jakarta Selatan, DKI Jakarta",
+                "name":"Budi Santoso %3$d","phone":"(+62)812****5678","postal_code":"12190","region_code":"ID",
+                "address_detail":"Apartemen Blok B","district_info":[{"address_level":"L0","address_level_name":"Country","address_name":"Indonesia"},
+                {"address_level":"L1","address_level_name":"Province","address_name":"DKI Jakarta"}]},
+                "payment":{"currency":"IDR","sub_total":"199000","shipping_fee":"12000","seller_discount":"10000",
+                "platform_discount":"5000","total_amount":"%4$d","original_total_product_price":"219000","tax":"0"},
+                "line_items":[%5$s],
+                "packages":[{"id":"1153%1$d","shipping_type":"TIKTOK"}]}
+                """.formatted(5760000000000000L + i, 1700003600L + i, i, 196000 + i, tikTokLineItems(i)));
+        }
+        return builder.append("]}}").toString();
+    }
+
+    private static String tikTokLineItems(int order) {
+        StringBuilder builder = new StringBuilder();
+        for (int j = 0; j < ITEMS_PER_ORDER; j++) {
+            if (j > 0) {
+                builder.append(',');
+            }
+            builder.append("""
+                {"id":"5770%1$d%2$d","currency":"IDR","display_status":"AWAITING_SHIPMENT","sku_name":"Hitam, XL",
+                "product_name":"Kaos Polos Katun Premium 男士短袖 %2$d","seller_sku":"TS-BLK-XL-%2$d","original_price":"109500",
+                "quantity":1,"sku_image":"https://p16-oec-va.ibyteimg.com/tos-maliva-i-o3syd03w52-us/%1$d~tplv.jpg",
+                "is_gift":false,"sale_price":"99500","seller_discount":"5000","platform_discount":"2500",
+                "sku_id":"1729%1$d%2$d","product_id":"1729%1$d","shipping_provider_id":"6617675021119438849",
+                "shipping_provider_name":"J&T Express","package_id":"1153%1$d","package_status":"TO_FULFILL",
+                "tracking_number":"","sku_type":"NORMAL","rts_time":0,"cancel_user":"","is_dangerous_good":false}
+                """.formatted(order, j));
+        }
+        return builder.toString();
+    }
+
+    // --- Mercado Libre ---
+
+    static String mercadoOrderSearch(int orders) {
+        StringBuilder builder = new StringBuilder("{\"query\":null,\"display\":\"complete\",")
+            .append("\"paging\":{\"total\":").append(orders * 10).append(",\"offset\":0,\"limit\":").append(orders).append("},")
+            .append("\"results\":[");
+        for (int i = 0; i < orders; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("""
+                {"id":%1$d,"status":"paid","status_detail":null,"date_created":"2023-11-14T22:13:20Z",
+                "date_closed":"2023-11-14T22:13:25Z","last_updated":"2023-11-14T22:14:01Z","expiration_date":"2023-12-12T22:13:25Z",
+                "total_amount":%2$d.00,"paid_amount":%2$d.00,"currency_id":"MXN","fulfilled":null,"tags":["not_delivered","paid"],
+                "buyer":{"id":%3$d,"nickname":"COMPRADOR%3$d","first_name":"José","last_name":"Hernández"},
+                "seller":{"id":123456789},
+                "payments":[{"id":6%1$d,"status":"approved","transaction_amount":%2$d.00,"currency_id":"MXN",
+                "payment_method_id":"debmaster","payment_type":"debit_card","installments":1,"date_approved":"2023-11-14T22:13:24Z"}],
+                "shipping":{"id":"4%1$d"},
+                "order_items":[%4$s],
+                "pack_id":null,"pickup_id":null,"feedback":{"buyer":null,"seller":null},"context":{"channel":"marketplace","site":"MLM"}}
+                """.formatted(2000007000000000L + i, 598 + i, 100000 + i, mercadoOrderItems(i)));
+        }
+        return builder.append("]}").toString();
+    }
+
+    private static String mercadoOrderItems(int order) {
+        StringBuilder builder = new StringBuilder();
+        for (int j = 0; j < ITEMS_PER_ORDER; j++) {
+            if (j > 0) {
+                builder.append(',');
+            }
+            builder.append("""
+                {"item":{"id":"%1$s","title":"Audífonos Inalámbricos Bluetooth 5.3 蓝牙耳机 %3$d","category_id":"MLM1002",
+                "variation_id":null,"seller_custom_field":null,"variation_attributes":[],"warranty":"Garantía del vendedor: 30 días",
+                "condition":"new","seller_sku":"AUD-BT-%3$d"},
+                "quantity":1,"requested_quantity":{"value":1,"measure":"unit"},"unit_price":299.00,"full_unit_price":349.00,
+                "currency_id":"MXN","manufacturing_days":null,"sale_fee":50.83,"listing_type_id":"gold_special"}
+                """.formatted(mercadoItemId(order, j), order, j));
+        }
+        return builder.toString();
+    }
+
+    static String mercadoItemId(int order, int item) {
+        return "MLM" + (1900000000L + order % 25 * ITEMS_PER_ORDER + item);
+    }
+
+    static String mercadoShipment(String shipmentId) {
+        return """
+            {"id":"%1$s","status":"ready_to_ship","substatus":"ready_to_print","tracking_number":null,
+            "tracking_method":"MEL Distribution","date_created":"2023-11-14T22:13:26Z","last_updated":"2023-11-14T22:14:02Z",
+            "external_reference":null,"declared_value":299.0,
+            "logistic":{"mode":"me2","type":"drop_off","direction":"forward"},
+            "destination":{"receiver_id":100001,"receiver_name":"José Hernández","receiver_phone":"XXXXXXX",
+            "shipping_address":{"address_id":1234567890,"address_line":"Avenida Insurgentes Sur 1602","street_name":"Avenida Insurgentes Sur",
+            "street_number":"1602","comment":"Depto 5B, entre calles","zip_code":"03940",
+            "city":{"id":"TUxNQ0JFTjM5ODg","name":"Benito Juárez"},"state":{"id":"MX-DIF","name":"Distrito Federal"},
+            "country":{"id":"MX","name":"Mexico"},"neighborhood":{"id":null,"name":"Crédito Constructor"},
+            "latitude":19.3612,"longitude":-99.1836}},
+            "origin":{"type":"selling_address","sender_id":123456789,"shipping_address":{"address_id":987654321,
+            "address_line":"Calle Falsa 123","zip_code":"06600","city":{"id":"TUxNQ0NVQTUzMDk","name":"Cuauhtémoc"},
+            "state":{"id":"MX-DIF","name":"Distrito Federal"},"country":{"id":"MX","name":"Mexico"}}},
+            "dimensions":{"height":8,"width":15,"length":20,"weight":450},
+            "lead_time":{"cost":0.0,"cost_type":"free","list_cost":99.0,"currency_id":"MXN",
+            "shipping_method":{"id":501245,"name":"Estándar","type":"standard","deliver_to":"address"},
+            "estimated_delivery_time":{"type":"known_frame","date":"2023-11-17T00:00:00.000-06:00","shipping":48,"handling":24,"unit":"hour"}}}
+            """.formatted(shipmentId);
+    }
+
+    static String mercadoItems(String[] itemIds) {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < itemIds.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("""
+                {"code":200,"body":{"id":"%1$s","title":"Audífonos Inalámbricos Bluetooth 5.3","price":299.0,"currency_id":"MXN",
+                "available_quantity":150,"thumbnail":"http://http2.mlstatic.com/D_%1$s-I.jpg","permalink":"https://articulo.mercadolibre.com.mx/%1$s",
+                "pictures":[{"id":"606115-%1$s","secure_url":"https://http2.mlstatic.com/D_606115-%1$s-O.jpg","size":"500x500"},
+                {"id":"734012-%1$s","secure_url":"https://http2.mlstatic.com/D_734012-%1$s-O.jpg","size":"500x500"}],
+                "variations":[{"id":174%2$d,"price":299.0,"available_quantity":75,"picture_ids":["606115-%1$s"],
+                "attribute_combinations":[{"name":"Color","value_name":"Negro"}]}]}}
+                """.formatted(itemIds[i], i));
+        }
+        return builder.append(']').toString();
+    }
+
+    // --- Lazada ---
+
+    static String lazadaOrders(int orders) {
+        StringBuilder builder = new StringBuilder("{\"code\":\"0\",\"request_id\":\"0b8f3a2117000000\",")
+            .append("\"data\":{\"count\":").append(orders).append(",\"countTotal\":").append(orders * 10).append(",\"orders\":[");
+        for (int i = 0; i < orders; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("""
+                {"order_id":"%1$s","order_number":"%1$s","created_at":"2023-11-14T22:13:20Z","updated_at":"2023-11-14T23:00:%2$02dZ",
+                "statuses":["ready_to_ship"],"items_count":2,"price":"%3$d.00","shipping_fee":"1.99","voucher":"0.00",
+                "voucher_platform":"0.00","voucher_seller":"0.00","payment_method":"MIXEDCARD","promised_shipping_times":"",
+                "warehouse_code":"dropshipping","buyer_note":"","customer_first_name":"Nguyễn Văn %4$d","customer_last_name":"",
+                "need_cancel_confirm":false,"is_cancel_pending":false,"gift_option":false,"gift_message":"","tax_code":"",
+                "branch_number":"","extra_attributes":"{\\"TaxInvoiceRequested\\":false}","remarks":"","national_registration_number":"",
+                "address_shipping":{"first_name":"Nguyễn Văn %4$d","last_name":"","phone":"84*****789","phone2":"",
+                "address1":"123 Đường Lê Lợi, Phường Bến Thành","address2":"","address3":"Hồ Chí Minh","address4":"Quận 1",
+                "address5":"Phường Bến Thành","addressDsitrict":"Quận 1","city":"Hồ Chí Minh","post_code":"700000","country":"Vietnam"},
+                "address_billing":{"first_name":"Nguyễn Văn %4$d","last_name":"","phone":"84*****789","address1":"123 Đường Lê Lợi",
+                "city":"Hồ Chí Minh","post_code":"700000","country":"Vietnam"}}
+                """.formatted(lazadaOrderId(i), i % 60, 40 + i, i));
+        }
+        return builder.append("]}}").toString();
+    }
+
+    static String lazadaOrderItems(int orders) {
+        StringBuilder builder = new StringBuilder("{\"code\":\"0\",\"request_id\":\"0b8f3a2117000001\",\"data\":[");
+        for (int i = 0; i < orders; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("{\"order_id\":\"").append(lazadaOrderId(i)).append("\",\"order_number\":\"").append(lazadaOrderId(i))
+                .append("\",\"order_items\":[");
+            for (int j = 0; j < ITEMS_PER_ORDER; j++) {
+                if (j > 0) {
+                    builder.append(',');
+                }
+                builder.append("""
+                    {"order_item_id":"%1$s%2$d","order_id":"%1$s","sku":"BT-SPK-%2$d","shop_sku":"2398%2$d_VNAMZ-1077%2$d",
+                    "product_id":"2398%2$d","sku_id":"1077%2$d","name":"Loa Bluetooth Mini 便携音箱 %2$d","status":"ready_to_ship",
+                    "package_id":"FP0%1$s","shipment_provider":"LEX VN","tracking_code":"VNLEX%1$s",
+                    "shipping_provider_type":"standard","shipping_type":"Dropshipping","item_price":"25.00","paid_price":"20.00",
+                    "tax_amount":"0.00","shipping_amount":"1.99","shipping_service_cost":0,"voucher_amount":"5.00",
+                    "voucher_platform":"5.00","voucher_seller":"0.00","created_at":"2023-11-14T22:13:20Z",
+                    "updated_at":"2023-11-14T23:00:00Z","promised_shipping_time":"","sla_time_stamp":"2023-11-16T23:59:59+07:00",
+                    "order_type":"Normal","delivery_option_sof":"0","is_fbl":"0","biz_group":70100,"currency":"VND",
+                    "product_main_image":"https://vn-live.slatic.net/p/2398%2$d.jpg","variation":"Màu:Đen","warehouse_code":"dropshipping",
+                    "is_digital":0,"digital_delivery_info":"","reason":"","reason_detail":"","return_status":"","invoice_number":"",
+                    "extra_attributes":"","cancel_return_initiator":""}
+                    """.formatted(lazadaOrderId(i), j));
+            }
+            builder.append("]}");
+        }
+        return builder.append("]}").toString();
+    }
+
+    static String lazadaOrderId(int index) {
+        return String.valueOf(6100000000000L + index);
+    }
+
+    static byte[] bytes(String payload) {
+        return payload.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,234 @@
+package com.ecommerce4j.benchmarks;
+
+import com.ecommerce4j.api.EcommOrderService;
+import com.ecommerce4j.api.dto.AuthContext;
+import com.ecommerce4j.api.dto.OrderQuery;
+import com.ecommerce4j.api.enums.Platform;
+import com.ecommerce4j.api.platform.AbstractAdapter;
+import com.ecommerce4j.api.platform.http.HttpTransport;
+import com.ecommerce4j.api.platform.lazada.LazadaAdapter;
+import com.ecommerce4j.api.platform.mercadolibre.MercadoLibreAdapter;
+import com.ecommerce4j.api.platform.shopee.ShopeeAdapter;
+import com.ecommerce4j.api.platform.tiktok.TikTokShopAdapter;
+import okhttp3.HttpUrl;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * 本地模拟四个平台的订单接口，并按生产配置创建指向它的适配器。
+ * <p>
+ * 适配器使用 {@link HttpTransport#defaults()} 的业务客户端（重试、限流、日志拦截器都在），
+ * 只额外加一个拦截器把平台域名改写到本地 MockWebServer，因此测到的是与生产一致的完整调用链路。
+ * 响应体在启动时生成一次，之后每次请求只复制字节。
+ */
+final class PlatformStubs implements Closeable {
+
+    private static final String SECRET = "4f6e2b7c9a1d3e5f7a9c1e3b5d7f9a1c";
+
+    private static final MediaType JSON = MediaType.get("application/json;charset=UTF-8");
+
+    private final MockWebServer server = new MockWebServer();
+
+    private final byte[] shopeeOrderList;
+    private final byte[] shopeeOrderDetail;
+    private final byte[] tikTokOrderSearch;
+    private final byte[] mercadoOrderSearch;
+    private final byte[] lazadaOrders;
+    private final byte[] lazadaOrderItems;
+
+    PlatformStubs(int ordersPerPage) throws IOException {
+        this.shopeeOrderList = Payloads.bytes(Payloads.shopeeOrderList(ordersPerPage));
+        this.shopeeOrderDetail = Payloads.bytes(Payloads.shopeeOrderDetail(ordersPerPage));
+        this.tikTokOrderSearch = Payloads.bytes(Payloads.tikTokOrderSearch(ordersPerPage));
+        this.mercadoOrderSearch = Payloads.bytes(Payloads.mercadoOrderSearch(ordersPerPage));
+        this.lazadaOrders = Payloads.bytes(Payloads.lazadaOrders(ordersPerPage));
+        this.lazadaOrderItems = Payloads.bytes(Payloads.lazadaOrderItems(ordersPerPage));
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                return respond(request);
+            }
+        });
+        server.start();
+    }
+
+    /**
+     * 创建按生产方式初始化的适配器，所有请求都发往本地模拟服务
+     */
+    EcommOrderService adapter(Platform platform) throws ReflectiveOperationException {
+        return adapter(platform, this::redirect);
+    }
+
+    /**
+     * 创建由调用链末端拦截器直接应答的适配器，不经过套接字，用于只关心适配器内部开销的场景
+     */
+    EcommOrderService inProcessAdapter(Platform platform) throws ReflectiveOperationException {
+        return adapter(platform, this::answerInProcess);
+    }
+
+    private EcommOrderService adapter(Platform platform, UnaryOperator<OkHttpClient> transport) throws ReflectiveOperationException {
+        AbstractAdapter adapter;
+        switch (platform) {
+            case SHOPEE -> {
+                adapter = new ShopeeAdapter();
+                setField(adapter, "partnerId", 2001887L);
+                setField(adapter, "partnerKey", SECRET);
+                setField(adapter, "environment", "production");
+                setField(adapter, "gatewayRegion", "sg");
+            }
+            case TIKTOK_SHOP -> {
+                adapter = new TikTokShopAdapter();
+                setField(adapter, "appKey", "6abc123def456");
+                setField(adapter, "appSecret", SECRET);
+            }
+            case MERCADO_LIBRE -> adapter = new MercadoLibreAdapter();
+            case LAZADA -> {
+                adapter = new LazadaAdapter();
+                setField(adapter, "appKey", "112233");
+                setField(adapter, "appSecret", SECRET);
+                setField(adapter, "authBaseUrl", "https://auth.lazada.com/rest");
+            }
+            default -> throw new IllegalArgumentException("不支持的平台：" + platform);
+        }
+        setField(adapter, "httpClient", transport.apply(HttpTransport.defaults().apiClient(platform)));
+        setField(adapter, "downloadClient", transport.apply(HttpTransport.defaults().downloadClient(platform)));
+        if (platform == Platform.SHOPEE || platform == Platform.LAZADA) {
+            Method initClient = adapter.getClass().getDeclaredMethod("initClient");
+            initClient.setAccessible(true);
+            initClient.invoke(adapter);
+        }
+        return (EcommOrderService) adapter;
+    }
+
+    /**
+     * 把任意平台域名改写到本地模拟服务，路径和查询参数保持不变
+     */
+    private OkHttpClient redirect(OkHttpClient client) {
+        HttpUrl target = server.url("/");
+        return client.newBuilder()
+            .addInterceptor(chain -> {
+                HttpUrl url = chain.request().url().newBuilder()
+                    .scheme(target.scheme())
+                    .host(target.host())
+                    .port(target.port())
+                    .build();
+                return chain.proceed(chain.request().newBuilder().url(url).build());
+            })
+            .build();
+    }
+
+    private OkHttpClient answerInProcess(OkHttpClient client) {
+        return client.newBuilder()
+            .addInterceptor(chain -> {
+                byte[] body = body(chain.request().url());
+                return new Response.Builder()
+                    .request(chain.request())
+                    .protocol(Protocol.HTTP_1_1)
+                    .code(body == null ? 404 : 200)
+                    .message(body == null ? "Not Found" : "OK")
+                    .body(ResponseBody.create(body == null ? new byte[0] : body, JSON))
+                    .build();
+            })
+            .build();
+    }
+
+    static AuthContext authContext(Platform platform) {
+        return AuthContext.builder()
+            .platform(platform)
+            .accessToken("6a4d8f0b2c4e6a8d0f2b4c6e8a0d2f4b")
+            .refreshToken("refresh-token")
+            .shopId("123456789")
+            .sellerId("123456789")
+            .shopCipher("ROW_d2hhdGV2ZXIgdGhpcyBpcw")
+            .siteCountry("sg")
+            .build();
+    }
+
+    static OrderQuery orderQuery(int ordersPerPage) {
+        Instant to = Instant.parse("2023-11-15T00:00:00Z");
+        return OrderQuery.builder()
+            .updateTimeFrom(to.minus(1, ChronoUnit.DAYS))
+            .updateTimeTo(to)
+            .createTimeFrom(to.minus(1, ChronoUnit.DAYS))
+            .createTimeTo(to)
+            .pageSize(ordersPerPage)
+            .build();
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.shutdown();
+    }
+
+    private MockResponse respond(RecordedRequest request) {
+        HttpUrl url = request.getRequestUrl();
+        byte[] body = url == null ? null : body(url);
+        if (body == null) {
+            return new MockResponse().setResponseCode(404).setBody("{\"message\":\"not stubbed\"}");
+        }
+        return new MockResponse()
+            .setResponseCode(200)
+            .addHeader("Content-Type", "application/json;charset=UTF-8")
+            .setBody(new Buffer().write(body));
+    }
+
+    private byte[] body(HttpUrl url) {
+        String path = url.encodedPath();
+        if (path.equals("/api/v2/order/get_order_list")) {
+            return shopeeOrderList;
+        }
+        if (path.equals("/api/v2/order/get_order_detail")) {
+            return shopeeOrderDetail;
+        }
+        if (path.equals("/order/202309/orders/search")) {
+            return tikTokOrderSearch;
+        }
+        if (path.equals("/orders/search")) {
+            return mercadoOrderSearch;
+        }
+        if (path.startsWith("/shipments/")) {
+            return Payloads.bytes(Payloads.mercadoShipment(path.substring("/shipments/".length())));
+        }
+        if (path.equals("/items")) {
+            String ids = url.queryParameter("ids");
+            return Payloads.bytes(Payloads.mercadoItems(ids == null ? new String[0] : ids.split(",")));
+        }
+        if (path.equals("/rest/orders/get")) {
+            return lazadaOrders;
+        }
+        if (path.equals("/rest/orders/items/get")) {
+            return lazadaOrderItems;
+        }
+        return null;
+    }
+
+    private static void setField(Object target, String name, Object value) throws ReflectiveOperationException {
+        for (Class<?> type = target.getClass(); type != null; type = type.getSuperclass()) {
+            try {
+                Field field = type.getDeclaredField(name);
+                field.setAccessible(true);
+                field.set(target, value);
+                return;
+            } catch (NoSuchFieldException ignored) {
+                // 继续在父类中查找
+            }
+        }
+        throw new NoSuchFieldException(name);
+    }
+}
@@ -0,0 +1,144 @@
+package com.ecommerce4j.benchmarks;
+
+import com.ecommerce4j.api.platform.sign.LazadaSigner;
+import com.ecommerce4j.api.platform.sign.SheinSigner;
+import com.ecommerce4j.api.platform.sign.ShopeeSigner;
+import com.ecommerce4j.api.platform.sign.TikTokSigner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 单次请求签名的耗时与分配。
+ * <p>
+ * legacy* 方法是改用共享签名器之前各适配器的写法（每次 getInstance + init，String.format 转十六进制），作为对照。
+ * 运行：java -jar target/benchmarks.jar Signing -prof gc
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class SigningBenchmark {
+
+    private static final String SECRET = "4f6e2b7c9a1d3e5f7a9c1e3b5d7f9a1c3e5b7d9f1a3c5e7b9d1f3a5c7e9b1d3f";
+
+    private static final long PARTNER_ID = 2001887L;
+
+    private static final String SHOPEE_PATH = "/api/v2/order/get_order_detail";
+
+    private static final String TIKTOK_PATH = "/order/202309/orders/search";
+
+    private static final String LAZADA_PATH = "/orders/get";
+
+    private final long timestamp = 1700000000L;
+
+    private final String accessToken = "6a4d8f0b2c4e6a8d0f2b4c6e8a0d2f4b";
+
+    private final String shopId = "123456789";
+
+    private ShopeeSigner shopeeSigner;
+
+    private TikTokSigner tikTokSigner;
+
+    private LazadaSigner lazadaSigner;
+
+    private Map<String, String> tikTokParams;
+
+    private Map<String, String> lazadaParams;
+
+    private String tikTokBody;
+
+    @Setup
+    public void setUp() {
+        shopeeSigner = new ShopeeSigner(PARTNER_ID, SECRET);
+        tikTokSigner = new TikTokSigner(SECRET);
+        lazadaSigner = new LazadaSigner(SECRET);
+
+        tikTokParams = new LinkedHashMap<>();
+        tikTokParams.put("page_size", "50");
+        tikTokParams.put("shop_cipher", "ROW_d2hhdGV2ZXIgdGhpcyBpcw");
+        tikTokParams.put("app_key", "6abc123def456");
+        tikTokParams.put("timestamp", String.valueOf(timestamp));
+        tikTokBody = "{\"order_status\":\"AWAITING_SHIPMENT\",\"create_time_ge\":1699990000,\"create_time_lt\":1700000000}";
+
+        lazadaParams = new LinkedHashMap<>();
+        lazadaParams.put("app_key", "112233");
+        lazadaParams.put("timestamp", String.valueOf(timestamp * 1000));
+        lazadaParams.put("sign_method", "sha256");
+        lazadaParams.put("access_token", accessToken);
+        lazadaParams.put("created_after", "2023-11-14T00:00:00+08:00");
+        lazadaParams.put("status", "pending");
+        lazadaParams.put("limit", "100");
+        lazadaParams.put("offset", "0");
+    }
+
+    @Benchmark
+    public String shopeeShop() {
+        return shopeeSigner.signShop(SHOPEE_PATH, timestamp, accessToken, shopId);
+    }
+
+    @Benchmark
+    public String legacyShopeeShop() throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        byte[] digest = mac.doFinal((String.valueOf(PARTNER_ID) + SHOPEE_PATH + timestamp + accessToken + shopId).getBytes(StandardCharsets.UTF_8));
+        StringBuilder hex = new StringBuilder(digest.length * 2);
+        for (byte value : digest) {
+            hex.append(String.format(Locale.ROOT, "%02x", value));
+        }
+        return hex.toString();
+    }
+
+    @Benchmark
+    public String tikTok() {
+        return tikTokSigner.sign(TIKTOK_PATH, tikTokParams, tikTokBody);
+    }
+
+    @Benchmark
+    public String lazada() {
+        return lazadaSigner.sign(LAZADA_PATH, lazadaParams);
+    }
+
+    @Benchmark
+    public String legacyLazada() throws Exception {
+        TreeMap<String, String> sortedParameters = new TreeMap<>(lazadaParams);
+        StringBuilder builder = new StringBuilder(LAZADA_PATH);
+        for (Map.Entry<String, String> entry : sortedParameters.entrySet()) {
+            builder.append(entry.getKey()).append(entry.getValue());
+        }
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        byte[] digest = mac.doFinal(builder.toString().getBytes(StandardCharsets.UTF_8));
+        StringBuilder hex = new StringBuilder(digest.length * 2);
+        for (byte value : digest) {
+            hex.append(String.format(Locale.ROOT, "%02X", value));
+        }
+        return hex.toString();
+    }
+
+    @Benchmark
+    public String shein() {
+        String randomKey = SheinSigner.randomKey(5);
+        return SheinSigner.sign("open-key-id", SECRET, "/open-api/order/search", "1700000000000", randomKey);
+    }
+}
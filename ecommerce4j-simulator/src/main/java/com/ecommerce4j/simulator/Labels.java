@@ -0,0 +1,34 @@
+package com.ecommerce4j.simulator;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 生成模拟面单 PDF。
+ * <p>
+ * 单页、Helvetica 文本，页面尺寸为 4x6 英寸热敏面单；不带交叉引用表，常见阅读器可以打开，
+ * 用途只是让下载链路（缓存、落盘、流式写出）处理与生产接近大小的文件。
+ */
+final class Labels {
+
+    private Labels() {
+    }
+
+    static byte[] pdf(String label, int size) {
+        String text = "SIMULATED LABEL " + label.replace("\\", "\\\\").replace("(", "\\(").replace(")", "\\)");
+        String stream = "BT /F1 14 Tf 24 380 Td (" + text + ") Tj ET";
+        StringBuilder builder = new StringBuilder(Math.max(size, 512))
+            .append("%PDF-1.4\n")
+            .append("1 0 obj <</Type/Catalog/Pages 2 0 R>> endobj\n")
+            .append("2 0 obj <</Type/Pages/Kids[3 0 R]/Count 1>> endobj\n")
+            .append("3 0 obj <</Type/Page/Parent 2 0 R/MediaBox[0 0 288 432]/Contents 4 0 R/Resources<</Font<</F1 5 0 R>>>>>> endobj\n")
+            .append("4 0 obj <</Length ").append(stream.length()).append(">> stream\n").append(stream).append("\nendstream endobj\n")
+            .append("5 0 obj <</Type/Font/Subtype/Type1/BaseFont/Helvetica>> endobj\n");
+        String trailer = "trailer <</Root 1 0 R>>\n%%EOF\n";
+        // 用注释行补齐到目标大小
+        while (builder.length() + trailer.length() < size) {
+            int remaining = size - trailer.length() - builder.length();
+            builder.append('%').append("0".repeat(Math.max(0, Math.min(remaining, 80) - 2))).append('\n');
+        }
+        return builder.append(trailer).toString().getBytes(StandardCharsets.US_ASCII);
+    }
+}
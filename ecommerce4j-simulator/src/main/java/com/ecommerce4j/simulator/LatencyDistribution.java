@@ -0,0 +1,86 @@
+package com.ecommerce4j.simulator;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 模拟接口的响应延迟分布。
+ * <p>
+ * 延迟以响应头延迟的方式施加（MockWebServer 在连接线程上等待），因此客户端看到的是完整的首字节耗时。
+ * 生产环境的接口延迟通常是长尾的，压测时建议用 {@link #logNormal(Duration, Duration)} 按实测的 P50/P99 配置。
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    /**
+     * 标准正态分布的 99 分位数
+     */
+    double Z_99 = 2.3263478740408408;
+
+    /**
+     * 采样一次延迟
+     *
+     * @param random 随机数源
+     * @return 延迟毫秒数，不小于 0
+     */
+    long sampleMillis(ThreadLocalRandom random);
+
+    static LatencyDistribution none() {
+        return random -> 0L;
+    }
+
+    static LatencyDistribution fixed(Duration latency) {
+        long millis = Math.max(0L, latency.toMillis());
+        return random -> millis;
+    }
+
+    static LatencyDistribution uniform(Duration min, Duration max) {
+        long from = Math.max(0L, min.toMillis());
+        long to = Math.max(from, max.toMillis());
+        return random -> from == to ? from : random.nextLong(from, to + 1);
+    }
+
+    /**
+     * 对数正态分布：按中位数和 99 分位数确定参数，适合模拟带长尾的真实接口
+     *
+     * @param median 中位数（P50）
+     * @param p99    99 分位数，需大于中位数
+     */
+    static LatencyDistribution logNormal(Duration median, Duration p99) {
+        if (median.toMillis() <= 0 || p99.compareTo(median) <= 0) {
+            throw new IllegalArgumentException("对数正态分布要求 0 < median < p99，当前 median=" + median + "，p99=" + p99);
+        }
+        double mu = Math.log(median.toMillis());
+        double sigma = (Math.log(p99.toMillis()) - mu) / Z_99;
+        return random -> Math.round(Math.exp(mu + sigma * random.nextGaussian()));
+    }
+
+    /**
+     * 解析命令行格式的延迟分布：{@code none}、{@code fixed:50}、{@code uniform:20-200}、{@code lognormal:80,400}（单位毫秒）
+     */
+    static LatencyDistribution parse(String spec) {
+        String text = spec == null ? "" : spec.trim().toLowerCase(Locale.ROOT);
+        if (text.isEmpty() || "none".equals(text)) {
+            return none();
+        }
+        int colon = text.indexOf(':');
+        String kind = colon < 0 ? text : text.substring(0, colon);
+        String[] args = colon < 0 ? new String[0] : text.substring(colon + 1).split("[-,]");
+        try {
+            switch (kind) {
+                case "fixed":
+                    return fixed(Duration.ofMillis(Long.parseLong(args[0].trim())));
+                case "uniform":
+                    return uniform(Duration.ofMillis(Long.parseLong(args[0].trim())), Duration.ofMillis(Long.parseLong(args[1].trim())));
+                case "lognormal":
+                    return logNormal(Duration.ofMillis(Long.parseLong(args[0].trim())), Duration.ofMillis(Long.parseLong(args[1].trim())));
+                default:
+                    break;
+            }
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("无法解析延迟分布：" + spec, e);
+        }
+        throw new IllegalArgumentException("不支持的延迟分布：" + spec + "，可选 none、fixed:ms、uniform:min-max、lognormal:p50,p99");
+    }
+}
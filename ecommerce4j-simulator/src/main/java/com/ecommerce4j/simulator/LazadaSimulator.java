@@ -0,0 +1,337 @@
+package com.ecommerce4j.simulator;
+
+import com.ecommerce4j.api.enums.Platform;
+import com.ecommerce4j.api.platform.sign.LazadaSigner;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Lazada Open Platform 模拟器，所有站点共用一个网关，基础地址以 /rest 结尾。
+ * <p>
+ * 签名覆盖查询参数和表单参数（去掉 /rest 前缀的 path），业务错误按平台惯例以 HTTP 200 + 非 "0" 的 code 返回，
+ * 令牌无效时返回 IllegalAccessToken；订单列表按 offset/limit 翻页（limit 不超过 100），返回 countTotal；
+ * 面单接口一次最多 20 个包裹，返回指向本模拟器的 pdf_url。
+ */
+class LazadaSimulator extends PlatformSimulator {
+
+    private static final String[] STATUSES = {"pending", "pending", "ready_to_ship", "shipped", "delivered", "canceled", "unpaid"};
+
+    private static final String REST = "/rest";
+    private static final String LABEL_PATH = "/labels/lazada/";
+    private static final int MAX_LIMIT = 100;
+    private static final int MAX_ORDER_IDS = 50;
+    private static final int MAX_DOCUMENT_PACKAGES = 20;
+
+    private final LazadaSigner signer;
+
+    LazadaSimulator(SimulatorConfig config, OrderCatalog catalog) {
+        super(config, catalog);
+        this.signer = new LazadaSigner(config.getLazadaAppSecret());
+    }
+
+    @Override
+    Platform platform() {
+        return Platform.LAZADA;
+    }
+
+    @Override
+    String apiBaseUrl() {
+        return serverUrl(REST);
+    }
+
+    @Override
+    String shopKey(RecordedRequest request, HttpUrl url) {
+        return url.queryParameter("access_token");
+    }
+
+    @Override
+    MockResponse handle(RecordedRequest request, HttpUrl url) {
+        String fullPath = url.encodedPath();
+        if (fullPath.startsWith(LABEL_PATH)) {
+            return pdf(fullPath.substring(LABEL_PATH.length()).replace(".pdf", ""));
+        }
+        if (!fullPath.startsWith(REST + "/")) {
+            return notFound("Lazada simulator does not implement " + fullPath);
+        }
+        String path = fullPath.substring(REST.length());
+        Map<String, String> parameters = queryParameters(url);
+        Map<String, String> form = "POST".equals(request.getMethod()) ? formParameters(request) : Map.of();
+        String sign = parameters.remove("sign");
+        if (!config.getLazadaAppKey().equals(parameters.get("app_key"))) {
+            return rejectSignature(200, error("InvalidAppKey", "Invalid app_key"));
+        }
+        Map<String, String> signed = new LinkedHashMap<>(parameters);
+        signed.putAll(form);
+        if (sign == null || !signer.sign(path, signed).equals(sign)) {
+            return rejectSignature(200, error("IncompleteSignature", "The request signature does not conform to platform standards"));
+        }
+        if ("/auth/token/refresh".equals(path)) {
+            return refreshToken(form);
+        }
+        String seller = tokenShop(parameters.get("access_token"));
+        if (seller == null) {
+            return ok(error("IllegalAccessToken", "The specified access token is invalid or expired"));
+        }
+        int shop = OrderCatalog.shopNumber(seller);
+        switch (path) {
+            case "/orders/get":
+                return listOrders(url, shop);
+            case "/order/get":
+                return order(url.queryParameter("order_id"), shop);
+            case "/order/items/get":
+                return orderItems(url.queryParameter("order_id"), shop);
+            case "/orders/items/get":
+                return multipleOrderItems(url.queryParameter("order_ids"), shop);
+            case "/order/package/document/get":
+                return packageDocument(form.get("getDocumentReq"), shop);
+            case "/seller/get":
+                return ok(success().set("data", object()
+                    .put("seller_id", seller)
+                    .put("name", "Simulated Shop " + shop)
+                    .put("short_code", "SG" + shop)
+                    .put("cb", false)));
+            default:
+                return notFound("Lazada simulator does not implement " + fullPath);
+        }
+    }
+
+    private MockResponse refreshToken(Map<String, String> form) {
+        String seller = refreshTokenShop(form.get("refresh_token"));
+        if (seller == null) {
+            return ok(error("InvalidRefreshToken", "The refresh token is invalid"));
+        }
+        ObjectNode response = success()
+            .put("access_token", accessToken(seller, Instant.now()))
+            .put("refresh_token", refreshToken(seller))
+            .put("expires_in", accessTokenExpiresIn())
+            .put("refresh_expires_in", 30L * 24 * 3600)
+            .put("country", "sg")
+            .put("account_id", seller)
+            .put("account", "seller" + seller + "@simulator.local")
+            .put("account_platform", "seller_center");
+        response.putArray("country_user_info").addObject()
+            .put("country", "sg")
+            .put("seller_id", seller)
+            .put("user_id", seller)
+            .put("short_code", "SG" + OrderCatalog.shopNumber(seller));
+        return ok(response);
+    }
+
+    private MockResponse listOrders(HttpUrl url, int shop) {
+        int offset = intParameter(url.queryParameter("offset"), 0);
+        int limit = intParameter(url.queryParameter("limit"), MAX_LIMIT);
+        if (offset < 0 || limit <= 0 || limit > MAX_LIMIT) {
+            return ok(error("InvalidParameter", "limit must be between 1 and 100"));
+        }
+        if (url.queryParameter("update_after") == null && url.queryParameter("created_after") == null) {
+            return ok(error("MissingParameter", "Either update_after or created_after is mandatory"));
+        }
+        long[] range;
+        try {
+            long[] byCreate = catalog.byCreateTime(instant(url.queryParameter("created_after")), instant(url.queryParameter("created_before")));
+            long[] byUpdate = catalog.byUpdateTime(instant(url.queryParameter("update_after")), instant(url.queryParameter("update_before")));
+            // 两种时间都随序号单调递增，同时传入时取交集
+            range = new long[]{Math.max(byCreate[0], byUpdate[0]), Math.max(Math.max(byCreate[0], byUpdate[0]), Math.min(byCreate[1], byUpdate[1]))};
+        } catch (DateTimeParseException e) {
+            return ok(error("InvalidDateTimeFormat", "Invalid date time format"));
+        }
+        String status = url.queryParameter("status");
+        List<Long> filtered = status == null ? null : catalog.filterByStatus(shop, range, STATUSES, status);
+        long total = filtered == null ? range[1] - range[0] : filtered.size();
+        boolean descending = "DESC".equalsIgnoreCase(url.queryParameter("sort_direction"));
+
+        ObjectNode data = object();
+        ArrayNode orders = data.putArray("orders");
+        long end = Math.min(total, (long) offset + limit);
+        for (long position = offset; position < end; position++) {
+            long rank = descending ? total - 1 - position : position;
+            long index = filtered == null ? range[0] + rank : filtered.get((int) rank);
+            orders.add(orderJson(catalog.order(shop, index)));
+        }
+        data.put("count", orders.size()).put("countTotal", total);
+        return ok(success().set("data", data));
+    }
+
+    private MockResponse order(String orderId, int shop) {
+        long index = indexOf(orderId, shop);
+        if (index < 0) {
+            return ok(error("ORDER_NOT_FOUND", "Order not found: " + orderId));
+        }
+        return ok(success().set("data", orderJson(catalog.order(shop, index))));
+    }
+
+    private MockResponse orderItems(String orderId, int shop) {
+        long index = indexOf(orderId, shop);
+        if (index < 0) {
+            return ok(error("ORDER_NOT_FOUND", "Order not found: " + orderId));
+        }
+        return ok(success().set("data", itemsJson(catalog.order(shop, index))));
+    }
+
+    private MockResponse multipleOrderItems(String orderIdsJson, int shop) {
+        List<String> orderIds = new ArrayList<>();
+        try {
+            JsonNode node = orderIdsJson == null ? null : objectMapper.readTree(orderIdsJson);
+            if (node != null && node.isArray()) {
+                node.forEach(id -> orderIds.add(id.asText()));
+            }
+        } catch (JsonProcessingException e) {
+            return ok(error("InvalidParameter", "order_ids must be a JSON array"));
+        }
+        if (orderIds.isEmpty() || orderIds.size() > MAX_ORDER_IDS) {
+            return ok(error("InvalidParameter", "order_ids must contain 1 to 50 ids"));
+        }
+        ArrayNode data = objectMapper.createArrayNode();
+        for (String orderId : orderIds) {
+            long index = indexOf(orderId, shop);
+            if (index >= 0) {
+                SimulatedOrder order = catalog.order(shop, index);
+                ObjectNode group = data.addObject().put("order_id", orderId).put("order_number", orderId);
+                group.set("order_items", itemsJson(order));
+            }
+        }
+        return ok(success().set("data", data));
+    }
+
+    private MockResponse packageDocument(String requestJson, int shop) {
+        JsonNode documentRequest;
+        try {
+            documentRequest = requestJson == null ? object() : objectMapper.readTree(requestJson);
+        } catch (JsonProcessingException e) {
+            return ok(error("InvalidParameter", "getDocumentReq must be JSON"));
+        }
+        JsonNode packages = documentRequest.path("packages");
+        if (!packages.isArray() || packages.isEmpty() || packages.size() > MAX_DOCUMENT_PACKAGES) {
+            return ok(error("InvalidParameter", "packages must contain 1 to 20 packages"));
+        }
+        List<String> packageIds = new ArrayList<>();
+        for (JsonNode ref : packages) {
+            String packageId = ref.path("package_id").asText("");
+            if (!packageId.startsWith("FP") || indexOf(packageId.substring(2), shop) < 0) {
+                ObjectNode result = object().put("success", false).put("error_code", "PACKAGE_NOT_FOUND").put("error_msg", "Package not found: " + packageId);
+                return ok(success().set("result", result));
+            }
+            packageIds.add(packageId);
+        }
+        ObjectNode result = object().put("success", true);
+        result.putObject("data")
+            .put("doc_type", documentRequest.path("doc_type").asText("PDF"))
+            .put("pdf_url", serverUrl(LABEL_PATH + String.join("-", packageIds) + ".pdf"));
+        return ok(success().set("result", result));
+    }
+
+    private ObjectNode orderJson(SimulatedOrder order) {
+        String orderId = orderId(order);
+        ObjectNode node = object()
+            .put("order_id", orderId)
+            .put("order_number", orderId)
+            .put("created_at", order.getCreateTime().toString())
+            .put("updated_at", order.getUpdateTime().toString())
+            .put("items_count", order.getLines().stream().mapToInt(SimulatedOrder.Line::getQuantity).sum())
+            .put("price", order.totalAmount().toPlainString())
+            .put("shipping_fee", "0.00")
+            .put("payment_method", "COD")
+            .put("customer_first_name", order.getBuyerFirstName())
+            .put("customer_last_name", order.getBuyerLastName());
+        node.putArray("statuses").add(order.status(STATUSES));
+        ObjectNode address = node.putObject("address_shipping")
+            .put("first_name", order.getBuyerFirstName())
+            .put("last_name", order.getBuyerLastName())
+            .put("phone", order.getPhone())
+            .put("address1", order.getStreet())
+            .put("city", order.getCity())
+            .put("post_code", order.getZipCode())
+            .put("country", "Singapore");
+        node.set("address_billing", address.deepCopy());
+        return node;
+    }
+
+    private ArrayNode itemsJson(SimulatedOrder order) {
+        String orderId = orderId(order);
+        String status = order.status(STATUSES);
+        ArrayNode items = objectMapper.createArrayNode();
+        // Lazada 每件商品一个订单行
+        for (SimulatedOrder.Line line : order.getLines()) {
+            for (int unit = 0; unit < line.getQuantity(); unit++) {
+                items.addObject()
+                    .put("order_item_id", "5" + orderId.substring(1) + line.getLine() + unit)
+                    .put("order_id", orderId)
+                    .put("sku", "SKU-" + line.getProduct())
+                    .put("shop_sku", order.getShop() + "_" + line.getProduct() + "-SG")
+                    .put("product_id", String.valueOf(order.getShop() * 100_000L + line.getProduct()))
+                    .put("sku_id", String.valueOf(order.getShop() * 1_000_000L + line.getProduct()))
+                    .put("name", line.getProductName())
+                    .put("status", status)
+                    .put("package_id", "FP" + orderId)
+                    .put("tracking_code", "LZSG" + orderId)
+                    .put("shipment_provider", "LEX SG")
+                    .put("shipping_type", "Dropshipping")
+                    .put("item_price", line.unitPrice().toPlainString())
+                    .put("paid_price", line.unitPrice().toPlainString())
+                    .put("product_main_image", "https://sg-live.slatic.net/p/sim-" + order.getShop() + "-" + line.getProduct() + ".jpg")
+                    .put("currency", "SGD")
+                    .put("created_at", order.getCreateTime().toString())
+                    .put("updated_at", order.getUpdateTime().toString());
+            }
+        }
+        return items;
+    }
+
+    private static String orderId(SimulatedOrder order) {
+        return String.format("4%04d%010d", order.getShop(), order.getIndex());
+    }
+
+    /**
+     * 解析订单号中的序号，店铺不匹配或超出范围时返回 -1
+     */
+    private long indexOf(String orderId, int shop) {
+        if (orderId == null || orderId.length() != 15 || !orderId.startsWith("4" + shop)) {
+            return -1L;
+        }
+        try {
+            long index = Long.parseLong(orderId.substring(5));
+            return catalog.contains(index) ? index : -1L;
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    private static Instant instant(String text) {
+        return text == null || text.isEmpty() ? null : Instant.parse(text);
+    }
+
+    private ObjectNode success() {
+        return object().put("code", "0").put("request_id", requestId());
+    }
+
+    private ObjectNode error(String code, String message) {
+        return object().put("type", "ISV").put("code", code).put("message", message).put("request_id", requestId());
+    }
+
+    private static String requestId() {
+        return UUID.randomUUID().toString().replace("-", "").substring(0, 13);
+    }
+
+    @Override
+    JsonNode throttledBody() {
+        return object().put("type", "ISP").put("code", "ApiCallLimit").put("message", "The request has exceeded the allowed limit").put("request_id", requestId());
+    }
+
+    @Override
+    JsonNode failureBody() {
+        return object().put("type", "ISP").put("code", "ServiceUnavailable").put("message", "The service is temporarily unavailable").put("request_id", requestId());
+    }
+}
@@ -0,0 +1,298 @@
+package com.ecommerce4j.simulator;
+
+import com.ecommerce4j.api.enums.Platform;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mercado Libre API 模拟器。
+ * <p>
+ * 以 Bearer 令牌识别卖家；订单搜索按 offset/limit 翻页（limit 不超过 51），按创建时间倒序返回；
+ * 相邻两单按 {@link SimulatorConfig#getPackRatio()} 组成 Pack，两单共用 pack_id 和 shipment，可通过 /packs/{id} 查询子单；
+ * /items 批量查询每次不超过 20 个商品，/shipment_labels 返回合并后的 PDF。不存在的资源返回 404。
+ */
+class MercadoLibreSimulator extends PlatformSimulator {
+
+    private static final String[] ORDER_STATUSES = {"paid", "paid", "paid", "paid", "cancelled"};
+    private static final String[] SHIPMENT_STATUSES = {"ready_to_ship", "ready_to_ship", "shipped", "delivered"};
+
+    private static final long ORDER_BASE = 2_000_000_000_000_000L;
+    private static final long PACK_BASE = 4_000_000_000_000_000L;
+    private static final long SHIPMENT_BASE = 6_000_000_000_000_000L;
+    private static final long SHOP_STRIDE = 100_000_000_000L;
+    private static final long ITEM_BASE = 1_000_000_000L;
+    private static final long ITEM_SHOP_STRIDE = 100_000L;
+
+    private static final int MAX_SEARCH_LIMIT = 51;
+    private static final int MAX_MULTIGET_IDS = 20;
+    private static final int MAX_LABEL_SHIPMENTS = 50;
+    private static final int SALT_PACK = 101;
+
+    MercadoLibreSimulator(SimulatorConfig config, OrderCatalog catalog) {
+        super(config, catalog);
+    }
+
+    @Override
+    Platform platform() {
+        return Platform.MERCADO_LIBRE;
+    }
+
+    @Override
+    String shopKey(RecordedRequest request, HttpUrl url) {
+        String authorization = request.getHeader("Authorization");
+        return authorization == null ? null : authorization.replaceFirst("^Bearer ", "");
+    }
+
+    @Override
+    MockResponse handle(RecordedRequest request, HttpUrl url) {
+        String path = url.encodedPath();
+        if ("/oauth/token".equals(path)) {
+            return refreshToken(request);
+        }
+        String authorization = request.getHeader("Authorization");
+        String seller = authorization == null ? null : tokenShop(authorization.replaceFirst("^Bearer ", ""));
+        if (seller == null) {
+            return json(401, object().put("message", "invalid access token").put("error", "invalid_token").put("status", 401));
+        }
+        int shop = OrderCatalog.shopNumber(seller);
+        if ("/orders/search".equals(path)) {
+            if (!seller.equals(url.queryParameter("seller"))) {
+                return json(403, object().put("message", "caller.id does not match seller").put("error", "forbidden").put("status", 403));
+            }
+            return searchOrders(url, shop);
+        }
+        if ("/users/me".equals(path)) {
+            return ok(object().put("id", seller).put("nickname", "SIMULATED_" + shop).put("site_id", "MLM").put("country_id", "MX"));
+        }
+        if ("/items".equals(path)) {
+            return items(url);
+        }
+        if ("/shipment_labels".equals(path)) {
+            return labels(url, shop);
+        }
+        if (path.startsWith("/orders/")) {
+            long index = decode(path.substring("/orders/".length()), ORDER_BASE, shop);
+            return index < 0 ? notFound("Order not found") : ok(orderJson(catalog.order(shop, index)));
+        }
+        if (path.startsWith("/packs/")) {
+            return pack(path.substring("/packs/".length()), shop);
+        }
+        if (path.startsWith("/shipments/")) {
+            long index = decode(path.substring("/shipments/".length()), SHIPMENT_BASE, shop);
+            return index < 0 ? notFound("Shipment not found") : ok(shipmentJson(catalog.order(shop, index)));
+        }
+        return notFound("Mercado Libre simulator does not implement " + path);
+    }
+
+    private MockResponse refreshToken(RecordedRequest request) {
+        Map<String, String> form = formParameters(request);
+        if (!config.getMercadoAppId().equals(form.get("client_id")) || !config.getMercadoClientSecret().equals(form.get("client_secret"))) {
+            return rejectSignature(400, object().put("message", "invalid client_id or client_secret").put("error", "invalid_client").put("status", 400));
+        }
+        String seller = refreshTokenShop(form.get("refresh_token"));
+        if (!"refresh_token".equals(form.get("grant_type")) || seller == null) {
+            return json(400, object().put("message", "Error validating grant. Your authorization code or refresh token may be expired or it was already used")
+                .put("error", "invalid_grant").put("status", 400));
+        }
+        return ok(object()
+            .put("access_token", accessToken(seller, Instant.now()))
+            .put("token_type", "Bearer")
+            .put("expires_in", accessTokenExpiresIn())
+            .put("scope", "offline_access read write")
+            .put("user_id", seller)
+            .put("refresh_token", refreshToken(seller)));
+    }
+
+    private MockResponse searchOrders(HttpUrl url, int shop) {
+        int limit = intParameter(url.queryParameter("limit"), 50);
+        int offset = intParameter(url.queryParameter("offset"), 0);
+        if (limit <= 0 || limit > MAX_SEARCH_LIMIT) {
+            return json(400, object().put("message", "Invalid limit. Max value: 51").put("error", "bad_request").put("status", 400));
+        }
+        long[] range;
+        try {
+            range = catalog.byCreateTime(instant(url.queryParameter("order.date_created.from")), instant(url.queryParameter("order.date_created.to")));
+        } catch (DateTimeParseException e) {
+            return json(400, object().put("message", "Invalid date format").put("error", "bad_request").put("status", 400));
+        }
+        String status = url.queryParameter("order.status");
+        List<Long> filtered = status == null ? null : catalog.filterByStatus(shop, range, ORDER_STATUSES, status);
+        long total = filtered == null ? range[1] - range[0] : filtered.size();
+        boolean ascending = "date_asc".equals(url.queryParameter("sort"));
+
+        ObjectNode response = object();
+        response.putNull("query");
+        ArrayNode results = response.putArray("results");
+        long end = Math.min(total, (long) offset + limit);
+        for (long position = offset; position < end; position++) {
+            long rank = ascending ? position : total - 1 - position;
+            long index = filtered == null ? range[0] + rank : filtered.get((int) rank);
+            results.add(orderJson(catalog.order(shop, index)));
+        }
+        response.putObject("paging").put("total", total).put("offset", offset).put("limit", limit);
+        response.putObject("sort").put("id", ascending ? "date_asc" : "date_desc");
+        return ok(response);
+    }
+
+    private MockResponse pack(String packId, int shop) {
+        long pair = decode(packId, PACK_BASE, shop);
+        if (pair < 0 || !isPacked(shop, pair * 2)) {
+            return notFound("Pack not found");
+        }
+        ObjectNode response = object().put("id", Long.parseLong(packId)).put("status", "released");
+        response.putArray("orders")
+            .add(object().put("id", ORDER_BASE + shop * SHOP_STRIDE + pair * 2))
+            .add(object().put("id", ORDER_BASE + shop * SHOP_STRIDE + pair * 2 + 1));
+        response.putObject("shipment").put("id", SHIPMENT_BASE + shop * SHOP_STRIDE + pair * 2);
+        return ok(response);
+    }
+
+    private MockResponse items(HttpUrl url) {
+        String ids = url.queryParameter("ids");
+        String[] itemIds = ids == null || ids.isEmpty() ? new String[0] : ids.split(",");
+        if (itemIds.length == 0 || itemIds.length > MAX_MULTIGET_IDS) {
+            return json(400, object().put("message", "ids must contain between 1 and 20 ids").put("error", "bad_request").put("status", 400));
+        }
+        ArrayNode response = objectMapper.createArrayNode();
+        for (String itemId : itemIds) {
+            long number = itemId.startsWith("MLM") ? parseLong(itemId.substring(3)) : -1L;
+            if (number < ITEM_BASE || (number - ITEM_BASE) % ITEM_SHOP_STRIDE >= config.getProductsPerShop()) {
+                response.addObject().put("code", 404).putObject("body").put("message", "Item with id " + itemId + " not found").put("error", "not_found");
+                continue;
+            }
+            ObjectNode body = response.addObject().put("code", 200).putObject("body")
+                .put("id", itemId)
+                .put("title", "Simulated item " + itemId)
+                .put("thumbnail", "http://http2.mlstatic.com/D_" + itemId + "-I.jpg");
+            body.putArray("pictures")
+                .add(object().put("id", "606115-" + itemId).put("secure_url", "https://http2.mlstatic.com/D_606115-" + itemId + "-O.jpg").put("size", "500x500"));
+        }
+        return ok(response);
+    }
+
+    private MockResponse labels(HttpUrl url, int shop) {
+        String ids = url.queryParameter("shipment_ids");
+        String[] shipmentIds = ids == null || ids.isEmpty() ? new String[0] : ids.split(",");
+        if (shipmentIds.length == 0 || shipmentIds.length > MAX_LABEL_SHIPMENTS) {
+            return json(400, object().put("message", "shipment_ids must contain between 1 and 50 ids").put("error", "bad_request").put("status", 400));
+        }
+        for (String shipmentId : shipmentIds) {
+            if (decode(shipmentId, SHIPMENT_BASE, shop) < 0) {
+                return notFound("Shipment " + shipmentId + " not found");
+            }
+        }
+        return pdf(String.join(",", shipmentIds));
+    }
+
+    private ObjectNode orderJson(SimulatedOrder order) {
+        int shop = order.getShop();
+        long index = order.getIndex();
+        boolean packed = isPacked(shop, index);
+        long shipmentIndex = packed ? index - index % 2 : index;
+        String created = order.getCreateTime().toString();
+        ObjectNode node = object()
+            .put("id", ORDER_BASE + shop * SHOP_STRIDE + index)
+            .put("status", order.status(ORDER_STATUSES))
+            .put("date_created", created)
+            .put("date_closed", created)
+            .put("last_updated", order.getUpdateTime().toString())
+            .put("total_amount", order.totalAmount())
+            .put("currency_id", "MXN");
+        if (packed) {
+            node.put("pack_id", PACK_BASE + shop * SHOP_STRIDE + index / 2);
+        } else {
+            node.putNull("pack_id");
+        }
+        node.putObject("buyer")
+            .put("id", 100_000L + index)
+            .put("nickname", "COMPRADOR" + index)
+            .put("first_name", order.getBuyerFirstName())
+            .put("last_name", order.getBuyerLastName());
+        node.putObject("seller").put("id", shop);
+        node.putArray("payments").addObject()
+            .put("id", 6_000_000_000L + index)
+            .put("status", "approved")
+            .put("transaction_amount", order.totalAmount())
+            .put("currency_id", "MXN");
+        node.putObject("shipping").put("id", String.valueOf(SHIPMENT_BASE + shop * SHOP_STRIDE + shipmentIndex));
+        ArrayNode items = node.putArray("order_items");
+        for (SimulatedOrder.Line line : order.getLines()) {
+            ObjectNode item = items.addObject();
+            item.putObject("item")
+                .put("id", "MLM" + (ITEM_BASE + shop * ITEM_SHOP_STRIDE + line.getProduct()))
+                .put("title", line.getProductName())
+                .put("seller_sku", "SKU-" + line.getProduct());
+            item.put("quantity", line.getQuantity())
+                .put("unit_price", line.unitPrice())
+                .put("full_unit_price", line.unitPrice())
+                .put("currency_id", "MXN");
+        }
+        return node;
+    }
+
+    private ObjectNode shipmentJson(SimulatedOrder order) {
+        int shop = order.getShop();
+        ObjectNode node = object()
+            .put("id", String.valueOf(SHIPMENT_BASE + shop * SHOP_STRIDE + order.getIndex()))
+            .put("status", order.status(SHIPMENT_STATUSES))
+            .put("substatus", "ready_to_print")
+            .put("tracking_method", "MEL Distribution")
+            .put("date_created", order.getCreateTime().toString())
+            .put("last_updated", order.getUpdateTime().toString());
+        ObjectNode destination = node.putObject("destination").put("receiver_name", order.buyerName()).put("receiver_phone", order.getPhone());
+        ObjectNode address = destination.putObject("shipping_address")
+            .put("address_line", order.getStreet())
+            .put("zip_code", order.getZipCode());
+        address.putObject("city").put("name", order.getCity());
+        address.putObject("state").put("name", order.getState());
+        address.putObject("country").put("id", "MX").put("name", "Mexico");
+        return node;
+    }
+
+    /**
+     * 第 2k 和 2k+1 单是否组成 Pack
+     */
+    private boolean isPacked(int shop, long index) {
+        long first = index - index % 2;
+        return catalog.contains(first + 1) && catalog.fraction(shop, first / 2, SALT_PACK) < config.getPackRatio();
+    }
+
+    /**
+     * 解析编码了店铺编号的数字 ID，返回店铺内序号；不匹配或超出范围时返回 -1
+     */
+    private long decode(String id, long base, int shop) {
+        long value = parseLong(id) - base - shop * SHOP_STRIDE;
+        return value >= 0 && value < SHOP_STRIDE && catalog.contains(base == PACK_BASE ? value * 2 : value) ? value : -1L;
+    }
+
+    private static long parseLong(String text) {
+        try {
+            return Long.parseLong(text);
+        } catch (NumberFormatException e) {
+            return Long.MIN_VALUE / 2;
+        }
+    }
+
+    private static Instant instant(String text) {
+        return text == null || text.isEmpty() ? null : Instant.parse(text);
+    }
+
+    @Override
+    JsonNode throttledBody() {
+        return object().put("message", "Too many requests").put("error", "too_many_requests").put("status", 429);
+    }
+
+    @Override
+    JsonNode failureBody() {
+        return object().put("message", "Service temporarily unavailable").put("error", "service_unavailable").put("status", config.getFailureStatus());
+    }
+}
@@ -0,0 +1,205 @@
+package com.ecommerce4j.simulator;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 确定性的订单目录。
+ * <p>
+ * 每个店铺有 {@link SimulatorConfig#getOrdersPerShop()} 个订单，第 i 单的创建时间为
+ * {@code start + floor(i * span / n)}（精确到秒），订单内容由种子、店铺编号和序号哈希得到。
+ * 因此按时间区间查询时可以直接算出序号范围，任意页都是 O(页大小)，订单量放大 10 倍也不会增加模拟器内存。
+ * 时间区间一律按左闭右开处理，相邻窗口不会重复返回同一订单。
+ */
+final class OrderCatalog {
+
+    private static final String[] FIRST_NAMES = {
+        "José", "María", "Budi", "Siti", "Nguyễn Văn", "陈小明", "Somchai", "Ana", "Juan Carlos", "Li Wei"
+    };
+
+    private static final String[] LAST_NAMES = {
+        "Hernández", "García", "Santoso", "Rahmawati", "An", "Tan", "Srisuk", "López", "Martínez", "Wong"
+    };
+
+    private static final String[] STREETS = {
+        "Avenida Insurgentes Sur", "Jl. Sudirman", "Đường Lê Lợi", "Bayfront Avenue", "Sukhumvit Road", "Calle Falsa"
+    };
+
+    private static final String[][] CITIES = {
+        {"Benito Juárez", "Distrito Federal", "03940"},
+        {"Jakarta Selatan", "DKI Jakarta", "12190"},
+        {"Hồ Chí Minh", "Hồ Chí Minh", "700000"},
+        {"Singapore", "Central Singapore", "018956"},
+        {"Bangkok", "Bangkok", "10110"},
+        {"Guadalajara", "Jalisco", "44100"}
+    };
+
+    private static final String[] PRODUCTS = {
+        "Audífonos Inalámbricos Bluetooth 5.3", "无线机械键盘 Teclado mecánico", "Kaos Polos Katun Premium",
+        "Loa Bluetooth Mini 便携音箱", "Funda de silicona para teléfono", "Botol Minum Stainless 750ml"
+    };
+
+    private static final int SALT_STATUS = 1;
+    private static final int SALT_BUYER = 2;
+    private static final int SALT_LINE = 3;
+
+    private final long seed;
+    private final int size;
+    private final long startSeconds;
+    private final long spanSeconds;
+    private final long updateLagSeconds;
+    private final int itemsPerOrder;
+    private final int productsPerShop;
+
+    OrderCatalog(SimulatorConfig config) {
+        if (config.getOrdersPerShop() <= 0 || config.getCatalogSpan().getSeconds() <= 0) {
+            throw new IllegalArgumentException("ordersPerShop 和 catalogSpan 必须大于 0");
+        }
+        this.seed = config.getSeed();
+        this.size = config.getOrdersPerShop();
+        this.startSeconds = config.getCatalogStart().getEpochSecond();
+        this.spanSeconds = config.getCatalogSpan().getSeconds();
+        this.updateLagSeconds = config.getUpdateLag().getSeconds();
+        this.itemsPerOrder = Math.max(1, config.getItemsPerOrder());
+        this.productsPerShop = Math.max(1, config.getProductsPerShop());
+    }
+
+    /**
+     * 店铺编号：把任意店铺标识映射到 1000~9999，编码进订单号后订单号可以自描述所属店铺
+     */
+    static int shopNumber(String shopKey) {
+        long hash = mix(0x5EED5EEDL, fnv(shopKey));
+        return 1000 + (int) Math.floorMod(hash, 9000L);
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean contains(long index) {
+        return index >= 0 && index < size;
+    }
+
+    Instant createTime(long index) {
+        return Instant.ofEpochSecond(startSeconds + index * spanSeconds / size);
+    }
+
+    Instant updateTime(long index) {
+        return createTime(index).plusSeconds(updateLagSeconds);
+    }
+
+    /**
+     * 创建时间落在 [from, to) 的订单序号范围 [lo, hi)；from/to 为 null 表示不限
+     */
+    long[] byCreateTime(Instant from, Instant to) {
+        long lo = from == null ? 0L : firstIndexAtOrAfter(from.toEpochMilli());
+        long hi = to == null ? size : firstIndexAtOrAfter(to.toEpochMilli());
+        return new long[]{lo, Math.max(lo, hi)};
+    }
+
+    /**
+     * 更新时间落在 [from, to) 的订单序号范围 [lo, hi)
+     */
+    long[] byUpdateTime(Instant from, Instant to) {
+        return byCreateTime(from == null ? null : from.minusSeconds(updateLagSeconds), to == null ? null : to.minusSeconds(updateLagSeconds));
+    }
+
+    /**
+     * 在序号范围内筛选状态，返回命中的序号；只计算状态因子，不生成订单
+     */
+    List<Long> filterByStatus(int shop, long[] range, String[] statuses, String status) {
+        List<Long> indexes = new ArrayList<>();
+        for (long index = range[0]; index < range[1]; index++) {
+            if (statuses[Math.floorMod(statusSeed(shop, index), statuses.length)].equalsIgnoreCase(status)) {
+                indexes.add(index);
+            }
+        }
+        return indexes;
+    }
+
+    int statusSeed(int shop, long index) {
+        return (int) (hash(shop, index, SALT_STATUS) >>> 33);
+    }
+
+    SimulatedOrder order(int shop, long index) {
+        long buyer = hash(shop, index, SALT_BUYER);
+        String[] city = CITIES[(int) Math.floorMod(buyer >>> 8, (long) CITIES.length)];
+        List<SimulatedOrder.Line> lines = new ArrayList<>(itemsPerOrder);
+        for (int line = 0; line < itemsPerOrder; line++) {
+            long lineHash = hash(shop, index * 31 + line, SALT_LINE);
+            int product = (int) Math.floorMod(lineHash, (long) productsPerShop);
+            lines.add(SimulatedOrder.Line.builder()
+                .line(line)
+                .product(product)
+                .productName(PRODUCTS[product % PRODUCTS.length] + " #" + product)
+                .quantity(1 + (int) Math.floorMod(lineHash >>> 20, 3L))
+                // 单价只与商品有关，同一商品在不同订单中价格一致
+                .unitPriceCents(500L + Math.floorMod(mix(seed, shop * 100_003L + product), 19_500L))
+                .build());
+        }
+        return SimulatedOrder.builder()
+            .shop(shop)
+            .index(index)
+            .createTime(createTime(index))
+            .updateTime(updateTime(index))
+            .statusSeed(statusSeed(shop, index))
+            .buyerFirstName(FIRST_NAMES[(int) Math.floorMod(buyer, (long) FIRST_NAMES.length)])
+            .buyerLastName(LAST_NAMES[(int) Math.floorMod(buyer >>> 16, (long) LAST_NAMES.length)])
+            .phone("55" + String.format("%08d", Math.floorMod(buyer >>> 24, 100_000_000L)))
+            .street(STREETS[(int) Math.floorMod(buyer >>> 40, (long) STREETS.length)] + " " + (1 + Math.floorMod(buyer >>> 48, 2000L)))
+            .city(city[0])
+            .state(city[1])
+            .zipCode(city[2])
+            .lines(lines)
+            .build();
+    }
+
+    /**
+     * 由种子、店铺编号、序号和用途派生的 64 位哈希，供各平台模拟器生成确定性的附加属性（如合单）
+     */
+    long hash(int shop, long index, int salt) {
+        return mix(seed ^ (shop * 0x9E3779B97F4A7C15L), index * 0xC2B2AE3D27D4EB4FL + salt);
+    }
+
+    /**
+     * 按 [0, 1) 均匀分布的哈希值
+     */
+    double fraction(int shop, long index, int salt) {
+        return (hash(shop, index, salt) >>> 11) * 0x1.0p-53;
+    }
+
+    private long firstIndexAtOrAfter(long epochMillis) {
+        long offsetMillis = epochMillis - startSeconds * 1000L;
+        if (offsetMillis <= 0) {
+            return 0L;
+        }
+        long offsetSeconds = ceilDiv(offsetMillis, 1000L);
+        if (offsetSeconds >= spanSeconds) {
+            return size;
+        }
+        // 最小的 i 使 floor(i * span / n) >= offsetSeconds
+        return Math.min(size, ceilDiv(offsetSeconds * size, spanSeconds));
+    }
+
+    private static long ceilDiv(long dividend, long divisor) {
+        return -Math.floorDiv(-dividend, divisor);
+    }
+
+    private static long mix(long seed, long value) {
+        long z = seed + value * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static long fnv(String text) {
+        long hash = 0xCBF29CE484222325L;
+        for (byte b : text.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001B3L;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,320 @@
+package com.ecommerce4j.simulator;
+
+import com.ecommerce4j.api.enums.Platform;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 平台模拟器基类：统一处理请求统计、限流、错误注入和延迟，子类只负责平台协议。
+ * <p>
+ * 处理顺序为：限流（429 + Retry-After）→ 按概率注入错误 → 平台协议（签名、令牌、业务）；
+ * 延迟对所有响应生效，包括 429 和注入的错误。
+ * <p>
+ * 访问令牌是无状态的：{@code sim_<签发秒>_<店铺>}，模拟器从令牌中解析店铺并按
+ * {@link SimulatorConfig#getAccessTokenTtl()} 判断是否过期，刷新令牌为 {@code simr_<店铺>}。
+ */
+abstract class PlatformSimulator extends Dispatcher {
+
+    static final String ACCESS_TOKEN_PREFIX = "sim_";
+    static final String REFRESH_TOKEN_PREFIX = "simr_";
+
+    protected final SimulatorConfig config;
+    protected final OrderCatalog catalog;
+    protected final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final SimulatorStats stats = new SimulatorStats();
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    private volatile HttpUrl serverUrl;
+
+    PlatformSimulator(SimulatorConfig config, OrderCatalog catalog) {
+        this.config = config;
+        this.catalog = catalog;
+    }
+
+    abstract Platform platform();
+
+    /**
+     * 客户端应配置的 API 基础地址
+     */
+    String apiBaseUrl() {
+        return serverUrl("");
+    }
+
+    /**
+     * 用于限流计数的店铺标识，无法识别时返回 null（按平台整体计数）
+     */
+    abstract String shopKey(RecordedRequest request, HttpUrl url);
+
+    /**
+     * 处理平台协议
+     */
+    abstract MockResponse handle(RecordedRequest request, HttpUrl url);
+
+    /**
+     * 429 响应体，使用平台自己的错误格式
+     */
+    abstract JsonNode throttledBody();
+
+    /**
+     * 注入错误时的响应体
+     */
+    abstract JsonNode failureBody();
+
+    SimulatorStats stats() {
+        return stats;
+    }
+
+    void bind(HttpUrl serverUrl) {
+        this.serverUrl = serverUrl;
+    }
+
+    @Override
+    public MockResponse dispatch(RecordedRequest request) {
+        stats.recordRequest();
+        MockResponse response;
+        try {
+            response = respond(request);
+        } catch (RuntimeException e) {
+            // 模拟器自身的异常按 500 返回，异常信息放在响应体中便于排查
+            response = json(500, objectMapper.createObjectNode().put("message", platform() + " simulator error: " + e));
+        }
+        long delayMillis = config.getLatency().sampleMillis(ThreadLocalRandom.current());
+        if (delayMillis > 0) {
+            response.setHeadersDelay(delayMillis, TimeUnit.MILLISECONDS);
+        }
+        return response;
+    }
+
+    private MockResponse respond(RecordedRequest request) {
+        HttpUrl url = request.getRequestUrl();
+        if (url == null) {
+            return json(400, objectMapper.createObjectNode().put("message", "invalid request line"));
+        }
+        if (config.getRateLimitQps() > 0) {
+            String shop = shopKey(request, url);
+            Bucket bucket = buckets.computeIfAbsent(shop == null ? "*" : shop, key -> new Bucket(config.getRateLimitQps()));
+            if (!bucket.tryAcquire()) {
+                stats.recordThrottled();
+                return json(429, throttledBody()).setHeader("Retry-After", String.valueOf(config.getRetryAfterSeconds()));
+            }
+        }
+        if (config.getFailureRate() > 0 && ThreadLocalRandom.current().nextDouble() < config.getFailureRate()) {
+            stats.recordInjectedFailure();
+            return json(config.getFailureStatus(), failureBody());
+        }
+        return handle(request, url);
+    }
+
+    // --- 令牌 ---
+
+    static String accessToken(String shopKey, Instant issuedAt) {
+        return ACCESS_TOKEN_PREFIX + issuedAt.getEpochSecond() + "_" + shopKey;
+    }
+
+    static String refreshToken(String shopKey) {
+        return REFRESH_TOKEN_PREFIX + shopKey;
+    }
+
+    /**
+     * 解析访问令牌所属店铺；令牌格式不对或已过期时记录统计并返回 null
+     */
+    String tokenShop(String accessToken) {
+        String shop = parseAccessToken(accessToken);
+        if (shop == null) {
+            stats.recordExpiredToken();
+        }
+        return shop;
+    }
+
+    private String parseAccessToken(String accessToken) {
+        if (accessToken == null || !accessToken.startsWith(ACCESS_TOKEN_PREFIX)) {
+            return null;
+        }
+        int separator = accessToken.indexOf('_', ACCESS_TOKEN_PREFIX.length());
+        if (separator < 0 || separator == accessToken.length() - 1) {
+            return null;
+        }
+        long issuedAt;
+        try {
+            issuedAt = Long.parseLong(accessToken.substring(ACCESS_TOKEN_PREFIX.length(), separator));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        long ttl = config.getAccessTokenTtl().getSeconds();
+        if (ttl > 0 && Instant.now().getEpochSecond() >= issuedAt + ttl) {
+            return null;
+        }
+        return accessToken.substring(separator + 1);
+    }
+
+    /**
+     * 解析刷新令牌所属店铺，格式不对时返回 null
+     */
+    static String refreshTokenShop(String refreshToken) {
+        if (refreshToken == null || !refreshToken.startsWith(REFRESH_TOKEN_PREFIX) || refreshToken.length() == REFRESH_TOKEN_PREFIX.length()) {
+            return null;
+        }
+        return refreshToken.substring(REFRESH_TOKEN_PREFIX.length());
+    }
+
+    /**
+     * 新签发令牌的有效期（秒），未配置过期时按 4 小时返回，与多数平台一致
+     */
+    long accessTokenExpiresIn() {
+        long ttl = config.getAccessTokenTtl().getSeconds();
+        return ttl > 0 ? ttl : 4 * 3600L;
+    }
+
+    // --- 响应 ---
+
+    MockResponse json(int status, JsonNode body) {
+        try {
+            return new MockResponse()
+                .setResponseCode(status)
+                .setHeader("Content-Type", "application/json;charset=UTF-8")
+                .setBody(new Buffer().write(objectMapper.writeValueAsBytes(body)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    MockResponse ok(JsonNode body) {
+        return json(200, body);
+    }
+
+    MockResponse notFound(String message) {
+        return json(404, objectMapper.createObjectNode().put("message", message).put("error", "not_found").put("status", 404));
+    }
+
+    MockResponse rejectSignature(int status, JsonNode body) {
+        stats.recordRejectedSignature();
+        return json(status, body);
+    }
+
+    /**
+     * 面单 PDF，内容包含面单标识；按配置补齐到指定大小
+     */
+    MockResponse pdf(String label) {
+        stats.recordLabelServed();
+        return new MockResponse()
+            .setResponseCode(200)
+            .setHeader("Content-Type", "application/pdf")
+            .setBody(new Buffer().write(Labels.pdf(label, config.getLabelBytes())));
+    }
+
+    /**
+     * 指向本模拟器的地址，用于返回面单下载链接等
+     */
+    String serverUrl(String path) {
+        HttpUrl url = serverUrl;
+        if (url == null) {
+            throw new IllegalStateException("模拟器尚未启动");
+        }
+        String base = url.toString();
+        return base.substring(0, base.length() - 1) + path;
+    }
+
+    ObjectNode object() {
+        return objectMapper.createObjectNode();
+    }
+
+    JsonNode readJson(RecordedRequest request) {
+        try {
+            String body = request.getBody().clone().readUtf8();
+            return body.isEmpty() ? object() : objectMapper.readTree(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("请求体不是合法的 JSON", e);
+        }
+    }
+
+    static String readBody(RecordedRequest request) {
+        return request.getBody().clone().readUtf8();
+    }
+
+    static Map<String, String> queryParameters(HttpUrl url) {
+        Map<String, String> parameters = new LinkedHashMap<>();
+        for (String name : url.queryParameterNames()) {
+            parameters.put(name, url.queryParameter(name));
+        }
+        return parameters;
+    }
+
+    static Map<String, String> formParameters(RecordedRequest request) {
+        Map<String, String> parameters = new LinkedHashMap<>();
+        String body = readBody(request);
+        if (body.isEmpty()) {
+            return parameters;
+        }
+        for (String pair : body.split("&")) {
+            int separator = pair.indexOf('=');
+            String name = separator < 0 ? pair : pair.substring(0, separator);
+            String value = separator < 0 ? "" : pair.substring(separator + 1);
+            parameters.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return parameters;
+    }
+
+    static int intParameter(String value, int defaultValue) {
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * 每个店铺一个令牌桶，容量为一秒的配额；锁使用 {@link ReentrantLock}，与 SDK 的限流器一致
+     */
+    private static final class Bucket {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final double permitsPerSecond;
+        private final double capacity;
+        private double tokens;
+        private long lastRefillNanos;
+
+        Bucket(double permitsPerSecond) {
+            this.permitsPerSecond = permitsPerSecond;
+            this.capacity = Math.max(1D, permitsPerSecond);
+            this.tokens = capacity;
+            this.lastRefillNanos = System.nanoTime();
+        }
+
+        boolean tryAcquire() {
+            lock.lock();
+            try {
+                long now = System.nanoTime();
+                tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * permitsPerSecond / TimeUnit.SECONDS.toNanos(1));
+                lastRefillNanos = now;
+                if (tokens < 1D) {
+                    return false;
+                }
+                tokens -= 1D;
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
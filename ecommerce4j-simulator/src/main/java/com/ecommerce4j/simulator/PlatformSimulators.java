@@ -0,0 +1,164 @@
+package com.ecommerce4j.simulator;
+
+import com.ecommerce4j.api.dto.AuthContext;
+import com.ecommerce4j.api.enums.Platform;
+import okhttp3.mockwebserver.MockWebServer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 本地平台模拟服务：每个平台一个 {@link MockWebServer}，共用同一份确定性的订单目录。
+ * <p>
+ * 用法：
+ * <pre>{@code
+ * try (PlatformSimulators simulators = PlatformSimulators.start(SimulatorConfig.builder()
+ *         .ordersPerShop(100_000)
+ *         .latency(LatencyDistribution.logNormal(Duration.ofMillis(80), Duration.ofMillis(400)))
+ *         .failureRate(0.01D)
+ *         .build())) {
+ *     // 把 properties() 写入 Spring 环境，适配器的基础地址和应用凭证即指向模拟服务
+ *     Map<String, String> properties = simulators.properties();
+ *     AuthContext auth = simulators.authContext(Platform.SHOPEE, "10086");
+ *     ...
+ *     System.out.println(simulators.stats(Platform.SHOPEE));
+ * }
+ * }</pre>
+ * 店铺不需要预先注册，任意店铺 ID 都对应一份订单目录，同一个 seed 下内容完全一致。
+ */
+public final class PlatformSimulators implements Closeable {
+
+    private final SimulatorConfig config;
+    private final Map<Platform, PlatformSimulator> simulators = new EnumMap<>(Platform.class);
+    private final Map<Platform, MockWebServer> servers = new EnumMap<>(Platform.class);
+
+    private PlatformSimulators(SimulatorConfig config) {
+        this.config = config;
+    }
+
+    public static PlatformSimulators start(SimulatorConfig config) {
+        return start(config, 0);
+    }
+
+    /**
+     * 启动所有平台的模拟服务
+     *
+     * @param config    模拟参数
+     * @param firstPort 第一个平台的端口，其余平台依次递增；0 表示使用随机端口
+     */
+    public static PlatformSimulators start(SimulatorConfig config, int firstPort) {
+        OrderCatalog catalog = new OrderCatalog(config);
+        PlatformSimulators simulators = new PlatformSimulators(config);
+        try {
+            int port = firstPort;
+            for (PlatformSimulator simulator : new PlatformSimulator[]{
+                new TikTokShopSimulator(config, catalog),
+                new MercadoLibreSimulator(config, catalog),
+                new LazadaSimulator(config, catalog),
+                new ShopeeSimulator(config, catalog),
+                new SheinSimulator(config, catalog)}) {
+                MockWebServer server = new MockWebServer();
+                server.setDispatcher(simulator);
+                simulators.servers.put(simulator.platform(), server);
+                server.start(port);
+                simulator.bind(server.url("/"));
+                simulators.simulators.put(simulator.platform(), simulator);
+                port = firstPort > 0 ? port + 1 : 0;
+            }
+        } catch (IOException e) {
+            simulators.close();
+            throw new UncheckedIOException("启动平台模拟服务失败", e);
+        }
+        return simulators;
+    }
+
+    /**
+     * 平台 API 的基础地址（Lazada 以 /rest 结尾）
+     */
+    public String baseUrl(Platform platform) {
+        return simulator(platform).apiBaseUrl();
+    }
+
+    /**
+     * 适配器需要的全部配置项：各平台的基础地址以及与模拟服务一致的应用凭证
+     */
+    public Map<String, String> properties() {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("tiktok.api_base_url", baseUrl(Platform.TIKTOK_SHOP));
+        properties.put("tiktok.auth_base_url", baseUrl(Platform.TIKTOK_SHOP));
+        properties.put("tiktok.app_key", config.getTikTokAppKey());
+        properties.put("tiktok.app_secret", config.getTikTokAppSecret());
+        properties.put("mercado.api_base_url", baseUrl(Platform.MERCADO_LIBRE));
+        properties.put("mercado.app_id", config.getMercadoAppId());
+        properties.put("mercado.client_secret", config.getMercadoClientSecret());
+        properties.put("lazada.api_base_url", baseUrl(Platform.LAZADA));
+        properties.put("lazada.auth_base_url", baseUrl(Platform.LAZADA));
+        properties.put("lazada.app_key", config.getLazadaAppKey());
+        properties.put("lazada.app_secret", config.getLazadaAppSecret());
+        properties.put("shopee.api_base_url", baseUrl(Platform.SHOPEE));
+        properties.put("shopee.auth_base_url", baseUrl(Platform.SHOPEE));
+        properties.put("shopee.partner_id", String.valueOf(config.getShopeePartnerId()));
+        properties.put("shopee.partner_key", config.getShopeePartnerKey());
+        properties.put("shein.api_base_url", baseUrl(Platform.SHEIN_MX_SELF));
+        return properties;
+    }
+
+    /**
+     * 为指定店铺签发模拟服务认可的授权信息
+     *
+     * @param platform 平台
+     * @param shopId   任意店铺 ID，同时用作 shopCipher、sellerId 和 SHEIN 的 openKeyId
+     */
+    public AuthContext authContext(Platform platform, String shopId) {
+        simulator(platform);
+        Instant now = Instant.now();
+        AuthContext.AuthContextBuilder builder = AuthContext.builder()
+            .platform(platform)
+            .accessToken(PlatformSimulator.accessToken(shopId, now))
+            .refreshToken(PlatformSimulator.refreshToken(shopId))
+            .shopId(shopId)
+            .shopCipher(shopId)
+            .sellerId(shopId)
+            .siteCountry("sg");
+        if (!config.getAccessTokenTtl().isZero()) {
+            builder.accessTokenExpiresAt(now.plus(config.getAccessTokenTtl()));
+        }
+        if (platform == Platform.SHEIN_MX_SELF) {
+            builder.accessToken(null).openKeyId(shopId).secretKey(config.getSheinSecretKey());
+        }
+        return builder.build();
+    }
+
+    public SimulatorStats stats(Platform platform) {
+        return simulator(platform).stats();
+    }
+
+    public SimulatorConfig getConfig() {
+        return config;
+    }
+
+    private PlatformSimulator simulator(Platform platform) {
+        PlatformSimulator simulator = simulators.get(platform);
+        if (simulator == null) {
+            throw new IllegalArgumentException("没有 " + platform + " 的模拟服务");
+        }
+        return simulator;
+    }
+
+    @Override
+    public void close() {
+        for (MockWebServer server : servers.values()) {
+            try {
+                server.shutdown();
+            } catch (IOException ignored) {
+                // 关闭失败不影响其他平台
+            }
+        }
+        servers.clear();
+    }
+}
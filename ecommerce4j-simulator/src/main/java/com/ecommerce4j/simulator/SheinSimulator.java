@@ -0,0 +1,188 @@
+package com.ecommerce4j.simulator;
+
+import com.ecommerce4j.api.enums.Platform;
+import com.ecommerce4j.api.platform.sign.SheinSigner;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * SHEIN 自运营开放平台模拟器。
+ * <p>
+ * 以 x-lt-openKeyId 作为店铺标识，按 openKeyId + 时间戳 + path 校验 x-lt-signature（所有店铺共用
+ * {@link SimulatorConfig#getSheinSecretKey()}）；订单搜索按 pageNo/pageSize 翻页，在 info 中返回 totalPage。
+ */
+class SheinSimulator extends PlatformSimulator {
+
+    private static final String[] STATUSES = {"WAIT_SHIP", "WAIT_SHIP", "SHIPPED", "DELIVERED", "COMPLETED", "CANCELLED"};
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_DETAIL_ORDERS = 50;
+    private static final int RANDOM_KEY_LENGTH = 5;
+    private static final long MAX_TIMESTAMP_SKEW_MILLIS = 5 * 60 * 1000L;
+
+    SheinSimulator(SimulatorConfig config, OrderCatalog catalog) {
+        super(config, catalog);
+    }
+
+    @Override
+    Platform platform() {
+        return Platform.SHEIN_MX_SELF;
+    }
+
+    @Override
+    String shopKey(RecordedRequest request, HttpUrl url) {
+        return request.getHeader("x-lt-openKeyId");
+    }
+
+    @Override
+    MockResponse handle(RecordedRequest request, HttpUrl url) {
+        String path = url.encodedPath();
+        String openKeyId = request.getHeader("x-lt-openKeyId");
+        String timestamp = request.getHeader("x-lt-timestamp");
+        String signature = request.getHeader("x-lt-signature");
+        if (openKeyId == null || timestamp == null || signature == null || signature.length() <= RANDOM_KEY_LENGTH) {
+            return rejectSignature(200, error("20002", "Missing signature headers"));
+        }
+        long skew;
+        try {
+            skew = Math.abs(System.currentTimeMillis() - Long.parseLong(timestamp));
+        } catch (NumberFormatException e) {
+            return rejectSignature(200, error("20003", "Invalid x-lt-timestamp"));
+        }
+        String randomKey = signature.substring(0, RANDOM_KEY_LENGTH);
+        if (skew > MAX_TIMESTAMP_SKEW_MILLIS
+            || !SheinSigner.sign(openKeyId, config.getSheinSecretKey(), path, timestamp, randomKey).equals(signature)) {
+            return rejectSignature(200, error("20003", "Signature verification failed"));
+        }
+        int shop = OrderCatalog.shopNumber(openKeyId);
+        JsonNode body = readJson(request);
+        if ("/open-api/order/search".equals(path)) {
+            return searchOrders(body, shop);
+        }
+        if ("/open-api/order/details".equals(path)) {
+            return orderDetails(body, shop);
+        }
+        if ("/open-api/shop/info".equals(path)) {
+            return ok(success().set("info", object().put("shopId", openKeyId).put("shopName", "Simulated Shop " + shop).put("countryCode", "MX")));
+        }
+        return notFound("SHEIN simulator does not implement " + path);
+    }
+
+    private MockResponse searchOrders(JsonNode body, int shop) {
+        int pageNo = body.path("pageNo").asInt(1);
+        int pageSize = body.path("pageSize").asInt(50);
+        if (pageNo <= 0 || pageSize <= 0 || pageSize > MAX_PAGE_SIZE) {
+            return ok(error("10001", "pageSize must be between 1 and 100"));
+        }
+        Instant from = body.hasNonNull("startTime") ? Instant.ofEpochMilli(body.get("startTime").asLong()) : null;
+        Instant to = body.hasNonNull("endTime") ? Instant.ofEpochMilli(body.get("endTime").asLong()) : null;
+        long[] range = catalog.byCreateTime(from, to);
+        String status = body.path("orderStatus").asText(null);
+        List<Long> filtered = status == null ? null : catalog.filterByStatus(shop, range, STATUSES, status);
+        long total = filtered == null ? range[1] - range[0] : filtered.size();
+        long offset = (long) (pageNo - 1) * pageSize;
+        long end = Math.min(total, offset + pageSize);
+
+        ObjectNode info = object();
+        ArrayNode orderList = info.putArray("orderList");
+        for (long position = offset; position < end; position++) {
+            long index = filtered == null ? range[0] + position : filtered.get((int) position);
+            orderList.add(orderJson(catalog.order(shop, index)));
+        }
+        info.put("pageNo", pageNo)
+            .put("pageSize", pageSize)
+            .put("total", total)
+            .put("totalPage", (total + pageSize - 1) / pageSize);
+        return ok(success().set("info", info));
+    }
+
+    private MockResponse orderDetails(JsonNode body, int shop) {
+        JsonNode orderIds = body.path("orderIds");
+        if (!orderIds.isArray() || orderIds.isEmpty() || orderIds.size() > MAX_DETAIL_ORDERS) {
+            return ok(error("10001", "orderIds must contain 1 to 50 ids"));
+        }
+        ObjectNode info = object();
+        ArrayNode orderList = info.putArray("orderList");
+        for (JsonNode orderId : orderIds) {
+            long index = indexOf(orderId.asText(), shop);
+            if (index >= 0) {
+                orderList.add(orderJson(catalog.order(shop, index)));
+            }
+        }
+        return ok(success().set("info", info));
+    }
+
+    private ObjectNode orderJson(SimulatedOrder order) {
+        String orderId = String.format("GSH%04d%010d", order.getShop(), order.getIndex());
+        ObjectNode node = object()
+            .put("orderId", orderId)
+            .put("orderStatus", order.status(STATUSES))
+            .put("createTime", order.getCreateTime().toEpochMilli())
+            .put("updateTime", order.getUpdateTime().toEpochMilli())
+            .put("currency", "MXN")
+            .put("orderAmount", order.totalAmount().toPlainString())
+            .put("buyerName", order.buyerName());
+        node.putObject("address")
+            .put("name", order.buyerName())
+            .put("phone", order.getPhone())
+            .put("countryCode", "MX")
+            .put("province", order.getState())
+            .put("city", order.getCity())
+            .put("district", "Centro")
+            .put("addressLine1", order.getStreet())
+            .put("zipCode", order.getZipCode());
+        ArrayNode items = node.putArray("orderItems");
+        for (SimulatedOrder.Line line : order.getLines()) {
+            items.addObject()
+                .put("orderLineId", orderId + "-" + line.getLine())
+                .put("productId", "SPU" + order.getShop() + String.format("%06d", line.getProduct()))
+                .put("productName", line.getProductName())
+                .put("skuId", "SKU-" + line.getProduct())
+                .put("skuName", "Default")
+                .put("imageUrl", "https://img.ltwebstatic.com/sim/" + order.getShop() + "-" + line.getProduct() + ".jpg")
+                .put("quantity", line.getQuantity())
+                .put("unitPrice", line.unitPrice().toPlainString());
+        }
+        return node;
+    }
+
+    /**
+     * 解析订单号中的序号，店铺不匹配或超出范围时返回 -1
+     */
+    private long indexOf(String orderId, int shop) {
+        if (orderId.length() != 17 || !orderId.startsWith("GSH" + shop)) {
+            return -1L;
+        }
+        try {
+            long index = Long.parseLong(orderId.substring(7));
+            return catalog.contains(index) ? index : -1L;
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    private ObjectNode success() {
+        return object().put("code", "0").put("msg", "OK");
+    }
+
+    private ObjectNode error(String code, String message) {
+        return object().put("code", code).put("msg", message);
+    }
+
+    @Override
+    JsonNode throttledBody() {
+        return error("429", "Request too frequent");
+    }
+
+    @Override
+    JsonNode failureBody() {
+        return error("500", "System busy, please try again later");
+    }
+}
@@ -0,0 +1,316 @@
+package com.ecommerce4j.simulator;
+
+import com.ecommerce4j.api.enums.Platform;
+import com.ecommerce4j.api.platform.sign.ShopeeSigner;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shopee Open Platform v2 模拟器。
+ * <p>
+ * 校验 partner_id 和签名（公共接口 / 店铺接口），订单列表按 cursor（即 offset）翻页，单次查询不超过 15 天、每页不超过 100 单；
+ * 订单详情每次不超过 50 单；面单需先 create_shipping_document，
+ * 之后 get_shipping_document_result 返回 {@link SimulatorConfig#getDocumentProcessingPolls()} 次 PROCESSING 再返回 READY，才能下载。
+ * 订单号格式为 {@code <店铺编号4位><序号9位>SIM}。
+ */
+class ShopeeSimulator extends PlatformSimulator {
+
+    private static final String[] STATUSES = {"READY_TO_SHIP", "READY_TO_SHIP", "PROCESSED", "SHIPPED", "COMPLETED", "UNPAID", "CANCELLED"};
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_DETAIL_ORDERS = 50;
+    private static final Duration MAX_RANGE = Duration.ofDays(15);
+    private static final String DOCUMENT_TYPE = "THERMAL_AIR_WAYBILL";
+
+    private final ShopeeSigner signer;
+
+    /**
+     * 包裹号 → 已查询面单结果的次数；未创建的面单不在其中
+     */
+    private final Map<String, AtomicInteger> documents = new ConcurrentHashMap<>();
+
+    ShopeeSimulator(SimulatorConfig config, OrderCatalog catalog) {
+        super(config, catalog);
+        this.signer = new ShopeeSigner(config.getShopeePartnerId(), config.getShopeePartnerKey());
+    }
+
+    @Override
+    Platform platform() {
+        return Platform.SHOPEE;
+    }
+
+    @Override
+    String shopKey(RecordedRequest request, HttpUrl url) {
+        return url.queryParameter("shop_id");
+    }
+
+    @Override
+    MockResponse handle(RecordedRequest request, HttpUrl url) {
+        String path = url.encodedPath();
+        if (!String.valueOf(config.getShopeePartnerId()).equals(url.queryParameter("partner_id"))) {
+            return rejectSignature(403, error("error_param", "Wrong partner_id."));
+        }
+        long timestamp;
+        try {
+            timestamp = Long.parseLong(String.valueOf(url.queryParameter("timestamp")));
+        } catch (NumberFormatException e) {
+            return json(403, error("error_param", "Wrong timestamp."));
+        }
+        if (path.startsWith("/api/v2/auth/")) {
+            if (!signer.signPublic(path, timestamp).equals(url.queryParameter("sign"))) {
+                return rejectSignature(403, error("error_sign", "Wrong sign."));
+            }
+            return handlePublic(request, path);
+        }
+
+        String accessToken = url.queryParameter("access_token");
+        String shopId = url.queryParameter("shop_id");
+        if (accessToken == null || shopId == null
+            || !signer.signShop(path, timestamp, accessToken, shopId).equals(url.queryParameter("sign"))) {
+            return rejectSignature(403, error("error_sign", "Wrong sign."));
+        }
+        if (!shopId.equals(tokenShop(accessToken))) {
+            return json(403, error("invalid_access_token", "Invalid access_token."));
+        }
+        int shop = OrderCatalog.shopNumber(shopId);
+        switch (path) {
+            case "/api/v2/order/get_order_list":
+                return orderList(url, shop);
+            case "/api/v2/order/get_order_detail":
+                return orderDetail(url, shop);
+            case "/api/v2/logistics/get_shipping_document_parameter":
+                return documentOperation(request, "result_list", (result, order) -> {
+                    result.put("suggest_shipping_document_type", DOCUMENT_TYPE);
+                    result.putArray("selectable_shipping_document_type").add(DOCUMENT_TYPE).add("NORMAL_AIR_WAYBILL");
+                });
+            case "/api/v2/logistics/create_shipping_document":
+                return documentOperation(request, "result_list", (result, order) ->
+                    documents.putIfAbsent(order.path("package_number").asText(), new AtomicInteger()));
+            case "/api/v2/logistics/get_shipping_document_result":
+                return documentOperation(request, "result_list", (result, order) -> {
+                    AtomicInteger polls = documents.get(order.path("package_number").asText());
+                    if (polls == null) {
+                        result.put("status", "FAILED").put("fail_error", "logistics.package_not_exist").put("fail_message", "Shipping document not created.");
+                    } else {
+                        result.put("status", polls.getAndIncrement() < config.getDocumentProcessingPolls() ? "PROCESSING" : "READY");
+                    }
+                });
+            case "/api/v2/logistics/download_shipping_document":
+                return downloadDocument(request);
+            default:
+                return notFound("Shopee simulator does not implement " + path);
+        }
+    }
+
+    private MockResponse handlePublic(RecordedRequest request, String path) {
+        if (!"/api/v2/auth/access_token/get".equals(path)) {
+            return notFound("Shopee simulator does not implement " + path);
+        }
+        JsonNode body = readJson(request);
+        String shopId = refreshTokenShop(body.path("refresh_token").asText(null));
+        if (shopId == null || !shopId.equals(body.path("shop_id").asText())) {
+            return json(403, error("error_auth", "Invalid refresh_token."));
+        }
+        return ok(object()
+            .put("error", "")
+            .put("message", "")
+            .put("request_id", requestId())
+            .put("partner_id", config.getShopeePartnerId())
+            .put("shop_id", body.path("shop_id").asLong())
+            .put("access_token", accessToken(shopId, Instant.now()))
+            .put("refresh_token", refreshToken(shopId))
+            .put("expire_in", accessTokenExpiresIn()));
+    }
+
+    private MockResponse orderList(HttpUrl url, int shop) {
+        Instant from = Instant.ofEpochSecond(Long.parseLong(String.valueOf(url.queryParameter("time_from"))));
+        Instant to = Instant.ofEpochSecond(Long.parseLong(String.valueOf(url.queryParameter("time_to"))));
+        int pageSize = intParameter(url.queryParameter("page_size"), 20);
+        if (Duration.between(from, to).compareTo(MAX_RANGE) > 0) {
+            return ok(error("error_param", "The time range should not be more than 15 days."));
+        }
+        if (pageSize <= 0 || pageSize > MAX_PAGE_SIZE) {
+            return ok(error("error_param", "page_size should be between 1 and 100."));
+        }
+        long[] range = "update_time".equals(url.queryParameter("time_range_field"))
+            ? catalog.byUpdateTime(from, to)
+            : catalog.byCreateTime(from, to);
+        String status = url.queryParameter("order_status");
+        List<Long> filtered = status == null ? null : catalog.filterByStatus(shop, range, STATUSES, status);
+        long total = filtered == null ? range[1] - range[0] : filtered.size();
+        int offset = intParameter(url.queryParameter("cursor"), 0);
+
+        ObjectNode response = object();
+        ArrayNode orders = response.putArray("order_list");
+        long end = Math.min(total, (long) offset + pageSize);
+        for (long position = offset; position < end; position++) {
+            long index = filtered == null ? range[0] + position : filtered.get((int) position);
+            orders.addObject()
+                .put("order_sn", orderSn(shop, index))
+                .put("order_status", STATUSES[Math.floorMod(catalog.statusSeed(shop, index), STATUSES.length)]);
+        }
+        boolean more = end < total;
+        response.put("more", more).put("next_cursor", more ? String.valueOf(end) : "");
+        return ok(success().set("response", response));
+    }
+
+    private MockResponse orderDetail(HttpUrl url, int shop) {
+        String orderSnList = url.queryParameter("order_sn_list");
+        String[] orderSns = orderSnList == null || orderSnList.isEmpty() ? new String[0] : orderSnList.split(",");
+        if (orderSns.length == 0 || orderSns.length > MAX_DETAIL_ORDERS) {
+            return ok(error("error_param", "order_sn_list should contain 1 to 50 order_sn."));
+        }
+        ObjectNode response = object();
+        ArrayNode orders = response.putArray("order_list");
+        for (String orderSn : orderSns) {
+            long index = indexOf(orderSn, shop);
+            if (index >= 0) {
+                orders.add(orderJson(catalog.order(shop, index)));
+            }
+        }
+        return ok(success().set("response", response));
+    }
+
+    private ObjectNode orderJson(SimulatedOrder order) {
+        String orderSn = orderSn(order.getShop(), order.getIndex());
+        ObjectNode node = object()
+            .put("order_sn", orderSn)
+            .put("region", "SG")
+            .put("currency", "SGD")
+            .put("cod", false)
+            .put("total_amount", order.totalAmount())
+            .put("order_status", order.status(STATUSES))
+            .put("shipping_carrier", "Shopee Xpress")
+            .put("payment_method", "Credit Card/Debit Card")
+            .put("message_to_seller", "")
+            .put("create_time", order.getCreateTime().getEpochSecond())
+            .put("update_time", order.getUpdateTime().getEpochSecond())
+            .put("buyer_user_id", 900_000L + order.getIndex())
+            .put("buyer_username", "buyer_" + order.getShop() + "_" + order.getIndex());
+        node.putObject("recipient_address")
+            .put("name", order.buyerName())
+            .put("phone", order.getPhone())
+            .put("city", order.getCity())
+            .put("state", order.getState())
+            .put("region", "SG")
+            .put("zipcode", order.getZipCode())
+            .put("full_address", order.getStreet() + ", " + order.getCity() + " " + order.getZipCode());
+        ArrayNode items = node.putArray("item_list");
+        ObjectNode pkg = node.putArray("package_list").addObject()
+            .put("package_number", packageNumber(orderSn))
+            .put("logistics_status", "LOGISTICS_READY")
+            .put("shipping_carrier", "Shopee Xpress")
+            .put("logistics_channel_id", 18025);
+        ArrayNode packageItems = pkg.putArray("item_list");
+        for (SimulatedOrder.Line line : order.getLines()) {
+            long itemId = 100_000_000L + order.getShop() * 10_000L + line.getProduct();
+            long orderItemId = itemId * 10 + line.getLine();
+            items.addObject()
+                .put("item_id", itemId)
+                .put("item_name", line.getProductName())
+                .put("item_sku", "SKU-" + line.getProduct())
+                .put("model_id", itemId + 1)
+                .put("model_name", "Default")
+                .put("model_sku", "SKU-" + line.getProduct() + "-D")
+                .put("model_quantity_purchased", line.getQuantity())
+                .put("model_original_price", line.unitPrice())
+                .put("model_discounted_price", line.unitPrice())
+                .put("order_item_id", orderItemId)
+                .putObject("image_info").put("image_url", "https://cf.shopee.sg/file/sim-" + order.getShop() + "-" + line.getProduct());
+            packageItems.addObject()
+                .put("item_id", itemId)
+                .put("model_id", itemId + 1)
+                .put("model_quantity", line.getQuantity())
+                .put("order_item_id", orderItemId);
+        }
+        return node;
+    }
+
+    private MockResponse documentOperation(RecordedRequest request, String listField, ResultWriter writer) {
+        JsonNode orderList = readJson(request).path("order_list");
+        ObjectNode response = object();
+        ArrayNode results = response.putArray(listField);
+        for (JsonNode order : orderList) {
+            ObjectNode result = results.addObject()
+                .put("order_sn", order.path("order_sn").asText())
+                .put("package_number", order.path("package_number").asText());
+            writer.write(result, order);
+        }
+        return ok(success().set("response", response));
+    }
+
+    private MockResponse downloadDocument(RecordedRequest request) {
+        JsonNode orderList = readJson(request).path("order_list");
+        StringBuilder label = new StringBuilder();
+        for (JsonNode order : orderList) {
+            AtomicInteger polls = documents.get(order.path("package_number").asText());
+            if (polls == null || polls.get() <= config.getDocumentProcessingPolls()) {
+                return ok(error("logistics.shipping_document_should_print_first", "The shipping document is not ready."));
+            }
+            label.append(label.length() == 0 ? "" : ",").append(order.path("package_number").asText());
+        }
+        return pdf(label.toString());
+    }
+
+    static String orderSn(int shop, long index) {
+        return String.format("%04d%09dSIM", shop, index);
+    }
+
+    private static String packageNumber(String orderSn) {
+        return "OFG" + orderSn.substring(0, orderSn.length() - 3);
+    }
+
+    /**
+     * 解析订单号中的序号，不属于该店铺或超出范围时返回 -1
+     */
+    private long indexOf(String orderSn, int shop) {
+        if (orderSn.length() != 16 || !orderSn.endsWith("SIM") || !orderSn.startsWith(String.valueOf(shop))) {
+            return -1L;
+        }
+        try {
+            long index = Long.parseLong(orderSn.substring(4, 13));
+            return catalog.contains(index) ? index : -1L;
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    private ObjectNode success() {
+        return object().put("error", "").put("message", "").put("request_id", requestId());
+    }
+
+    private ObjectNode error(String error, String message) {
+        return object().put("error", error).put("message", message).put("request_id", requestId());
+    }
+
+    private static String requestId() {
+        return UUID.randomUUID().toString().replace("-", "");
+    }
+
+    @Override
+    JsonNode throttledBody() {
+        return error("error_too_many_request", "Too many requests, please try again later.");
+    }
+
+    @Override
+    JsonNode failureBody() {
+        return error("error_server", "Internal server error.");
+    }
+
+    @FunctionalInterface
+    private interface ResultWriter {
+        void write(ObjectNode result, JsonNode order);
+    }
+}
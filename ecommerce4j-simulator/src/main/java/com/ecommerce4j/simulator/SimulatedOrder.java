@@ -0,0 +1,92 @@
+package com.ecommerce4j.simulator;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 与平台无关的模拟订单，各平台模拟器按自己的报文格式输出。
+ */
+@Getter
+@Builder
+class SimulatedOrder {
+
+    /**
+     * 店铺编号（1000~9999），编码在各平台的订单号中
+     */
+    private final int shop;
+
+    /**
+     * 店铺内的订单序号，按创建时间递增
+     */
+    private final long index;
+
+    private final Instant createTime;
+
+    private final Instant updateTime;
+
+    /**
+     * 状态选择因子，各平台按自己的状态列表取模
+     */
+    private final int statusSeed;
+
+    private final String buyerFirstName;
+
+    private final String buyerLastName;
+
+    private final String phone;
+
+    private final String street;
+
+    private final String city;
+
+    private final String state;
+
+    private final String zipCode;
+
+    private final List<Line> lines;
+
+    String status(String[] statuses) {
+        return statuses[Math.floorMod(statusSeed, statuses.length)];
+    }
+
+    String buyerName() {
+        return buyerFirstName + " " + buyerLastName;
+    }
+
+    BigDecimal totalAmount() {
+        long cents = 0L;
+        for (Line line : lines) {
+            cents += line.getUnitPriceCents() * line.getQuantity();
+        }
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    @Getter
+    @Builder
+    static class Line {
+
+        /**
+         * 行号，从 0 开始
+         */
+        private final int line;
+
+        /**
+         * 店铺内的商品序号
+         */
+        private final int product;
+
+        private final String productName;
+
+        private final int quantity;
+
+        private final long unitPriceCents;
+
+        BigDecimal unitPrice() {
+            return BigDecimal.valueOf(unitPriceCents, 2);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.ecommerce4j.simulator;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 平台模拟器配置。
+ * <p>
+ * 订单数据由 {@link #seed} 和店铺 ID 确定性生成，不在内存中保存，订单量只影响翻页次数，不影响模拟器内存。
+ * 延迟、失败率和限流对所有接口（包括令牌刷新和面单下载）生效，每个平台各自计数。
+ */
+@Getter
+@Builder(toBuilder = true)
+public class SimulatorConfig {
+
+    /**
+     * 订单数据的随机种子，相同种子生成完全相同的订单
+     */
+    @Builder.Default
+    private final long seed = 20231115L;
+
+    /**
+     * 每个店铺的订单数
+     */
+    @Builder.Default
+    private final int ordersPerShop = 1000;
+
+    /**
+     * 订单创建时间的分布区间（左闭右开），订单在区间内均匀分布；默认为启动时刻之前的 7 天
+     */
+    @Builder.Default
+    private final Instant catalogEnd = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+    @Builder.Default
+    private final Duration catalogSpan = Duration.ofDays(7);
+
+    /**
+     * 订单更新时间相对创建时间的偏移，按更新时间查询时区间整体平移
+     */
+    @Builder.Default
+    private final Duration updateLag = Duration.ofMinutes(30);
+
+    /**
+     * 每个订单的商品行数
+     */
+    @Builder.Default
+    private final int itemsPerOrder = 2;
+
+    /**
+     * 每个店铺的商品数，决定 Meli 商品批量查询的去重效果
+     */
+    @Builder.Default
+    private final int productsPerShop = 200;
+
+    /**
+     * Meli 合单比例：相邻两单组成一个 Pack 的概率
+     */
+    @Builder.Default
+    private final double packRatio = 0.2D;
+
+    /**
+     * Shopee 面单在 get_shipping_document_result 中返回 PROCESSING 的次数，之后返回 READY
+     */
+    @Builder.Default
+    private final int documentProcessingPolls = 1;
+
+    /**
+     * 模拟面单 PDF 的大小（字节）
+     */
+    @Builder.Default
+    private final int labelBytes = 32 * 1024;
+
+    /**
+     * 响应延迟分布
+     */
+    @Builder.Default
+    private final LatencyDistribution latency = LatencyDistribution.none();
+
+    /**
+     * 注入服务端错误的概率（0~1）
+     */
+    @Builder.Default
+    private final double failureRate = 0D;
+
+    /**
+     * 注入错误时返回的 HTTP 状态码
+     */
+    @Builder.Default
+    private final int failureStatus = 503;
+
+    /**
+     * 每个店铺每秒允许的请求数，超出时返回 429；0 表示不限流
+     */
+    @Builder.Default
+    private final double rateLimitQps = 0D;
+
+    /**
+     * 429 响应的 Retry-After 秒数
+     */
+    @Builder.Default
+    private final int retryAfterSeconds = 1;
+
+    /**
+     * 访问令牌有效期；0 表示永不过期。过期后返回各平台的令牌失效错误，用于压测令牌刷新
+     */
+    @Builder.Default
+    private final Duration accessTokenTtl = Duration.ZERO;
+
+    // --- 应用凭证，适配器需配置为相同的值，签名才能通过校验 ---
+
+    @Builder.Default
+    private final long shopeePartnerId = 2001887L;
+
+    @Builder.Default
+    private final String shopeePartnerKey = "shpk-simulator-4f6e2b7c9a1d3e5f7a9c1e3b5d7f9a1c";
+
+    @Builder.Default
+    private final String tikTokAppKey = "6simulator";
+
+    @Builder.Default
+    private final String tikTokAppSecret = "tts-simulator-9a1d3e5f7a9c1e3b5d7f";
+
+    @Builder.Default
+    private final String lazadaAppKey = "100001";
+
+    @Builder.Default
+    private final String lazadaAppSecret = "lzd-simulator-3e5f7a9c1e3b5d7f9a1c";
+
+    @Builder.Default
+    private final String mercadoAppId = "7654321";
+
+    @Builder.Default
+    private final String mercadoClientSecret = "meli-simulator-5d7f9a1c4f6e2b7c";
+
+    /**
+     * SHEIN 商家密钥，所有 openKeyId 共用
+     */
+    @Builder.Default
+    private final String sheinSecretKey = "shein-simulator-b5d7f9a1c4f6e2b7";
+
+    public static SimulatorConfig defaults() {
+        return builder().build();
+    }
+
+    Instant getCatalogStart() {
+        return catalogEnd.minus(catalogSpan);
+    }
+}
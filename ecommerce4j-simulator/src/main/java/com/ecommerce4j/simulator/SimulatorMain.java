@@ -0,0 +1,92 @@
+package com.ecommerce4j.simulator;
+
+import com.ecommerce4j.api.enums.Platform;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * 以独立进程启动模拟服务，供压测工具或本地联调使用：
+ * <pre>
+ * java -jar target/simulator.jar --orders=100000 --latency=lognormal:80,400 --failure-rate=0.01 --qps=10 --port=18080
+ * </pre>
+ * 启动后打印适配器需要的配置项，Ctrl+C 退出时打印各平台的请求统计。
+ */
+public final class SimulatorMain {
+
+    private SimulatorMain() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        SimulatorConfig.SimulatorConfigBuilder builder = SimulatorConfig.builder();
+        int port = 0;
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                usage("无法识别的参数: " + arg);
+                return;
+            }
+            String name = arg.substring(2, separator);
+            String value = arg.substring(separator + 1);
+            switch (name) {
+                case "orders":
+                    builder.ordersPerShop(Integer.parseInt(value));
+                    break;
+                case "span-days":
+                    builder.catalogSpan(Duration.ofDays(Long.parseLong(value)));
+                    break;
+                case "seed":
+                    builder.seed(Long.parseLong(value));
+                    break;
+                case "latency":
+                    builder.latency(LatencyDistribution.parse(value));
+                    break;
+                case "failure-rate":
+                    builder.failureRate(Double.parseDouble(value));
+                    break;
+                case "failure-status":
+                    builder.failureStatus(Integer.parseInt(value));
+                    break;
+                case "qps":
+                    builder.rateLimitQps(Double.parseDouble(value));
+                    break;
+                case "token-ttl-seconds":
+                    builder.accessTokenTtl(Duration.ofSeconds(Long.parseLong(value)));
+                    break;
+                case "label-bytes":
+                    builder.labelBytes(Integer.parseInt(value));
+                    break;
+                case "port":
+                    port = Integer.parseInt(value);
+                    break;
+                default:
+                    usage("无法识别的参数: " + arg);
+                    return;
+            }
+        }
+
+        PlatformSimulators simulators = PlatformSimulators.start(builder.build(), port);
+        CountDownLatch stopped = new CountDownLatch(1);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            for (Platform platform : Platform.values()) {
+                System.out.println(platform + ": " + simulators.stats(platform));
+            }
+            simulators.close();
+            stopped.countDown();
+        }, "simulator-shutdown"));
+
+        for (Map.Entry<String, String> property : simulators.properties().entrySet()) {
+            System.out.println(property.getKey() + "=" + property.getValue());
+        }
+        System.out.println("# 授权信息：accessToken=sim_<签发秒>_<店铺ID>，refreshToken=simr_<店铺ID>；SHEIN 的 openKeyId 为店铺ID，secretKey="
+            + simulators.getConfig().getSheinSecretKey());
+        stopped.await();
+    }
+
+    private static void usage(String message) {
+        System.err.println(message);
+        System.err.println("可选参数: --orders=1000 --span-days=7 --seed=20231115 --latency=none|fixed:50|uniform:20-200|lognormal:80,400"
+            + " --failure-rate=0.01 --failure-status=503 --qps=10 --token-ttl-seconds=0 --label-bytes=32768 --port=0");
+    }
+}
@@ -0,0 +1,101 @@
+package com.ecommerce4j.simulator;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 单个平台模拟器的请求统计，压测结束后用于核对客户端的重试、限流和令牌刷新行为。
+ */
+public final class SimulatorStats {
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder injectedFailures = new LongAdder();
+    private final LongAdder rejectedSignatures = new LongAdder();
+    private final LongAdder expiredTokens = new LongAdder();
+    private final LongAdder labelsServed = new LongAdder();
+
+    void recordRequest() {
+        requests.increment();
+    }
+
+    void recordThrottled() {
+        throttled.increment();
+    }
+
+    void recordInjectedFailure() {
+        injectedFailures.increment();
+    }
+
+    void recordRejectedSignature() {
+        rejectedSignatures.increment();
+    }
+
+    void recordExpiredToken() {
+        expiredTokens.increment();
+    }
+
+    void recordLabelServed() {
+        labelsServed.increment();
+    }
+
+    /**
+     * 收到的请求总数（包括被限流和注入错误的请求）
+     */
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    /**
+     * 返回 429 的请求数
+     */
+    public long getThrottled() {
+        return throttled.sum();
+    }
+
+    /**
+     * 注入服务端错误的请求数
+     */
+    public long getInjectedFailures() {
+        return injectedFailures.sum();
+    }
+
+    /**
+     * 签名校验失败的请求数，正常压测时应为 0
+     */
+    public long getRejectedSignatures() {
+        return rejectedSignatures.sum();
+    }
+
+    /**
+     * 因访问令牌无效或过期被拒绝的请求数
+     */
+    public long getExpiredTokens() {
+        return expiredTokens.sum();
+    }
+
+    /**
+     * 返回的面单文件数
+     */
+    public long getLabelsServed() {
+        return labelsServed.sum();
+    }
+
+    public void reset() {
+        requests.reset();
+        throttled.reset();
+        injectedFailures.reset();
+        rejectedSignatures.reset();
+        expiredTokens.reset();
+        labelsServed.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "requests=" + getRequests()
+            + ", throttled=" + getThrottled()
+            + ", injectedFailures=" + getInjectedFailures()
+            + ", rejectedSignatures=" + getRejectedSignatures()
+            + ", expiredTokens=" + getExpiredTokens()
+            + ", labelsServed=" + getLabelsServed();
+    }
+}
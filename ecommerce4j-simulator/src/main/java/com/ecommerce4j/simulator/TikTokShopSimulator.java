@@ -0,0 +1,271 @@
+package com.ecommerce4j.simulator;
+
+import com.ecommerce4j.api.enums.Platform;
+import com.ecommerce4j.api.platform.sign.TikTokSigner;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * TikTok Shop Open API（202309 版本）模拟器。
+ * <p>
+ * 按 app_secret + path + 排序参数 + 请求体 + app_secret 校验签名，shop_cipher 即店铺 ID；
+ * 订单搜索按 page_token 翻页（不透明令牌，内部为 offset），每页不超过 100 单，最后一页 next_page_token 为空串；
+ * 面单接口返回指向本模拟器的 doc_url，下载地址不校验签名（与平台的 CDN 链接一致）。
+ * 令牌接口与业务接口在同一地址上，auth_base_url 与 api_base_url 相同。
+ */
+class TikTokShopSimulator extends PlatformSimulator {
+
+    private static final String[] STATUSES = {"AWAITING_SHIPMENT", "AWAITING_SHIPMENT", "AWAITING_COLLECTION", "IN_TRANSIT", "DELIVERED", "COMPLETED", "UNPAID", "CANCELLED"};
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_DETAIL_ORDERS = 50;
+    private static final int CODE_INVALID_SIGN = 106001;
+    private static final int CODE_TOKEN_EXPIRED = 105002;
+    private static final int CODE_INVALID_PARAM = 36009003;
+    private static final String PACKAGES_PATH = "/fulfillment/202309/packages/";
+    private static final String LABEL_PATH = "/labels/tiktok/";
+
+    private final TikTokSigner signer;
+
+    TikTokShopSimulator(SimulatorConfig config, OrderCatalog catalog) {
+        super(config, catalog);
+        this.signer = new TikTokSigner(config.getTikTokAppSecret());
+    }
+
+    @Override
+    Platform platform() {
+        return Platform.TIKTOK_SHOP;
+    }
+
+    @Override
+    String shopKey(RecordedRequest request, HttpUrl url) {
+        return url.queryParameter("shop_cipher");
+    }
+
+    @Override
+    MockResponse handle(RecordedRequest request, HttpUrl url) {
+        String path = url.encodedPath();
+        if (path.startsWith(LABEL_PATH)) {
+            return pdf(path.substring(LABEL_PATH.length()).replace(".pdf", ""));
+        }
+        if ("/api/v2/token/refresh".equals(path)) {
+            return refreshToken(url);
+        }
+        if (!config.getTikTokAppKey().equals(url.queryParameter("app_key"))) {
+            return rejectSignature(200, error(CODE_INVALID_SIGN, "Invalid app_key"));
+        }
+        Map<String, String> parameters = queryParameters(url);
+        String sign = parameters.remove("sign");
+        String body = "POST".equals(request.getMethod()) ? readBody(request) : null;
+        if (sign == null || !signer.sign(path, parameters, body).equals(sign)) {
+            return rejectSignature(200, error(CODE_INVALID_SIGN, "Invalid sign"));
+        }
+        String shopCipher = url.queryParameter("shop_cipher");
+        if (shopCipher == null || !shopCipher.equals(tokenShop(request.getHeader("x-tts-access-token")))) {
+            return ok(error(CODE_TOKEN_EXPIRED, "Access token is expired, please refresh it"));
+        }
+        int shop = OrderCatalog.shopNumber(shopCipher);
+        if ("/order/202309/orders/search".equals(path)) {
+            return searchOrders(url, readJson(request), shop);
+        }
+        if ("/order/202309/orders".equals(path)) {
+            return orderDetails(url, shop);
+        }
+        if (path.startsWith(PACKAGES_PATH) && path.endsWith("/shipping_documents")) {
+            String packageId = path.substring(PACKAGES_PATH.length(), path.length() - "/shipping_documents".length());
+            long index = indexOf(packageId, "11", shop);
+            if (index < 0) {
+                return ok(error(21011001, "Package not found"));
+            }
+            ObjectNode data = object()
+                .put("doc_url", serverUrl(LABEL_PATH + packageId + ".pdf"))
+                .put("tracking_number", "JX" + packageId.substring(2));
+            return ok(success().set("data", data));
+        }
+        return notFound("TikTok Shop simulator does not implement " + path);
+    }
+
+    private MockResponse refreshToken(HttpUrl url) {
+        if (!config.getTikTokAppKey().equals(url.queryParameter("app_key"))
+            || !config.getTikTokAppSecret().equals(url.queryParameter("app_secret"))) {
+            return rejectSignature(200, error(CODE_INVALID_SIGN, "Invalid app_key or app_secret"));
+        }
+        String shop = refreshTokenShop(url.queryParameter("refresh_token"));
+        if (shop == null) {
+            return ok(error(36004004, "Invalid refresh_token"));
+        }
+        Instant now = Instant.now();
+        ObjectNode data = object()
+            .put("access_token", accessToken(shop, now))
+            .put("access_token_expire_in", now.getEpochSecond() + accessTokenExpiresIn())
+            .put("refresh_token", refreshToken(shop))
+            .put("refresh_token_expire_in", now.getEpochSecond() + 365L * 24 * 3600)
+            .put("open_id", "sim-open-" + shop)
+            .put("seller_name", "Simulated Shop " + shop)
+            .put("seller_base_region", "ID");
+        return ok(success().set("data", data));
+    }
+
+    private MockResponse searchOrders(HttpUrl url, JsonNode body, int shop) {
+        int pageSize = intParameter(url.queryParameter("page_size"), 20);
+        if (pageSize <= 0 || pageSize > MAX_PAGE_SIZE) {
+            return ok(error(CODE_INVALID_PARAM, "page_size must be between 1 and 100"));
+        }
+        long offset = decodePageToken(url.queryParameter("page_token"));
+        if (offset < 0) {
+            return ok(error(CODE_INVALID_PARAM, "Invalid page_token"));
+        }
+        long[] range;
+        if (body.has("update_time_ge") || body.has("update_time_lt")) {
+            range = catalog.byUpdateTime(epochSecond(body, "update_time_ge"), epochSecond(body, "update_time_lt"));
+        } else {
+            range = catalog.byCreateTime(epochSecond(body, "create_time_ge"), epochSecond(body, "create_time_lt"));
+        }
+        String status = body.path("order_status").asText(null);
+        List<Long> filtered = status == null ? null : catalog.filterByStatus(shop, range, STATUSES, status);
+        long total = filtered == null ? range[1] - range[0] : filtered.size();
+        long end = Math.min(total, offset + pageSize);
+
+        ObjectNode data = object();
+        ArrayNode orders = data.putArray("orders");
+        for (long position = offset; position < end; position++) {
+            long index = filtered == null ? range[0] + position : filtered.get((int) position);
+            orders.add(orderJson(catalog.order(shop, index)));
+        }
+        data.put("next_page_token", end < total ? encodePageToken(end) : "").put("total_count", total);
+        return ok(success().set("data", data));
+    }
+
+    private MockResponse orderDetails(HttpUrl url, int shop) {
+        String ids = url.queryParameter("ids");
+        String[] orderIds = ids == null || ids.isEmpty() ? new String[0] : ids.split(",");
+        if (orderIds.length == 0 || orderIds.length > MAX_DETAIL_ORDERS) {
+            return ok(error(CODE_INVALID_PARAM, "ids must contain 1 to 50 order ids"));
+        }
+        ObjectNode data = object();
+        ArrayNode orders = data.putArray("orders");
+        for (String orderId : orderIds) {
+            long index = indexOf(orderId, "57", shop);
+            if (index >= 0) {
+                orders.add(orderJson(catalog.order(shop, index)));
+            }
+        }
+        return ok(success().set("data", data));
+    }
+
+    private ObjectNode orderJson(SimulatedOrder order) {
+        String suffix = String.format("%04d%012d", order.getShop(), order.getIndex());
+        String status = order.status(STATUSES);
+        ObjectNode node = object()
+            .put("id", "57" + suffix)
+            .put("status", status)
+            .put("create_time", order.getCreateTime().getEpochSecond())
+            .put("update_time", order.getUpdateTime().getEpochSecond())
+            .put("buyer_message", "")
+            .put("shipping_provider", "J&T Express")
+            .put("shipping_provider_id", "6617675021119438849")
+            .put("tracking_number", "")
+            .put("user_id", "7494" + suffix);
+        node.putObject("recipient_address")
+            .put("name", order.buyerName())
+            .put("phone", "(+62)" + order.getPhone())
+            .put("full_address", order.getStreet() + ", " + order.getCity() + ", " + order.getState())
+            .put("postal_code", order.getZipCode())
+            .put("region_code", "ID");
+        node.putObject("payment")
+            .put("currency", "IDR")
+            .put("total_amount", order.totalAmount().toPlainString())
+            .put("sub_total", order.totalAmount().toPlainString())
+            .put("shipping_fee", "0");
+        ArrayNode lineItems = node.putArray("line_items");
+        for (SimulatedOrder.Line line : order.getLines()) {
+            // TikTok 每件商品一个行项目，数量恒为 1
+            for (int unit = 0; unit < line.getQuantity(); unit++) {
+                lineItems.addObject()
+                    .put("id", "5770" + suffix + line.getLine() + unit)
+                    .put("currency", "IDR")
+                    .put("display_status", status)
+                    .put("product_id", "1729" + order.getShop() + String.format("%06d", line.getProduct()))
+                    .put("product_name", line.getProductName())
+                    .put("sku_id", "1730" + order.getShop() + String.format("%06d", line.getProduct()))
+                    .put("sku_name", "Default")
+                    .put("seller_sku", "SKU-" + line.getProduct())
+                    .put("quantity", 1)
+                    .put("original_price", line.unitPrice().toPlainString())
+                    .put("sale_price", line.unitPrice().toPlainString())
+                    .put("sku_image", "https://p16-oec-va.ibyteimg.com/sim/" + order.getShop() + "-" + line.getProduct() + ".jpg")
+                    .put("package_id", "11" + suffix);
+            }
+        }
+        node.putArray("packages").addObject().put("id", "11" + suffix);
+        return node;
+    }
+
+    /**
+     * 解析订单号 / 包裹号中的序号，前缀或店铺不匹配、超出范围时返回 -1
+     */
+    private long indexOf(String id, String prefix, int shop) {
+        if (id.length() != 18 || !id.startsWith(prefix + shop)) {
+            return -1L;
+        }
+        try {
+            long index = Long.parseLong(id.substring(6));
+            return catalog.contains(index) ? index : -1L;
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    private static Instant epochSecond(JsonNode body, String field) {
+        return body.hasNonNull(field) ? Instant.ofEpochSecond(body.get(field).asLong()) : null;
+    }
+
+    private static String encodePageToken(long offset) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(("o:" + offset).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long decodePageToken(String pageToken) {
+        if (pageToken == null || pageToken.isEmpty()) {
+            return 0L;
+        }
+        try {
+            String text = new String(Base64.getUrlDecoder().decode(pageToken), StandardCharsets.UTF_8);
+            return text.startsWith("o:") ? Long.parseLong(text.substring(2)) : -1L;
+        } catch (IllegalArgumentException e) {
+            return -1L;
+        }
+    }
+
+    private ObjectNode success() {
+        return object().put("code", 0).put("message", "Success").put("request_id", requestId());
+    }
+
+    private ObjectNode error(int code, String message) {
+        return object().put("code", code).put("message", message).put("request_id", requestId());
+    }
+
+    private static String requestId() {
+        return UUID.randomUUID().toString().replace("-", "");
+    }
+
+    @Override
+    JsonNode throttledBody() {
+        return error(36009004, "Too many requests");
+    }
+
+    @Override
+    JsonNode failureBody() {
+        return error(36009006, "Internal error, please try again later");
+    }
+}
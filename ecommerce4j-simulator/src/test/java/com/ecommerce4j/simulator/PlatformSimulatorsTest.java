@@ -0,0 +1,278 @@
+package com.ecommerce4j.simulator;
+
+import com.ecommerce4j.api.EcommFulfillmentService;
+import com.ecommerce4j.api.EcommOrderService;
+import com.ecommerce4j.api.dto.AuthContext;
+import com.ecommerce4j.api.dto.FulfillmentDocument;
+import com.ecommerce4j.api.dto.OrderQuery;
+import com.ecommerce4j.api.dto.PaginatedResult;
+import com.ecommerce4j.api.dto.UnifiedOrder;
+import com.ecommerce4j.api.enums.Platform;
+import com.ecommerce4j.api.exception.EcommIntegrationException;
+import com.ecommerce4j.api.platform.AbstractAdapter;
+import com.ecommerce4j.api.platform.http.HttpTransport;
+import com.ecommerce4j.api.platform.lazada.LazadaAdapter;
+import com.ecommerce4j.api.platform.mercadolibre.MercadoLibreAdapter;
+import com.ecommerce4j.api.platform.shein.SheinSelfOperatedAdapter;
+import com.ecommerce4j.api.platform.shopee.ShopeeAdapter;
+import com.ecommerce4j.api.platform.tiktok.TikTokShopAdapter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PlatformSimulatorsTest {
+
+    private static final Instant CATALOG_END = Instant.parse("2026-03-01T12:00:00Z");
+    private static final String SHOP_ID = "7000123";
+
+    private PlatformSimulators simulators;
+
+    @AfterEach
+    void tearDown() {
+        if (simulators != null) {
+            simulators.close();
+        }
+    }
+
+    @Test
+    @DisplayName("各平台适配器逐页读取模拟订单，不重复、不遗漏")
+    void pagesThroughAllOrdersOnEveryPlatform() throws Exception {
+        simulators = PlatformSimulators.start(config().ordersPerShop(230).packRatio(0D).build());
+
+        for (Platform platform : Platform.values()) {
+            EcommOrderService adapter = adapter(platform, simulators.properties());
+            AuthContext authContext = simulators.authContext(platform, SHOP_ID);
+            int pageSize = platform == Platform.MERCADO_LIBRE ? 50 : 100;
+
+            List<UnifiedOrder> orders = readAll(adapter, authContext, pageSize);
+
+            Set<String> orderIds = new HashSet<>();
+            for (UnifiedOrder order : orders) {
+                assertTrue(orderIds.add(order.getOrderId()), platform + " 返回了重复订单 " + order.getOrderId());
+                assertTrue(!order.getOrderItems().isEmpty(), platform + " 订单缺少商品行");
+            }
+            assertEquals(230, orderIds.size(), platform.name());
+            assertEquals(0L, simulators.stats(platform).getRejectedSignatures(), platform.name());
+        }
+    }
+
+    @Test
+    @DisplayName("面单链路走完平台的全部步骤，返回模拟的 PDF")
+    void downloadsLabelsThroughPlatformWorkflows() throws Exception {
+        simulators = PlatformSimulators.start(config().ordersPerShop(20).labelBytes(4096).build());
+        Map<String, String> properties = simulators.properties();
+
+        UnifiedOrder tikTokOrder = firstOrder(Platform.TIKTOK_SHOP);
+        assertPdf(fulfillment(Platform.TIKTOK_SHOP, properties).getPackageDocument(
+            simulators.authContext(Platform.TIKTOK_SHOP, SHOP_ID), "11" + tikTokOrder.getOrderId().substring(2)));
+
+        UnifiedOrder shopeeOrder = firstOrder(Platform.SHOPEE);
+        assertPdf(fulfillment(Platform.SHOPEE, properties).getPackageDocument(
+            simulators.authContext(Platform.SHOPEE, SHOP_ID), shopeeOrder.getOrderId(),
+            "OFG" + shopeeOrder.getOrderId().replace("SIM", "")));
+
+        UnifiedOrder lazadaOrder = firstOrder(Platform.LAZADA);
+        assertPdf(fulfillment(Platform.LAZADA, properties).getPackageDocument(
+            simulators.authContext(Platform.LAZADA, SHOP_ID), "FP" + lazadaOrder.getOrderId()));
+
+        UnifiedOrder mercadoOrder = firstOrder(Platform.MERCADO_LIBRE);
+        assertPdf(fulfillment(Platform.MERCADO_LIBRE, properties).getPackageDocument(
+            simulators.authContext(Platform.MERCADO_LIBRE, SHOP_ID), mercadoOrder.getShipment().getShipmentId()));
+
+        for (Platform platform : new Platform[]{Platform.TIKTOK_SHOP, Platform.SHOPEE, Platform.LAZADA, Platform.MERCADO_LIBRE}) {
+            assertEquals(1L, simulators.stats(platform).getLabelsServed(), platform.name());
+        }
+    }
+
+    @Test
+    @DisplayName("Mercado Libre 合单按 Pack 合并子订单")
+    void mercadoLibrePacksAreMerged() throws Exception {
+        simulators = PlatformSimulators.start(config().ordersPerShop(40).packRatio(1D).build());
+        EcommOrderService adapter = adapter(Platform.MERCADO_LIBRE, simulators.properties());
+
+        PaginatedResult<UnifiedOrder> page = adapter.getOrders(simulators.authContext(Platform.MERCADO_LIBRE, SHOP_ID), query(10, null));
+
+        assertEquals(5, page.getData().size());
+        for (UnifiedOrder order : page.getData()) {
+            assertEquals(4, order.getOrderItems().size());
+        }
+    }
+
+    @Test
+    @DisplayName("超过限流配额时返回 429，客户端按 Retry-After 重试后成功")
+    void throttledRequestsAreRetried() throws Exception {
+        simulators = PlatformSimulators.start(config().ordersPerShop(50).rateLimitQps(4D).retryAfterSeconds(1).build());
+        EcommOrderService adapter = adapter(Platform.TIKTOK_SHOP, simulators.properties());
+        AuthContext authContext = simulators.authContext(Platform.TIKTOK_SHOP, SHOP_ID);
+
+        for (int i = 0; i < 8; i++) {
+            assertEquals(5, adapter.getOrders(authContext, query(5, null)).getData().size());
+        }
+
+        SimulatorStats stats = simulators.stats(Platform.TIKTOK_SHOP);
+        assertTrue(stats.getThrottled() > 0, stats.toString());
+        assertEquals(8L + stats.getThrottled(), stats.getRequests(), stats.toString());
+    }
+
+    @Test
+    @DisplayName("签名错误的请求被拒绝并计入统计")
+    void rejectsBadSignatures() throws Exception {
+        simulators = PlatformSimulators.start(config().ordersPerShop(10).build());
+        Map<String, String> properties = new HashMap<>(simulators.properties());
+        properties.put("tiktok.app_secret", "wrong-secret");
+        EcommOrderService adapter = adapter(Platform.TIKTOK_SHOP, properties);
+
+        assertThrows(EcommIntegrationException.class,
+            () -> adapter.getOrders(simulators.authContext(Platform.TIKTOK_SHOP, SHOP_ID), query(10, null)));
+        assertEquals(1L, simulators.stats(Platform.TIKTOK_SHOP).getRejectedSignatures());
+    }
+
+    @Test
+    @DisplayName("同一个 seed 生成的订单完全一致")
+    void catalogIsDeterministic() {
+        OrderCatalog first = new OrderCatalog(config().build());
+        OrderCatalog second = new OrderCatalog(config().build());
+        int shop = OrderCatalog.shopNumber(SHOP_ID);
+
+        for (long index = 0; index < 100; index++) {
+            SimulatedOrder a = first.order(shop, index);
+            SimulatedOrder b = second.order(shop, index);
+            assertEquals(a.getCreateTime(), b.getCreateTime());
+            assertEquals(a.buyerName(), b.buyerName());
+            assertEquals(a.totalAmount(), b.totalAmount());
+        }
+        long[] range = first.byCreateTime(first.createTime(10), first.createTime(20));
+        assertEquals(10L, range[0]);
+        assertEquals(20L, range[1]);
+    }
+
+    private static SimulatorConfig.SimulatorConfigBuilder config() {
+        return SimulatorConfig.builder()
+            .catalogEnd(CATALOG_END)
+            .catalogSpan(Duration.ofDays(7));
+    }
+
+    private UnifiedOrder firstOrder(Platform platform) throws Exception {
+        EcommOrderService adapter = adapter(platform, simulators.properties());
+        return adapter.getOrders(simulators.authContext(platform, SHOP_ID), query(10, null)).getData().get(0);
+    }
+
+    private static List<UnifiedOrder> readAll(EcommOrderService adapter, AuthContext authContext, int pageSize) {
+        List<UnifiedOrder> orders = new ArrayList<>();
+        String pageToken = null;
+        do {
+            PaginatedResult<UnifiedOrder> page = adapter.getOrders(authContext, query(pageSize, pageToken));
+            orders.addAll(page.getData());
+            pageToken = page.getNextPageToken();
+        } while (pageToken != null && !pageToken.isEmpty());
+        return orders;
+    }
+
+    private static OrderQuery query(int pageSize, String pageToken) {
+        // Mercado Libre 按小时截断时间范围，前后各多留一小时覆盖全部模拟订单
+        Instant from = CATALOG_END.minus(7, ChronoUnit.DAYS).minus(1, ChronoUnit.HOURS);
+        Instant to = CATALOG_END.plus(1, ChronoUnit.HOURS);
+        return OrderQuery.builder()
+            .createTimeFrom(from)
+            .createTimeTo(to)
+            .pageSize(pageSize)
+            .pageToken(pageToken)
+            .build();
+    }
+
+    private static void assertPdf(FulfillmentDocument document) {
+        byte[] content = document.getContent();
+        assertTrue(content.length >= 4096, "面单大小 " + content.length);
+        assertEquals("%PDF", new String(content, 0, 4, StandardCharsets.US_ASCII));
+    }
+
+    private static EcommFulfillmentService fulfillment(Platform platform, Map<String, String> properties) throws Exception {
+        return (EcommFulfillmentService) adapter(platform, properties);
+    }
+
+    /**
+     * 按生产方式创建适配器：配置项通过反射写入 @Value 字段，HTTP 客户端使用 SDK 的默认传输层（重试、限流都在）
+     */
+    private static EcommOrderService adapter(Platform platform, Map<String, String> properties) throws Exception {
+        AbstractAdapter adapter;
+        switch (platform) {
+            case TIKTOK_SHOP -> {
+                adapter = new TikTokShopAdapter();
+                setField(adapter, "appKey", properties.get("tiktok.app_key"));
+                setField(adapter, "appSecret", properties.get("tiktok.app_secret"));
+                setField(adapter, "apiBaseUrl", properties.get("tiktok.api_base_url"));
+                setField(adapter, "authBaseUrl", properties.get("tiktok.auth_base_url"));
+            }
+            case MERCADO_LIBRE -> {
+                adapter = new MercadoLibreAdapter();
+                setField(adapter, "appId", properties.get("mercado.app_id"));
+                setField(adapter, "clientSecret", properties.get("mercado.client_secret"));
+                setField(adapter, "apiBaseUrl", properties.get("mercado.api_base_url"));
+            }
+            case LAZADA -> {
+                adapter = new LazadaAdapter();
+                setField(adapter, "appKey", properties.get("lazada.app_key"));
+                setField(adapter, "appSecret", properties.get("lazada.app_secret"));
+                setField(adapter, "authBaseUrl", properties.get("lazada.auth_base_url"));
+                setField(adapter, "apiBaseUrl", properties.get("lazada.api_base_url"));
+            }
+            case SHOPEE -> {
+                adapter = new ShopeeAdapter();
+                setField(adapter, "partnerId", Long.parseLong(properties.get("shopee.partner_id")));
+                setField(adapter, "partnerKey", properties.get("shopee.partner_key"));
+                setField(adapter, "environment", "production");
+                setField(adapter, "gatewayRegion", "sg");
+                setField(adapter, "apiBaseUrl", properties.get("shopee.api_base_url"));
+                setField(adapter, "authBaseUrl", properties.get("shopee.auth_base_url"));
+                setField(adapter, "shippingDocumentPollAttempts", 5);
+                setField(adapter, "shippingDocumentPollIntervalMs", 10L);
+            }
+            case SHEIN_MX_SELF -> {
+                adapter = new SheinSelfOperatedAdapter();
+                setField(adapter, "apiBaseUrl", properties.get("shein.api_base_url"));
+                setField(adapter, "orderSearchPath", "/open-api/order/search");
+                setField(adapter, "orderDetailPath", "/open-api/order/details");
+            }
+            default -> throw new IllegalArgumentException("不支持的平台：" + platform);
+        }
+        setField(adapter, "httpClient", HttpTransport.defaults().apiClient(platform));
+        setField(adapter, "downloadClient", HttpTransport.defaults().downloadClient(platform));
+        if (platform == Platform.SHOPEE || platform == Platform.LAZADA) {
+            Method initClient = adapter.getClass().getDeclaredMethod("initClient");
+            initClient.setAccessible(true);
+            initClient.invoke(adapter);
+        }
+        return (EcommOrderService) adapter;
+    }
+
+    private static void setField(Object target, String name, Object value) throws ReflectiveOperationException {
+        for (Class<?> type = target.getClass(); type != null; type = type.getSuperclass()) {
+            try {
+                Field field = type.getDeclaredField(name);
+                field.setAccessible(true);
+                field.set(target, value);
+                return;
+            } catch (NoSuchFieldException ignored) {
+                // 继续在父类中查找
+            }
+        }
+        throw new NoSuchFieldException(name);
+    }
+}
@@ -3,8 +3,10 @@ package com.ecommerce4j.api;
 import com.ecommerce4j.api.dto.AuthContext;
 import com.ecommerce4j.api.dto.UnifiedShopInfo;
 import com.ecommerce4j.api.enums.Platform;
+import com.ecommerce4j.api.platform.concurrent.AsyncSupport;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 统一授权服务接口
@@ -57,4 +59,24 @@ public interface EcommAuthorizationService {
      * @return
      */
     UnifiedShopInfo getShopInfo(AuthContext authContext);
+
+    /**
+     * {@link #refreshTokens} 的异步版本，默认在适配器的 I/O 执行器上调用同步方法。
+     *
+     * @param authContext 当前的授权上下文，必须包含有效的 refresh token
+     * @return 更新后的授权上下文的 Future
+     */
+    default CompletableFuture<AuthContext> refreshTokensAsync(AuthContext authContext) {
+        return AsyncSupport.supply(this, authContext, () -> refreshTokens(authContext));
+    }
+
+    /**
+     * {@link #getShopInfo} 的异步版本，默认在适配器的 I/O 执行器上调用同步方法。
+     *
+     * @param authContext 授权上下文
+     * @return 店铺信息的 Future
+     */
+    default CompletableFuture<UnifiedShopInfo> getShopInfoAsync(AuthContext authContext) {
+        return AsyncSupport.supply(this, authContext, () -> getShopInfo(authContext));
+    }
 }
@@ -1,15 +1,26 @@
 package com.ecommerce4j.api;
 
 import com.ecommerce4j.api.dto.AuthContext;
+import com.ecommerce4j.api.dto.DocumentMetadata;
 import com.ecommerce4j.api.dto.FulfillmentDocument;
 import com.ecommerce4j.api.dto.FulfillmentAction;
 import com.ecommerce4j.api.dto.FulfillmentPackRequest;
 import com.ecommerce4j.api.dto.FulfillmentPackageResult;
 import com.ecommerce4j.api.dto.FulfillmentProviderOption;
+import com.ecommerce4j.api.dto.PackageDocumentRef;
+import com.ecommerce4j.api.dto.PackageDocumentResult;
 import com.ecommerce4j.api.dto.TrackingInfo;
 import com.ecommerce4j.api.exception.EcommIntegrationException;
+import com.ecommerce4j.api.platform.concurrent.AsyncSupport;
+import com.ecommerce4j.api.platform.http.DocumentSink;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 统一履约服务接口
@@ -88,6 +99,86 @@ public interface EcommFulfillmentService {
         return getPackageDocument(authContext, packageId);
     }
 
+    /**
+     * 以流式方式获取包裹面单，写入调用方提供的目标，面单内容不在堆上保留。
+     * <p>
+     * 平台适配器直接把下载响应写入 {@code sink}；默认实现先调用
+     * {@link #getPackageDocument(AuthContext, String, String)} 再写出，适用于尚未提供流式实现的平台。
+     * 写出失败时目标中可能已有部分内容，{@link DocumentSink#of(Path)} 会删除不完整的文件。
+     *
+     * @param authContext 授权上下文
+     * @param orderId 平台订单ID，部分平台可以为空
+     * @param packageId 平台包裹ID
+     * @param sink 写出目标
+     * @return 面单的 MIME 类型、字节数和包裹信息
+     */
+    default DocumentMetadata writePackageDocument(AuthContext authContext, String orderId, String packageId, DocumentSink sink) {
+        FulfillmentDocument document = getPackageDocument(authContext, orderId, packageId);
+        long size;
+        try {
+            size = sink.write(document.getContent() == null ? new byte[0] : document.getContent());
+        } catch (IOException e) {
+            throw new EcommIntegrationException("写出面单文档失败，包裹ID：" + packageId, e);
+        }
+        return DocumentMetadata.builder()
+            .packageId(document.getPackageId())
+            .packageIds(document.getPackageIds())
+            .mimeType(document.getMimeType())
+            .size(size)
+            .build();
+    }
+
+    /**
+     * 获取包裹面单并写入输出流，写完后 flush，不关闭流。
+     *
+     * @see #writePackageDocument(AuthContext, String, String, DocumentSink)
+     */
+    default DocumentMetadata writePackageDocument(AuthContext authContext, String orderId, String packageId, OutputStream outputStream) {
+        return writePackageDocument(authContext, orderId, packageId, DocumentSink.of(outputStream));
+    }
+
+    /**
+     * 获取包裹面单并写入通道，不关闭通道。
+     *
+     * @see #writePackageDocument(AuthContext, String, String, DocumentSink)
+     */
+    default DocumentMetadata writePackageDocument(AuthContext authContext, String orderId, String packageId, WritableByteChannel channel) {
+        return writePackageDocument(authContext, orderId, packageId, DocumentSink.of(channel));
+    }
+
+    /**
+     * 获取包裹面单并写入文件，文件已存在时覆盖。
+     *
+     * @see #writePackageDocument(AuthContext, String, String, DocumentSink)
+     */
+    default DocumentMetadata writePackageDocument(AuthContext authContext, String orderId, String packageId, Path file) {
+        return writePackageDocument(authContext, orderId, packageId, DocumentSink.of(file));
+    }
+
+    /**
+     * 批量获取同一店铺多个包裹的面单。
+     * <p>
+     * 平台接口支持一次处理多个包裹时（Shopee、Lazada、Mercado Libre），实现类按平台上限合并为尽量少的请求，
+     * 多个包裹可能共用一个合并后的 PDF；默认实现在适配器的 I/O 执行器上并发调用
+     * {@link #getPackageDocument(AuthContext, String, String)}。
+     * 单个包裹失败不影响其它包裹，失败原因记录在对应的结果中。
+     *
+     * @param authContext 授权上下文
+     * @param packages 包裹列表，其中的 authContext 会被忽略
+     * @return 与输入顺序一一对应的结果
+     */
+    default List<PackageDocumentResult> getPackageDocuments(AuthContext authContext, List<PackageDocumentRef> packages) {
+        List<CompletableFuture<PackageDocumentResult>> futures = new ArrayList<>(packages.size());
+        for (PackageDocumentRef ref : packages) {
+            futures.add(AsyncSupport.supply(this, authContext,
+                    () -> PackageDocumentResult.success(ref, getPackageDocument(authContext, ref.getOrderId(), ref.getPackageId())))
+                .exceptionally(error -> PackageDocumentResult.failure(ref, AsyncSupport.unwrap(error).getMessage())));
+        }
+        List<PackageDocumentResult> results = new ArrayList<>(futures.size());
+        futures.forEach(future -> results.add(future.join()));
+        return results;
+    }
+
     /**
      * 将包裹推进到 Ready To Ship。
      *
@@ -97,4 +188,43 @@ public interface EcommFulfillmentService {
     default void readyToShip(AuthContext authContext, String packageId) {
         throw new EcommIntegrationException("当前平台不支持推进 Ready To Ship。");
     }
+
+    /**
+     * {@link #prepareFulfillment} 的异步版本，默认在适配器的 I/O 执行器上调用同步方法。
+     *
+     * @param authContext 授权上下文
+     * @param orderId     平台的原始订单ID
+     * @param autoShipIfMissing 同 {@link #prepareFulfillment}
+     * @return 履约动作对象的 Future
+     */
+    default CompletableFuture<FulfillmentAction> prepareFulfillmentAsync(AuthContext authContext, String orderId, boolean autoShipIfMissing) {
+        return AsyncSupport.supply(this, authContext, () -> prepareFulfillment(authContext, orderId, autoShipIfMissing));
+    }
+
+    /**
+     * {@link #submitTracking} 的异步版本，默认在适配器的 I/O 执行器上调用同步方法。
+     *
+     * @param authContext  授权上下文
+     * @param orderId      平台的原始订单ID
+     * @param trackingInfo 包含运单号和物流商信息的对象
+     * @return 提交完成时完成的 Future
+     */
+    default CompletableFuture<Void> submitTrackingAsync(AuthContext authContext, String orderId, TrackingInfo trackingInfo) {
+        return AsyncSupport.supply(this, authContext, () -> {
+            submitTracking(authContext, orderId, trackingInfo);
+            return null;
+        });
+    }
+
+    /**
+     * {@link #getPackageDocument(AuthContext, String, String)} 的异步版本，默认在适配器的 I/O 执行器上调用同步方法。
+     *
+     * @param authContext 授权上下文
+     * @param orderId 平台订单ID
+     * @param packageId 平台包裹ID
+     * @return 面单文档的 Future
+     */
+    default CompletableFuture<FulfillmentDocument> getPackageDocumentAsync(AuthContext authContext, String orderId, String packageId) {
+        return AsyncSupport.supply(this, authContext, () -> getPackageDocument(authContext, orderId, packageId));
+    }
 }
@@ -2,6 +2,9 @@ package com.ecommerce4j.api;
 
 import com.ecommerce4j.api.dto.AuthContext;
 import com.ecommerce4j.api.dto.UnifiedShipment;
+import com.ecommerce4j.api.platform.concurrent.AsyncSupport;
+
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 统一物流服务接口
@@ -18,4 +21,15 @@ public interface EcommLogisticsService {
      * @return 包含完整物流事件的统一货运对象
      */
     UnifiedShipment getTrackingEvents(AuthContext authContext, String orderId);
+
+    /**
+     * {@link #getTrackingEvents} 的异步版本，默认在适配器的 I/O 执行器上调用同步方法。
+     *
+     * @param authContext 授权上下文
+     * @param orderId     平台的原始订单ID
+     * @return 统一货运对象的 Future
+     */
+    default CompletableFuture<UnifiedShipment> getTrackingEventsAsync(AuthContext authContext, String orderId) {
+        return AsyncSupport.supply(this, authContext, () -> getTrackingEvents(authContext, orderId));
+    }
 }
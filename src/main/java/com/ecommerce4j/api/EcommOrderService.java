@@ -4,8 +4,13 @@ import com.ecommerce4j.api.dto.AuthContext;
 import com.ecommerce4j.api.dto.OrderQuery;
 import com.ecommerce4j.api.dto.PaginatedResult;
 import com.ecommerce4j.api.dto.UnifiedOrder;
+import com.ecommerce4j.api.platform.concurrent.AsyncSupport;
+import com.ecommerce4j.api.platform.concurrent.OrderPagePublisher;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 
 /**
  * 统一订单服务接口
@@ -31,4 +36,55 @@ public interface EcommOrderService {
      * @return 包含订单详细信息的统一订单对象列表
      */
     List<UnifiedOrder> getOrderDetails(AuthContext authContext, List<String> orderIds);
+
+    /**
+     * 以支持背压的 {@link Flow.Publisher} 逐条发出订单，自动按分页令牌翻页直到最后一页。
+     * <p>
+     * 下游处理当前页时下一页已在下载中，缓冲不超过约两页订单；取消订阅会取消在途分页的 Future，
+     * 原生异步实现（如 Shopee）同时取消底层 HTTP 请求。
+     * 每次订阅都从 {@code query.pageToken} 指定的位置重新开始。可通过 {@code JdkFlowAdapter} 等转换为 Reactor Flux。
+     *
+     * @param authContext 授权上下文
+     * @param query       订单查询参数对象，pageToken 作为起始位置
+     * @return 订单发布者
+     */
+    default Flow.Publisher<UnifiedOrder> publishOrders(AuthContext authContext, OrderQuery query) {
+        return new OrderPagePublisher(query == null ? null : query.getPageToken(),
+            pageToken -> getOrdersAsync(authContext, query == null ? null : query.toBuilder().pageToken(pageToken).build()));
+    }
+
+    /**
+     * 订单列表接口单次查询允许的最大时间范围。
+     * <p>
+     * 全量同步时会按该范围拆分时间窗口，拆分后的窗口可以并发分页。
+     *
+     * @return 最大时间范围；返回 null 表示平台不限制
+     */
+    default Duration getMaxQueryWindow() {
+        return null;
+    }
+
+    /**
+     * {@link #getOrders} 的异步版本。
+     * <p>
+     * 默认在适配器的 I/O 执行器上调用同步方法；支持的平台会覆盖为基于 OkHttp 回调的实现，请求在途期间不占用线程。
+     *
+     * @param authContext 授权上下文
+     * @param query       订单查询参数对象
+     * @return 统一分页结果的 Future
+     */
+    default CompletableFuture<PaginatedResult<UnifiedOrder>> getOrdersAsync(AuthContext authContext, OrderQuery query) {
+        return AsyncSupport.supply(this, authContext, () -> getOrders(authContext, query));
+    }
+
+    /**
+     * {@link #getOrderDetails} 的异步版本。
+     *
+     * @param authContext 授权上下文
+     * @param orderIds    平台的原始订单ID列表
+     * @return 统一订单列表的 Future，顺序与 orderIds 一致
+     */
+    default CompletableFuture<List<UnifiedOrder>> getOrderDetailsAsync(AuthContext authContext, List<String> orderIds) {
+        return AsyncSupport.supply(this, authContext, () -> getOrderDetails(authContext, orderIds));
+    }
 }
@@ -0,0 +1,34 @@
+package com.ecommerce4j.api.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 以流式方式写出履约文档后返回的元数据，文档内容已写入调用方提供的目标，不在堆上保留
+ */
+@Data
+@Builder
+public class DocumentMetadata {
+
+    /**
+     * 平台包裹ID
+     */
+    private String packageId;
+
+    /**
+     * 合并下载时文档中包含的全部平台包裹ID；单个包裹的文档可以为空
+     */
+    private List<String> packageIds;
+
+    /**
+     * 文档MIME类型，取自下载响应的 Content-Type，响应未声明时按平台默认格式填写
+     */
+    private String mimeType;
+
+    /**
+     * 实际写出的字节数
+     */
+    private long size;
+}
@@ -3,6 +3,8 @@ package com.ecommerce4j.api.dto;
 import lombok.Builder;
 import lombok.Data;
 
+import java.util.List;
+
 /**
  * 平台返回的履约文档
  */
@@ -15,6 +17,11 @@ public class FulfillmentDocument {
      */
     private String packageId;
 
+    /**
+     * 合并下载时文档中包含的全部平台包裹ID，按页面顺序排列；单个包裹的文档可以为空
+     */
+    private List<String> packageIds;
+
     /**
      * 文档二进制内容
      */
@@ -0,0 +1,31 @@
+package com.ecommerce4j.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 批量获取面单时的单个包裹
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PackageDocumentRef {
+
+    /**
+     * 包裹所属店铺的授权上下文，只在跨店铺批量获取（{@code LabelBatchService}）时需要
+     */
+    private AuthContext authContext;
+
+    /**
+     * 平台订单ID
+     */
+    private String orderId;
+
+    /**
+     * 平台包裹ID（Mercado Libre 为 shipment ID，为空时按订单号查询）
+     */
+    private String packageId;
+}
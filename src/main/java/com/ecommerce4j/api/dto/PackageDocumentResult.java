@@ -0,0 +1,56 @@
+package com.ecommerce4j.api.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 批量获取面单时单个包裹的结果
+ */
+@Data
+@Builder
+public class PackageDocumentResult {
+
+    /**
+     * 平台订单ID
+     */
+    private String orderId;
+
+    /**
+     * 平台包裹ID
+     */
+    private String packageId;
+
+    /**
+     * 是否成功
+     */
+    private boolean success;
+
+    /**
+     * 包裹所在的面单文档。平台合并下载时多个包裹指向同一个文档实例，
+     * 文档中包含的包裹见 {@link FulfillmentDocument#getPackageIds()}
+     */
+    private FulfillmentDocument document;
+
+    /**
+     * 失败原因
+     */
+    private String errorMessage;
+
+    public static PackageDocumentResult success(PackageDocumentRef ref, FulfillmentDocument document) {
+        return PackageDocumentResult.builder()
+            .orderId(ref.getOrderId())
+            .packageId(ref.getPackageId())
+            .success(true)
+            .document(document)
+            .build();
+    }
+
+    public static PackageDocumentResult failure(PackageDocumentRef ref, String errorMessage) {
+        return PackageDocumentResult.builder()
+            .orderId(ref.getOrderId())
+            .packageId(ref.getPackageId())
+            .success(false)
+            .errorMessage(errorMessage)
+            .build();
+    }
+}
@@ -1,8 +1,10 @@
 package com.ecommerce4j.api.dto;
 
-import lombok.AllArgsConstructor;
+import com.ecommerce4j.api.platform.http.ApiTimings;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.util.List;
 
@@ -12,7 +14,6 @@ import java.util.List;
  */
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
 public class PaginatedResult<T> {
 
     /**
@@ -25,4 +26,17 @@ public class PaginatedResult<T> {
      * 如果为null或空，表示没有下一页
      */
     private String nextPageToken;
+
+    /**
+     * 获取本页的耗时分解（网络各阶段、JSON 解析、订单映射），
+     * 只有开启 {@code ecommerce4j.http.attach_timings} 时由 getOrders 填充，否则为 null
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private ApiTimings timings;
+
+    public PaginatedResult(List<T> data, String nextPageToken) {
+        this.data = data;
+        this.nextPageToken = nextPageToken;
+    }
 }
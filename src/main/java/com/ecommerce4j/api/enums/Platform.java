@@ -7,24 +7,30 @@ import lombok.Getter;
  */
 @Getter
 public enum Platform {
-    TIKTOK_SHOP("TikTok Shop"),
+    TIKTOK_SHOP("TikTok Shop", "tiktok"),
 
-    MERCADO_LIBRE("Mercado Libre"),
+    MERCADO_LIBRE("Mercado Libre", "mercado"),
 
-    LAZADA("Lazada"),
+    LAZADA("Lazada", "lazada"),
 
-    SHOPEE("Shopee"),
+    SHOPEE("Shopee", "shopee"),
 
     /**
      * 希音墨西哥自运营
      */
-    SHEIN_MX_SELF("Shein-MX-Self")
+    SHEIN_MX_SELF("Shein-MX-Self", "shein")
     ;
 
     private final String description;
 
-    Platform(String description) {
+    /**
+     * 平台配置项前缀，与各适配器 @Value 使用的前缀保持一致（如 shopee.partner_id）
+     */
+    private final String configPrefix;
+
+    Platform(String description, String configPrefix) {
         this.description = description;
+        this.configPrefix = configPrefix;
     }
 
 }
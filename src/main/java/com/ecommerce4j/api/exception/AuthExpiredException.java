@@ -0,0 +1,17 @@
+package com.ecommerce4j.api.exception;
+
+/**
+ * 平台返回访问令牌无效或已过期时抛出的异常，调用方刷新令牌后可以重试。
+ */
+public class AuthExpiredException extends EcommIntegrationException {
+
+    private static final long serialVersionUID = 1L;
+
+    public AuthExpiredException(String message) {
+        super(message);
+    }
+
+    public AuthExpiredException(String message, int statusCode) {
+        super(message, statusCode);
+    }
+}
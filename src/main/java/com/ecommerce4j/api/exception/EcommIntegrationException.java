@@ -1,11 +1,28 @@
 package com.ecommerce4j.api.exception;
 
 public class EcommIntegrationException extends RuntimeException {
+
+    /**
+     * 平台返回的 HTTP 状态码，非 HTTP 状态错误时为 0
+     */
+    private final int statusCode;
+
     public EcommIntegrationException(String message) {
         super(message);
+        this.statusCode = 0;
     }
 
     public EcommIntegrationException(String message, Throwable cause) {
         super(message, cause);
+        this.statusCode = 0;
+    }
+
+    public EcommIntegrationException(String message, int statusCode) {
+        super(message);
+        this.statusCode = statusCode;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
     }
 }
@@ -0,0 +1,13 @@
+package com.ecommerce4j.api.exception;
+
+/**
+ * 平台已熔断或并发调用数已满时快速失败抛出的异常，调用方可以据此稍后重试，而不必等待超时。
+ */
+public class PlatformUnavailableException extends EcommIntegrationException {
+
+    private static final long serialVersionUID = 1L;
+
+    public PlatformUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -1,40 +1,90 @@
 package com.ecommerce4j.api.platform;
 
+import com.ecommerce4j.api.dto.AuthContext;
+import com.ecommerce4j.api.dto.DocumentMetadata;
+import com.ecommerce4j.api.dto.FulfillmentDocument;
+import com.ecommerce4j.api.dto.PackageDocumentRef;
+import com.ecommerce4j.api.dto.PackageDocumentResult;
+import com.ecommerce4j.api.dto.PaginatedResult;
+import com.ecommerce4j.api.dto.UnifiedOrder;
+import com.ecommerce4j.api.enums.Platform;
+import com.ecommerce4j.api.exception.AuthExpiredException;
 import com.ecommerce4j.api.exception.EcommIntegrationException;
+import com.ecommerce4j.api.exception.PlatformUnavailableException;
+import com.ecommerce4j.api.platform.cache.CachedLabel;
+import com.ecommerce4j.api.platform.cache.LabelCache;
+import com.ecommerce4j.api.platform.cache.LabelCacheException;
+import com.ecommerce4j.api.platform.concurrent.AsyncSupport;
+import com.ecommerce4j.api.platform.concurrent.IoTaskExecutor;
+import com.ecommerce4j.api.platform.concurrent.IoTaskExecutorProvider;
+import com.ecommerce4j.api.platform.concurrent.PipelinedOrderIterator;
+import com.ecommerce4j.api.platform.http.ApiMetrics;
+import com.ecommerce4j.api.platform.http.ApiTimings;
+import com.ecommerce4j.api.platform.http.AsyncCalls;
+import com.ecommerce4j.api.platform.http.DocumentDownloads;
+import com.ecommerce4j.api.platform.http.DocumentSink;
+import com.ecommerce4j.api.platform.http.HttpTransport;
+import com.ecommerce4j.api.platform.http.JsonBodyReader;
+import com.ecommerce4j.api.platform.http.RateLimitExceededException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
+import org.springframework.beans.factory.annotation.Autowired;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.TimeUnit;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * 抽象适配器基类。
  * <p>
  * 为所有具体的平台适配器提供通用的功能，包括：
- * 1. 一个预配置的 OkHttpClient 实例，用于执行 HTTP 请求。
+ * 1. 一个来自共享 {@link HttpTransport} 的 OkHttpClient 实例，用于执行 HTTP 请求。
  * 2. 一个预配置的 ObjectMapper 实例，用于 JSON 序列化和反序列化。
  * 3. 封装了执行请求和处理响应（包括错误处理）的通用方法。
  */
-public abstract class AbstractAdapter {
+@Slf4j
+public abstract class AbstractAdapter implements IoTaskExecutorProvider {
+
+    /**
+     * 订单流水线最多提前处理的页数
+     */
+    private static final int ORDER_PIPELINE_DEPTH = 2;
+
+    /**
+     * 当前适配器所属的平台，用于从共享传输层获取该平台的客户端配置。
+     */
+    protected final Platform platform;
 
     /**
      * 可复用的 OkHttp 客户端，用于发送 HTTP 请求。
-     * 配置了合理的连接、读取和写入超时时间。
+     * 由 {@link HttpTransport} 提供，所有平台共享同一个连接池，超时时间可按平台配置；请通过 {@link #httpClient()} 读取。
      */
-    protected final OkHttpClient httpClient;
+    protected OkHttpClient httpClient;
 
     /**
      * 用于通用文件下载的 OkHttp 客户端。
-     * 这是一个“干净”的实例，不包含任何业务相关的拦截器。
+     * 这是一个“干净”的实例，不包含任何业务相关的拦截器；请通过 {@link #downloadClient()} 读取。
      */
-    protected final OkHttpClient downloadClient;
+    protected OkHttpClient downloadClient;
 
     /**
      * 可复用的 Jackson ObjectMapper，用于处理 JSON 数据。
@@ -44,27 +94,328 @@ public abstract class AbstractAdapter {
     protected final ObjectMapper objectMapper;
 
     /**
-     * 构造函数，在子类实例化时初始化 httpClient 和 objectMapper。
+     * SDK 内所有并发扇出调用使用的 I/O 执行器（带每卖家并发限制），建议通过 {@link #fanOut} 使用。
      */
-    public AbstractAdapter() {
-        this.httpClient = new OkHttpClient.Builder()
-            .connectTimeout(15, TimeUnit.SECONDS)
-            .readTimeout(30, TimeUnit.SECONDS)
-            .writeTimeout(15, TimeUnit.SECONDS)
-            .addInterceptor(new ApiLoggingInterceptor())
-            .build();
+    protected IoTaskExecutor ioTaskExecutor = IoTaskExecutor.defaults();
 
-        this.downloadClient = new OkHttpClient.Builder()
-            .connectTimeout(15, TimeUnit.SECONDS)
-            .readTimeout(60, TimeUnit.SECONDS) // 下载文件可能需要更长的读取超时
-            .writeTimeout(15, TimeUnit.SECONDS)
-            .build();
+    /**
+     * 面单本地缓存，建议通过 {@link #cachedDocument} 系列方法使用；默认关闭。
+     */
+    protected LabelCache labelCache = LabelCache.defaults();
+
+    /**
+     * 调用指标，来自共享传输层；用于记录订单映射耗时，见 {@link #timedMapping}。
+     */
+    private ApiMetrics apiMetrics = ApiMetrics.NOOP;
+
+    /**
+     * 是否把耗时分解附加到分页结果上，见 {@link #timedPage}。
+     */
+    private boolean attachTimings;
+
+    /**
+     * 构造函数，在子类实例化时初始化 objectMapper。
+     * HTTP 客户端在 Spring 容器中来自注入的传输层 Bean；没有注入时在首次使用时才取进程级的 {@link HttpTransport#defaults()}，
+     * 避免在容器中额外创建一套用不到的连接池和调度线程池。
+     *
+     * @param platform 适配器所属平台
+     */
+    protected AbstractAdapter(Platform platform) {
+        this.platform = platform;
 
         this.objectMapper = new ObjectMapper()
             .registerModule(new JavaTimeModule())
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
     }
 
+    /**
+     * 注入 Spring 管理的共享传输层。
+     * Setter 注入发生在子类的 @PostConstruct 之前，因此子类初始化 API 客户端时拿到的已是共享实例。
+     */
+    @Autowired
+    public void setHttpTransport(HttpTransport httpTransport) {
+        applyTransport(httpTransport);
+    }
+
+    /**
+     * 注入 Spring 管理的并发任务线程池。
+     */
+    @Autowired
+    public void setIoTaskExecutor(IoTaskExecutor ioTaskExecutor) {
+        this.ioTaskExecutor = ioTaskExecutor;
+    }
+
+    @Override
+    public IoTaskExecutor getIoTaskExecutor() {
+        return ioTaskExecutor;
+    }
+
+    /**
+     * 注入 Spring 管理的面单缓存。
+     */
+    @Autowired
+    public void setLabelCache(LabelCache labelCache) {
+        this.labelCache = labelCache;
+    }
+
+    /**
+     * 在 I/O 执行器上并发执行同一个任务，按输入顺序返回结果，同一卖家（sellerId，没有则取 shopId）的并发数受配置限制。
+     *
+     * @param authContext 认证上下文
+     * @param inputs      输入集合
+     * @param task        对单个输入执行的任务
+     * @return 与输入一一对应的结果列表
+     */
+    protected <T, R> List<R> fanOut(AuthContext authContext, Collection<T> inputs, Function<? super T, ? extends R> task) {
+        return ioTaskExecutor.mapAll(platform, sellerKey(authContext), inputs, task);
+    }
+
+    /**
+     * 在 I/O 执行器上异步执行单个任务，同一卖家的并发数与 {@link #fanOut} 共用同一个限制。
+     *
+     * @param authContext 认证上下文
+     * @param task        任务
+     * @return 任务结果
+     */
+    protected <T> CompletableFuture<T> submitAsync(AuthContext authContext, Supplier<? extends T> task) {
+        return ioTaskExecutor.submit(platform, sellerKey(authContext), task);
+    }
+
+    /**
+     * 以流水线方式读取“先列表、后详情”的订单分页：第 N 页的详情批次并发执行时，第 N+1 页的列表请求已经发出。
+     * <p>
+     * 返回的 Stream 是惰性的，顺序与逐页调用 getOrders 一致。提前结束消费时请关闭 Stream，以取消尚未完成的请求。
+     *
+     * @param authContext    认证上下文
+     * @param firstPageToken 第一页的分页令牌，可以为空
+     * @param listStage      根据分页令牌拉取一页订单标识
+     * @param batchSize      详情批次大小
+     * @param detailStage    查询一个批次的详情
+     * @return 订单流
+     */
+    protected <H> Stream<UnifiedOrder> pipelineOrders(AuthContext authContext,
+                                                      String firstPageToken,
+                                                      Function<String, PaginatedResult<H>> listStage,
+                                                      int batchSize,
+                                                      Function<List<H>, List<UnifiedOrder>> detailStage) {
+        PipelinedOrderIterator<H> iterator = new PipelinedOrderIterator<>(ioTaskExecutor, platform, sellerKey(authContext),
+            firstPageToken, listStage, batchSize, detailStage, ORDER_PIPELINE_DEPTH);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(iterator::close);
+    }
+
+    /**
+     * 先查询面单缓存，未命中时调用 loader 获取面单并写入缓存。
+     *
+     * @param packageId    平台包裹ID，同时作为缓存键
+     * @param documentType 文档类型，同一包裹的不同格式分别缓存
+     * @param loader       从平台获取单个包裹面单
+     * @return 面单文档
+     */
+    protected FulfillmentDocument cachedDocument(String packageId, String documentType, Supplier<FulfillmentDocument> loader) {
+        FulfillmentDocument cached = lookupCachedDocument(packageId, documentType);
+        if (cached != null) {
+            return cached;
+        }
+        FulfillmentDocument document = loader.get();
+        cacheDocument(packageId, documentType, document);
+        return document;
+    }
+
+    /**
+     * 流式版本：未命中时把平台的下载响应写入缓存文件，再从缓存文件写入调用方的 {@code sink}。
+     * 缓存文件写入失败（磁盘已满、目录不可写等）时记录日志并跳过缓存，重新下载直接写入 {@code sink}；平台下载失败时原样抛出。
+     *
+     * @param loader 向给定的 sink 写出单个包裹面单
+     * @return 面单元数据
+     */
+    protected DocumentMetadata cachedDocument(String packageId, String documentType, DocumentSink sink,
+                                              Function<DocumentSink, DocumentMetadata> loader) {
+        CachedLabel cached = labelCache.get(platform, packageId, documentType);
+        if (cached == null) {
+            try {
+                cached = labelCache.store(platform, packageId, documentType, null, loader);
+            } catch (LabelCacheException e) {
+                log.warn("【{}】写入面单缓存失败，跳过缓存直接下载，包裹ID={}：{}", platform, packageId, e.getCause().getMessage());
+            }
+        }
+        if (cached == null) {
+            return loader.apply(sink);
+        }
+        try {
+            return DocumentMetadata.builder()
+                .packageId(packageId)
+                .mimeType(cached.getMimeType())
+                .size(cached.writeTo(sink))
+                .build();
+        } catch (IOException e) {
+            throw new EcommIntegrationException("写出面单文档失败，包裹ID：" + packageId, e);
+        }
+    }
+
+    /**
+     * 批量版本：命中缓存的包裹直接返回，其余包裹交给 loader 合并获取。合并下载的 PDF 包含多个包裹，不写入缓存。
+     *
+     * @param loader 批量获取未命中的包裹，返回与输入顺序一一对应的结果
+     * @return 与输入顺序一一对应的结果
+     */
+    protected List<PackageDocumentResult> cachedDocuments(List<PackageDocumentRef> packages, String documentType,
+                                                          Function<List<PackageDocumentRef>, List<PackageDocumentResult>> loader) {
+        if (!labelCache.isEnabled()) {
+            return loader.apply(packages);
+        }
+        PackageDocumentResult[] results = new PackageDocumentResult[packages.size()];
+        List<Integer> missIndexes = new ArrayList<>();
+        List<PackageDocumentRef> misses = new ArrayList<>();
+        for (int index = 0; index < packages.size(); index++) {
+            PackageDocumentRef ref = packages.get(index);
+            FulfillmentDocument cached = lookupCachedDocument(ref.getPackageId(), documentType);
+            if (cached != null) {
+                results[index] = PackageDocumentResult.success(ref, cached);
+            } else {
+                missIndexes.add(index);
+                misses.add(ref);
+            }
+        }
+        if (!misses.isEmpty()) {
+            List<PackageDocumentResult> loaded = loader.apply(misses);
+            for (int offset = 0; offset < missIndexes.size(); offset++) {
+                results[missIndexes.get(offset)] = loaded.get(offset);
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * 合并获取一批包裹的面单，同一批包裹共用返回的文档。
+     * <p>
+     * 平台对整批返回成功或失败，整批失败且包含多个包裹时逐个重试，避免单个无效包裹拖累同批其它包裹；
+     * 令牌失效、平台熔断等与包裹无关的失败不重试。单个包裹获取成功时写入缓存。
+     *
+     * @param loader 按包裹ID合并获取面单
+     * @return 与输入顺序一一对应的结果
+     */
+    protected List<PackageDocumentResult> loadDocumentBatch(String documentType, List<PackageDocumentRef> batch,
+                                                            Function<List<String>, FulfillmentDocument> loader) {
+        List<String> packageIds = batch.stream().map(PackageDocumentRef::getPackageId).collect(Collectors.toList());
+        try {
+            FulfillmentDocument document = loader.apply(packageIds);
+            if (batch.size() == 1) {
+                cacheDocument(packageIds.get(0), documentType, document);
+            }
+            return batch.stream().map(ref -> PackageDocumentResult.success(ref, document)).collect(Collectors.toList());
+        } catch (RuntimeException e) {
+            if (batch.size() == 1 || e instanceof AuthExpiredException || e instanceof PlatformUnavailableException) {
+                return batch.stream().map(ref -> PackageDocumentResult.failure(ref, e.getMessage())).collect(Collectors.toList());
+            }
+            log.warn("【{}】合并获取 {} 个包裹的面单失败，逐个重试：{}", platform, batch.size(), e.getMessage());
+            List<PackageDocumentResult> results = new ArrayList<>(batch.size());
+            for (PackageDocumentRef ref : batch) {
+                results.addAll(loadDocumentBatch(documentType, Collections.singletonList(ref), loader));
+            }
+            return results;
+        }
+    }
+
+    /**
+     * @return 命中缓存时返回面单文档，否则返回 null
+     */
+    protected FulfillmentDocument lookupCachedDocument(String packageId, String documentType) {
+        CachedLabel cached = labelCache.get(platform, packageId, documentType);
+        if (cached == null) {
+            return null;
+        }
+        return FulfillmentDocument.builder()
+            .packageId(packageId)
+            .mimeType(cached.getMimeType())
+            .content(cached.toBytes())
+            .build();
+    }
+
+    /**
+     * 缓存单个包裹的面单，缓存关闭或面单没有内容时忽略
+     */
+    protected void cacheDocument(String packageId, String documentType, FulfillmentDocument document) {
+        if (document != null && document.getContent() != null) {
+            labelCache.put(platform, packageId, documentType, document.getMimeType(), null, document.getContent());
+        }
+    }
+
+    /**
+     * 执行一页订单查询；开启 {@code ecommerce4j.http.attach_timings} 时在独立的 {@link ApiTimings} 范围内执行，
+     * 并把网络各阶段、解析和映射的耗时分解附加到结果上。
+     *
+     * @param page 查询一页订单
+     * @return 分页结果
+     */
+    protected <T> PaginatedResult<T> timedPage(Supplier<PaginatedResult<T>> page) {
+        if (!attachTimings) {
+            return page.get();
+        }
+        try (ApiTimings.Scope scope = ApiTimings.open()) {
+            PaginatedResult<T> result = page.get();
+            if (result != null) {
+                result.setTimings(scope.timings());
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 执行平台订单到统一订单的映射，并记录映射耗时（指标和当前 {@link ApiTimings} 范围）。
+     * 映射过程中不应再发出 HTTP 请求，否则网络时间会被重复计入。
+     *
+     * @param mapping 映射过程
+     * @return 映射结果
+     */
+    protected <T> T timedMapping(Supplier<T> mapping) {
+        ApiTimings timings = ApiTimings.current();
+        if (timings == null && !apiMetrics.isEnabled()) {
+            return mapping.get();
+        }
+        long startNanos = System.nanoTime();
+        try {
+            return mapping.get();
+        } finally {
+            long nanos = System.nanoTime() - startNanos;
+            if (timings != null) {
+                timings.add(ApiTimings.Phase.MAPPING, nanos);
+            }
+            apiMetrics.recordProcessing(platform, ApiTimings.Phase.MAPPING, nanos);
+        }
+    }
+
+    private static String sellerKey(AuthContext authContext) {
+        return AsyncSupport.sellerKey(authContext);
+    }
+
+    /**
+     * @return 平台 API 客户端，没有注入传输层时使用进程级默认实例
+     */
+    protected OkHttpClient httpClient() {
+        if (httpClient == null) {
+            applyTransport(HttpTransport.defaults());
+        }
+        return httpClient;
+    }
+
+    /**
+     * @return 文件下载客户端，没有注入传输层时使用进程级默认实例
+     */
+    protected OkHttpClient downloadClient() {
+        if (downloadClient == null) {
+            applyTransport(HttpTransport.defaults());
+        }
+        return downloadClient;
+    }
+
+    private void applyTransport(HttpTransport httpTransport) {
+        this.httpClient = httpTransport.apiClient(platform);
+        this.downloadClient = httpTransport.downloadClient(platform);
+        this.apiMetrics = httpTransport.getApiMetrics();
+        this.attachTimings = httpTransport.isAttachTimings();
+    }
+
     /**
      * 执行一个 HTTP 请求，并将 JSON 响应体反序列化为指定的 Java 类型。
      *
@@ -75,23 +426,24 @@ public abstract class AbstractAdapter {
      * @throws EcommIntegrationException 如果请求失败（HTTP 状态码非 2xx）或在处理过程中发生 I/O 错误。
      */
     protected <T> T executeRequest(Request request, Class<T> responseType) {
-        try (Response response = httpClient.newCall(request).execute()) {
+        try (Response response = httpClient().newCall(request).execute()) {
             ResponseBody body = response.body();
-            String bodyString = (body != null) ? body.string() : null;
 
             if (!response.isSuccessful()) {
+                String bodyString = (body != null) ? body.string() : null;
                 String errorMessage = String.format("API请求至 %s 失败，状态码 %d: %s", request.url(), response.code(), bodyString);
-                throw new EcommIntegrationException(errorMessage);
+                throw new EcommIntegrationException(errorMessage, response.code());
             }
 
-            if (bodyString == null || bodyString.isEmpty()) {
+            // 直接从响应流解析，避免先复制成完整的 String
+            T result = JsonBodyReader.read(objectMapper, body, responseType);
+            if (result == null) {
                 throw new EcommIntegrationException("API响应体为空，但期望返回JSON。");
             }
-
-            return objectMapper.readValue(bodyString, responseType);
+            return result;
 
         } catch (IOException e) {
-            throw new EcommIntegrationException("执行HTTP请求或解析响应失败：" + request.url(), e);
+            throw RateLimitExceededException.wrap("执行HTTP请求或解析响应失败：" + request.url(), e);
         }
     }
 
@@ -105,25 +457,60 @@ public abstract class AbstractAdapter {
      * @throws EcommIntegrationException 如果请求失败或在处理过程中发生错误。
      */
     protected <T> T executeRequest(Request request, TypeReference<T> typeReference) {
-        try (Response response = httpClient.newCall(request).execute()) {
+        try (Response response = httpClient().newCall(request).execute()) {
             ResponseBody body = response.body();
-            String bodyString = (body != null) ? body.string() : null;
 
             if (!response.isSuccessful()) {
+                String bodyString = (body != null) ? body.string() : null;
                 String errorMessage = String.format("API请求至 %s 失败，状态码 %d: %s", request.url(), response.code(), bodyString);
-                throw new EcommIntegrationException(errorMessage);
+                throw new EcommIntegrationException(errorMessage, response.code());
             }
-            if (bodyString == null || bodyString.isEmpty()) {
+
+            // 直接从响应流解析，避免先复制成完整的 String
+            T result = JsonBodyReader.read(objectMapper, body, typeReference);
+            if (result == null) {
                 throw new EcommIntegrationException("API响应体为空，但期望返回JSON。");
             }
-
-            return objectMapper.readValue(bodyString, typeReference);
+            return result;
 
         } catch (IOException e) {
-            throw new EcommIntegrationException("执行HTTP请求或解析响应失败：" + request.url(), e);
+            throw RateLimitExceededException.wrap("执行HTTP请求或解析响应失败：" + request.url(), e);
         }
     }
 
+    /**
+     * 以 OkHttp 回调方式异步执行 HTTP 请求，并将 JSON 响应体反序列化为指定类型。
+     * <p>
+     * 请求在途期间不占用线程；响应在 OkHttp 回调线程上解析，失败时以 {@link EcommIntegrationException} 异常完成。
+     *
+     * @param request       构建好的 OkHttp Request 对象。
+     * @param typeReference 期望的响应类型。
+     * @param <T>           泛型，表示期望的响应类型。
+     * @return 反序列化后的 Java 对象的 Future。
+     */
+    protected <T> CompletableFuture<T> executeRequestAsync(Request request, TypeReference<T> typeReference) {
+        return AsyncCalls.handle(AsyncCalls.enqueue(httpClient(), request), (response, error) -> {
+            if (error != null) {
+                throw RateLimitExceededException.wrap("执行HTTP请求或解析响应失败：" + request.url(), error);
+            }
+            try (response) {
+                ResponseBody body = response.body();
+                if (!response.isSuccessful()) {
+                    String bodyString = (body != null) ? body.string() : null;
+                    String errorMessage = String.format("API请求至 %s 失败，状态码 %d: %s", request.url(), response.code(), bodyString);
+                    throw new EcommIntegrationException(errorMessage, response.code());
+                }
+                T result = JsonBodyReader.read(objectMapper, body, typeReference);
+                if (result == null) {
+                    throw new EcommIntegrationException("API响应体为空，但期望返回JSON。");
+                }
+                return result;
+            } catch (IOException e) {
+                throw RateLimitExceededException.wrap("执行HTTP请求或解析响应失败：" + request.url(), e);
+            }
+        });
+    }
+
     /**
      * 执行一个 HTTP 请求，并直接返回响应体的二进制字节数组。
      * 主要用于下载文件，如 PDF 或 ZPL 格式的运单。
@@ -133,17 +520,40 @@ public abstract class AbstractAdapter {
      * @throws EcommIntegrationException 如果请求失败或在下载过程中发生 I/O 错误。
      */
     protected byte[] executeRequestForBytes(Request request) {
-        try (Response response = downloadClient.newCall(request).execute()) {
+        try (Response response = downloadClient().newCall(request).execute()) {
             if (!response.isSuccessful()) {
                 // 读取错误体以提供更多信息
                 ResponseBody errorBody = response.body();
                 String errorBodyString = (errorBody != null) ? errorBody.string() : "[无错误体]";
                 String errorMessage = String.format("API文件下载请求至 %s 失败，状态码 %d: %s", request.url(), response.code(), errorBodyString);
-                throw new EcommIntegrationException(errorMessage);
+                throw new EcommIntegrationException(errorMessage, response.code());
             }
             return Objects.requireNonNull(response.body(), "成功的文件下载请求响应体为 null。").bytes();
         } catch (IOException e) {
-            throw new EcommIntegrationException("文件下载失败：" + request.url(), e);
+            throw RateLimitExceededException.wrap("文件下载失败：" + request.url(), e);
+        }
+    }
+
+    /**
+     * 执行一个 HTTP 文件下载请求，并把响应体流式写入 {@code sink}，不在堆上保留完整文件。
+     *
+     * @param request         构建好的 OkHttp Request 对象。
+     * @param sink            写出目标。
+     * @param defaultMimeType 响应未声明 Content-Type 时使用的 MIME 类型。
+     * @return 文件的 MIME 类型和写出的字节数。
+     * @throws EcommIntegrationException 如果请求失败或在写出过程中发生 I/O 错误。
+     */
+    protected DocumentMetadata executeRequestToSink(Request request, DocumentSink sink, String defaultMimeType) {
+        try (Response response = downloadClient().newCall(request).execute()) {
+            if (!response.isSuccessful()) {
+                ResponseBody errorBody = response.body();
+                String errorBodyString = (errorBody != null) ? errorBody.string() : "[无错误体]";
+                String errorMessage = String.format("API文件下载请求至 %s 失败，状态码 %d: %s", request.url(), response.code(), errorBodyString);
+                throw new EcommIntegrationException(errorMessage, response.code());
+            }
+            return DocumentDownloads.copy(response.body(), sink, defaultMimeType);
+        } catch (IOException e) {
+            throw RateLimitExceededException.wrap("文件下载失败：" + request.url(), e);
         }
     }
 }
@@ -2,7 +2,9 @@ package com.ecommerce4j.api.platform;
 
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.Interceptor;
+import okhttp3.MediaType;
 import okhttp3.Request;
+import okhttp3.RequestBody;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
 import okio.Buffer;
@@ -12,29 +14,73 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
 /**
  * 一个自定义的OkHttp拦截器，用于记录详细的API请求和响应日志。
- * 采用重新构建响应体的方式，以确保日志记录后，响应流依然可用。
+ * <p>
+ * 响应体只通过 {@link Response#peekBody(long)} 预览前 N 个字节，原始响应流保持不动，
+ * 不会把完整响应体读成 String 再重新构建；二进制内容（如 PDF 面单）不记录响应体。
+ * 支持按比例采样以及按平台设置日志级别，便于在生产环境常开。
  */
 @Slf4j
 public class ApiLoggingInterceptor implements Interceptor {
 
-    private static final int MAX_BODY_LENGTH_TO_LOG = 1500; // 响应体预览长度
+    private static final int DEFAULT_MAX_BODY_LENGTH_TO_LOG = 1500; // 响应体预览长度（字节）
+    // 请求体超过该大小时不再复制到缓冲区记录
+    private static final long MAX_REQUEST_BODY_BYTES_TO_BUFFER = 64 * 1024;
     // 只保留这些我们关心的响应头
     private static final List<String> RETAINED_RESPONSE_HEADERS = Arrays.asList(
         "content-type", "date", "x-tts-logid", "x-tt-logid"
     );
 
+    /**
+     * 日志级别
+     */
+    public enum Level {
+        /** 不记录任何日志 */
+        NONE,
+        /** 只记录请求行、状态码、耗时和响应头 */
+        BASIC,
+        /** 额外记录请求体和响应体的预览 */
+        BODY
+    }
+
+    private final Level level;
+
+    private final double sampleRate;
+
+    private final int maxBodyBytes;
+
+    public ApiLoggingInterceptor() {
+        this(Level.BODY, 1.0D, DEFAULT_MAX_BODY_LENGTH_TO_LOG);
+    }
+
+    /**
+     * @param level        日志级别
+     * @param sampleRate   采样比例，取值 0~1，1 表示全部记录
+     * @param maxBodyBytes 请求体/响应体最多预览的字节数
+     */
+    public ApiLoggingInterceptor(Level level, double sampleRate, int maxBodyBytes) {
+        this.level = level == null ? Level.BODY : level;
+        this.sampleRate = Math.max(0D, Math.min(1D, sampleRate));
+        this.maxBodyBytes = Math.max(0, maxBodyBytes);
+    }
+
     @NotNull
     @Override
     public Response intercept(@NotNull Chain chain) throws IOException {
         Request request = chain.request();
+        if (!shouldLog()) {
+            return chain.proceed(request);
+        }
         long startTime = System.nanoTime();
+        boolean logBody = level == Level.BODY;
 
         // 格式化并记录请求日志
-        String requestBody = getRequestBody(request);
+        String requestBody = logBody ? getRequestBody(request) : "[未记录]";
         log.info("【Ecommerce4j-API请求】=> {} {} | 请求体: {}", request.method(), request.url(), requestBody);
 
         Response response;
@@ -45,53 +91,116 @@ public class ApiLoggingInterceptor implements Interceptor {
             throw e;
         }
 
-        // --- 核心修改点：记录响应并重新构建它 ---
-        ResponseBody responseBody = response.body();
-        String responseBodyString = "";
-        if (responseBody != null) {
-            responseBodyString = responseBody.string();
-        }
-
-        // 格式化并记录响应日志
+        // 耗时统计到收到响应头为止，响应体由调用方流式读取
         long durationMs = (System.nanoTime() - startTime) / 1_000_000;
-        String truncatedBody = truncateBody(responseBodyString);
+        String bodyPreview = logBody ? previewResponseBody(response) : "[未记录]";
         String filteredHeaders = filterAndFormatHeaders(response.headers());
 
         log.info("【Ecommerce4j-API响应】<= {} {} | 耗时: {}ms | 响应体: {} | 响应头: {}",
             response.code(),
             response.message(),
             durationMs,
-            truncatedBody,
+            bodyPreview,
             filteredHeaders);
 
-        // 使用相同的字符串内容创建一个新的响应体
-        ResponseBody newResponseBody = ResponseBody.create(responseBodyString, responseBody != null ? responseBody.contentType() : null);
+        return response;
+    }
 
-        // 构建一个新的 Response 对象
-        return response.newBuilder().body(newResponseBody).build();
+    private boolean shouldLog() {
+        if (level == Level.NONE || !log.isInfoEnabled()) {
+            return false;
+        }
+        return sampleRate >= 1D || ThreadLocalRandom.current().nextDouble() < sampleRate;
     }
 
     private String getRequestBody(Request request) {
-        if (request.body() == null) {
+        RequestBody body = request.body();
+        if (body == null) {
             return "[无]";
         }
+        if (!isTextual(body.contentType())) {
+            return "[二进制内容，未记录]";
+        }
         try {
+            long contentLength = body.contentLength();
+            if (body.isOneShot() || body.isDuplex() || contentLength < 0 || contentLength > MAX_REQUEST_BODY_BYTES_TO_BUFFER) {
+                return "[请求体未记录，长度=" + contentLength + "]";
+            }
             Buffer buffer = new Buffer();
-            request.body().writeTo(buffer);
-            return buffer.readString(StandardCharsets.UTF_8);
+            body.writeTo(buffer);
+            long previewBytes = Math.min(buffer.size(), maxBodyBytes);
+            boolean truncated = contentLength > previewBytes;
+            String preview = decodePreview(buffer.readByteArray(previewBytes), truncated);
+            return truncated ? preview + "..." : preview;
         } catch (IOException e) {
             return "[读取请求体失败]";
         }
     }
 
-    private String truncateBody(String body) {
-        if (body == null || body.isEmpty()) {
+    private String previewResponseBody(Response response) {
+        ResponseBody responseBody = response.body();
+        if (responseBody == null) {
             return "[空]";
         }
-        if (body.length() > MAX_BODY_LENGTH_TO_LOG) {
-            return body.substring(0, MAX_BODY_LENGTH_TO_LOG) + "...";
+        if (!isTextual(responseBody.contentType())) {
+            return "[二进制内容，长度=" + responseBody.contentLength() + "]";
+        }
+        try {
+            // peekBody 只缓冲前 N 个字节，原始响应体仍可被完整读取
+            ResponseBody peeked = response.peekBody(maxBodyBytes);
+            byte[] bytes = peeked.bytes();
+            if (bytes.length == 0) {
+                return "[空]";
+            }
+            long contentLength = responseBody.contentLength();
+            boolean truncated = contentLength > maxBodyBytes || (contentLength < 0 && bytes.length >= maxBodyBytes);
+            String preview = decodePreview(bytes, truncated);
+            return truncated ? preview + "..." : preview;
+        } catch (IOException e) {
+            return "[读取响应体失败]";
+        }
+    }
+
+    /**
+     * 按 UTF-8 解码预览字节；被截断时去掉末尾不完整的多字节字符，避免日志中出现替换字符。
+     */
+    static String decodePreview(byte[] bytes, boolean truncated) {
+        int length = truncated ? utf8Boundary(bytes) : bytes.length;
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return 不超过数组长度的最大 UTF-8 字符边界
+     */
+    private static int utf8Boundary(byte[] bytes) {
+        int end = bytes.length;
+        int lead = end;
+        // 向前最多跳过 3 个后续字节（10xxxxxx），找到最后一个字符的首字节
+        while (lead > 0 && end - lead < 3 && (bytes[lead - 1] & 0xC0) == 0x80) {
+            lead--;
+        }
+        if (lead == 0) {
+            return end;
+        }
+        int first = bytes[lead - 1] & 0xFF;
+        int charLength = first >= 0xF0 ? 4 : first >= 0xE0 ? 3 : first >= 0xC0 ? 2 : 1;
+        return end - (lead - 1) >= charLength ? end : lead - 1;
+    }
+
+    /**
+     * 没有 Content-Type 时按文本处理（部分平台接口不返回该响应头）。
+     */
+    private boolean isTextual(MediaType mediaType) {
+        if (mediaType == null) {
+            return true;
         }
-        return body;
+        String type = mediaType.type().toLowerCase(Locale.ROOT);
+        String subtype = mediaType.subtype().toLowerCase(Locale.ROOT);
+        return "text".equals(type)
+            || subtype.contains("json")
+            || subtype.contains("xml")
+            || subtype.contains("x-www-form-urlencoded")
+            || subtype.contains("javascript");
     }
 
     private String filterAndFormatHeaders(okhttp3.Headers headers) {
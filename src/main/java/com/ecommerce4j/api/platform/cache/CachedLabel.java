@@ -0,0 +1,108 @@
+package com.ecommerce4j.api.platform.cache;
+
+import com.ecommerce4j.api.platform.http.DocumentSink;
+import okio.Buffer;
+import okio.Okio;
+import okio.Source;
+import okio.Timeout;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * {@link LabelCache} 命中的面单。
+ * <p>
+ * 内容是缓存文件的只读内存映射，读取时由操作系统页缓存提供数据，不经过 JVM 堆；
+ * 映射在查询时建立，之后缓存淘汰该文件也不影响已经拿到的实例。
+ */
+public final class CachedLabel {
+
+    /**
+     * 附加信息：面单对应的运单号
+     */
+    public static final String TRACKING_NUMBER = "trackingNumber";
+
+    /**
+     * 附加信息：收货人名称
+     */
+    public static final String RECEIVER_NAME = "receiverName";
+
+    private final ByteBuffer content;
+
+    private final String mimeType;
+
+    private final Map<String, String> attributes;
+
+    CachedLabel(ByteBuffer content, String mimeType, Map<String, String> attributes) {
+        this.content = content;
+        this.mimeType = mimeType;
+        this.attributes = attributes == null ? Collections.emptyMap() : Collections.unmodifiableMap(attributes);
+    }
+
+    public String getMimeType() {
+        return mimeType;
+    }
+
+    public long getSize() {
+        return content.remaining();
+    }
+
+    /**
+     * 写入缓存时附带的信息，例如面单对应的运单号
+     */
+    public String getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    /**
+     * 复制为字节数组，用于仍然使用 byte[] 的接口
+     */
+    public byte[] toBytes() {
+        ByteBuffer buffer = content.duplicate();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * 把映射的内容逐段写入 sink
+     *
+     * @return 写出的字节数
+     */
+    public long writeTo(DocumentSink sink) throws IOException {
+        return sink.write(Okio.buffer(new ByteBufferSource(content.duplicate())));
+    }
+
+    private static final class ByteBufferSource implements Source {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferSource(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public long read(Buffer sink, long byteCount) throws IOException {
+            if (!buffer.hasRemaining()) {
+                return -1L;
+            }
+            int count = (int) Math.min(byteCount, buffer.remaining());
+            ByteBuffer slice = buffer.slice();
+            slice.limit(count);
+            sink.write(slice);
+            buffer.position(buffer.position() + count);
+            return count;
+        }
+
+        @Override
+        public Timeout timeout() {
+            return Timeout.NONE;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
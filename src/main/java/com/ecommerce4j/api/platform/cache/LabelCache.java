@@ -0,0 +1,663 @@
+package com.ecommerce4j.api.platform.cache;
+
+import com.ecommerce4j.api.dto.DocumentMetadata;
+import com.ecommerce4j.api.enums.Platform;
+import com.ecommerce4j.api.platform.http.DocumentSink;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 面单本地磁盘缓存，补打面单时直接读取本地文件，不再重复调用平台接口。
+ * <p>
+ * 缓存键为“平台 + 包裹ID（Meli 为 shipment ID）+ 文档类型”，只缓存单个包裹的面单，合并下载的 PDF 不写入缓存。
+ * 存储按内容寻址：
+ * <ul>
+ *     <li>{@code blobs/<sha256>}：面单内容，相同内容只保存一份；</li>
+ *     <li>{@code index/<sha256(缓存键)>.properties}：缓存键指向的内容摘要、MIME 类型、写入时间和附加信息，重启后重新加载。</li>
+ * </ul>
+ * 读取时对内容文件建立只读内存映射；总字节数超过上限时按最近最少使用淘汰，超过有效期的条目在读取或启动时删除。
+ * 缓存读写失败只记录日志，不影响从平台获取面单。
+ * <p>
+ * 配置项：{@code ecommerce4j.label.cache.enabled}（默认关闭）、{@code ecommerce4j.label.cache.directory}、
+ * {@code ecommerce4j.label.cache.max_size_mb}、{@code ecommerce4j.label.cache.ttl_hours}，
+ * 有效期可按平台覆盖，如 {@code tiktok.label.cache.ttl_hours=24}。
+ */
+@Slf4j
+@Component
+public class LabelCache {
+
+    private static final long DEFAULT_MAX_SIZE_MB = 1024L;
+    private static final long DEFAULT_TTL_HOURS = 72L;
+    private static final String DEFAULT_DIRECTORY_NAME = "ecommerce4j-label-cache";
+    private static final String BLOB_DIR = "blobs";
+    private static final String INDEX_DIR = "index";
+    private static final String TEMP_DIR = "tmp";
+    private static final String INDEX_SUFFIX = ".properties";
+    private static final String ATTRIBUTE_PREFIX = "attr.";
+
+    @Value("${ecommerce4j.label.cache.enabled:false}")
+    private boolean enabled = false;
+
+    @Value("${ecommerce4j.label.cache.directory:}")
+    private String directory = "";
+
+    @Value("${ecommerce4j.label.cache.max_size_mb:" + DEFAULT_MAX_SIZE_MB + "}")
+    private long maxSizeMb = DEFAULT_MAX_SIZE_MB;
+
+    @Value("${ecommerce4j.label.cache.ttl_hours:" + DEFAULT_TTL_HOURS + "}")
+    private long ttlHours = DEFAULT_TTL_HOURS;
+
+    @Autowired(required = false)
+    private Environment environment;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * key 为缓存键，按访问顺序排列，最久未使用的在最前
+     */
+    private final LinkedHashMap<String, IndexEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * key 为内容摘要
+     */
+    private final Map<String, BlobRef> blobs = new HashMap<>();
+
+    private long totalBytes;
+
+    private long maxBytes;
+
+    private Duration ttl;
+
+    private Path blobDir;
+
+    private Path indexDir;
+
+    private Path tempDir;
+
+    private volatile boolean active;
+
+    /**
+     * 非 Spring 环境下使用的进程级默认实例，缓存关闭。
+     */
+    public static LabelCache defaults() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    /**
+     * 在指定目录上创建启用的缓存，用于非 Spring 环境。
+     *
+     * @param directory 缓存目录，不存在时自动创建
+     * @param maxBytes  缓存内容的总字节数上限
+     * @param ttl       条目有效期
+     */
+    public static LabelCache open(Path directory, long maxBytes, Duration ttl) {
+        LabelCache labelCache = new LabelCache();
+        labelCache.start(directory, maxBytes, ttl);
+        return labelCache;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+        Path root = StringUtils.hasText(directory)
+            ? Paths.get(directory)
+            : Paths.get(System.getProperty("java.io.tmpdir"), DEFAULT_DIRECTORY_NAME);
+        start(root, Math.max(1L, maxSizeMb) * 1024L * 1024L, Duration.ofHours(Math.max(1L, ttlHours)));
+    }
+
+    public boolean isEnabled() {
+        return active;
+    }
+
+    /**
+     * @return 缓存内容的总字节数
+     */
+    public long getTotalBytes() {
+        lock.lock();
+        try {
+            return totalBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return 缓存条目数
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 查询缓存的面单。
+     *
+     * @return 命中时返回内存映射的面单；缓存关闭、未命中或已过期时返回 null
+     */
+    public CachedLabel get(Platform platform, String packageId, String documentType) {
+        if (!active || !StringUtils.hasText(packageId)) {
+            return null;
+        }
+        String key = cacheKey(platform, packageId, documentType);
+        CachedLabel label;
+        lock.lock();
+        try {
+            IndexEntry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (isExpired(entry)) {
+                removeEntry(key);
+                return null;
+            }
+            label = map(entry);
+            if (label == null) {
+                removeEntry(key);
+                return null;
+            }
+        } finally {
+            lock.unlock();
+        }
+        touch(indexPath(key));
+        return label;
+    }
+
+    /**
+     * 写入已在内存中的面单。
+     *
+     * @param attributes 附加信息，可以为空
+     * @return 写入后的缓存面单；缓存关闭或写入失败时返回 null
+     */
+    public CachedLabel put(Platform platform, String packageId, String documentType, String mimeType,
+                           Map<String, String> attributes, byte[] content) {
+        if (!active || !StringUtils.hasText(packageId) || content == null) {
+            return null;
+        }
+        try {
+            String digest = toHex(newDigest().digest(content));
+            Path blob = blobDir.resolve(digest);
+            if (!Files.exists(blob)) {
+                Path temp = Files.createTempFile(tempDir, "label-", ".tmp");
+                try {
+                    Files.write(temp, content);
+                    moveIntoPlace(temp, blob);
+                } finally {
+                    Files.deleteIfExists(temp);
+                }
+            }
+            return commit(platform, packageId, documentType, digest, mimeType, content.length, attributes);
+        } catch (IOException e) {
+            log.warn("【Ecommerce4j】写入面单缓存失败，平台={}，包裹ID={}：{}", platform, packageId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 把平台的下载响应流式写入缓存文件，写入完成后返回缓存面单，面单内容不经过 JVM 堆。
+     *
+     * @param attributes 附加信息，可以为空
+     * @param download   向给定的 sink 写出面单的下载操作，下载失败的异常原样抛出
+     * @return 写入后的缓存面单；缓存关闭或无法创建缓存文件时返回 null，此时尚未调用 download
+     * @throws LabelCacheException 缓存文件写入失败，此时下载的内容已丢弃，调用方可以跳过缓存重新下载
+     */
+    public CachedLabel store(Platform platform, String packageId, String documentType, Map<String, String> attributes,
+                             Function<DocumentSink, DocumentMetadata> download) {
+        if (!active || !StringUtils.hasText(packageId)) {
+            return null;
+        }
+        Path temp;
+        try {
+            temp = Files.createTempFile(tempDir, "label-", ".tmp");
+        } catch (IOException e) {
+            log.warn("【Ecommerce4j】创建面单缓存文件失败，平台={}，包裹ID={}：{}", platform, packageId, e.getMessage());
+            return null;
+        }
+        try {
+            MessageDigest messageDigest = newDigest();
+            DocumentMetadata metadata;
+            WriteTrackingOutputStream fileStream = new WriteTrackingOutputStream(Files.newOutputStream(temp));
+            try (OutputStream outputStream = new DigestOutputStream(new BufferedOutputStream(fileStream), messageDigest)) {
+                metadata = download.apply(DocumentSink.of(outputStream));
+            } catch (RuntimeException e) {
+                // 下载操作通常把写出异常包装后抛出，缓存文件写入失败时按缓存失败处理，其余异常原样抛出
+                if (fileStream.failure != null) {
+                    throw writeFailure(platform, packageId, fileStream.failure);
+                }
+                throw e;
+            }
+            String digest = toHex(messageDigest.digest());
+            moveIntoPlace(temp, blobDir.resolve(digest));
+            return commit(platform, packageId, documentType, digest, metadata.getMimeType(), metadata.getSize(), attributes);
+        } catch (IOException e) {
+            throw writeFailure(platform, packageId, e);
+        } finally {
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException e) {
+                log.debug("【Ecommerce4j】删除面单缓存临时文件失败：{}", temp, e);
+            }
+        }
+    }
+
+    /**
+     * 删除缓存的面单，例如包裹重新打包后旧面单失效
+     */
+    public void evict(Platform platform, String packageId, String documentType) {
+        if (!active || !StringUtils.hasText(packageId)) {
+            return;
+        }
+        lock.lock();
+        try {
+            removeEntry(cacheKey(platform, packageId, documentType));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void start(Path root, long maxBytes, Duration ttl) {
+        this.maxBytes = maxBytes;
+        this.ttl = ttl;
+        this.blobDir = root.resolve(BLOB_DIR);
+        this.indexDir = root.resolve(INDEX_DIR);
+        this.tempDir = root.resolve(TEMP_DIR);
+        try {
+            Files.createDirectories(blobDir);
+            Files.createDirectories(indexDir);
+            Files.createDirectories(tempDir);
+            deleteChildren(tempDir, Collections.emptySet());
+            load();
+        } catch (IOException e) {
+            log.warn("【Ecommerce4j】面单缓存目录 {} 不可用，缓存关闭：{}", root, e.getMessage());
+            return;
+        }
+        this.active = true;
+        log.info("【Ecommerce4j】面单缓存已启用，目录={}，条目数={}，占用={} 字节", root, entries.size(), totalBytes);
+    }
+
+    /**
+     * 加载磁盘上的索引，按索引文件的修改时间恢复访问顺序，删除过期条目和没有被引用的内容文件
+     */
+    private void load() throws IOException {
+        List<Path> indexFiles = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(indexDir, "*" + INDEX_SUFFIX)) {
+            stream.forEach(indexFiles::add);
+        }
+        Map<Path, FileTime> modifiedTimes = new HashMap<>();
+        for (Path indexFile : indexFiles) {
+            modifiedTimes.put(indexFile, Files.getLastModifiedTime(indexFile));
+        }
+        indexFiles.sort(Comparator.comparing(modifiedTimes::get));
+
+        lock.lock();
+        try {
+            for (Path indexFile : indexFiles) {
+                IndexEntry entry = readIndex(indexFile);
+                if (entry == null || isExpired(entry) || !Files.exists(blobDir.resolve(entry.digest))) {
+                    Files.deleteIfExists(indexFile);
+                    continue;
+                }
+                entries.put(cacheKey(entry.platform, entry.packageId, entry.documentType), entry);
+                retainBlob(entry.digest, entry.size);
+            }
+            deleteChildren(blobDir, blobs.keySet());
+            evictIfNeeded(null);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private CachedLabel commit(Platform platform, String packageId, String documentType, String digest, String mimeType,
+                               long size, Map<String, String> attributes) throws IOException {
+        String key = cacheKey(platform, packageId, documentType);
+        IndexEntry entry = new IndexEntry(platform, packageId, documentType, digest, mimeType, size,
+            System.currentTimeMillis(), attributes == null ? Collections.emptyMap() : new HashMap<>(attributes));
+        writeIndex(key, entry);
+        lock.lock();
+        try {
+            IndexEntry previous = entries.put(key, entry);
+            retainBlob(digest, size);
+            if (previous != null) {
+                releaseBlob(previous.digest);
+            }
+            CachedLabel label = map(entry);
+            if (label == null) {
+                // 内容文件在写入索引前被并发淘汰
+                removeEntry(key);
+                return null;
+            }
+            evictIfNeeded(key);
+            return label;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 从最久未使用的条目开始淘汰，直到总字节数不超过上限；刚写入的条目不淘汰。调用方持有锁。
+     */
+    private void evictIfNeeded(String keepKey) {
+        Iterator<Map.Entry<String, IndexEntry>> iterator = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            Map.Entry<String, IndexEntry> eldest = iterator.next();
+            if (eldest.getKey().equals(keepKey)) {
+                continue;
+            }
+            iterator.remove();
+            deleteQuietly(indexPath(eldest.getKey()));
+            releaseBlob(eldest.getValue().digest);
+        }
+    }
+
+    /**
+     * 调用方持有锁
+     */
+    private void removeEntry(String key) {
+        IndexEntry removed = entries.remove(key);
+        deleteQuietly(indexPath(key));
+        if (removed != null) {
+            releaseBlob(removed.digest);
+        }
+    }
+
+    private void retainBlob(String digest, long size) {
+        BlobRef blobRef = blobs.get(digest);
+        if (blobRef == null) {
+            blobs.put(digest, new BlobRef(size));
+            totalBytes += size;
+        } else {
+            blobRef.references++;
+        }
+    }
+
+    private void releaseBlob(String digest) {
+        BlobRef blobRef = blobs.get(digest);
+        if (blobRef == null) {
+            return;
+        }
+        if (--blobRef.references <= 0) {
+            blobs.remove(digest);
+            totalBytes -= blobRef.size;
+            deleteQuietly(blobDir.resolve(digest));
+        }
+    }
+
+    /**
+     * 建立内容文件的只读映射，文件不存在时返回 null。调用方持有锁，保证映射时文件未被淘汰。
+     */
+    private CachedLabel map(IndexEntry entry) {
+        try (FileChannel channel = FileChannel.open(blobDir.resolve(entry.digest), StandardOpenOption.READ)) {
+            ByteBuffer content = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new CachedLabel(content, entry.mimeType, entry.attributes);
+        } catch (IOException e) {
+            log.warn("【Ecommerce4j】读取面单缓存失败，平台={}，包裹ID={}：{}", entry.platform, entry.packageId, e.getMessage());
+            return null;
+        }
+    }
+
+    private boolean isExpired(IndexEntry entry) {
+        return System.currentTimeMillis() - entry.createdAt > ttl(entry.platform).toMillis();
+    }
+
+    private Duration ttl(Platform platform) {
+        if (environment != null && platform != null) {
+            Long hours = environment.getProperty(platform.getConfigPrefix() + ".label.cache.ttl_hours", Long.class);
+            if (hours != null && hours > 0) {
+                return Duration.ofHours(hours);
+            }
+        }
+        return ttl;
+    }
+
+    private void writeIndex(String key, IndexEntry entry) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("platform", entry.platform.name());
+        properties.setProperty("packageId", entry.packageId);
+        properties.setProperty("documentType", entry.documentType);
+        properties.setProperty("digest", entry.digest);
+        if (entry.mimeType != null) {
+            properties.setProperty("mimeType", entry.mimeType);
+        }
+        properties.setProperty("size", String.valueOf(entry.size));
+        properties.setProperty("createdAt", String.valueOf(entry.createdAt));
+        entry.attributes.forEach((name, value) -> {
+            if (value != null) {
+                properties.setProperty(ATTRIBUTE_PREFIX + name, value);
+            }
+        });
+        Path temp = Files.createTempFile(tempDir, "index-", ".tmp");
+        try {
+            try (OutputStream outputStream = Files.newOutputStream(temp)) {
+                properties.store(outputStream, null);
+            }
+            moveIntoPlace(temp, indexPath(key));
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private IndexEntry readIndex(Path indexFile) {
+        Properties properties = new Properties();
+        try (InputStream inputStream = Files.newInputStream(indexFile)) {
+            properties.load(inputStream);
+            Map<String, String> attributes = new HashMap<>();
+            for (String name : properties.stringPropertyNames()) {
+                if (name.startsWith(ATTRIBUTE_PREFIX)) {
+                    attributes.put(name.substring(ATTRIBUTE_PREFIX.length()), properties.getProperty(name));
+                }
+            }
+            return new IndexEntry(
+                Platform.valueOf(properties.getProperty("platform")),
+                properties.getProperty("packageId"),
+                properties.getProperty("documentType"),
+                properties.getProperty("digest"),
+                properties.getProperty("mimeType"),
+                Long.parseLong(properties.getProperty("size")),
+                Long.parseLong(properties.getProperty("createdAt")),
+                attributes);
+        } catch (IOException | RuntimeException e) {
+            log.warn("【Ecommerce4j】面单缓存索引 {} 无法解析，已忽略：{}", indexFile, e.getMessage());
+            return null;
+        }
+    }
+
+    private Path indexPath(String key) {
+        return indexDir.resolve(toHex(newDigest().digest(key.getBytes(StandardCharsets.UTF_8))) + INDEX_SUFFIX);
+    }
+
+    private static String cacheKey(Platform platform, String packageId, String documentType) {
+        return platform + "/" + documentType + "/" + packageId;
+    }
+
+    private static LabelCacheException writeFailure(Platform platform, String packageId, IOException cause) {
+        return new LabelCacheException("【Ecommerce4j】写入面单缓存失败，平台=" + platform + "，包裹ID=" + packageId, cause);
+    }
+
+    private static void moveIntoPlace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void touch(Path file) {
+        try {
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            log.debug("【Ecommerce4j】更新面单缓存访问时间失败：{}", file, e);
+        }
+    }
+
+    private static void deleteChildren(Path dir, Set<String> keep) throws IOException {
+        Set<String> keepNames = new HashSet<>(keep);
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+            for (Path child : stream) {
+                if (!keepNames.contains(child.getFileName().toString())) {
+                    deleteQuietly(child);
+                }
+            }
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // 内容文件仍被映射时部分系统不允许删除，下次启动时作为未引用文件清理
+            log.debug("【Ecommerce4j】删除面单缓存文件失败：{}", file, e);
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("JVM 不支持 SHA-256", e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder builder = new StringBuilder(bytes.length * 2);
+        for (byte value : bytes) {
+            builder.append(Character.forDigit((value >> 4) & 0xF, 16)).append(Character.forDigit(value & 0xF, 16));
+        }
+        return builder.toString();
+    }
+
+    private static final class IndexEntry {
+
+        private final Platform platform;
+
+        private final String packageId;
+
+        private final String documentType;
+
+        private final String digest;
+
+        private final String mimeType;
+
+        private final long size;
+
+        private final long createdAt;
+
+        private final Map<String, String> attributes;
+
+        private IndexEntry(Platform platform, String packageId, String documentType, String digest, String mimeType,
+                           long size, long createdAt, Map<String, String> attributes) {
+            this.platform = platform;
+            this.packageId = packageId;
+            this.documentType = documentType;
+            this.digest = digest;
+            this.mimeType = mimeType;
+            this.size = size;
+            this.createdAt = createdAt;
+            this.attributes = attributes;
+        }
+    }
+
+    private static final class BlobRef {
+
+        private final long size;
+
+        /**
+         * 引用该内容文件的条目数
+         */
+        private int references = 1;
+
+        private BlobRef(long size) {
+            this.size = size;
+        }
+    }
+
+    private static class DefaultHolder {
+
+        private static final LabelCache INSTANCE = new LabelCache();
+    }
+
+    /**
+     * 记录缓存文件写入异常的输出流，用于区分缓存写入失败和平台下载失败
+     */
+    private static final class WriteTrackingOutputStream extends FilterOutputStream {
+
+        private IOException failure;
+
+        WriteTrackingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            try {
+                out.write(b);
+            } catch (IOException e) {
+                failure = e;
+                throw e;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            try {
+                out.write(b, off, len);
+            } catch (IOException e) {
+                failure = e;
+                throw e;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            try {
+                out.flush();
+            } catch (IOException e) {
+                failure = e;
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.ecommerce4j.api.platform.cache;
+
+import com.ecommerce4j.api.exception.EcommIntegrationException;
+
+/**
+ * 流式写入面单缓存时缓存文件本身写入失败（磁盘已满、目录不可写等），与平台下载失败区分开，
+ * 调用方可以据此跳过缓存直接下载。
+ */
+public class LabelCacheException extends EcommIntegrationException {
+
+    private static final long serialVersionUID = 1L;
+
+    public LabelCacheException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
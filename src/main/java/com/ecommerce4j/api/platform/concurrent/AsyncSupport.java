@@ -0,0 +1,54 @@
+package com.ecommerce4j.api.platform.concurrent;
+
+import com.ecommerce4j.api.dto.AuthContext;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * 服务接口中 {@code *Async} 默认实现使用的工具类。
+ * <p>
+ * 平台适配器没有基于 OkHttp 回调的原生异步实现时，默认通过适配器的 {@link IoTaskExecutor#supplyAsync} 执行同步方法：
+ * 同步方法内部的扇出仍然并发执行，同一卖家同时执行的异步调用数受 {@code per_seller_concurrency} 限制；
+ * 拿不到许可时任务排队等待，不阻塞调用线程。
+ */
+public final class AsyncSupport {
+
+    private AsyncSupport() {
+    }
+
+    /**
+     * 在服务的 I/O 执行器上异步执行同步调用
+     *
+     * @param service 发起调用的服务，实现了 {@link IoTaskExecutorProvider} 时使用它的执行器，否则使用 {@link IoTaskExecutor#defaults()}
+     */
+    public static <T> CompletableFuture<T> supply(Object service, AuthContext authContext, Supplier<? extends T> call) {
+        IoTaskExecutor executor = service instanceof IoTaskExecutorProvider
+            ? ((IoTaskExecutorProvider) service).getIoTaskExecutor()
+            : IoTaskExecutor.defaults();
+        return executor.supplyAsync(authContext == null ? null : authContext.getPlatform(), sellerKey(authContext), call);
+    }
+
+    /**
+     * 每卖家并发限制使用的卖家标识：sellerId，没有则取 shopId
+     */
+    public static String sellerKey(AuthContext authContext) {
+        if (authContext == null) {
+            return null;
+        }
+        return authContext.getSellerId() != null ? authContext.getSellerId() : authContext.getShopId();
+    }
+
+    /**
+     * 取出 Future 异常中的原始异常
+     */
+    public static Throwable unwrap(Throwable error) {
+        Throwable current = error;
+        while ((current instanceof CompletionException || current instanceof ExecutionException) && current.getCause() != null) {
+            current = current.getCause();
+        }
+        return current;
+    }
+}
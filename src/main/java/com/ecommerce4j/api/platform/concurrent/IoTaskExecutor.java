@@ -0,0 +1,671 @@
+package com.ecommerce4j.api.platform.concurrent;
+
+import com.ecommerce4j.api.enums.Platform;
+import com.ecommerce4j.api.exception.EcommIntegrationException;
+import com.ecommerce4j.api.platform.http.ApiMetrics;
+import com.ecommerce4j.api.platform.http.ApiTimings;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * SDK 内部所有并发扇出（fan-out）调用平台接口使用的 I/O 执行器。
+ * <p>
+ * 底层线程池可插拔：
+ * <ul>
+ *     <li>容器中存在名为 {@value #CUSTOM_EXECUTOR_BEAN_NAME} 的 {@link ExecutorService} Bean 时直接使用它；</li>
+ *     <li>{@code ecommerce4j.io.mode=auto}（默认）时，运行在 Java 21+ 上使用“每任务一个虚拟线程”，否则使用有界平台线程池；</li>
+ *     <li>{@code virtual} / {@code platform} 可强制指定其中一种。</li>
+ * </ul>
+ * 无论使用哪种线程池，同一平台同一卖家同时在途的任务数都受 {@code per_seller_concurrency} 限制，
+ * 全局在途任务数受 {@code max_concurrency} 限制，避免单个大卖家占满资源或触发平台限流。
+ * <p>
+ * 服务接口 {@code *Async} 的默认实现通过 {@link #supplyAsync} 执行整个同步方法：调用体运行在独立的调用线程上，
+ * 不算作嵌套任务，方法内部的扇出仍然并发执行。
+ * <p>
+ * 配置项：{@code ecommerce4j.io.mode}、{@code ecommerce4j.io.max_threads}、{@code ecommerce4j.io.queue_capacity}、
+ * {@code ecommerce4j.io.max_concurrency}、{@code ecommerce4j.io.per_seller_concurrency}，
+ * 其中每卖家并发数可按平台覆盖，如 {@code mercado.io.per_seller_concurrency=4}；
+ * {@code ecommerce4j.io.seller_idle_ms}（卖家许可超过该时间未使用且没有在途任务时移除，默认 600000，0 表示不清理）。
+ * <p>
+ * 虚拟线程模式下，SDK 内部会被大量并发调用的临界区（熔断器、令牌桶、重试预算）使用 {@code ReentrantLock}，
+ * 不会在 synchronized 中钉住载体线程；OkHttp 的 Dispatcher 线程仍为平台线程。
+ */
+@Slf4j
+@Component
+public class IoTaskExecutor {
+
+    /**
+     * 使用方自定义 I/O 线程池时注册的 Bean 名称
+     */
+    public static final String CUSTOM_EXECUTOR_BEAN_NAME = "ecommerce4jIoExecutor";
+
+    private static final String MODE_AUTO = "auto";
+    private static final String MODE_VIRTUAL = "virtual";
+    private static final String MODE_PLATFORM = "platform";
+    private static final int DEFAULT_MAX_THREADS = 32;
+    private static final int DEFAULT_QUEUE_CAPACITY = 1000;
+    private static final int DEFAULT_MAX_CONCURRENCY = 256;
+    private static final int DEFAULT_PER_SELLER_CONCURRENCY = 8;
+    private static final long DEFAULT_SELLER_IDLE_MS = 600_000L;
+    private static final String THREAD_NAME_PREFIX = "ecommerce4j-io-";
+    private static final String CALLER_THREAD_NAME_PREFIX = "ecommerce4j-io-async-";
+    private static final String CALLER_PERMIT_SUFFIX = ":async";
+
+    /**
+     * 标记当前线程正在执行本执行器提交的任务，用于识别嵌套扇出
+     */
+    private static final ThreadLocal<Boolean> IN_TASK = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    @Value("${ecommerce4j.io.mode:" + MODE_AUTO + "}")
+    private String mode = MODE_AUTO;
+
+    @Value("${ecommerce4j.io.max_threads:" + DEFAULT_MAX_THREADS + "}")
+    private int maxThreads = DEFAULT_MAX_THREADS;
+
+    @Value("${ecommerce4j.io.queue_capacity:" + DEFAULT_QUEUE_CAPACITY + "}")
+    private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+
+    @Value("${ecommerce4j.io.max_concurrency:" + DEFAULT_MAX_CONCURRENCY + "}")
+    private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+
+    @Value("${ecommerce4j.io.per_seller_concurrency:" + DEFAULT_PER_SELLER_CONCURRENCY + "}")
+    private int perSellerConcurrency = DEFAULT_PER_SELLER_CONCURRENCY;
+
+    @Value("${ecommerce4j.io.seller_idle_ms:" + DEFAULT_SELLER_IDLE_MS + "}")
+    private long sellerIdleMs = DEFAULT_SELLER_IDLE_MS;
+
+    @Autowired(required = false)
+    private Environment environment;
+
+    @Autowired(required = false)
+    @Qualifier(CUSTOM_EXECUTOR_BEAN_NAME)
+    private ExecutorService customExecutor;
+
+    @Autowired(required = false)
+    private ApiMetrics apiMetrics;
+
+    private ExecutorService executor;
+
+    /**
+     * 执行 {@link #supplyAsync} 调用体的线程池，与扇出任务的线程池分开，避免调用体等待扇出结果时占满工作线程
+     */
+    private ExecutorService callerExecutor;
+
+    private String executorType;
+
+    private boolean ownsExecutor;
+
+    private Semaphore globalPermits;
+
+    /**
+     * key 为 “平台:卖家ID”，{@link #supplyAsync} 调用体使用 “平台:卖家ID:async”
+     */
+    private final Map<String, SellerPermits> sellerPermits = new ConcurrentHashMap<>();
+
+    /**
+     * 下一次清理空闲卖家许可的时间
+     */
+    private final AtomicLong nextEvictionNanos = new AtomicLong(System.nanoTime());
+
+    /**
+     * {@link #submit} 提交时没有拿到并发许可的任务，在其它任务释放许可时按提交顺序派发
+     */
+    private final Deque<PendingTask<?>> pendingTasks = new ArrayDeque<>();
+
+    private final ReentrantLock pendingLock = new ReentrantLock();
+
+    private final AtomicInteger queuedTasks = new AtomicInteger();
+
+    private final AtomicInteger activeTasks = new AtomicInteger();
+
+    private final AtomicLong completedTasks = new AtomicLong();
+
+    private final AtomicLong failedTasks = new AtomicLong();
+
+    /**
+     * 非 Spring 环境（如单元测试、直接 new 适配器）下使用的进程级默认实例，全部使用默认参数。
+     */
+    public static IoTaskExecutor defaults() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    @PostConstruct
+    public void init() {
+        this.globalPermits = new Semaphore(Math.max(1, maxConcurrency));
+        initExecutor();
+        if (apiMetrics != null) {
+            apiMetrics.bindIoExecutor(this);
+        }
+    }
+
+    private void initExecutor() {
+        if (customExecutor != null) {
+            this.executor = customExecutor;
+            this.executorType = "custom";
+            this.ownsExecutor = false;
+            this.callerExecutor = newPlatformPool(CALLER_THREAD_NAME_PREFIX, new LinkedBlockingQueue<>(), new ThreadPoolExecutor.AbortPolicy());
+            return;
+        }
+        String resolvedMode = mode == null ? MODE_AUTO : mode.trim().toLowerCase(Locale.ROOT);
+        if (!MODE_PLATFORM.equals(resolvedMode)) {
+            ExecutorService virtualExecutor = VirtualThreads.newThreadPerTaskExecutor(THREAD_NAME_PREFIX + "virtual-");
+            if (virtualExecutor != null) {
+                this.executor = virtualExecutor;
+                this.executorType = MODE_VIRTUAL;
+                this.ownsExecutor = true;
+                // 每任务一个虚拟线程，调用体与扇出任务共用同一个执行器不会互相饥饿
+                this.callerExecutor = virtualExecutor;
+                return;
+            }
+            if (MODE_VIRTUAL.equals(resolvedMode)) {
+                log.warn("【Ecommerce4j】当前 JVM 不支持虚拟线程，I/O 执行器回退为有界平台线程池");
+            }
+        }
+        // 队列满时由调用线程直接执行，起到背压作用
+        this.executor = newPlatformPool(THREAD_NAME_PREFIX, new LinkedBlockingQueue<>(queueCapacity), new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executorType = MODE_PLATFORM;
+        this.ownsExecutor = true;
+        // 调用体的数量已受每卖家许可限制，队列不设上限，避免拒绝或在调用线程上同步执行
+        this.callerExecutor = newPlatformPool(CALLER_THREAD_NAME_PREFIX, new LinkedBlockingQueue<>(), new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    private ThreadPoolExecutor newPlatformPool(String namePrefix, LinkedBlockingQueue<Runnable> queue, RejectedExecutionHandler handler) {
+        ThreadPoolExecutor threadPool = new ThreadPoolExecutor(maxThreads, maxThreads, 60, TimeUnit.SECONDS,
+            queue, new IoThreadFactory(namePrefix), handler);
+        threadPool.allowCoreThreadTimeOut(true);
+        return threadPool;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null && ownsExecutor) {
+            executor.shutdown();
+        }
+        if (callerExecutor != null && callerExecutor != executor) {
+            callerExecutor.shutdown();
+        }
+    }
+
+    /**
+     * 对每个输入并发执行同一个任务，按输入顺序返回结果。
+     * <p>
+     * 任务抛出的异常会原样抛给调用方（受检异常包装为 {@link EcommIntegrationException}），
+     * 需要“单个失败不影响整体”的场景请在任务内部自行捕获。
+     * 如果当前线程已经在执行本执行器提交的任务（嵌套扇出），则直接在当前线程串行执行，避免线程池饥饿和许可死锁。
+     *
+     * @param platform 平台，用于读取每卖家并发数配置
+     * @param sellerId 卖家ID，为空时不做每卖家限制
+     * @param inputs   输入集合
+     * @param task     对单个输入执行的任务
+     * @return 与输入一一对应的结果列表
+     */
+    public <T, R> List<R> mapAll(Platform platform, String sellerId, Collection<T> inputs, Function<? super T, ? extends R> task) {
+        if (inputs == null || inputs.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (inputs.size() == 1 || IN_TASK.get()) {
+            List<R> results = new ArrayList<>(inputs.size());
+            for (T input : inputs) {
+                results.add(task.apply(input));
+            }
+            return results;
+        }
+
+        Semaphore permits = sellerPermits(platform, sellerId);
+        ApiTimings timings = ApiTimings.current();
+        List<Future<R>> futures = new ArrayList<>(inputs.size());
+        for (T input : inputs) {
+            // 先取卖家许可再取全局许可，避免等待卖家许可时占用全局额度
+            acquire(permits);
+            try {
+                acquire(globalPermits);
+            } catch (RuntimeException e) {
+                release(permits);
+                throw e;
+            }
+            queuedTasks.incrementAndGet();
+            try {
+                futures.add(executor.submit(() -> runTask(input, task, permits, timings)));
+            } catch (RuntimeException e) {
+                queuedTasks.decrementAndGet();
+                release(globalPermits);
+                release(permits);
+                throw e;
+            }
+        }
+
+        List<R> results = new ArrayList<>(futures.size());
+        for (Future<R> future : futures) {
+            results.add(await(future));
+        }
+        return results;
+    }
+
+    /**
+     * 异步提交单个任务，适用于需要按顺序逐个消费结果、又希望后续任务提前执行的场景（如滑动窗口预取）。
+     * <p>
+     * 不阻塞调用线程：拿不到每卖家/全局并发许可时任务进入等待队列，其它任务释放许可后再派发；
+     * 等待期间取消返回的 Future 会直接丢弃该任务。嵌套调用时直接在当前线程执行并返回已完成的 Future。
+     *
+     * @param platform 平台，用于读取每卖家并发数配置
+     * @param sellerId 卖家ID，为空时不做每卖家限制
+     * @param task     任务
+     * @return 任务结果
+     */
+    public <T> CompletableFuture<T> submit(Platform platform, String sellerId, Supplier<? extends T> task) {
+        if (IN_TASK.get()) {
+            try {
+                return CompletableFuture.completedFuture(task.get());
+            } catch (RuntimeException | Error e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        return enqueue(new PendingTask<>(task, sellerPermits(platform, sellerId), ApiTimings.current(), false));
+    }
+
+    /**
+     * 异步执行一次完整的同步调用，供服务接口 {@code *Async} 的默认实现使用（见 {@link AsyncSupport#supply}）。
+     * <p>
+     * 与 {@link #submit} 不同，调用体按普通调用线程对待，不算作嵌套任务：其内部的 {@link #mapAll} / {@link #submit}
+     * 仍然并发扇出，而不是在当前线程串行执行。调用体不占用全局许可和扇出任务的每卖家许可，
+     * 同一卖家同时执行的调用体数单独受 {@code per_seller_concurrency} 限制；拿不到许可时排队，不阻塞调用线程。
+     * 调用体运行在独立的线程上（虚拟线程模式下每任务一个虚拟线程，否则为 {@code max_threads} 个线程的独立线程池），
+     * 等待扇出结果时不会占满扇出任务使用的工作线程。已在本执行器任务中时直接在当前线程执行。
+     *
+     * @param platform 平台，用于读取每卖家并发数配置
+     * @param sellerId 卖家ID，为空时不做每卖家限制
+     * @param call     同步调用
+     * @return 调用结果
+     */
+    public <T> CompletableFuture<T> supplyAsync(Platform platform, String sellerId, Supplier<? extends T> call) {
+        if (IN_TASK.get()) {
+            try {
+                return CompletableFuture.completedFuture(call.get());
+            } catch (RuntimeException | Error e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        String callerKey = sellerId == null ? null : sellerId + CALLER_PERMIT_SUFFIX;
+        return enqueue(new PendingTask<>(call, sellerPermits(platform, callerKey), ApiTimings.current(), true));
+    }
+
+    private <T> CompletableFuture<T> enqueue(PendingTask<T> pending) {
+        queuedTasks.incrementAndGet();
+        pendingLock.lock();
+        try {
+            if (!tryAcquire(pending)) {
+                pendingTasks.add(pending);
+                pending.future.whenComplete((result, error) -> {
+                    if (pending.future.isCancelled()) {
+                        removePending(pending);
+                    }
+                });
+                return pending.future;
+            }
+        } finally {
+            pendingLock.unlock();
+        }
+        dispatch(pending);
+        return pending.future;
+    }
+
+    private void removePending(PendingTask<?> pending) {
+        pendingLock.lock();
+        try {
+            if (pendingTasks.remove(pending)) {
+                queuedTasks.decrementAndGet();
+            }
+        } finally {
+            pendingLock.unlock();
+        }
+    }
+
+    /**
+     * 为 SDK 内其它自建线程池（如订单同步引擎）创建线程工厂，使整个 SDK 的线程类型与 {@code ecommerce4j.io.mode} 保持一致。
+     *
+     * @param namePrefix 线程名前缀
+     * @return 本执行器使用虚拟线程时返回虚拟线程工厂；使用平台线程池或自定义线程池时返回 null，由调用方使用自己的平台线程
+     */
+    public ThreadFactory newVirtualThreadFactory(String namePrefix) {
+        return MODE_VIRTUAL.equals(executorType) ? VirtualThreads.newThreadFactory(namePrefix) : null;
+    }
+
+    /**
+     * @return 当前使用的执行器类型：virtual / platform / custom
+     */
+    public String getExecutorType() {
+        return executorType;
+    }
+
+    /**
+     * @return 已提交、尚未开始执行的任务数（队列深度）
+     */
+    public int getQueuedTasks() {
+        return queuedTasks.get();
+    }
+
+    /**
+     * @return 正在执行的任务数
+     */
+    public int getActiveTasks() {
+        return activeTasks.get();
+    }
+
+    /**
+     * @return 累计执行完成的任务数（含失败）
+     */
+    public long getCompletedTasks() {
+        return completedTasks.get();
+    }
+
+    /**
+     * @return 累计抛出异常的任务数
+     */
+    public long getFailedTasks() {
+        return failedTasks.get();
+    }
+
+    /**
+     * @param timings 提交任务的线程上的耗时统计范围，任务内的请求计入同一个范围
+     */
+    private <T, R> R runTask(T input, Function<? super T, ? extends R> task, Semaphore permits, ApiTimings timings) {
+        return runTask(input, task, permits, timings, false);
+    }
+
+    /**
+     * @param caller 是否为 {@link #supplyAsync} 的调用体：不标记为嵌套任务，也没有占用全局许可
+     */
+    private <T, R> R runTask(T input, Function<? super T, ? extends R> task, Semaphore permits, ApiTimings timings, boolean caller) {
+        queuedTasks.decrementAndGet();
+        activeTasks.incrementAndGet();
+        if (!caller) {
+            IN_TASK.set(Boolean.TRUE);
+        }
+        ApiTimings.Scope scope = ApiTimings.attach(timings);
+        try {
+            return task.apply(input);
+        } catch (RuntimeException | Error e) {
+            failedTasks.incrementAndGet();
+            throw e;
+        } finally {
+            // 恢复工作线程上原有的统计范围，避免提交方的范围泄漏到后续任务
+            scope.close();
+            if (!caller) {
+                IN_TASK.remove();
+                release(globalPermits);
+            }
+            activeTasks.decrementAndGet();
+            completedTasks.incrementAndGet();
+            release(permits);
+            dispatchPending();
+        }
+    }
+
+    private <T> void dispatch(PendingTask<T> pending) {
+        try {
+            (pending.caller ? callerExecutor : executor).execute(() -> {
+                if (pending.future.isDone()) {
+                    // 等待执行期间已被取消
+                    queuedTasks.decrementAndGet();
+                    releasePermits(pending);
+                    dispatchPending();
+                    return;
+                }
+                try {
+                    pending.future.complete(runTask(pending.task, Supplier::get, pending.permits, pending.timings, pending.caller));
+                } catch (RuntimeException | Error e) {
+                    pending.future.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            queuedTasks.decrementAndGet();
+            releasePermits(pending);
+            pending.future.completeExceptionally(new EcommIntegrationException("I/O 执行器拒绝了任务", e));
+            dispatchPending();
+        }
+    }
+
+    /**
+     * 有许可释放时，按提交顺序派发等待队列中能拿到许可的任务（不同卖家的任务互不阻塞）
+     */
+    private void dispatchPending() {
+        List<PendingTask<?>> ready = null;
+        pendingLock.lock();
+        try {
+            Iterator<PendingTask<?>> iterator = pendingTasks.iterator();
+            while (iterator.hasNext()) {
+                PendingTask<?> pending = iterator.next();
+                if (pending.future.isDone()) {
+                    iterator.remove();
+                    queuedTasks.decrementAndGet();
+                    continue;
+                }
+                if (!pending.caller && globalPermits.availablePermits() == 0) {
+                    continue;
+                }
+                if (tryAcquire(pending)) {
+                    iterator.remove();
+                    if (ready == null) {
+                        ready = new ArrayList<>();
+                    }
+                    ready.add(pending);
+                }
+            }
+        } finally {
+            pendingLock.unlock();
+        }
+        if (ready != null) {
+            ready.forEach(this::dispatch);
+        }
+    }
+
+    /**
+     * 不阻塞地依次获取卖家许可和全局许可（调用体不占全局许可），任一失败时归还已获取的许可
+     */
+    private boolean tryAcquire(PendingTask<?> pending) {
+        if (pending.permits != null && !pending.permits.tryAcquire()) {
+            return false;
+        }
+        if (!pending.caller && !globalPermits.tryAcquire()) {
+            release(pending.permits);
+            return false;
+        }
+        return true;
+    }
+
+    private void releasePermits(PendingTask<?> pending) {
+        if (!pending.caller) {
+            release(globalPermits);
+        }
+        release(pending.permits);
+    }
+
+    private Semaphore sellerPermits(Platform platform, String sellerId) {
+        if (sellerId == null) {
+            return null;
+        }
+        evictIdleSellerPermits();
+        SellerPermits permits = sellerPermits.computeIfAbsent(platform + ":" + sellerId,
+            key -> new SellerPermits(resolvePerSellerConcurrency(platform)));
+        permits.touch();
+        return permits;
+    }
+
+    /**
+     * 按 {@code seller_idle_ms} 的间隔清理空闲的卖家许可，卖家数量很多时避免许可只增不减。
+     * <p>
+     * 取许可前和释放许可时都会刷新使用时间，只有超过空闲时间、且许可全部归还的条目才会被移除。
+     */
+    private void evictIdleSellerPermits() {
+        long now = System.nanoTime();
+        long next = nextEvictionNanos.get();
+        long idleNanos = TimeUnit.MILLISECONDS.toNanos(sellerIdleMs);
+        if (sellerIdleMs <= 0 || now - next < 0 || !nextEvictionNanos.compareAndSet(next, now + idleNanos)) {
+            return;
+        }
+        sellerPermits.entrySet().removeIf(entry -> entry.getValue().isIdle(now, idleNanos));
+    }
+
+    private int resolvePerSellerConcurrency(Platform platform) {
+        if (environment != null && platform != null) {
+            Integer value = environment.getProperty(platform.getConfigPrefix() + ".io.per_seller_concurrency", Integer.class);
+            if (value != null) {
+                return Math.max(1, value);
+            }
+        }
+        return Math.max(1, perSellerConcurrency);
+    }
+
+    private static void acquire(Semaphore permits) {
+        if (permits == null) {
+            return;
+        }
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EcommIntegrationException("等待并发许可时线程被中断", e);
+        }
+    }
+
+    private static void release(Semaphore permits) {
+        if (permits != null) {
+            permits.release();
+        }
+    }
+
+    private static <R> R await(Future<R> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EcommIntegrationException("等待并发任务结果时线程被中断", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new EcommIntegrationException("并发任务执行失败", cause);
+        }
+    }
+
+    /**
+     * 单个卖家的并发许可，记录最近一次使用时间用于空闲清理
+     */
+    private static class SellerPermits extends Semaphore {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int total;
+
+        private volatile long lastUsedNanos = System.nanoTime();
+
+        private SellerPermits(int total) {
+            super(total);
+            this.total = total;
+        }
+
+        private void touch() {
+            lastUsedNanos = System.nanoTime();
+        }
+
+        @Override
+        public void release() {
+            touch();
+            super.release();
+        }
+
+        private boolean isIdle(long now, long idleNanos) {
+            return now - lastUsedNanos > idleNanos && availablePermits() >= total;
+        }
+    }
+
+    private static class PendingTask<T> {
+
+        private final Supplier<? extends T> task;
+
+        private final Semaphore permits;
+
+        private final ApiTimings timings;
+
+        /**
+         * 是否为 {@link #supplyAsync} 的调用体
+         */
+        private final boolean caller;
+
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        private PendingTask(Supplier<? extends T> task, Semaphore permits, ApiTimings timings, boolean caller) {
+            this.task = task;
+            this.permits = permits;
+            this.timings = timings;
+            this.caller = caller;
+        }
+    }
+
+    private static class DefaultHolder {
+
+        private static final IoTaskExecutor INSTANCE = createDefault();
+
+        private static IoTaskExecutor createDefault() {
+            IoTaskExecutor ioTaskExecutor = new IoTaskExecutor();
+            ioTaskExecutor.init();
+            return ioTaskExecutor;
+        }
+    }
+
+    private static class IoThreadFactory implements ThreadFactory {
+
+        private final String namePrefix;
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        private IoThreadFactory(String namePrefix) {
+            this.namePrefix = namePrefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, namePrefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
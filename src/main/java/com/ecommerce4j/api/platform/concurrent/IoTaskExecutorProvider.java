@@ -0,0 +1,14 @@
+package com.ecommerce4j.api.platform.concurrent;
+
+/**
+ * 持有 I/O 执行器的平台服务（即平台适配器）。
+ * <p>
+ * 服务接口中 {@code *Async} 的默认实现通过它拿到适配器注入的执行器，与同步扇出共用同一组每卖家/全局并发限制。
+ */
+public interface IoTaskExecutorProvider {
+
+    /**
+     * @return 当前服务使用的 I/O 执行器
+     */
+    IoTaskExecutor getIoTaskExecutor();
+}
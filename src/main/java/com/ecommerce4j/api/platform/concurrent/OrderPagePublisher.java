@@ -0,0 +1,260 @@
+package com.ecommerce4j.api.platform.concurrent;
+
+import com.ecommerce4j.api.dto.PaginatedResult;
+import com.ecommerce4j.api.dto.UnifiedOrder;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 把按分页令牌翻页的订单接口包装为支持背压的 {@link Flow.Publisher}。
+ * <p>
+ * 每个订阅者独立从第一页开始翻页（冷发布者）：
+ * <ul>
+ *     <li>首次 {@code request(n)} 时请求第一页，之后按页返回的分页令牌自动翻页，令牌为空时结束；</li>
+ *     <li>一页到达后立即请求下一页，下游处理当前页时下一页已在下载中；
+ *     缓冲区超过一页时暂停翻页，内存占用不超过约两页订单；</li>
+ *     <li>{@code cancel()} 会取消在途分页的 Future；分页加载函数基于 {@code AsyncCalls} 组合时（如 Shopee），
+ *     取消会一直传递到底层的 OkHttp 请求，在执行器上排队的分页任务也会被丢弃；任意一页失败时通过 {@code onError} 结束。</li>
+ * </ul>
+ * 信号在完成分页请求的线程（可能是 OkHttp 回调线程）或调用 {@code request} 的线程上串行发出，
+ * 订阅者的 {@code onNext} 中不应长时间阻塞。分页加载函数在不持有订阅内部锁的情况下调用。
+ */
+public class OrderPagePublisher implements Flow.Publisher<UnifiedOrder> {
+
+    private final String firstPageToken;
+
+    private final Function<String, CompletableFuture<PaginatedResult<UnifiedOrder>>> pageLoader;
+
+    /**
+     * @param firstPageToken 第一页的分页令牌，可以为空
+     * @param pageLoader     根据分页令牌异步加载一页订单
+     */
+    public OrderPagePublisher(String firstPageToken,
+                              Function<String, CompletableFuture<PaginatedResult<UnifiedOrder>>> pageLoader) {
+        this.firstPageToken = firstPageToken;
+        this.pageLoader = pageLoader;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super UnifiedOrder> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        OrderSubscription subscription = new OrderSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+
+    private final class OrderSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super UnifiedOrder> subscriber;
+
+        private final AtomicLong demand = new AtomicLong();
+
+        /**
+         * 串行化信号发送的计数器，只有把它从 0 加到 1 的线程进入 drain 循环
+         */
+        private final AtomicInteger wip = new AtomicInteger();
+
+        /**
+         * 以下字段只在 drain 循环或持有 this 锁时访问
+         */
+        private final Deque<UnifiedOrder> buffer = new ArrayDeque<>();
+
+        private CompletableFuture<PaginatedResult<UnifiedOrder>> pendingPage;
+
+        /**
+         * drain 循环已决定请求下一页、正在锁外调用分页加载函数
+         */
+        private boolean loading;
+
+        private String nextPageToken = firstPageToken;
+
+        private boolean started;
+
+        private boolean exhausted;
+
+        private int lastPageSize;
+
+        private Throwable error;
+
+        private volatile boolean cancelled;
+
+        private boolean terminated;
+
+        private OrderSubscription(Flow.Subscriber<? super UnifiedOrder> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                synchronized (this) {
+                    error = new IllegalArgumentException("request 数量必须大于 0，实际为 " + n);
+                }
+            } else {
+                demand.getAndAccumulate(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            CompletableFuture<PaginatedResult<UnifiedOrder>> page;
+            synchronized (this) {
+                page = pendingPage;
+                pendingPage = null;
+            }
+            if (page != null) {
+                page.cancel(true);
+            }
+            drain();
+        }
+
+        private void onPage(CompletableFuture<PaginatedResult<UnifiedOrder>> page, PaginatedResult<UnifiedOrder> result, Throwable failure) {
+            synchronized (this) {
+                if (pendingPage != page) {
+                    return;
+                }
+                pendingPage = null;
+                if (failure != null) {
+                    error = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+                } else {
+                    if (result != null && !CollectionUtils.isEmpty(result.getData())) {
+                        buffer.addAll(result.getData());
+                        lastPageSize = result.getData().size();
+                    }
+                    nextPageToken = result == null ? null : result.getNextPageToken();
+                    exhausted = !StringUtils.hasText(nextPageToken);
+                }
+            }
+            drain();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            while (true) {
+                if (terminated) {
+                    return;
+                }
+                if (cancelled) {
+                    synchronized (this) {
+                        buffer.clear();
+                    }
+                    terminated = true;
+                    return;
+                }
+                Throwable failure;
+                synchronized (this) {
+                    failure = error;
+                }
+                if (failure != null) {
+                    cancel();
+                    terminated = true;
+                    subscriber.onError(failure);
+                    return;
+                }
+
+                boolean emitted = true;
+                while (emitted && demand.get() > 0 && !cancelled) {
+                    UnifiedOrder order;
+                    synchronized (this) {
+                        order = buffer.poll();
+                    }
+                    emitted = order != null;
+                    if (emitted) {
+                        demand.decrementAndGet();
+                        subscriber.onNext(order);
+                    }
+                }
+
+                boolean complete;
+                String pageToken = null;
+                boolean fetch = false;
+                synchronized (this) {
+                    complete = started && exhausted && pendingPage == null && !loading && buffer.isEmpty();
+                    if (!complete && shouldFetch()) {
+                        started = true;
+                        loading = true;
+                        pageToken = nextPageToken;
+                        fetch = true;
+                    }
+                }
+                if (fetch) {
+                    loadPage(pageToken);
+                }
+                synchronized (this) {
+                    failure = error;
+                }
+                if (failure != null) {
+                    // 请求下一页时同步失败，回到循环开头发出 onError
+                    continue;
+                }
+                if (complete && !cancelled) {
+                    terminated = true;
+                    subscriber.onComplete();
+                    return;
+                }
+
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * 没有在途分页、还有下一页且缓冲不超过一页时请求下一页；第一页要等到下游第一次 request 才请求。
+         * 调用方持有 this 锁。
+         */
+        private boolean shouldFetch() {
+            if (pendingPage != null || loading || exhausted || cancelled || error != null) {
+                return false;
+            }
+            if (!started && demand.get() == 0) {
+                return false;
+            }
+            return !started || buffer.size() <= lastPageSize;
+        }
+
+        /**
+         * 在锁外调用分页加载函数，只在 drain 循环中调用；加载期间被取消时立即取消刚返回的分页。
+         */
+        private void loadPage(String pageToken) {
+            CompletableFuture<PaginatedResult<UnifiedOrder>> page;
+            try {
+                page = pageLoader.apply(pageToken);
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    loading = false;
+                    error = e;
+                }
+                return;
+            }
+            boolean cancelPage;
+            synchronized (this) {
+                loading = false;
+                cancelPage = cancelled;
+                if (!cancelPage) {
+                    pendingPage = page;
+                }
+            }
+            if (cancelPage) {
+                page.cancel(true);
+                return;
+            }
+            page.whenComplete((result, failure) -> onPage(page, result, failure));
+        }
+    }
+}
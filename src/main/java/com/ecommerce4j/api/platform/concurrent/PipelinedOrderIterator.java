@@ -0,0 +1,208 @@
+package com.ecommerce4j.api.platform.concurrent;
+
+import com.ecommerce4j.api.dto.PaginatedResult;
+import com.ecommerce4j.api.dto.UnifiedOrder;
+import com.ecommerce4j.api.enums.Platform;
+import com.ecommerce4j.api.exception.EcommIntegrationException;
+import com.ecommerce4j.api.platform.http.AsyncCalls;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * “先列表、后详情”两阶段订单分页的流水线迭代器。
+ * <p>
+ * 对于 Shopee、Lazada 这类列表接口只返回订单号（或订单头）、需要再批量查询详情的平台：
+ * <ul>
+ *     <li>一页列表返回后立即在完成它的线程上提交该页的详情批次，并开始请求下一页列表，两者重叠执行；</li>
+ *     <li>同一页的多个详情批次并发执行；</li>
+ *     <li>最多提前处理 {@code depth} 页，输出顺序与逐页调用 getOrders 一致。</li>
+ * </ul>
+ * 调用线程只在需要的数据尚未到达时等待：第一次 {@code hasNext} 只等待第一页列表及其第一个详情批次，不等待后续页。
+ * 所有任务都提交到 {@link IoTaskExecutor}，受同一卖家并发数限制。
+ *
+ * @param <H> 列表阶段返回的订单标识类型（如 order_sn 或订单头）
+ */
+public class PipelinedOrderIterator<H> implements Iterator<UnifiedOrder> {
+
+    private final IoTaskExecutor ioTaskExecutor;
+
+    private final Platform platform;
+
+    private final String sellerKey;
+
+    private final Function<String, PaginatedResult<H>> listStage;
+
+    private final int batchSize;
+
+    private final Function<List<H>, List<UnifiedOrder>> detailStage;
+
+    private final int depth;
+
+    /**
+     * 已请求列表、等待消费的页；列表返回后该页的详情批次已经提交
+     */
+    private final Deque<CompletableFuture<ListedPage>> pendingPages = new ArrayDeque<>();
+
+    private final Deque<CompletableFuture<List<UnifiedOrder>>> currentBatches = new ArrayDeque<>();
+
+    /**
+     * 最近请求的一页，用于在它返回后取得下一页的分页令牌
+     */
+    private CompletableFuture<ListedPage> lastPage;
+
+    private String nextPageToken;
+
+    private boolean listExhausted;
+
+    private volatile boolean closed;
+
+    private Iterator<UnifiedOrder> current = Collections.emptyIterator();
+
+    /**
+     * @param ioTaskExecutor I/O 执行器
+     * @param platform       平台
+     * @param sellerKey      卖家标识，用于并发限制
+     * @param firstPageToken 第一页的分页令牌，可以为空
+     * @param listStage      根据分页令牌拉取一页订单标识
+     * @param batchSize      详情批次大小
+     * @param detailStage    查询一个批次的详情
+     * @param depth          最多提前处理的页数，至少为 1
+     */
+    public PipelinedOrderIterator(IoTaskExecutor ioTaskExecutor,
+                                  Platform platform,
+                                  String sellerKey,
+                                  String firstPageToken,
+                                  Function<String, PaginatedResult<H>> listStage,
+                                  int batchSize,
+                                  Function<List<H>, List<UnifiedOrder>> detailStage,
+                                  int depth) {
+        this.ioTaskExecutor = ioTaskExecutor;
+        this.platform = platform;
+        this.sellerKey = sellerKey;
+        this.nextPageToken = firstPageToken;
+        this.listStage = listStage;
+        this.batchSize = Math.max(1, batchSize);
+        this.detailStage = detailStage;
+        this.depth = Math.max(1, depth);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            fillPages();
+            if (currentBatches.isEmpty()) {
+                if (pendingPages.isEmpty()) {
+                    return false;
+                }
+                currentBatches.addAll(await(pendingPages.poll()).batches);
+                continue;
+            }
+            current = await(currentBatches.poll()).iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public UnifiedOrder next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    /**
+     * 取消所有尚未完成的任务，提前结束消费时调用。
+     */
+    public void close() {
+        closed = true;
+        currentBatches.forEach(future -> future.cancel(true));
+        currentBatches.clear();
+        for (CompletableFuture<ListedPage> page : pendingPages) {
+            if (page.isDone() && !page.isCompletedExceptionally()) {
+                page.join().batches.forEach(future -> future.cancel(true));
+            } else {
+                page.cancel(true);
+            }
+        }
+        pendingPages.clear();
+        if (lastPage != null) {
+            lastPage.cancel(true);
+            lastPage = null;
+        }
+        listExhausted = true;
+    }
+
+    /**
+     * 在不阻塞的前提下补充待处理的页：上一页列表尚未返回时直接返回，等它返回后的下一次调用再继续。
+     */
+    private void fillPages() {
+        while (!listExhausted && pendingPages.size() < depth) {
+            if (lastPage != null) {
+                if (!lastPage.isDone() || lastPage.isCompletedExceptionally()) {
+                    // 失败会在消费到该页时抛出
+                    return;
+                }
+                nextPageToken = lastPage.join().nextPageToken;
+                listExhausted = !StringUtils.hasText(nextPageToken);
+                lastPage = null;
+                continue;
+            }
+            String pageToken = nextPageToken;
+            CompletableFuture<PaginatedResult<H>> list = ioTaskExecutor.submit(platform, sellerKey, () -> listStage.apply(pageToken));
+            lastPage = AsyncCalls.thenApply(list, page -> new ListedPage(
+                page == null ? null : page.getNextPageToken(),
+                page == null || closed ? Collections.emptyList() : submitBatches(page.getData())));
+            pendingPages.add(lastPage);
+        }
+    }
+
+    private List<CompletableFuture<List<UnifiedOrder>>> submitBatches(List<H> items) {
+        if (CollectionUtils.isEmpty(items)) {
+            return Collections.emptyList();
+        }
+        List<CompletableFuture<List<UnifiedOrder>>> batches = new ArrayList<>();
+        for (int index = 0; index < items.size(); index += batchSize) {
+            List<H> batch = items.subList(index, Math.min(index + batchSize, items.size()));
+            batches.add(ioTaskExecutor.submit(platform, sellerKey, () -> detailStage.apply(batch)));
+        }
+        return batches;
+    }
+
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            close();
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new EcommIntegrationException("订单流水线任务执行失败", e.getCause());
+        }
+    }
+
+    /**
+     * 列表已返回的一页：下一页的分页令牌和按顺序排列的详情批次
+     */
+    private final class ListedPage {
+
+        private final String nextPageToken;
+
+        private final List<CompletableFuture<List<UnifiedOrder>>> batches;
+
+        private ListedPage(String nextPageToken, List<CompletableFuture<List<UnifiedOrder>>> batches) {
+            this.nextPageToken = nextPageToken;
+            this.batches = batches;
+        }
+    }
+}
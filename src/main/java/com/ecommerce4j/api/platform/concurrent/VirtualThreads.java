@@ -0,0 +1,54 @@
+package com.ecommerce4j.api.platform.concurrent;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 虚拟线程的反射封装。
+ * <p>
+ * SDK 以 Java 17 编译，不能直接引用 Java 21 的虚拟线程 API，这里在运行时探测并创建。
+ */
+final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * 创建“每任务一个虚拟线程”的执行器。
+     *
+     * @param namePrefix 线程名前缀
+     * @return 执行器；当前 JVM 不支持虚拟线程时返回 null
+     */
+    static ExecutorService newThreadPerTaskExecutor(String namePrefix) {
+        ThreadFactory factory = newThreadFactory(namePrefix);
+        if (factory == null) {
+            return null;
+        }
+        try {
+            Method method = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return (ExecutorService) method.invoke(null, factory);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 创建虚拟线程工厂。
+     *
+     * @param namePrefix 线程名前缀，线程名为前缀加自增序号
+     * @return 线程工厂；当前 JVM 不支持虚拟线程时返回 null
+     */
+    static ThreadFactory newThreadFactory(String namePrefix) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Java 21 以下没有该 API，或 19/20 未开启预览特性
+            return null;
+        }
+    }
+}
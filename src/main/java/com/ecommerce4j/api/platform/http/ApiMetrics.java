@@ -0,0 +1,98 @@
+package com.ecommerce4j.api.platform.http;
+
+import com.ecommerce4j.api.enums.Platform;
+import com.ecommerce4j.api.platform.concurrent.IoTaskExecutor;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+
+/**
+ * 平台 API 调用指标的记录接口。
+ * <p>
+ * SDK 本身不依赖任何指标库：应用引入 Micrometer 并提供 {@code MeterRegistry} 时，
+ * 由 {@code Ecommerce4jMetricsConfiguration} 注册 {@link MicrometerApiMetrics}；
+ * 否则使用 {@link #NOOP}，{@link HttpTransport} 不会为客户端添加指标拦截器。
+ * <p>
+ * 除连接池、调度器和 I/O 执行器的绑定外，所有方法都在请求线程上调用，实现必须线程安全且不能阻塞。
+ */
+public interface ApiMetrics {
+
+    /**
+     * 什么都不记录的默认实现
+     */
+    ApiMetrics NOOP = new ApiMetrics() {
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+    };
+
+    /**
+     * 是否需要采集，返回 false 时 {@link HttpTransport} 不安装指标拦截器
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * 记录一次 HTTP 交换（单次尝试，重试的每一次都会单独记录），耗时截止到收到响应头
+     *
+     * @param platform      平台
+     * @param client        客户端类型，{@code api} 或 {@code download}
+     * @param path          规范化后的接口路径模板，见 {@link ApiPaths#normalize(String)}
+     * @param shop          店铺标识，见 {@link ApiPaths#resolveShopKey(okhttp3.Request)}，应用级请求为 null
+     * @param status        HTTP 状态码，网络异常时为 {@code IO_ERROR}
+     * @param durationNanos 耗时（纳秒）
+     * @param requestBytes  请求体字节数，未知时为 -1
+     */
+    default void recordExchange(Platform platform, String client, String path, String shop, String status,
+                                long durationNanos, long requestBytes) {
+    }
+
+    /**
+     * 记录实际读取的响应体字节数，在响应体关闭或读完时调用一次
+     */
+    default void recordResponseBytes(Platform platform, String client, String path, long bytes) {
+    }
+
+    /**
+     * 记录平台业务错误码，例如 Shopee 的 {@code error}、Lazada/TikTok 的 {@code code}
+     */
+    default void recordPlatformError(Platform platform, String path, String shop, String code) {
+    }
+
+    /**
+     * 记录一次面单等文件下载的大小（字节）
+     */
+    default void recordDocumentDownload(Platform platform, long bytes) {
+    }
+
+    /**
+     * 记录一次 OkHttp 调用各网络阶段的耗时和连接复用情况，在调用结束（响应体关闭）时调用
+     */
+    default void recordNetworkTiming(Platform platform, String client, String path, NetworkTiming timing) {
+    }
+
+    /**
+     * 记录本地处理阶段（{@link ApiTimings.Phase#PARSE JSON 解析}、{@link ApiTimings.Phase#MAPPING 订单映射}）的耗时
+     */
+    default void recordProcessing(Platform platform, ApiTimings.Phase phase, long nanos) {
+    }
+
+    /**
+     * 绑定共享连接池，输出空闲/活跃连接数
+     */
+    default void bindConnectionPool(ConnectionPool connectionPool) {
+    }
+
+    /**
+     * 绑定某个平台客户端的调度器，输出运行中/排队中的请求数
+     */
+    default void bindDispatcher(Platform platform, String client, Dispatcher dispatcher) {
+    }
+
+    /**
+     * 绑定并发扇出使用的 I/O 执行器，输出排队中/执行中的任务数和累计完成/失败数
+     */
+    default void bindIoExecutor(IoTaskExecutor ioTaskExecutor) {
+    }
+}
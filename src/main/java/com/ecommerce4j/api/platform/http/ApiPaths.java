@@ -0,0 +1,77 @@
+package com.ecommerce4j.api.platform.http;
+
+import okhttp3.HttpUrl;
+import okhttp3.Request;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+
+/**
+ * 从请求中提取限流、统计使用的接口路径和店铺标识。
+ */
+public final class ApiPaths {
+
+    /**
+     * 能直接标识店铺的查询参数，按优先级排列
+     */
+    private static final List<String> SHOP_QUERY_PARAMETERS = List.of("shop_id", "merchant_id", "shop_cipher");
+
+    /**
+     * 只有应用级标识时使用的请求头（SHEIN 自营）
+     */
+    private static final String OPEN_KEY_ID_HEADER = "x-lt-openKeyId";
+
+    private ApiPaths() {
+    }
+
+    /**
+     * 规范化接口路径：把包含 4 位以上数字的路径段（订单号、货运ID等）替换为 {@code {id}}，
+     * 例如 {@code /orders/2000001234/discounts} 变为 {@code /orders/{id}/discounts}。
+     */
+    public static String normalize(String path) {
+        if (!StringUtils.hasText(path)) {
+            return "/";
+        }
+        String[] segments = path.split("/", -1);
+        StringBuilder normalized = new StringBuilder(path.length());
+        for (int index = 0; index < segments.length; index++) {
+            if (index > 0) {
+                normalized.append('/');
+            }
+            normalized.append(isIdentifier(segments[index]) ? "{id}" : segments[index]);
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * 解析请求所属的店铺标识。优先使用构建请求时附加的 {@link SellerTag}（卖家 ID 原值），
+     * 其次使用 shop_id 等店铺参数和 SHEIN 的 openKeyId；都没有时返回 null，表示应用级请求（如授权、公共接口、CDN 下载）。
+     * <p>
+     * 不使用访问令牌派生标识：令牌刷新后标识会变化，限流配额随之重置，指标序列也会不断增长。
+     */
+    public static String resolveShopKey(Request request) {
+        String sellerId = SellerTag.sellerId(request);
+        if (StringUtils.hasText(sellerId)) {
+            return sellerId;
+        }
+        HttpUrl url = request.url();
+        for (String name : SHOP_QUERY_PARAMETERS) {
+            String value = url.queryParameter(name);
+            if (StringUtils.hasText(value)) {
+                return name + ":" + value;
+            }
+        }
+        String openKeyId = request.header(OPEN_KEY_ID_HEADER);
+        return StringUtils.hasText(openKeyId) ? "open_key:" + openKeyId : null;
+    }
+
+    private static boolean isIdentifier(String segment) {
+        int digits = 0;
+        for (int index = 0; index < segment.length(); index++) {
+            if (Character.isDigit(segment.charAt(index)) && ++digits >= 4) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,193 @@
+package com.ecommerce4j.api.platform.http;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 一次业务调用（例如一页 getOrders，包含其中的列表、详情等多次 HTTP 调用）的耗时分解：
+ * 各网络阶段、JSON 解析和订单映射分别累计，用来判断慢在 DNS/建连/TLS、平台处理、下载，还是本地解析。
+ * <p>
+ * 通过 {@link #open()} 在当前线程开启统计范围：
+ * <pre>{@code
+ * try (ApiTimings.Scope scope = ApiTimings.open()) {
+ *     PaginatedResult<UnifiedOrder> page = orderService.getOrders(authContext, query);
+ *     log.info("getOrders 耗时分解: {}", scope.timings());
+ * }
+ * }</pre>
+ * 范围内 SDK 通过 {@link com.ecommerce4j.api.platform.concurrent.IoTaskExecutor} 并发发出的请求同样计入；
+ * 嵌套的范围在累计自身的同时也累计到外层范围。开启 {@code ecommerce4j.http.attach_timings} 后，
+ * 适配器的 getOrders 会自动开启范围并把结果放到 {@code PaginatedResult#getTimings()}。
+ * <p>
+ * 网络阶段由 OkHttp EventListener 记录，并发请求的各阶段耗时是累加值，可能大于业务调用的实际耗时。
+ */
+public final class ApiTimings {
+
+    /**
+     * 耗时阶段
+     */
+    public enum Phase {
+        DNS, CONNECT, TLS, REQUEST, TTFB, BODY, PARSE, MAPPING;
+
+        /**
+         * 指标标签值
+         */
+        public String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private static final ThreadLocal<ApiTimings> CURRENT = new ThreadLocal<>();
+
+    private final ApiTimings parent;
+
+    private final Map<Phase, LongAdder> phaseNanos = new EnumMap<>(Phase.class);
+
+    private final LongAdder networkNanos = new LongAdder();
+
+    private final LongAdder calls = new LongAdder();
+
+    private final LongAdder failedCalls = new LongAdder();
+
+    private final LongAdder newConnections = new LongAdder();
+
+    private final LongAdder reusedConnections = new LongAdder();
+
+    private ApiTimings(ApiTimings parent) {
+        this.parent = parent;
+        for (Phase phase : Phase.values()) {
+            phaseNanos.put(phase, new LongAdder());
+        }
+    }
+
+    /**
+     * 在当前线程开启新的统计范围，关闭后恢复外层范围
+     */
+    public static Scope open() {
+        ApiTimings previous = CURRENT.get();
+        ApiTimings timings = new ApiTimings(previous);
+        CURRENT.set(timings);
+        return new Scope(timings, previous);
+    }
+
+    /**
+     * 把其它线程的统计范围挂到当前线程，供 SDK 内部线程池传递上下文使用；timings 为 null 时不改变当前线程
+     */
+    public static Scope attach(ApiTimings timings) {
+        ApiTimings previous = CURRENT.get();
+        if (timings != null) {
+            CURRENT.set(timings);
+        }
+        return new Scope(timings, previous);
+    }
+
+    /**
+     * @return 当前线程的统计范围，没有开启时返回 null
+     */
+    public static ApiTimings current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 累计一个阶段的耗时（本地阶段如解析、映射）
+     */
+    public void add(Phase phase, long nanos) {
+        for (ApiTimings timings = this; timings != null; timings = timings.parent) {
+            timings.phaseNanos.get(phase).add(nanos);
+        }
+    }
+
+    /**
+     * 累计一次 HTTP 调用的网络耗时
+     */
+    public void addNetwork(NetworkTiming timing) {
+        for (ApiTimings timings = this; timings != null; timings = timings.parent) {
+            timings.calls.increment();
+            if (timing.failed) {
+                timings.failedCalls.increment();
+            }
+            timings.networkNanos.add(timing.totalNanos);
+            timings.newConnections.add(timing.newConnections);
+            timings.reusedConnections.add(timing.reusedConnections);
+            timings.phaseNanos.get(Phase.DNS).add(timing.dnsNanos);
+            timings.phaseNanos.get(Phase.CONNECT).add(timing.connectNanos);
+            timings.phaseNanos.get(Phase.TLS).add(timing.tlsNanos);
+            timings.phaseNanos.get(Phase.REQUEST).add(timing.requestNanos);
+            timings.phaseNanos.get(Phase.TTFB).add(timing.ttfbNanos);
+            timings.phaseNanos.get(Phase.BODY).add(timing.bodyNanos);
+        }
+    }
+
+    /**
+     * @return 指定阶段的累计耗时（纳秒）
+     */
+    public long getNanos(Phase phase) {
+        return phaseNanos.get(phase).sum();
+    }
+
+    /**
+     * @return 所有 HTTP 调用从开始到结束的累计耗时（纳秒）
+     */
+    public long getNetworkNanos() {
+        return networkNanos.sum();
+    }
+
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    public long getFailedCalls() {
+        return failedCalls.sum();
+    }
+
+    public long getNewConnections() {
+        return newConnections.sum();
+    }
+
+    public long getReusedConnections() {
+        return reusedConnections.sum();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder()
+            .append("calls=").append(getCalls())
+            .append(", network=").append(NetworkTiming.millis(getNetworkNanos())).append("ms");
+        for (Phase phase : Phase.values()) {
+            builder.append(", ").append(phase.tag()).append('=').append(NetworkTiming.millis(getNanos(phase))).append("ms");
+        }
+        return builder
+            .append(", newConnections=").append(getNewConnections())
+            .append(", reusedConnections=").append(getReusedConnections())
+            .toString();
+    }
+
+    /**
+     * 统计范围，关闭时恢复当前线程之前的范围
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final ApiTimings timings;
+
+        private final ApiTimings previous;
+
+        private Scope(ApiTimings timings, ApiTimings previous) {
+            this.timings = timings;
+            this.previous = previous;
+        }
+
+        public ApiTimings timings() {
+            return timings;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.ecommerce4j.api.platform.http;
+
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 基于 OkHttp {@code enqueue} 回调的异步请求工具类。
+ * <p>
+ * 请求在途期间不占用任何业务线程，同时在途的请求数只受共享 Dispatcher 的
+ * {@code max_requests} / {@code max_requests_per_host} 限制。
+ * 返回的 Future 在 OkHttp 回调线程上完成，后续的 {@code thenApply} 等同步阶段也在该线程执行，
+ * 其中只应做解析、映射这类轻量操作；需要阻塞的后续处理请使用带 Executor 的 {@code *Async} 方法。
+ * <p>
+ * JDK 的 {@code thenApply} / {@code thenCompose} 派生出的 Future 被取消时不会通知上游，
+ * 组合异步请求时请使用本类的同名方法，保证取消最终结果会取消所有在途的 HTTP 调用。
+ */
+public final class AsyncCalls {
+
+    private AsyncCalls() {
+    }
+
+    /**
+     * 异步发送请求。取消返回的 Future 会同时取消底层的 HTTP 调用。
+     *
+     * @return 收到响应时完成的 Future，调用方负责关闭 Response；网络异常时以 IOException 异常完成
+     */
+    public static CompletableFuture<Response> enqueue(OkHttpClient client, Request request) {
+        Call call = client.newCall(request);
+        CompletableFuture<Response> future = new CompletableFuture<>();
+        future.whenComplete((response, error) -> {
+            if (future.isCancelled()) {
+                call.cancel();
+            }
+        });
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(Call failedCall, IOException e) {
+                future.completeExceptionally(e);
+            }
+
+            @Override
+            public void onResponse(Call completedCall, Response response) {
+                if (!future.complete(response)) {
+                    // Future 已被取消，没有人会再关闭这个响应
+                    response.close();
+                }
+            }
+        });
+        return future;
+    }
+
+    /**
+     * 与 {@code source.handle(handler)} 相同，取消返回的 Future 时同时取消 source
+     */
+    public static <T, R> CompletableFuture<R> handle(CompletableFuture<T> source, BiFunction<? super T, Throwable, ? extends R> handler) {
+        return linkCancellation(source.handle(handler), source);
+    }
+
+    /**
+     * 与 {@code source.thenApply(mapper)} 相同，取消返回的 Future 时同时取消 source
+     */
+    public static <T, R> CompletableFuture<R> thenApply(CompletableFuture<T> source, Function<? super T, ? extends R> mapper) {
+        return linkCancellation(source.thenApply(mapper), source);
+    }
+
+    /**
+     * 与 {@code source.thenCompose(next)} 相同，取消返回的 Future 时取消当前在途的阶段（source 或 next 返回的 Future）
+     */
+    public static <T, R> CompletableFuture<R> thenCompose(CompletableFuture<T> source,
+                                                          Function<? super T, ? extends CompletableFuture<R>> next) {
+        CompletableFuture<R> result = new CompletableFuture<>();
+        AtomicReference<CompletableFuture<?>> inFlight = new AtomicReference<>(source);
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) {
+                inFlight.get().cancel(true);
+            }
+        });
+        source.whenComplete((value, error) -> {
+            if (error != null) {
+                result.completeExceptionally(error);
+                return;
+            }
+            CompletableFuture<R> stage;
+            try {
+                stage = next.apply(value);
+            } catch (RuntimeException | Error e) {
+                result.completeExceptionally(e);
+                return;
+            }
+            inFlight.set(stage);
+            if (result.isCancelled()) {
+                stage.cancel(true);
+                return;
+            }
+            stage.whenComplete((nextValue, nextError) -> {
+                if (nextError != null) {
+                    result.completeExceptionally(nextError);
+                } else {
+                    result.complete(nextValue);
+                }
+            });
+        });
+        return result;
+    }
+
+    /**
+     * 等待所有 Future 完成，按输入顺序返回结果。
+     * <p>
+     * 任一 Future 失败时以该异常完成并取消其余 Future；取消返回的 Future 会取消全部输入。
+     */
+    public static <T> CompletableFuture<List<T>> allOf(List<? extends CompletableFuture<? extends T>> futures) {
+        CompletableFuture<List<T>> result = new CompletableFuture<>();
+        if (futures.isEmpty()) {
+            result.complete(new ArrayList<>());
+            return result;
+        }
+        AtomicInteger remaining = new AtomicInteger(futures.size());
+        for (CompletableFuture<? extends T> future : futures) {
+            future.whenComplete((value, error) -> {
+                if (error != null) {
+                    if (result.completeExceptionally(unwrap(error))) {
+                        futures.forEach(other -> other.cancel(true));
+                    }
+                    return;
+                }
+                if (remaining.decrementAndGet() == 0) {
+                    List<T> values = new ArrayList<>(futures.size());
+                    futures.forEach(done -> values.add(done.join()));
+                    result.complete(values);
+                }
+            });
+        }
+        result.whenComplete((values, error) -> {
+            if (result.isCancelled()) {
+                futures.forEach(future -> future.cancel(true));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 取消 {@code dependent} 时同时取消 {@code upstream}，返回 dependent 本身
+     */
+    public static <T> CompletableFuture<T> linkCancellation(CompletableFuture<T> dependent, CompletableFuture<?>... upstream) {
+        dependent.whenComplete((value, error) -> {
+            if (dependent.isCancelled()) {
+                for (CompletableFuture<?> future : upstream) {
+                    future.cancel(true);
+                }
+            }
+        });
+        return dependent;
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+}
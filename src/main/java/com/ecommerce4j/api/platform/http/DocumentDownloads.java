@@ -0,0 +1,42 @@
+package com.ecommerce4j.api.platform.http;
+
+import com.ecommerce4j.api.dto.DocumentMetadata;
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+
+import java.io.IOException;
+
+/**
+ * 把文件下载的响应体流式写入 {@link DocumentSink} 的工具类。
+ * <p>
+ * 下载请求应使用不带日志拦截器的下载客户端，否则拦截器读取响应体时会把整个文件缓冲到内存中。
+ */
+public final class DocumentDownloads {
+
+    private static final String OCTET_STREAM = "application/octet-stream";
+
+    private DocumentDownloads() {
+    }
+
+    /**
+     * 写出响应体并返回 MIME 类型和字节数，包裹信息由调用方补充。
+     *
+     * @param defaultMimeType 响应没有 Content-Type 或只声明为 octet-stream 时使用的类型
+     */
+    public static DocumentMetadata copy(ResponseBody body, DocumentSink sink, String defaultMimeType) throws IOException {
+        long size = body == null ? sink.write(new byte[0]) : sink.write(body.source());
+        return DocumentMetadata.builder()
+            .mimeType(resolveMimeType(body, defaultMimeType))
+            .size(size)
+            .build();
+    }
+
+    private static String resolveMimeType(ResponseBody body, String defaultMimeType) {
+        MediaType contentType = body == null ? null : body.contentType();
+        if (contentType == null) {
+            return defaultMimeType;
+        }
+        String mimeType = contentType.type() + "/" + contentType.subtype();
+        return OCTET_STREAM.equals(mimeType) ? defaultMimeType : mimeType;
+    }
+}
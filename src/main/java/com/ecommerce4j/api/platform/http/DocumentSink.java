@@ -0,0 +1,93 @@
+package com.ecommerce4j.api.platform.http;
+
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.BufferedSource;
+import okio.Okio;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * 文档下载的写出目标。
+ * <p>
+ * 下载响应体以 Okio 分段缓冲逐段写入目标，面单内容不会整体读入堆内存，
+ * 合并下载的大体积 PDF 也不会产生大数组分配。
+ * <ul>
+ *     <li>{@link #of(OutputStream)}：写入调用方的输出流，写完后 flush，不关闭流；</li>
+ *     <li>{@link #of(WritableByteChannel)}：写入调用方的通道，不关闭通道；</li>
+ *     <li>{@link #of(Path)}：使用 {@link FileChannel#transferFrom} 写入文件，文件已存在时覆盖，写出失败时删除不完整的文件。</li>
+ * </ul>
+ */
+@FunctionalInterface
+public interface DocumentSink {
+
+    /**
+     * 读取 source 直到结束，写入目标。
+     *
+     * @return 写出的字节数
+     */
+    long write(BufferedSource source) throws IOException;
+
+    /**
+     * 写出已在内存中的文档内容，用于平台只返回 Base64 内容或没有流式实现的场景
+     */
+    default long write(byte[] content) throws IOException {
+        return write(new Buffer().write(content));
+    }
+
+    static DocumentSink of(OutputStream outputStream) {
+        Objects.requireNonNull(outputStream, "outputStream");
+        return source -> {
+            BufferedSink sink = Okio.buffer(Okio.sink(outputStream));
+            long written = sink.writeAll(source);
+            sink.flush();
+            return written;
+        };
+    }
+
+    static DocumentSink of(WritableByteChannel channel) {
+        Objects.requireNonNull(channel, "channel");
+        return source -> {
+            ByteBuffer buffer = ByteBuffer.allocate(8192);
+            long written = 0L;
+            while (source.read(buffer) != -1) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    written += channel.write(buffer);
+                }
+                buffer.clear();
+            }
+            return written;
+        };
+    }
+
+    static DocumentSink of(Path file) {
+        Objects.requireNonNull(file, "file");
+        return source -> {
+            boolean completed = false;
+            try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                long position = 0L;
+                long transferred;
+                // BufferedSource 本身是 ReadableByteChannel，transferFrom 在 source 读完时返回 0
+                while ((transferred = channel.transferFrom(source, position, Long.MAX_VALUE - position)) > 0) {
+                    position += transferred;
+                }
+                completed = true;
+                return position;
+            } finally {
+                if (!completed) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        };
+    }
+}
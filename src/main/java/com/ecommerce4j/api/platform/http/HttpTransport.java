@@ -0,0 +1,318 @@
+package com.ecommerce4j.api.platform.http;
+
+import com.ecommerce4j.api.enums.Platform;
+import com.ecommerce4j.api.platform.ApiLoggingInterceptor;
+import com.ecommerce4j.api.platform.concurrent.IoTaskExecutor;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SDK 共享的 HTTP 传输层。
+ * <p>
+ * 所有平台适配器共用同一个连接池（ConnectionPool）和同一个调度线程池，
+ * 这样对同一域名的请求可以复用已经完成 TLS 握手的长连接，避免每个适配器各自维护连接池。
+ * <p>
+ * 全局参数使用 {@code ecommerce4j.http.*} 配置，单个平台可以用 {@code <平台前缀>.http.*} 覆盖，
+ * 例如 {@code shopee.http.read_timeout_ms=20000}、{@code mercado.http.max_requests_per_host=64}。
+ * 平台前缀见 {@link Platform#getConfigPrefix()}。
+ * <p>
+ * 日志拦截器同样支持按平台配置：{@code log_level}（NONE/BASIC/BODY）、{@code log_sample_rate}（0~1）
+ * 和 {@code log_max_body_bytes}（请求体/响应体预览字节数）。
+ * <p>
+ * 限流配置见 {@link RateLimiterRegistry}，重试配置见 {@link RetryPolicyRegistry}，
+ * 调用指标见 {@link ApiMetrics}（应用引入 Micrometer 时自动启用）。
+ * <p>
+ * 所有客户端都带有分阶段网络计时（DNS、建连、TLS、TTFB、响应体），只在启用指标或当前线程开启了
+ * {@link ApiTimings} 统计范围时生效；{@code ecommerce4j.http.attach_timings=true} 时适配器会把 getOrders 的耗时分解附加到结果上。
+ * <p>
+ * 拦截器是同步的：{@code enqueue} 的请求在调度线程上执行拦截器，重试退避和限流排队都会让调度线程 sleep。
+ * {@link IoTaskExecutor} 使用虚拟线程时调度器同样使用虚拟线程，等待期间不占用平台线程；
+ * 使用平台线程时调度线程池不设上限（在途请求数由 {@code max_requests} 限制），
+ * 大量异步请求同时等待限流或重试时每个等待中的请求各占一个平台线程，最长分别为 {@code rate_limit.max_wait_ms}
+ * 和 {@code retry.max_delay_ms}（遵循 Retry-After 时为 {@code retry.max_retry_after_ms}）。
+ */
+@Slf4j
+@Component
+public class HttpTransport {
+
+    private static final int DEFAULT_MAX_IDLE_CONNECTIONS = 32;
+    private static final long DEFAULT_KEEP_ALIVE_MS = 300_000L;
+    private static final int DEFAULT_MAX_REQUESTS = 256;
+    private static final int DEFAULT_MAX_REQUESTS_PER_HOST = 32;
+    private static final long DEFAULT_CONNECT_TIMEOUT_MS = 15_000L;
+    private static final long DEFAULT_READ_TIMEOUT_MS = 30_000L;
+    private static final long DEFAULT_WRITE_TIMEOUT_MS = 15_000L;
+    private static final long DEFAULT_DOWNLOAD_READ_TIMEOUT_MS = 60_000L;
+    private static final int DEFAULT_LOG_MAX_BODY_BYTES = 1500;
+
+    @Value("${ecommerce4j.http.max_idle_connections:" + DEFAULT_MAX_IDLE_CONNECTIONS + "}")
+    private int maxIdleConnections = DEFAULT_MAX_IDLE_CONNECTIONS;
+
+    @Value("${ecommerce4j.http.keep_alive_ms:" + DEFAULT_KEEP_ALIVE_MS + "}")
+    private long keepAliveMs = DEFAULT_KEEP_ALIVE_MS;
+
+    @Value("${ecommerce4j.http.max_requests:" + DEFAULT_MAX_REQUESTS + "}")
+    private int maxRequests = DEFAULT_MAX_REQUESTS;
+
+    @Value("${ecommerce4j.http.max_requests_per_host:" + DEFAULT_MAX_REQUESTS_PER_HOST + "}")
+    private int maxRequestsPerHost = DEFAULT_MAX_REQUESTS_PER_HOST;
+
+    @Value("${ecommerce4j.http.connect_timeout_ms:" + DEFAULT_CONNECT_TIMEOUT_MS + "}")
+    private long connectTimeoutMs = DEFAULT_CONNECT_TIMEOUT_MS;
+
+    @Value("${ecommerce4j.http.read_timeout_ms:" + DEFAULT_READ_TIMEOUT_MS + "}")
+    private long readTimeoutMs = DEFAULT_READ_TIMEOUT_MS;
+
+    @Value("${ecommerce4j.http.write_timeout_ms:" + DEFAULT_WRITE_TIMEOUT_MS + "}")
+    private long writeTimeoutMs = DEFAULT_WRITE_TIMEOUT_MS;
+
+    @Value("${ecommerce4j.http.download_read_timeout_ms:" + DEFAULT_DOWNLOAD_READ_TIMEOUT_MS + "}")
+    private long downloadReadTimeoutMs = DEFAULT_DOWNLOAD_READ_TIMEOUT_MS;
+
+    @Value("${ecommerce4j.http.http2_enabled:true}")
+    private boolean http2Enabled = true;
+
+    @Value("${ecommerce4j.http.log_level:BODY}")
+    private String logLevel = ApiLoggingInterceptor.Level.BODY.name();
+
+    @Value("${ecommerce4j.http.log_sample_rate:1.0}")
+    private double logSampleRate = 1.0D;
+
+    @Value("${ecommerce4j.http.log_max_body_bytes:" + DEFAULT_LOG_MAX_BODY_BYTES + "}")
+    private int logMaxBodyBytes = DEFAULT_LOG_MAX_BODY_BYTES;
+
+    @Value("${ecommerce4j.http.attach_timings:false}")
+    private boolean attachTimings;
+
+    @Autowired(required = false)
+    private Environment environment;
+
+    @Autowired(required = false)
+    private RateLimiterRegistry rateLimiterRegistry;
+
+    @Autowired(required = false)
+    private RetryPolicyRegistry retryPolicyRegistry;
+
+    @Autowired(required = false)
+    private ApiMetrics apiMetrics;
+
+    @Autowired(required = false)
+    private IoTaskExecutor ioTaskExecutor;
+
+    private ConnectionPool connectionPool;
+    private ExecutorService dispatcherExecutor;
+    private OkHttpClient baseClient;
+
+    private final Map<Platform, OkHttpClient> apiClients = new ConcurrentHashMap<>();
+    private final Map<Platform, OkHttpClient> downloadClients = new ConcurrentHashMap<>();
+
+    /**
+     * 非 Spring 环境（如单元测试、直接 new 适配器）下使用的进程级默认实例，全部使用默认参数。
+     */
+    public static HttpTransport defaults() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (rateLimiterRegistry == null) {
+            this.rateLimiterRegistry = RateLimiterRegistry.defaults();
+        }
+        if (retryPolicyRegistry == null) {
+            this.retryPolicyRegistry = RetryPolicyRegistry.defaults();
+        }
+        if (apiMetrics == null) {
+            this.apiMetrics = ApiMetrics.NOOP;
+        }
+        this.connectionPool = new ConnectionPool(maxIdleConnections, keepAliveMs, TimeUnit.MILLISECONDS);
+        IoTaskExecutor executor = ioTaskExecutor != null ? ioTaskExecutor : IoTaskExecutor.defaults();
+        ThreadFactory virtualThreads = executor.newVirtualThreadFactory("ecommerce4j-http-dispatcher-virtual-");
+        // 拦截器中的限流排队和重试退避会在调度线程上 sleep，虚拟线程模式下等待不占用平台线程
+        this.dispatcherExecutor = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60, TimeUnit.SECONDS, new SynchronousQueue<>(),
+            virtualThreads != null ? virtualThreads : new NamedDaemonThreadFactory("ecommerce4j-http-dispatcher-"));
+        List<Protocol> protocols = http2Enabled
+            ? Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1)
+            : Collections.singletonList(Protocol.HTTP_1_1);
+        this.baseClient = new OkHttpClient.Builder()
+            .connectionPool(connectionPool)
+            .protocols(protocols)
+            .build();
+        if (apiMetrics.isEnabled()) {
+            apiMetrics.bindConnectionPool(connectionPool);
+        }
+        log.info("【Ecommerce4j】共享 HTTP 连接池初始化完成，maxIdleConnections={}，keepAliveMs={}，http2={}",
+            maxIdleConnections, keepAliveMs, http2Enabled);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (dispatcherExecutor != null) {
+            dispatcherExecutor.shutdown();
+        }
+        if (connectionPool != null) {
+            connectionPool.evictAll();
+        }
+    }
+
+    /**
+     * 获取指定平台的业务 API 客户端（带重试、限流和日志拦截器）。
+     * 同一平台多次调用返回同一个实例，不同平台之间共享连接池和调度线程。
+     */
+    public OkHttpClient apiClient(Platform platform) {
+        return apiClients.computeIfAbsent(platform, key -> {
+            OkHttpClient.Builder builder = newPlatformBuilder(key, MetricsInterceptor.API_CLIENT, readTimeoutMs(key))
+                .addInterceptor(new RetryInterceptor(key, retryPolicyRegistry))
+                .addInterceptor(new RateLimitInterceptor(key, rateLimiterRegistry));
+            if (apiMetrics.isEnabled()) {
+                builder.addInterceptor(new MetricsInterceptor(key, MetricsInterceptor.API_CLIENT, apiMetrics));
+            }
+            return builder.addInterceptor(newLoggingInterceptor(key)).build();
+        });
+    }
+
+    /**
+     * 获取指定平台的文件下载客户端。
+     * 不包含日志等业务拦截器，读取超时更长；部分平台的面单接口也通过它调用，因此同样经过重试和限流。
+     */
+    public OkHttpClient downloadClient(Platform platform) {
+        return downloadClients.computeIfAbsent(platform, key -> {
+            OkHttpClient.Builder builder = newPlatformBuilder(key, MetricsInterceptor.DOWNLOAD_CLIENT,
+                resolveLong(key, "download_read_timeout_ms", downloadReadTimeoutMs))
+                .addInterceptor(new RetryInterceptor(key, retryPolicyRegistry))
+                .addInterceptor(new RateLimitInterceptor(key, rateLimiterRegistry));
+            if (apiMetrics.isEnabled()) {
+                builder.addInterceptor(new MetricsInterceptor(key, MetricsInterceptor.DOWNLOAD_CLIENT, apiMetrics));
+            }
+            return builder.build();
+        });
+    }
+
+    public RateLimiterRegistry getRateLimiterRegistry() {
+        return rateLimiterRegistry;
+    }
+
+    public RetryPolicyRegistry getRetryPolicyRegistry() {
+        return retryPolicyRegistry;
+    }
+
+    public ConnectionPool getConnectionPool() {
+        return connectionPool;
+    }
+
+    public ApiMetrics getApiMetrics() {
+        return apiMetrics;
+    }
+
+    /**
+     * @return 适配器是否把耗时分解附加到分页结果上
+     */
+    public boolean isAttachTimings() {
+        return attachTimings;
+    }
+
+    private OkHttpClient.Builder newPlatformBuilder(Platform platform, String client, long platformReadTimeoutMs) {
+        Dispatcher dispatcher = new Dispatcher(dispatcherExecutor);
+        dispatcher.setMaxRequests(resolveInt(platform, "max_requests", maxRequests));
+        dispatcher.setMaxRequestsPerHost(resolveInt(platform, "max_requests_per_host", maxRequestsPerHost));
+        if (apiMetrics.isEnabled()) {
+            apiMetrics.bindDispatcher(platform, client, dispatcher);
+        }
+        return baseClient.newBuilder()
+            .dispatcher(dispatcher)
+            .eventListenerFactory(NetworkTimingListener.factory(platform, client, apiMetrics))
+            .connectTimeout(Duration.ofMillis(resolveLong(platform, "connect_timeout_ms", connectTimeoutMs)))
+            .readTimeout(Duration.ofMillis(platformReadTimeoutMs))
+            .writeTimeout(Duration.ofMillis(resolveLong(platform, "write_timeout_ms", writeTimeoutMs)));
+    }
+
+    private ApiLoggingInterceptor newLoggingInterceptor(Platform platform) {
+        String level = resolveString(platform, "log_level", logLevel);
+        return new ApiLoggingInterceptor(
+            ApiLoggingInterceptor.Level.valueOf(level.trim().toUpperCase(Locale.ROOT)),
+            resolveDouble(platform, "log_sample_rate", logSampleRate),
+            resolveInt(platform, "log_max_body_bytes", logMaxBodyBytes));
+    }
+
+    private long readTimeoutMs(Platform platform) {
+        return resolveLong(platform, "read_timeout_ms", readTimeoutMs);
+    }
+
+    private long resolveLong(Platform platform, String key, long defaultValue) {
+        String value = platformProperty(platform, key);
+        return value == null ? defaultValue : Long.parseLong(value.trim());
+    }
+
+    private int resolveInt(Platform platform, String key, int defaultValue) {
+        String value = platformProperty(platform, key);
+        return value == null ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    private double resolveDouble(Platform platform, String key, double defaultValue) {
+        String value = platformProperty(platform, key);
+        return value == null ? defaultValue : Double.parseDouble(value.trim());
+    }
+
+    private String resolveString(Platform platform, String key, String defaultValue) {
+        String value = platformProperty(platform, key);
+        return value == null ? defaultValue : value;
+    }
+
+    private String platformProperty(Platform platform, String key) {
+        if (environment == null || platform == null) {
+            return null;
+        }
+        return environment.getProperty(platform.getConfigPrefix() + ".http." + key);
+    }
+
+    private static class DefaultHolder {
+
+        private static final HttpTransport INSTANCE = createDefault();
+
+        private static HttpTransport createDefault() {
+            HttpTransport transport = new HttpTransport();
+            transport.init();
+            return transport;
+        }
+    }
+
+    private static class NamedDaemonThreadFactory implements ThreadFactory {
+
+        private final String prefix;
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        private NamedDaemonThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.ecommerce4j.api.platform.http;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.ForwardingSource;
+import okio.Okio;
+import okio.Source;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 以流式方式解析 JSON 响应体的工具类。
+ * <p>
+ * 直接从响应的 InputStream 交给 Jackson 解析，不再先把整个响应体读成 String，
+ * 避免大页订单响应在内存中同时存在字节、字符串和对象三份副本。
+ * <p>
+ * 开启了 {@link ApiTimings} 统计范围或调用指标时记录解析耗时：解析与网络读取交错进行，
+ * 等待网络数据的时间已计入 EventListener 的 body 阶段，这里只记录扣除网络等待后的解析时间。
+ */
+public final class JsonBodyReader {
+
+    private JsonBodyReader() {
+    }
+
+    /**
+     * 流式解析响应体。
+     *
+     * @return 解析后的对象；响应体为空或只包含空白字符时返回 null，由调用方决定如何报错
+     */
+    public static <T> T read(ObjectMapper objectMapper, ResponseBody body, Class<T> responseType) throws IOException {
+        return read(objectMapper, body, objectMapper.getTypeFactory().constructType(responseType));
+    }
+
+    /**
+     * 流式解析响应体（复杂泛型类型）。
+     *
+     * @return 解析后的对象；响应体为空或只包含空白字符时返回 null，由调用方决定如何报错
+     */
+    public static <T> T read(ObjectMapper objectMapper, ResponseBody body, TypeReference<T> typeReference) throws IOException {
+        return read(objectMapper, body, objectMapper.getTypeFactory().constructType(typeReference));
+    }
+
+    private static <T> T read(ObjectMapper objectMapper, ResponseBody body, JavaType javaType) throws IOException {
+        if (body == null) {
+            return null;
+        }
+        ApiTimings timings = ApiTimings.current();
+        ParseTimingAware instrumented = body instanceof ParseTimingAware ? (ParseTimingAware) body : null;
+        if (timings == null && instrumented == null) {
+            return parse(objectMapper, body.byteStream(), javaType);
+        }
+
+        NetworkWaitSource source = new NetworkWaitSource(body.source());
+        long startNanos = System.nanoTime();
+        try {
+            return parse(objectMapper, Okio.buffer(source).inputStream(), javaType);
+        } finally {
+            long parseNanos = Math.max(0L, System.nanoTime() - startNanos - source.waitNanos);
+            if (timings != null) {
+                timings.add(ApiTimings.Phase.PARSE, parseNanos);
+            }
+            if (instrumented != null) {
+                instrumented.recordParse(parseNanos);
+            }
+        }
+    }
+
+    private static <T> T parse(ObjectMapper objectMapper, InputStream inputStream, JavaType javaType) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(inputStream)) {
+            // 先探测第一个 token，空响应体不会抛出 Jackson 的 end-of-input 异常
+            if (parser.nextToken() == null) {
+                return null;
+            }
+            return objectMapper.readValue(parser, javaType);
+        }
+    }
+
+    /**
+     * 累计从响应体读取数据时阻塞的时间
+     */
+    private static final class NetworkWaitSource extends ForwardingSource {
+
+        private long waitNanos;
+
+        private NetworkWaitSource(Source delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public long read(Buffer sink, long byteCount) throws IOException {
+            long startNanos = System.nanoTime();
+            try {
+                return super.read(sink, byteCount);
+            } finally {
+                waitNanos += System.nanoTime() - startNanos;
+            }
+        }
+    }
+}
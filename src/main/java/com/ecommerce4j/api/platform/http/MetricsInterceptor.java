@@ -0,0 +1,256 @@
+package com.ecommerce4j.api.platform.http;
+
+import com.ecommerce4j.api.enums.Platform;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
+import okio.Source;
+
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * 把每次 HTTP 交换写入 {@link ApiMetrics} 的拦截器，每个平台的每种客户端各有一个实例。
+ * <p>
+ * 位于重试和限流拦截器之后，因此记录的是单次尝试的网络耗时，不包含限流等待和重试退避；
+ * 响应体被包装为计数流，在调用方关闭或读完时记录实际读取的字节数。
+ * <p>
+ * 平台错误码只从能完整预览的小响应体中提取（错误响应不带业务数据，通常只有几十到几百字节），
+ * 超过 {@link #ERROR_PEEK_BYTES} 的响应视为成功，不做额外解析。
+ */
+class MetricsInterceptor implements Interceptor {
+
+    static final String API_CLIENT = "api";
+    static final String DOWNLOAD_CLIENT = "download";
+
+    /**
+     * 下载客户端中不带店铺参数的请求（CDN、预签名地址等）使用的路径标签，避免文件名进入标签
+     */
+    static final String DOCUMENT_PATH = "{document}";
+
+    static final String IO_ERROR = "IO_ERROR";
+
+    private static final int ERROR_PEEK_BYTES = 2048;
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final Platform platform;
+
+    private final String client;
+
+    private final ApiMetrics metrics;
+
+    MetricsInterceptor(Platform platform, String client, ApiMetrics metrics) {
+        this.platform = platform;
+        this.client = client;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        String path = pathTag(client, request, ApiPaths.resolveShopKey(request));
+        String shop = SellerTag.sellerId(request);
+        long requestBytes = requestBytes(request.body());
+        long startNanos = System.nanoTime();
+        Response response;
+        try {
+            response = chain.proceed(request);
+        } catch (IOException | RuntimeException e) {
+            metrics.recordExchange(platform, client, path, shop, IO_ERROR, System.nanoTime() - startNanos, requestBytes);
+            throw e;
+        }
+        metrics.recordExchange(platform, client, path, shop, String.valueOf(response.code()),
+            System.nanoTime() - startNanos, requestBytes);
+
+        ResponseBody body = response.body();
+        if (body == null) {
+            return response;
+        }
+        boolean textual = isTextual(body.contentType());
+        if (textual && API_CLIENT.equals(client)) {
+            String errorCode = peekErrorCode(response, body);
+            if (errorCode != null) {
+                metrics.recordPlatformError(platform, path, shop, errorCode);
+            }
+        }
+        boolean document = DOWNLOAD_CLIENT.equals(client) && !textual && response.isSuccessful();
+        return response.newBuilder()
+            .body(new CountingResponseBody(body, path, document))
+            .build();
+    }
+
+    /**
+     * 指标的路径标签：接口路径模板；下载客户端中不带店铺参数的请求统一为 {@link #DOCUMENT_PATH}
+     */
+    static String pathTag(String client, Request request, String shop) {
+        return DOWNLOAD_CLIENT.equals(client) && shop == null
+            ? DOCUMENT_PATH
+            : ApiPaths.normalize(request.url().encodedPath());
+    }
+
+    private static long requestBytes(RequestBody body) {
+        if (body == null) {
+            return 0L;
+        }
+        try {
+            return body.contentLength();
+        } catch (IOException e) {
+            return -1L;
+        }
+    }
+
+    private String peekErrorCode(Response response, ResponseBody body) {
+        long contentLength = body.contentLength();
+        if (contentLength > ERROR_PEEK_BYTES || contentLength == 0) {
+            return null;
+        }
+        try {
+            // peekBody 只缓冲预览部分，调用方仍可完整读取原始响应体
+            ResponseBody peeked = response.peekBody(ERROR_PEEK_BYTES);
+            if (contentLength < 0 && peeked.contentLength() >= ERROR_PEEK_BYTES) {
+                return null;
+            }
+            return extractErrorCode(platform, peeked.bytes());
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 从完整的响应体中提取平台业务错误码，成功响应或无法解析时返回 null。
+     * <p>
+     * Shopee 和 Mercado Libre 使用字符串字段 {@code error}，其余平台使用 {@code code}（0/200/SUCCESS 表示成功）。
+     */
+    static String extractErrorCode(Platform platform, byte[] json) {
+        String field = platform == Platform.SHOPEE || platform == Platform.MERCADO_LIBRE ? "error" : "code";
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (!field.equals(name)) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (!value.isScalarValue() || value == JsonToken.VALUE_NULL) {
+                    return null;
+                }
+                String code = parser.getText().trim();
+                return isSuccessCode(field, code) ? null : code;
+            }
+            return null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static boolean isSuccessCode(String field, String code) {
+        if (code.isEmpty()) {
+            return true;
+        }
+        return "code".equals(field)
+            && ("0".equals(code) || "200".equals(code) || "SUCCESS".equalsIgnoreCase(code) || "true".equalsIgnoreCase(code));
+    }
+
+    private static boolean isTextual(MediaType mediaType) {
+        if (mediaType == null) {
+            return true;
+        }
+        String type = mediaType.type().toLowerCase(Locale.ROOT);
+        String subtype = mediaType.subtype().toLowerCase(Locale.ROOT);
+        return "text".equals(type) || subtype.contains("json") || subtype.contains("xml");
+    }
+
+    /**
+     * 统计实际读取字节数的响应体，关闭或读到末尾时记录一次；{@link JsonBodyReader} 解析它时同时记录解析耗时
+     */
+    private final class CountingResponseBody extends ResponseBody implements ParseTimingAware {
+
+        private final ResponseBody delegate;
+
+        private final BufferedSource source;
+
+        private CountingResponseBody(ResponseBody delegate, String path, boolean document) {
+            this.delegate = delegate;
+            this.source = Okio.buffer(new CountingSource(delegate.source(), path, document));
+        }
+
+        @Override
+        public MediaType contentType() {
+            return delegate.contentType();
+        }
+
+        @Override
+        public long contentLength() {
+            return delegate.contentLength();
+        }
+
+        @Override
+        public BufferedSource source() {
+            return source;
+        }
+
+        @Override
+        public void recordParse(long nanos) {
+            metrics.recordProcessing(platform, ApiTimings.Phase.PARSE, nanos);
+        }
+    }
+
+    private final class CountingSource extends ForwardingSource {
+
+        private final String path;
+
+        private final boolean document;
+
+        private long bytesRead;
+
+        private boolean recorded;
+
+        private CountingSource(Source delegate, String path, boolean document) {
+            super(delegate);
+            this.path = path;
+            this.document = document;
+        }
+
+        @Override
+        public long read(Buffer sink, long byteCount) throws IOException {
+            long read = super.read(sink, byteCount);
+            if (read == -1L) {
+                record();
+            } else {
+                bytesRead += read;
+            }
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            record();
+            super.close();
+        }
+
+        private void record() {
+            if (recorded) {
+                return;
+            }
+            recorded = true;
+            metrics.recordResponseBytes(platform, client, path, bytesRead);
+            if (document) {
+                metrics.recordDocumentDownload(platform, bytesRead);
+            }
+        }
+    }
+}
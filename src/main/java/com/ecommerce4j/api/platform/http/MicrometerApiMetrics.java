@@ -0,0 +1,229 @@
+package com.ecommerce4j.api.platform.http;
+
+import com.ecommerce4j.api.enums.Platform;
+import com.ecommerce4j.api.platform.concurrent.IoTaskExecutor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基于 Micrometer 的 {@link ApiMetrics} 实现，输出以下指标：
+ * <ul>
+ *     <li>{@code ecommerce4j.api.requests}（Timer）：单次 HTTP 交换耗时，标签 platform、client、path、shop、status，带百分位直方图</li>
+ *     <li>{@code ecommerce4j.api.request.size} / {@code ecommerce4j.api.response.size}（DistributionSummary，字节）：标签 platform、client、path</li>
+ *     <li>{@code ecommerce4j.api.errors}（Counter）：平台业务错误码，标签 platform、path、shop、code</li>
+ *     <li>{@code ecommerce4j.api.network}（Timer）：EventListener 记录的网络阶段耗时，标签 platform、client、path、
+ *     phase=dns/connect/tls/request/ttfb/body；复用连接时不记录 dns/connect/tls</li>
+ *     <li>{@code ecommerce4j.http.connections.acquired}（Counter）：获取连接的次数，标签 platform、client、reused=true/false</li>
+ *     <li>{@code ecommerce4j.api.processing}（Timer）：本地处理耗时，标签 platform、phase=parse/mapping</li>
+ *     <li>{@code ecommerce4j.label.download.size}（DistributionSummary，字节）：面单等文件下载大小，标签 platform</li>
+ *     <li>{@code ecommerce4j.http.connections}（Gauge）：共享连接池的连接数，标签 state=idle/active</li>
+ *     <li>{@code ecommerce4j.http.dispatcher.calls}（Gauge）：各平台客户端运行中/排队中的请求数，标签 platform、client、state</li>
+ *     <li>{@code ecommerce4j.io.tasks}（Gauge）：I/O 执行器排队中/执行中的任务数，标签 executor=virtual/platform/custom、state=queued/active</li>
+ *     <li>{@code ecommerce4j.io.tasks.completed} / {@code ecommerce4j.io.tasks.failed}（Counter）：I/O 执行器累计完成/失败的任务数，标签 executor</li>
+ * </ul>
+ * 店铺标签取自请求上附加的卖家 ID（见 {@link SellerTag}），令牌刷新不会产生新的序列，授权等应用级请求取值为 {@code none}。
+ * 每个店铺都会产生一组序列，默认关闭（取值固定为 {@code none}），店铺数量可控时再通过 {@code ecommerce4j.metrics.shop_tag} 开启。
+ */
+public class MicrometerApiMetrics implements ApiMetrics {
+
+    private static final String NONE = "none";
+
+    private final MeterRegistry registry;
+
+    private final boolean shopTagEnabled;
+
+    private final double[] percentiles;
+
+    private final boolean percentileHistogram;
+
+    /**
+     * @param registry            指标注册表
+     * @param shopTagEnabled      是否输出店铺标签
+     * @param percentiles         客户端计算的耗时百分位，例如 0.5、0.95、0.99，为空表示不计算
+     * @param percentileHistogram 是否发布百分位直方图（供 Prometheus 等服务端聚合）
+     */
+    public MicrometerApiMetrics(MeterRegistry registry, boolean shopTagEnabled, double[] percentiles, boolean percentileHistogram) {
+        this.registry = registry;
+        this.shopTagEnabled = shopTagEnabled;
+        this.percentiles = percentiles == null ? new double[0] : percentiles.clone();
+        this.percentileHistogram = percentileHistogram;
+    }
+
+    @Override
+    public void recordExchange(Platform platform, String client, String path, String shop, String status,
+                               long durationNanos, long requestBytes) {
+        Timer.builder("ecommerce4j.api.requests")
+            .description("平台 API 单次 HTTP 交换耗时（截止到收到响应头）")
+            .tag("platform", platform.getConfigPrefix())
+            .tag("client", client)
+            .tag("path", path)
+            .tag("shop", shopTag(shop))
+            .tag("status", status)
+            .publishPercentiles(percentiles)
+            .publishPercentileHistogram(percentileHistogram)
+            .register(registry)
+            .record(durationNanos, TimeUnit.NANOSECONDS);
+        if (requestBytes >= 0) {
+            DistributionSummary.builder("ecommerce4j.api.request.size")
+                .description("平台 API 请求体大小")
+                .baseUnit("bytes")
+                .tag("platform", platform.getConfigPrefix())
+                .tag("client", client)
+                .tag("path", path)
+                .register(registry)
+                .record(requestBytes);
+        }
+    }
+
+    @Override
+    public void recordResponseBytes(Platform platform, String client, String path, long bytes) {
+        DistributionSummary.builder("ecommerce4j.api.response.size")
+            .description("平台 API 实际读取的响应体大小")
+            .baseUnit("bytes")
+            .tag("platform", platform.getConfigPrefix())
+            .tag("client", client)
+            .tag("path", path)
+            .register(registry)
+            .record(bytes);
+    }
+
+    @Override
+    public void recordPlatformError(Platform platform, String path, String shop, String code) {
+        Counter.builder("ecommerce4j.api.errors")
+            .description("平台返回的业务错误码次数")
+            .tag("platform", platform.getConfigPrefix())
+            .tag("path", path)
+            .tag("shop", shopTag(shop))
+            .tag("code", code)
+            .register(registry)
+            .increment();
+    }
+
+    @Override
+    public void recordDocumentDownload(Platform platform, long bytes) {
+        DistributionSummary.builder("ecommerce4j.label.download.size")
+            .description("面单等文件下载大小")
+            .baseUnit("bytes")
+            .tag("platform", platform.getConfigPrefix())
+            .register(registry)
+            .record(bytes);
+    }
+
+    @Override
+    public void recordNetworkTiming(Platform platform, String client, String path, NetworkTiming timing) {
+        if (timing.getNewConnections() > 0) {
+            recordPhase(platform, client, path, ApiTimings.Phase.DNS, timing.getDnsNanos());
+            recordPhase(platform, client, path, ApiTimings.Phase.CONNECT, timing.getConnectNanos());
+            if (timing.getTlsNanos() > 0) {
+                recordPhase(platform, client, path, ApiTimings.Phase.TLS, timing.getTlsNanos());
+            }
+        }
+        recordPhase(platform, client, path, ApiTimings.Phase.REQUEST, timing.getRequestNanos());
+        recordPhase(platform, client, path, ApiTimings.Phase.TTFB, timing.getTtfbNanos());
+        recordPhase(platform, client, path, ApiTimings.Phase.BODY, timing.getBodyNanos());
+        incrementConnections(platform, client, false, timing.getNewConnections());
+        incrementConnections(platform, client, true, timing.getReusedConnections());
+    }
+
+    @Override
+    public void recordProcessing(Platform platform, ApiTimings.Phase phase, long nanos) {
+        Timer.builder("ecommerce4j.api.processing")
+            .description("平台响应的本地处理耗时（JSON 解析、订单映射）")
+            .tag("platform", platform.getConfigPrefix())
+            .tag("phase", phase.tag())
+            .publishPercentiles(percentiles)
+            .publishPercentileHistogram(percentileHistogram)
+            .register(registry)
+            .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void bindConnectionPool(ConnectionPool connectionPool) {
+        Gauge.builder("ecommerce4j.http.connections", connectionPool, ConnectionPool::idleConnectionCount)
+            .description("共享连接池中的连接数")
+            .tag("state", "idle")
+            .register(registry);
+        Gauge.builder("ecommerce4j.http.connections", connectionPool,
+                pool -> pool.connectionCount() - pool.idleConnectionCount())
+            .description("共享连接池中的连接数")
+            .tag("state", "active")
+            .register(registry);
+    }
+
+    @Override
+    public void bindDispatcher(Platform platform, String client, Dispatcher dispatcher) {
+        Gauge.builder("ecommerce4j.http.dispatcher.calls", dispatcher, Dispatcher::runningCallsCount)
+            .description("平台客户端调度器中的请求数")
+            .tag("platform", platform.getConfigPrefix())
+            .tag("client", client)
+            .tag("state", "running")
+            .register(registry);
+        Gauge.builder("ecommerce4j.http.dispatcher.calls", dispatcher, Dispatcher::queuedCallsCount)
+            .description("平台客户端调度器中的请求数")
+            .tag("platform", platform.getConfigPrefix())
+            .tag("client", client)
+            .tag("state", "queued")
+            .register(registry);
+    }
+
+    @Override
+    public void bindIoExecutor(IoTaskExecutor ioTaskExecutor) {
+        String executor = String.valueOf(ioTaskExecutor.getExecutorType());
+        Gauge.builder("ecommerce4j.io.tasks", ioTaskExecutor, IoTaskExecutor::getQueuedTasks)
+            .description("I/O 执行器中的任务数")
+            .tag("executor", executor)
+            .tag("state", "queued")
+            .register(registry);
+        Gauge.builder("ecommerce4j.io.tasks", ioTaskExecutor, IoTaskExecutor::getActiveTasks)
+            .description("I/O 执行器中的任务数")
+            .tag("executor", executor)
+            .tag("state", "active")
+            .register(registry);
+        FunctionCounter.builder("ecommerce4j.io.tasks.completed", ioTaskExecutor, IoTaskExecutor::getCompletedTasks)
+            .description("I/O 执行器累计执行完成的任务数（含失败）")
+            .tag("executor", executor)
+            .register(registry);
+        FunctionCounter.builder("ecommerce4j.io.tasks.failed", ioTaskExecutor, IoTaskExecutor::getFailedTasks)
+            .description("I/O 执行器累计抛出异常的任务数")
+            .tag("executor", executor)
+            .register(registry);
+    }
+
+    private void recordPhase(Platform platform, String client, String path, ApiTimings.Phase phase, long nanos) {
+        Timer.builder("ecommerce4j.api.network")
+            .description("平台 API 调用各网络阶段耗时")
+            .tag("platform", platform.getConfigPrefix())
+            .tag("client", client)
+            .tag("path", path)
+            .tag("phase", phase.tag())
+            .publishPercentiles(percentiles)
+            .publishPercentileHistogram(percentileHistogram)
+            .register(registry)
+            .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void incrementConnections(Platform platform, String client, boolean reused, int count) {
+        if (count <= 0) {
+            return;
+        }
+        Counter.builder("ecommerce4j.http.connections.acquired")
+            .description("获取 HTTP 连接的次数，reused=false 表示新建连接")
+            .tag("platform", platform.getConfigPrefix())
+            .tag("client", client)
+            .tag("reused", String.valueOf(reused))
+            .register(registry)
+            .increment(count);
+    }
+
+    private String shopTag(String shop) {
+        return shopTagEnabled && shop != null ? shop : NONE;
+    }
+}
@@ -0,0 +1,79 @@
+package com.ecommerce4j.api.platform.http;
+
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 一次 OkHttp 调用（包含拦截器内的重试）各网络阶段的耗时，由 {@link NetworkTimingListener} 在调用结束时生成。
+ * <p>
+ * 复用已有连接时 DNS、建连和 TLS 阶段为 0；发生重试时各阶段为多次交换的累计值。
+ */
+@Getter
+public final class NetworkTiming {
+
+    /**
+     * DNS 解析
+     */
+    long dnsNanos;
+
+    /**
+     * TCP 建连，包含 TLS 握手
+     */
+    long connectNanos;
+
+    /**
+     * TLS 握手
+     */
+    long tlsNanos;
+
+    /**
+     * 写出请求头和请求体
+     */
+    long requestNanos;
+
+    /**
+     * 请求写完到收到响应头（TTFB，主要是平台服务端处理时间）
+     */
+    long ttfbNanos;
+
+    /**
+     * 读取响应体；流式解析时包含与网络读取交错进行的解析时间
+     */
+    long bodyNanos;
+
+    /**
+     * 从调用开始到结束（响应体关闭）的总耗时
+     */
+    long totalNanos;
+
+    /**
+     * 新建的连接数
+     */
+    int newConnections;
+
+    /**
+     * 复用连接池中已有连接的次数
+     */
+    int reusedConnections;
+
+    /**
+     * 调用是否以异常结束
+     */
+    boolean failed;
+
+    NetworkTiming() {
+    }
+
+    @Override
+    public String toString() {
+        return "total=" + millis(totalNanos) + "ms, dns=" + millis(dnsNanos) + "ms, connect=" + millis(connectNanos)
+            + "ms, tls=" + millis(tlsNanos) + "ms, request=" + millis(requestNanos) + "ms, ttfb=" + millis(ttfbNanos)
+            + "ms, body=" + millis(bodyNanos) + "ms, newConnections=" + newConnections
+            + ", reusedConnections=" + reusedConnections + (failed ? ", failed" : "");
+    }
+
+    static long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
@@ -0,0 +1,195 @@
+package com.ecommerce4j.api.platform.http;
+
+import com.ecommerce4j.api.enums.Platform;
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.EventListener;
+import okhttp3.Handshake;
+import okhttp3.Protocol;
+import okhttp3.Request;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.List;
+
+/**
+ * 基于 OkHttp {@link EventListener} 的分阶段网络计时，每个 Call 一个实例。
+ * <p>
+ * 调用结束（响应体关闭）或失败时把 {@link NetworkTiming} 写入 {@link ApiMetrics}，
+ * 并累计到创建 Call 时线程上的 {@link ApiTimings} 范围。两者都不需要时工厂返回 {@link EventListener#NONE}，不产生额外开销。
+ * <p>
+ * 同一个 Call 的事件按顺序触发（异步调用可能跨线程，但由 OkHttp 保证先后关系），因此不需要加锁。
+ */
+class NetworkTimingListener extends EventListener {
+
+    private final Platform platform;
+
+    private final String client;
+
+    private final ApiMetrics metrics;
+
+    private final ApiTimings timings;
+
+    private final NetworkTiming timing = new NetworkTiming();
+
+    private long callStartNanos;
+    private long dnsStartNanos;
+    private long connectStartNanos;
+    private long secureConnectStartNanos;
+    private long requestStartNanos;
+    private long requestEndNanos;
+    private long responseBodyStartNanos;
+
+    private boolean connecting;
+
+    private boolean finished;
+
+    private NetworkTimingListener(Platform platform, String client, ApiMetrics metrics, ApiTimings timings) {
+        this.platform = platform;
+        this.client = client;
+        this.metrics = metrics;
+        this.timings = timings;
+    }
+
+    static EventListener.Factory factory(Platform platform, String client, ApiMetrics metrics) {
+        return call -> {
+            // 工厂在 newCall 的线程上执行，此时可以拿到调用方的统计范围
+            ApiTimings timings = ApiTimings.current();
+            if (timings == null && !metrics.isEnabled()) {
+                return EventListener.NONE;
+            }
+            return new NetworkTimingListener(platform, client, metrics, timings);
+        };
+    }
+
+    @Override
+    public void callStart(Call call) {
+        callStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public void dnsStart(Call call, String domainName) {
+        dnsStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public void dnsEnd(Call call, String domainName, List<InetAddress> inetAddressList) {
+        timing.dnsNanos += System.nanoTime() - dnsStartNanos;
+    }
+
+    @Override
+    public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+        connectStartNanos = System.nanoTime();
+        connecting = true;
+    }
+
+    @Override
+    public void secureConnectStart(Call call) {
+        secureConnectStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public void secureConnectEnd(Call call, Handshake handshake) {
+        timing.tlsNanos += System.nanoTime() - secureConnectStartNanos;
+    }
+
+    @Override
+    public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol) {
+        timing.connectNanos += System.nanoTime() - connectStartNanos;
+    }
+
+    @Override
+    public void connectFailed(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol, IOException ioe) {
+        timing.connectNanos += System.nanoTime() - connectStartNanos;
+    }
+
+    @Override
+    public void connectionAcquired(Call call, Connection connection) {
+        if (connecting) {
+            timing.newConnections++;
+        } else {
+            timing.reusedConnections++;
+        }
+        connecting = false;
+    }
+
+    @Override
+    public void requestHeadersStart(Call call) {
+        requestStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public void requestHeadersEnd(Call call, Request request) {
+        requestEnd();
+    }
+
+    @Override
+    public void requestBodyEnd(Call call, long byteCount) {
+        requestEnd();
+    }
+
+    @Override
+    public void responseHeadersStart(Call call) {
+        if (requestEndNanos > 0) {
+            timing.ttfbNanos += System.nanoTime() - requestEndNanos;
+            requestEndNanos = 0;
+        }
+    }
+
+    @Override
+    public void responseBodyStart(Call call) {
+        responseBodyStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public void responseBodyEnd(Call call, long byteCount) {
+        if (responseBodyStartNanos > 0) {
+            timing.bodyNanos += System.nanoTime() - responseBodyStartNanos;
+            responseBodyStartNanos = 0;
+        }
+    }
+
+    @Override
+    public void responseFailed(Call call, IOException ioe) {
+        responseBodyEnd(call, -1L);
+    }
+
+    @Override
+    public void callEnd(Call call) {
+        finish(call, false);
+    }
+
+    @Override
+    public void callFailed(Call call, IOException ioe) {
+        finish(call, true);
+    }
+
+    private void requestEnd() {
+        long now = System.nanoTime();
+        // 请求头和请求体各触发一次，累计从请求头开始到最后一次写出的时间
+        if (requestStartNanos > 0) {
+            timing.requestNanos += now - requestStartNanos;
+            requestStartNanos = now;
+        }
+        requestEndNanos = now;
+    }
+
+    private void finish(Call call, boolean failed) {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        timing.totalNanos = System.nanoTime() - callStartNanos;
+        timing.failed = failed;
+        if (timings != null) {
+            timings.addNetwork(timing);
+        }
+        if (metrics.isEnabled()) {
+            Request request = call.request();
+            metrics.recordNetworkTiming(platform, client,
+                MetricsInterceptor.pathTag(client, request, ApiPaths.resolveShopKey(request)), timing);
+        }
+    }
+}
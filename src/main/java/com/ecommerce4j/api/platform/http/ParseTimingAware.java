@@ -0,0 +1,9 @@
+package com.ecommerce4j.api.platform.http;
+
+/**
+ * 由指标拦截器包装的响应体实现，{@link JsonBodyReader} 解析完成后通过它按平台记录解析耗时。
+ */
+interface ParseTimingAware {
+
+    void recordParse(long nanos);
+}
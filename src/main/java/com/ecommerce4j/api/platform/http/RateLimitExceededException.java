@@ -0,0 +1,34 @@
+package com.ecommerce4j.api.platform.http;
+
+import com.ecommerce4j.api.exception.EcommIntegrationException;
+
+import java.io.IOException;
+
+/**
+ * 请求在 {@link RateLimitInterceptor} 中排队超过 {@code max_wait_ms} 时抛出的异常。
+ * <p>
+ * OkHttp 拦截器只能抛出 IOException，{@code enqueue} 的请求才能在回调中收到原始异常而不是
+ * “canceled due to” 包装后的异常；适配器用 {@link #wrap} 还原为 {@link EcommIntegrationException}。
+ * 传输层不会重试该异常，平台隔离舱也不把它计为平台故障。
+ */
+public class RateLimitExceededException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    public RateLimitExceededException(String message) {
+        super(message);
+    }
+
+    /**
+     * 把 HTTP 调用失败包装为 {@link EcommIntegrationException}：限流排队超时保留限流器的错误信息，其他异常使用给定的信息。
+     *
+     * @param message 非限流异常时使用的错误信息
+     * @param error   HTTP 调用抛出的异常
+     */
+    public static EcommIntegrationException wrap(String message, Throwable error) {
+        if (error instanceof RateLimitExceededException) {
+            return new EcommIntegrationException(error.getMessage(), error);
+        }
+        return new EcommIntegrationException(message, error);
+    }
+}
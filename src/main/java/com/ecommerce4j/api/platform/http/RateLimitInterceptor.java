@@ -0,0 +1,39 @@
+package com.ecommerce4j.api.platform.http;
+
+import com.ecommerce4j.api.enums.Platform;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+
+/**
+ * 在请求发出前向 {@link RateLimiterRegistry} 获取令牌的拦截器，每个平台的客户端各有一个实例。
+ * <p>
+ * 拦截器中只抛出 IOException：排队超时抛出 {@link RateLimitExceededException}，等待被中断抛出 {@link InterruptedIOException}，
+ * 否则 {@code enqueue} 的请求会在调度线程上抛出未捕获的异常，回调只能收到“canceled due to”包装后的 IOException。
+ */
+class RateLimitInterceptor implements Interceptor {
+
+    private final Platform platform;
+
+    private final RateLimiterRegistry rateLimiterRegistry;
+
+    RateLimitInterceptor(Platform platform, RateLimiterRegistry rateLimiterRegistry) {
+        this.platform = platform;
+        this.rateLimiterRegistry = rateLimiterRegistry;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        try {
+            rateLimiterRegistry.acquireForRequest(platform, ApiPaths.resolveShopKey(request), request.url().encodedPath());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("等待平台限流令牌时被中断");
+        }
+        return chain.proceed(request);
+    }
+}
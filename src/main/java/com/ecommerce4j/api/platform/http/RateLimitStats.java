@@ -0,0 +1,41 @@
+package com.ecommerce4j.api.platform.http;
+
+import com.ecommerce4j.api.enums.Platform;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 单个令牌桶的限流统计快照
+ */
+@Data
+@AllArgsConstructor
+public class RateLimitStats {
+
+    private Platform platform;
+
+    /**
+     * 店铺标识，应用级令牌桶为 “*”
+     */
+    private String shopKey;
+
+    /**
+     * 规范化后的接口路径，店铺级令牌桶为 null
+     */
+    private String path;
+
+    private double permitsPerSecond;
+
+    /**
+     * 累计获取的令牌数
+     */
+    private long acquired;
+
+    /**
+     * 其中需要等待的次数
+     */
+    private long throttled;
+
+    private long totalWaitMillis;
+
+    private long maxWaitMillis;
+}
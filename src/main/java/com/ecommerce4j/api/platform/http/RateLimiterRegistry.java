@@ -0,0 +1,251 @@
+package com.ecommerce4j.api.platform.http;
+
+import com.ecommerce4j.api.enums.Platform;
+import com.ecommerce4j.api.exception.EcommIntegrationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SDK 级别的平台限流器，按“平台 + 店铺 + 接口路径”维护令牌桶。
+ * <p>
+ * 所有平台的业务请求都会经过 {@link RateLimitInterceptor}，在发出前获取令牌；同一进程内所有线程共享同一组令牌桶，
+ * 多节点部署时请按节点数把平台配额拆分到每个节点。也可以直接调用 {@link #acquire} 对自定义调用限流。
+ * <p>
+ * 默认不限流，按平台配置（前缀见 {@link Platform#getConfigPrefix()}）：
+ * <ul>
+ *     <li>{@code <平台前缀>.rate_limit.qps}：单个店铺所有接口合计每秒请求数，{@code burst} 为桶容量（默认等于 qps）；</li>
+ *     <li>{@code <平台前缀>.rate_limit.path_qps}：单个店铺单个接口的每秒请求数，
+ *     格式为 {@code 路径=qps} 逗号分隔，如 {@code /api/v2/order/get_order_detail=10,/api/v2/logistics/get_tracking_number=5}。</li>
+ * </ul>
+ * 全局配置：{@code ecommerce4j.rate_limit.enabled}（默认 true）、{@code ecommerce4j.rate_limit.max_wait_ms}
+ * （单次请求最长排队时间，超过直接失败，默认 30000）、{@code ecommerce4j.rate_limit.bucket_idle_ms}
+ * （令牌桶超过该时间未使用且令牌已回满时移除，默认 600000）。
+ * <p>
+ * 店铺标识来自 {@link ApiPaths#resolveShopKey}，即授权上下文中的卖家 ID，令牌刷新不会重置店铺配额。
+ * 排队在当前线程 sleep，{@code enqueue} 的请求占用的是 OkHttp 调度线程，见 {@link HttpTransport}。
+ */
+@Slf4j
+@Component
+public class RateLimiterRegistry {
+
+    private static final long DEFAULT_MAX_WAIT_MS = 30_000L;
+
+    private static final long DEFAULT_BUCKET_IDLE_MS = 600_000L;
+
+    private static final String APP_LEVEL_SHOP_KEY = "*";
+
+    @Value("${ecommerce4j.rate_limit.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${ecommerce4j.rate_limit.max_wait_ms:" + DEFAULT_MAX_WAIT_MS + "}")
+    private long maxWaitMs = DEFAULT_MAX_WAIT_MS;
+
+    @Value("${ecommerce4j.rate_limit.bucket_idle_ms:" + DEFAULT_BUCKET_IDLE_MS + "}")
+    private long bucketIdleMs = DEFAULT_BUCKET_IDLE_MS;
+
+    @Autowired(required = false)
+    private Environment environment;
+
+    private final Map<Platform, LimitConfig> configs = new ConcurrentHashMap<>();
+
+    /**
+     * key 为 “平台|店铺|路径”，店铺级令牌桶的路径为空
+     */
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * 下一次清理空闲令牌桶的时间
+     */
+    private final AtomicLong nextEvictionNanos = new AtomicLong(System.nanoTime());
+
+    /**
+     * 非 Spring 环境（如单元测试、直接 new 适配器）下使用的进程级默认实例，不配置任何限流。
+     */
+    public static RateLimiterRegistry defaults() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    /**
+     * 获取一次调用所需的令牌，令牌不足时阻塞等待。
+     *
+     * @param platform 平台
+     * @param shopKey  店铺标识，为空表示应用级调用，只受接口级限流约束
+     * @param path     接口路径，会先经过 {@link ApiPaths#normalize} 规范化
+     * @return 实际等待的纳秒数
+     * @throws InterruptedException      等待期间线程被中断
+     * @throws EcommIntegrationException 需要排队的时间超过 {@code max_wait_ms}
+     */
+    public long acquire(Platform platform, String shopKey, String path) throws InterruptedException {
+        try {
+            return acquireForRequest(platform, shopKey, path);
+        } catch (RateLimitExceededException e) {
+            throw new EcommIntegrationException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 与 {@link #acquire} 相同，排队超时以 IOException 子类抛出，供 {@link RateLimitInterceptor} 在 OkHttp 拦截器中使用
+     */
+    long acquireForRequest(Platform platform, String shopKey, String path) throws InterruptedException, RateLimitExceededException {
+        if (!enabled || platform == null) {
+            return 0L;
+        }
+        LimitConfig config = configs.computeIfAbsent(platform, this::loadConfig);
+        if (config.isEmpty()) {
+            return 0L;
+        }
+        String normalizedPath = ApiPaths.normalize(path);
+        String resolvedShopKey = StringUtils.hasText(shopKey) ? shopKey : APP_LEVEL_SHOP_KEY;
+        long maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+
+        evictIdleBuckets();
+
+        // 任一令牌桶预约失败或等待被中断时退还已预约的令牌，避免同一次调用白白消耗其他令牌桶的配额
+        List<TokenBucket> reserved = new ArrayList<>(2);
+        boolean acquired = false;
+        try {
+            long waitNanos = 0L;
+            if (config.qps > 0 && StringUtils.hasText(shopKey)) {
+                TokenBucket bucket = bucket(platform, resolvedShopKey, null, config.qps, config.burst);
+                waitNanos = Math.max(waitNanos, reserve(bucket, maxWaitNanos, platform, resolvedShopKey, normalizedPath));
+                reserved.add(bucket);
+            }
+            Double pathQps = config.pathQps.get(normalizedPath);
+            if (pathQps != null) {
+                TokenBucket bucket = bucket(platform, resolvedShopKey, normalizedPath, pathQps, pathQps);
+                waitNanos = Math.max(waitNanos, reserve(bucket, maxWaitNanos, platform, resolvedShopKey, normalizedPath));
+                reserved.add(bucket);
+            }
+            if (waitNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            }
+            acquired = true;
+            for (TokenBucket bucket : reserved) {
+                bucket.record(waitNanos);
+            }
+            return waitNanos;
+        } finally {
+            if (!acquired) {
+                reserved.forEach(TokenBucket::refund);
+            }
+        }
+    }
+
+    /**
+     * 当前所有令牌桶的统计快照
+     */
+    public List<RateLimitStats> getStats() {
+        List<RateLimitStats> stats = new ArrayList<>();
+        buckets.forEach((key, bucket) -> {
+            String[] parts = key.split("\\|", 3);
+            stats.add(new RateLimitStats(
+                Platform.valueOf(parts[0]),
+                parts[1],
+                parts[2].isEmpty() ? null : parts[2],
+                bucket.getPermitsPerSecond(),
+                bucket.getAcquired(),
+                bucket.getThrottled(),
+                TimeUnit.NANOSECONDS.toMillis(bucket.getTotalWaitNanos()),
+                TimeUnit.NANOSECONDS.toMillis(bucket.getMaxWaitNanos())));
+        });
+        return stats;
+    }
+
+    private TokenBucket bucket(Platform platform, String shopKey, String path, double qps, double burst) {
+        String key = platform.name() + "|" + shopKey + "|" + (path == null ? "" : path);
+        return buckets.computeIfAbsent(key, ignored -> new TokenBucket(qps, burst));
+    }
+
+    /**
+     * 按 {@code bucket_idle_ms} 的间隔清理空闲的令牌桶，店铺数量很多时避免令牌桶只增不减。
+     */
+    private void evictIdleBuckets() {
+        long now = System.nanoTime();
+        long next = nextEvictionNanos.get();
+        long idleNanos = TimeUnit.MILLISECONDS.toNanos(bucketIdleMs);
+        if (bucketIdleMs <= 0 || now - next < 0 || !nextEvictionNanos.compareAndSet(next, now + idleNanos)) {
+            return;
+        }
+        buckets.entrySet().removeIf(entry -> entry.getValue().isIdle(now, idleNanos));
+    }
+
+    private long reserve(TokenBucket bucket, long maxWaitNanos, Platform platform, String shopKey, String path)
+        throws RateLimitExceededException {
+        long waitNanos = bucket.reserve(maxWaitNanos);
+        if (waitNanos < 0) {
+            throw new RateLimitExceededException("【Ecommerce4j】平台限流排队超过 " + maxWaitMs + "ms，平台=" + platform
+                + "，店铺=" + shopKey + "，接口=" + path);
+        }
+        return waitNanos;
+    }
+
+    private LimitConfig loadConfig(Platform platform) {
+        double qps = parseDouble(platformProperty(platform, "qps"), 0D);
+        double burst = parseDouble(platformProperty(platform, "burst"), qps);
+        Map<String, Double> pathQps = new HashMap<>();
+        String pathQpsValue = platformProperty(platform, "path_qps");
+        if (StringUtils.hasText(pathQpsValue)) {
+            for (String entry : pathQpsValue.split(",")) {
+                int separator = entry.lastIndexOf('=');
+                if (separator <= 0) {
+                    throw new EcommIntegrationException("【Ecommerce4j】限流配置格式错误，应为 路径=qps：" + entry.trim());
+                }
+                pathQps.put(ApiPaths.normalize(entry.substring(0, separator).trim()),
+                    Double.parseDouble(entry.substring(separator + 1).trim()));
+            }
+        }
+        LimitConfig config = new LimitConfig(qps, burst, Collections.unmodifiableMap(pathQps));
+        if (!config.isEmpty()) {
+            log.info("【Ecommerce4j】{} 限流配置：店铺 qps={}，burst={}，接口 qps={}", platform, qps, burst, pathQps);
+        }
+        return config;
+    }
+
+    private String platformProperty(Platform platform, String key) {
+        if (environment == null) {
+            return null;
+        }
+        return environment.getProperty(platform.getConfigPrefix() + ".rate_limit." + key);
+    }
+
+    private static double parseDouble(String value, double defaultValue) {
+        return StringUtils.hasText(value) ? Double.parseDouble(value.trim()) : defaultValue;
+    }
+
+    private static class LimitConfig {
+
+        private final double qps;
+
+        private final double burst;
+
+        private final Map<String, Double> pathQps;
+
+        private LimitConfig(double qps, double burst, Map<String, Double> pathQps) {
+            this.qps = qps;
+            this.burst = burst;
+            this.pathQps = pathQps;
+        }
+
+        private boolean isEmpty() {
+            return qps <= 0 && pathQps.isEmpty();
+        }
+    }
+
+    private static class DefaultHolder {
+
+        private static final RateLimiterRegistry INSTANCE = new RateLimiterRegistry();
+    }
+}
@@ -0,0 +1,64 @@
+package com.ecommerce4j.api.platform.http;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 重试预算。
+ * <p>
+ * 每个请求按比例存入额度，每次重试消耗 1 个额度；另外每秒固定补充少量额度，保证低流量时也能重试。
+ * 平台整体故障时重试次数被限制在请求量的一定比例内，避免重试风暴放大故障。
+ */
+final class RetryBudget {
+
+    private final double ratio;
+
+    private final double minRetriesPerSecond;
+
+    private final double maxBalance;
+
+    private double balance;
+
+    private long lastRefillNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    RetryBudget(double ratio, double minRetriesPerSecond) {
+        this.ratio = ratio;
+        this.minRetriesPerSecond = minRetriesPerSecond;
+        // 最多积攒 10 秒的最低额度，避免长时间空闲后突发大量重试
+        this.maxBalance = Math.max(1D, minRetriesPerSecond * 10);
+        this.balance = maxBalance;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    void onRequest() {
+        lock.lock();
+        try {
+            refill();
+            balance = Math.min(maxBalance, balance + ratio);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    boolean tryWithdraw() {
+        lock.lock();
+        try {
+            refill();
+            if (balance < 1D) {
+                return false;
+            }
+            balance -= 1D;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        balance = Math.min(maxBalance, balance + (now - lastRefillNanos) * minRetriesPerSecond / TimeUnit.SECONDS.toNanos(1));
+        lastRefillNanos = now;
+    }
+}
@@ -0,0 +1,157 @@
+package com.ecommerce4j.api.platform.http;
+
+import com.ecommerce4j.api.enums.Platform;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import javax.net.ssl.SSLHandshakeException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 传输层重试拦截器，策略见 {@link RetryPolicyRegistry}。
+ * <p>
+ * 位于限流和日志拦截器之前，因此每次重试都会重新获取限流令牌，并单独记录日志。
+ * 退避在当前线程 sleep，{@code enqueue} 的请求占用的是 OkHttp 调度线程，见 {@link HttpTransport}。
+ */
+@Slf4j
+class RetryInterceptor implements Interceptor {
+
+    private final Platform platform;
+
+    private final RetryPolicyRegistry retryPolicyRegistry;
+
+    RetryInterceptor(Platform platform, RetryPolicyRegistry retryPolicyRegistry) {
+        this.platform = platform;
+        this.retryPolicyRegistry = retryPolicyRegistry;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        RetryPolicy policy = retryPolicyRegistry.policy(platform);
+        if (!policy.isEnabled() || policy.getMaxAttempts() <= 1) {
+            return chain.proceed(request);
+        }
+        RetryBudget budget = retryPolicyRegistry.budget(platform);
+        budget.onRequest();
+        boolean idempotent = policy.isIdempotent(request);
+
+        for (int attempt = 1; ; attempt++) {
+            Response response = null;
+            IOException failure = null;
+            try {
+                response = chain.proceed(request);
+            } catch (IOException e) {
+                failure = e;
+            }
+            boolean lastAttempt = attempt >= policy.getMaxAttempts();
+
+            long delayMs;
+            String reason;
+            if (failure != null) {
+                if (lastAttempt || Thread.currentThread().isInterrupted() || !isRetryable(failure, idempotent)) {
+                    throw failure;
+                }
+                delayMs = policy.backoffMillis(attempt);
+                reason = failure.getClass().getSimpleName();
+            } else {
+                if (lastAttempt || !isRetryable(response.code(), idempotent)) {
+                    return response;
+                }
+                long retryAfterMs = parseRetryAfterMillis(response.header("Retry-After"));
+                if (retryAfterMs > policy.getMaxRetryAfterMs()) {
+                    return response;
+                }
+                delayMs = retryAfterMs >= 0 ? retryAfterMs : policy.backoffMillis(attempt);
+                reason = "HTTP " + response.code();
+            }
+
+            if (!budget.tryWithdraw()) {
+                retryPolicyRegistry.recordBudgetExhausted(platform);
+                log.warn("【Ecommerce4j】{} 重试预算已耗尽，放弃重试，path={}，原因={}", platform, request.url().encodedPath(), reason);
+                if (failure != null) {
+                    throw failure;
+                }
+                return response;
+            }
+            if (response != null) {
+                response.close();
+            }
+            retryPolicyRegistry.recordRetry(platform);
+            log.warn("【Ecommerce4j】{} 请求失败，{}ms 后进行第 {} 次重试，path={}，原因={}",
+                platform, delayMs, attempt, request.url().encodedPath(), reason);
+            sleep(delayMs);
+        }
+    }
+
+    /**
+     * 连接建立前的失败（连接拒绝、DNS、TLS 握手）请求一定没有到达服务端，任何请求都可以重试；
+     * 其他 I/O 异常（读超时、连接重置）只对幂等请求重试。
+     */
+    private static boolean isRetryable(IOException failure, boolean idempotent) {
+        if (failure instanceof RateLimitExceededException) {
+            // 本地限流排队超时，请求没有发出，重试只会再次排队
+            return false;
+        }
+        if (failure instanceof ConnectException
+            || failure instanceof UnknownHostException
+            || failure instanceof SSLHandshakeException) {
+            return true;
+        }
+        return idempotent;
+    }
+
+    /**
+     * 429 表示请求被平台限流拒绝，任何请求都可以重试；408/5xx 只对幂等请求重试。
+     */
+    private static boolean isRetryable(int code, boolean idempotent) {
+        if (code == 429) {
+            return true;
+        }
+        return idempotent && (code == 408 || code == 500 || code == 502 || code == 503 || code == 504);
+    }
+
+    /**
+     * 解析 Retry-After（秒数或 HTTP 日期），没有或无法解析时返回 -1。
+     */
+    static long parseRetryAfterMillis(String retryAfter) {
+        if (retryAfter == null || retryAfter.isBlank()) {
+            return -1L;
+        }
+        String value = retryAfter.trim();
+        try {
+            return Math.max(0L, TimeUnit.SECONDS.toMillis(Long.parseLong(value)));
+        } catch (NumberFormatException ignored) {
+            // 不是秒数时按 HTTP 日期解析
+        }
+        try {
+            Instant at = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+            return Math.max(0L, Duration.between(Instant.now(), at).toMillis());
+        } catch (DateTimeParseException e) {
+            return -1L;
+        }
+    }
+
+    private static void sleep(long delayMs) throws InterruptedIOException {
+        if (delayMs <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(delayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("等待重试时被中断");
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.ecommerce4j.api.platform.http;
+
+import lombok.Builder;
+import lombok.Getter;
+import okhttp3.Request;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 单个平台的重试策略，由 {@link RetryPolicyRegistry} 根据配置生成。
+ */
+@Getter
+@Builder
+public class RetryPolicy {
+
+    private static final Set<String> IDEMPOTENT_METHODS = Set.of("GET", "HEAD", "PUT", "DELETE", "OPTIONS");
+
+    private final boolean enabled;
+
+    /**
+     * 总尝试次数（含第一次）
+     */
+    private final int maxAttempts;
+
+    private final long baseDelayMs;
+
+    private final long maxDelayMs;
+
+    /**
+     * 服务端要求的 Retry-After 超过该值时不再重试，直接返回原响应
+     */
+    private final long maxRetryAfterMs;
+
+    /**
+     * 可以安全重放的 POST 接口（规范化后的路径），如只读的查询接口
+     */
+    @Builder.Default
+    private final Set<String> idempotentPostPaths = Collections.emptySet();
+
+    /**
+     * 指数退避加全抖动：在 [0, min(maxDelay, baseDelay * 2^(attempt-1))] 中随机取值。
+     *
+     * @param attempt 已经失败的尝试次数，从 1 开始
+     */
+    public long backoffMillis(int attempt) {
+        long ceiling = baseDelayMs << Math.min(attempt - 1, 20);
+        ceiling = Math.min(maxDelayMs, Math.max(0L, ceiling));
+        return ceiling <= 0 ? 0L : ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    /**
+     * 请求重放是否安全。POST 默认不安全（如回填运单号、打包），除非在 idempotent_post_paths 中声明。
+     */
+    public boolean isIdempotent(Request request) {
+        String method = request.method();
+        if (IDEMPOTENT_METHODS.contains(method)) {
+            return true;
+        }
+        return "POST".equals(method) && idempotentPostPaths.contains(ApiPaths.normalize(request.url().encodedPath()));
+    }
+}
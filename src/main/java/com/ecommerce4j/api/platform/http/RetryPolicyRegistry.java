@@ -0,0 +1,144 @@
+package com.ecommerce4j.api.platform.http;
+
+import com.ecommerce4j.api.enums.Platform;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 平台请求的重试配置与重试预算。
+ * <p>
+ * 由 {@link RetryInterceptor} 在传输层使用：单个请求遇到连接异常、429、5xx 时按指数退避加抖动重试，
+ * 优先遵守服务端返回的 Retry-After；非幂等的 POST（回填运单号、打包等）只在请求确定没有被处理时重试
+ * （连接失败、429）。每个平台各有一个重试预算，重试次数不超过请求量的 {@code budget_ratio}。
+ * <p>
+ * 全局配置 {@code ecommerce4j.retry.*}，可用 {@code <平台前缀>.retry.*} 按平台覆盖：
+ * {@code enabled}、{@code max_attempts}、{@code base_delay_ms}、{@code max_delay_ms}、{@code max_retry_after_ms}、
+ * {@code budget_ratio}、{@code budget_min_per_second}、{@code idempotent_post_paths}（逗号分隔）。
+ */
+@Component
+public class RetryPolicyRegistry {
+
+    private static final int DEFAULT_MAX_ATTEMPTS = 3;
+    private static final long DEFAULT_BASE_DELAY_MS = 200L;
+    private static final long DEFAULT_MAX_DELAY_MS = 5_000L;
+    private static final long DEFAULT_MAX_RETRY_AFTER_MS = 30_000L;
+    private static final double DEFAULT_BUDGET_RATIO = 0.1D;
+    private static final double DEFAULT_BUDGET_MIN_PER_SECOND = 5D;
+
+    @Value("${ecommerce4j.retry.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${ecommerce4j.retry.max_attempts:" + DEFAULT_MAX_ATTEMPTS + "}")
+    private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+
+    @Value("${ecommerce4j.retry.base_delay_ms:" + DEFAULT_BASE_DELAY_MS + "}")
+    private long baseDelayMs = DEFAULT_BASE_DELAY_MS;
+
+    @Value("${ecommerce4j.retry.max_delay_ms:" + DEFAULT_MAX_DELAY_MS + "}")
+    private long maxDelayMs = DEFAULT_MAX_DELAY_MS;
+
+    @Value("${ecommerce4j.retry.max_retry_after_ms:" + DEFAULT_MAX_RETRY_AFTER_MS + "}")
+    private long maxRetryAfterMs = DEFAULT_MAX_RETRY_AFTER_MS;
+
+    @Value("${ecommerce4j.retry.budget_ratio:" + DEFAULT_BUDGET_RATIO + "}")
+    private double budgetRatio = DEFAULT_BUDGET_RATIO;
+
+    @Value("${ecommerce4j.retry.budget_min_per_second:" + DEFAULT_BUDGET_MIN_PER_SECOND + "}")
+    private double budgetMinPerSecond = DEFAULT_BUDGET_MIN_PER_SECOND;
+
+    @Value("${ecommerce4j.retry.idempotent_post_paths:}")
+    private String idempotentPostPaths = "";
+
+    @Autowired(required = false)
+    private Environment environment;
+
+    private final Map<Platform, RetryPolicy> policies = new ConcurrentHashMap<>();
+
+    private final Map<Platform, RetryBudget> budgets = new ConcurrentHashMap<>();
+
+    private final Map<Platform, AtomicLong> retries = new ConcurrentHashMap<>();
+
+    private final Map<Platform, AtomicLong> budgetExhausted = new ConcurrentHashMap<>();
+
+    /**
+     * 非 Spring 环境（如单元测试、直接 new 适配器）下使用的进程级默认实例，全部使用默认参数。
+     */
+    public static RetryPolicyRegistry defaults() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    public RetryPolicy policy(Platform platform) {
+        return policies.computeIfAbsent(platform, key -> RetryPolicy.builder()
+            .enabled(Boolean.parseBoolean(resolve(key, "enabled", String.valueOf(enabled))))
+            .maxAttempts(Math.max(1, Integer.parseInt(resolve(key, "max_attempts", String.valueOf(maxAttempts)))))
+            .baseDelayMs(Long.parseLong(resolve(key, "base_delay_ms", String.valueOf(baseDelayMs))))
+            .maxDelayMs(Long.parseLong(resolve(key, "max_delay_ms", String.valueOf(maxDelayMs))))
+            .maxRetryAfterMs(Long.parseLong(resolve(key, "max_retry_after_ms", String.valueOf(maxRetryAfterMs))))
+            .idempotentPostPaths(parsePaths(resolve(key, "idempotent_post_paths", idempotentPostPaths)))
+            .build());
+    }
+
+    /**
+     * 平台累计重试次数
+     */
+    public long getRetryCount(Platform platform) {
+        AtomicLong count = retries.get(platform);
+        return count == null ? 0L : count.get();
+    }
+
+    /**
+     * 因重试预算耗尽而放弃重试的次数
+     */
+    public long getBudgetExhaustedCount(Platform platform) {
+        AtomicLong count = budgetExhausted.get(platform);
+        return count == null ? 0L : count.get();
+    }
+
+    RetryBudget budget(Platform platform) {
+        return budgets.computeIfAbsent(platform, key -> new RetryBudget(
+            Double.parseDouble(resolve(key, "budget_ratio", String.valueOf(budgetRatio))),
+            Double.parseDouble(resolve(key, "budget_min_per_second", String.valueOf(budgetMinPerSecond)))));
+    }
+
+    void recordRetry(Platform platform) {
+        retries.computeIfAbsent(platform, key -> new AtomicLong()).incrementAndGet();
+    }
+
+    void recordBudgetExhausted(Platform platform) {
+        budgetExhausted.computeIfAbsent(platform, key -> new AtomicLong()).incrementAndGet();
+    }
+
+    private String resolve(Platform platform, String key, String defaultValue) {
+        if (environment == null || platform == null) {
+            return defaultValue;
+        }
+        String value = environment.getProperty(platform.getConfigPrefix() + ".retry." + key);
+        return value == null ? defaultValue : value.trim();
+    }
+
+    private static Set<String> parsePaths(String value) {
+        if (!StringUtils.hasText(value)) {
+            return Set.of();
+        }
+        return Arrays.stream(value.split(","))
+            .map(String::trim)
+            .filter(StringUtils::hasText)
+            .map(ApiPaths::normalize)
+            .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private static class DefaultHolder {
+
+        private static final RetryPolicyRegistry INSTANCE = new RetryPolicyRegistry();
+    }
+}
@@ -0,0 +1,37 @@
+package com.ecommerce4j.api.platform.http;
+
+import com.ecommerce4j.api.dto.AuthContext;
+import okhttp3.Request;
+import org.springframework.util.StringUtils;
+
+/**
+ * 附加在业务请求上的卖家标识，供限流和调用指标按店铺区分。
+ * <p>
+ * 取自授权上下文的卖家 ID（没有时取店铺 ID），令牌刷新后保持不变，不会因为访问令牌变化而产生新的令牌桶或指标序列。
+ * 各平台在构建需要授权的请求时通过 {@link #tag} 附加，授权、CDN 下载等应用级请求不附加。
+ */
+public final class SellerTag {
+
+    private final String sellerId;
+
+    private SellerTag(String sellerId) {
+        this.sellerId = sellerId;
+    }
+
+    /**
+     * 把授权上下文中的卖家 ID 附加到请求上；授权上下文为空或没有卖家 ID 时不附加。
+     */
+    public static Request.Builder tag(Request.Builder builder, AuthContext authContext) {
+        String sellerId = authContext == null ? null
+            : StringUtils.hasText(authContext.getSellerId()) ? authContext.getSellerId() : authContext.getShopId();
+        return StringUtils.hasText(sellerId) ? builder.tag(SellerTag.class, new SellerTag(sellerId)) : builder;
+    }
+
+    /**
+     * 请求上附加的卖家 ID，没有附加时返回 null。
+     */
+    public static String sellerId(Request request) {
+        SellerTag tag = request.tag(SellerTag.class);
+        return tag == null ? null : tag.sellerId;
+    }
+}
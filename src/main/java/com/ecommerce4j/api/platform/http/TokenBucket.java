@@ -0,0 +1,133 @@
+package com.ecommerce4j.api.platform.http;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 令牌桶。
+ * <p>
+ * 获取令牌采用“预约”方式：令牌不足时余额可以为负，调用方按预约到的时间点等待，
+ * 因此并发请求按到达顺序排队，不会出现惊群；等待在锁外进行。
+ * 锁使用 {@link ReentrantLock}，大量虚拟线程争用时不会钉住载体线程。
+ */
+final class TokenBucket {
+
+    private final double permitsPerSecond;
+
+    private final double capacity;
+
+    private double tokens;
+
+    private long lastRefillNanos;
+
+    /**
+     * 最近一次预约的时间，用于清理长期不用的令牌桶
+     */
+    private volatile long lastUsedNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final LongAdder acquired = new LongAdder();
+
+    private final LongAdder throttled = new LongAdder();
+
+    private final LongAdder totalWaitNanos = new LongAdder();
+
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    TokenBucket(double permitsPerSecond, double burst) {
+        this.permitsPerSecond = permitsPerSecond;
+        this.capacity = Math.max(1D, burst);
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+        this.lastUsedNanos = lastRefillNanos;
+    }
+
+    /**
+     * 预约一个令牌，返回需要等待的纳秒数；超过 maxWaitNanos 时不预约并返回 -1。
+     */
+    long reserve(long maxWaitNanos) {
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            refill(now);
+            lastUsedNanos = now;
+            if (tokens >= 1D) {
+                tokens -= 1D;
+                return 0L;
+            }
+            long waitNanos = (long) Math.ceil((1D - tokens) / permitsPerSecond * TimeUnit.SECONDS.toNanos(1));
+            if (waitNanos > maxWaitNanos) {
+                return -1L;
+            }
+            tokens -= 1D;
+            return waitNanos;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 退还一个已预约但未使用的令牌，用于同一次调用在其他令牌桶上预约失败或等待被中断的情况。
+     */
+    void refund() {
+        lock.lock();
+        try {
+            tokens = Math.min(capacity, tokens + 1D);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 超过 idleNanos 没有预约且令牌已经回满时视为空闲，移除后重新创建的令牌桶与它状态相同。
+     */
+    boolean isIdle(long now, long idleNanos) {
+        if (now - lastUsedNanos < idleNanos) {
+            return false;
+        }
+        lock.lock();
+        try {
+            refill(now);
+            return tokens >= capacity;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void refill(long now) {
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * permitsPerSecond / TimeUnit.SECONDS.toNanos(1));
+        lastRefillNanos = now;
+    }
+
+    void record(long waitNanos) {
+        acquired.increment();
+        if (waitNanos > 0) {
+            throttled.increment();
+            totalWaitNanos.add(waitNanos);
+            maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+        }
+    }
+
+    double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    long getAcquired() {
+        return acquired.sum();
+    }
+
+    long getThrottled() {
+        return throttled.sum();
+    }
+
+    long getTotalWaitNanos() {
+        return totalWaitNanos.sum();
+    }
+
+    long getMaxWaitNanos() {
+        return maxWaitNanos.get();
+    }
+}
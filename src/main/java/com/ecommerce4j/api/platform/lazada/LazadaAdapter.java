@@ -5,12 +5,15 @@ import com.ecommerce4j.api.EcommFulfillmentService;
 import com.ecommerce4j.api.EcommLogisticsService;
 import com.ecommerce4j.api.EcommOrderService;
 import com.ecommerce4j.api.dto.AuthContext;
+import com.ecommerce4j.api.dto.DocumentMetadata;
 import com.ecommerce4j.api.dto.FulfillmentAction;
 import com.ecommerce4j.api.dto.FulfillmentDocument;
 import com.ecommerce4j.api.dto.FulfillmentPackRequest;
 import com.ecommerce4j.api.dto.FulfillmentPackageResult;
 import com.ecommerce4j.api.dto.FulfillmentProviderOption;
 import com.ecommerce4j.api.dto.OrderQuery;
+import com.ecommerce4j.api.dto.PackageDocumentRef;
+import com.ecommerce4j.api.dto.PackageDocumentResult;
 import com.ecommerce4j.api.dto.PaginatedResult;
 import com.ecommerce4j.api.dto.TrackingInfo;
 import com.ecommerce4j.api.dto.UnifiedAddress;
@@ -23,6 +26,8 @@ import com.ecommerce4j.api.enums.FulfillmentType;
 import com.ecommerce4j.api.enums.Platform;
 import com.ecommerce4j.api.exception.EcommIntegrationException;
 import com.ecommerce4j.api.platform.AbstractAdapter;
+import com.ecommerce4j.api.platform.http.AsyncCalls;
+import com.ecommerce4j.api.platform.http.DocumentSink;
 import com.ecommerce4j.api.platform.lazada.dto.LazadaAuthModels;
 import com.ecommerce4j.api.platform.lazada.dto.LazadaFulfillmentModels;
 import com.ecommerce4j.api.platform.lazada.dto.LazadaOrderModels;
@@ -34,6 +39,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
@@ -42,12 +48,16 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Lazada 平台适配器
@@ -58,6 +68,15 @@ public class LazadaAdapter extends AbstractAdapter implements EcommOrderService,
     private static final int DEFAULT_PAGE_SIZE = 50;
     private static final int MAX_PAGE_SIZE = 100;
     private static final int MAX_BATCH_ORDER_IDS = 50;
+    /**
+     * GetPackageDocument 单次请求的包裹数上限
+     */
+    private static final int MAX_DOCUMENT_PACKAGES = 20;
+
+    /**
+     * 面单缓存中的文档类型，与 GetPackageDocument 的 doc_type 一致
+     */
+    private static final String LABEL_CACHE_TYPE = "PDF";
 
     @Value("${lazada.app_key}")
     private String appKey;
@@ -74,11 +93,22 @@ public class LazadaAdapter extends AbstractAdapter implements EcommOrderService,
     @Value("${lazada.auth_base_url:https://auth.lazada.com/rest}")
     private String authBaseUrl;
 
+    /**
+     * 覆盖所有站点的 API 网关（如本地模拟服务），为空时按 siteCountry 选择官方网关
+     */
+    @Value("${lazada.api_base_url:}")
+    private String apiBaseUrl;
+
     private LazadaApiClient lazadaApiClient;
 
+    public LazadaAdapter() {
+        super(Platform.LAZADA);
+    }
+
     @PostConstruct
     void initClient() {
-        this.lazadaApiClient = new LazadaApiClient(httpClient, downloadClient, objectMapper, appKey, appSecret, authBaseUrl);
+        this.lazadaApiClient = new LazadaApiClient(httpClient(), downloadClient(), objectMapper, appKey, appSecret, authBaseUrl,
+            StringUtils.hasText(apiBaseUrl) ? LazadaApiClient.sameEndpointForAllSites(apiBaseUrl) : Collections.emptyMap());
     }
 
     @Override
@@ -110,7 +140,19 @@ public class LazadaAdapter extends AbstractAdapter implements EcommOrderService,
         if (authContext == null || !StringUtils.hasText(authContext.getRefreshToken())) {
             throw new EcommIntegrationException("【Lazada】refreshToken 不能为空。");
         }
-        LazadaAuthModels.TokenResponse response = lazadaApiClient.refreshTokens(authContext.getRefreshToken());
+        return mergeRefreshedTokens(authContext, lazadaApiClient.refreshTokens(authContext.getRefreshToken()));
+    }
+
+    @Override
+    public CompletableFuture<AuthContext> refreshTokensAsync(AuthContext authContext) {
+        if (authContext == null || !StringUtils.hasText(authContext.getRefreshToken())) {
+            return CompletableFuture.failedFuture(new EcommIntegrationException("【Lazada】refreshToken 不能为空。"));
+        }
+        return AsyncCalls.thenApply(lazadaApiClient.refreshTokensAsync(authContext.getRefreshToken()),
+            response -> mergeRefreshedTokens(authContext, response));
+    }
+
+    private AuthContext mergeRefreshedTokens(AuthContext authContext, LazadaAuthModels.TokenResponse response) {
         AuthContext refreshed = mapToAuthContext(response);
         refreshed.setSellerId(StringUtils.hasText(refreshed.getSellerId()) ? refreshed.getSellerId() : authContext.getSellerId());
         refreshed.setShopId(StringUtils.hasText(refreshed.getShopId()) ? refreshed.getShopId() : authContext.getShopId());
@@ -122,7 +164,15 @@ public class LazadaAdapter extends AbstractAdapter implements EcommOrderService,
 
     @Override
     public UnifiedShopInfo getShopInfo(AuthContext authContext) {
-        LazadaAuthModels.SellerResponse response = lazadaApiClient.getSeller(authContext);
+        return mapShopInfo(authContext, lazadaApiClient.getSeller(authContext));
+    }
+
+    @Override
+    public CompletableFuture<UnifiedShopInfo> getShopInfoAsync(AuthContext authContext) {
+        return AsyncCalls.thenApply(lazadaApiClient.getSellerAsync(authContext), response -> mapShopInfo(authContext, response));
+    }
+
+    private UnifiedShopInfo mapShopInfo(AuthContext authContext, LazadaAuthModels.SellerResponse response) {
         LazadaAuthModels.Seller seller = response.getData();
         if (seller == null) {
             return null;
@@ -141,21 +191,54 @@ public class LazadaAdapter extends AbstractAdapter implements EcommOrderService,
 
     @Override
     public PaginatedResult<UnifiedOrder> getOrders(AuthContext authContext, OrderQuery query) {
+        return timedPage(() -> {
+            PaginatedResult<LazadaOrderModels.Order> page = listOrderHeaders(authContext, query, query == null ? null : query.getPageToken());
+            return new PaginatedResult<>(mapOrderHeaders(authContext, page.getData()), page.getNextPageToken());
+        });
+    }
+
+    /**
+     * 以流水线方式读取订单：当前页的订单行批次并发查询时，下一页的订单头列表已经在请求中。
+     * <p>
+     * 返回顺序与逐页调用 {@link #getOrders} 一致。返回的 Stream 是惰性的，提前结束消费时请关闭 Stream，以取消尚未完成的请求。
+     *
+     * @param authContext 认证上下文
+     * @param query       查询条件，pageToken 作为起始 offset
+     * @return 订单流
+     */
+    public Stream<UnifiedOrder> streamOrders(AuthContext authContext, OrderQuery query) {
+        // 提前校验查询参数，避免错误在消费时才抛出
+        validateOrderQuery(query);
+        parseOffset(query.getPageToken());
+        return pipelineOrders(authContext, query.getPageToken(),
+            pageToken -> listOrderHeaders(authContext, query, pageToken),
+            MAX_BATCH_ORDER_IDS,
+            headers -> mapOrderHeaders(authContext, headers));
+    }
+
+    private void validateOrderQuery(OrderQuery query) {
         if (query == null) {
             throw new EcommIntegrationException("【Lazada】OrderQuery 不能为空。");
         }
         if (query.getUpdateTimeFrom() == null && query.getCreateTimeFrom() == null) {
             throw new EcommIntegrationException("【Lazada】updateTimeFrom 或 createTimeFrom 至少需要传一个。");
         }
+    }
 
-        int offset = 0;
-        if (StringUtils.hasText(query.getPageToken())) {
-            try {
-                offset = Integer.parseInt(query.getPageToken());
-            } catch (NumberFormatException e) {
-                throw new EcommIntegrationException("【Lazada】pageToken 必须是数字 offset。", e);
-            }
+    private int parseOffset(String pageToken) {
+        if (!StringUtils.hasText(pageToken)) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(pageToken);
+        } catch (NumberFormatException e) {
+            throw new EcommIntegrationException("【Lazada】pageToken 必须是数字 offset。", e);
         }
+    }
+
+    private PaginatedResult<LazadaOrderModels.Order> listOrderHeaders(AuthContext authContext, OrderQuery query, String pageToken) {
+        validateOrderQuery(query);
+        int offset = parseOffset(pageToken);
 
         int pageSize = query.getPageSize() > 0 ? Math.min(query.getPageSize(), MAX_PAGE_SIZE) : DEFAULT_PAGE_SIZE;
         Map<String, String> queryParameters = new LinkedHashMap<>();
@@ -186,37 +269,112 @@ public class LazadaAdapter extends AbstractAdapter implements EcommOrderService,
         }
 
         List<LazadaOrderModels.Order> headers = data.getOrders();
-        Map<String, List<LazadaOrderModels.OrderItem>> orderItemsByOrderId = loadOrderItemsByOrderIds(authContext,
-            headers.stream().map(LazadaOrderModels.Order::getOrderId).collect(Collectors.toList()));
-
-        List<UnifiedOrder> orders = headers.stream()
-            .map(order -> mapToUnifiedOrder(order, orderItemsByOrderId.get(order.getOrderId())))
-            .collect(Collectors.toList());
-
         String nextPageToken = null;
         if (data.getCountTotal() != null && offset + headers.size() < data.getCountTotal()) {
             nextPageToken = String.valueOf(offset + headers.size());
         } else if (headers.size() == pageSize) {
             nextPageToken = String.valueOf(offset + headers.size());
         }
-        return new PaginatedResult<>(orders, nextPageToken);
+        return new PaginatedResult<>(headers, nextPageToken);
+    }
+
+    private List<UnifiedOrder> mapOrderHeaders(AuthContext authContext, List<LazadaOrderModels.Order> headers) {
+        if (CollectionUtils.isEmpty(headers)) {
+            return Collections.emptyList();
+        }
+        Map<String, List<LazadaOrderModels.OrderItem>> orderItemsByOrderId = loadOrderItemsByOrderIds(authContext,
+            headers.stream().map(LazadaOrderModels.Order::getOrderId).collect(Collectors.toList()));
+
+        return timedMapping(() -> headers.stream()
+            .map(order -> mapToUnifiedOrder(order, orderItemsByOrderId.get(order.getOrderId())))
+            .collect(Collectors.toList()));
     }
 
     @Override
     public List<UnifiedOrder> getOrderDetails(AuthContext authContext, List<String> orderIds) {
+        return resolveOrderDetails(authContext, orderIds, Collections.emptyMap());
+    }
+
+    /**
+     * 重新加载已经通过 {@link #getOrders} 或 {@link #getOrderDetails} 拿到的订单。
+     * <p>
+     * 订单头直接复用 rawData 中的 original_order，只批量重新查询订单行（状态、包裹、运单号都在订单行上），
+     * 不再逐单调用 /order/get。rawData 中没有订单头的订单仍会单独查询订单头。
+     * 注意：收货地址、金额等订单头字段以传入的订单为准。
+     *
+     * @param authContext 认证上下文
+     * @param orders      已有的订单
+     * @return 重新加载后的订单，顺序与入参一致
+     */
+    public List<UnifiedOrder> refreshOrders(AuthContext authContext, List<UnifiedOrder> orders) {
+        if (CollectionUtils.isEmpty(orders)) {
+            return Collections.emptyList();
+        }
+        List<String> orderIds = new ArrayList<>();
+        Map<String, LazadaOrderModels.Order> knownHeaders = new HashMap<>();
+        for (UnifiedOrder order : orders) {
+            orderIds.add(order.getOrderId());
+            Object header = order.getRawData() == null ? null : order.getRawData().get("original_order");
+            if (header instanceof LazadaOrderModels.Order) {
+                knownHeaders.put(order.getOrderId(), (LazadaOrderModels.Order) header);
+            }
+        }
+        return resolveOrderDetails(authContext, orderIds, knownHeaders);
+    }
+
+    private List<UnifiedOrder> resolveOrderDetails(AuthContext authContext,
+                                                   List<String> orderIds,
+                                                   Map<String, LazadaOrderModels.Order> knownHeaders) {
         if (CollectionUtils.isEmpty(orderIds)) {
             return Collections.emptyList();
         }
 
-        Map<String, List<LazadaOrderModels.OrderItem>> orderItemsByOrderId = loadOrderItemsByOrderIds(authContext, orderIds);
-        List<UnifiedOrder> result = new ArrayList<>();
-        for (String orderId : orderIds) {
-            LazadaOrderModels.OrderResponse orderResponse = lazadaApiClient.getOrder(authContext, orderId);
-            if (orderResponse.getData() != null) {
-                result.add(mapToUnifiedOrder(orderResponse.getData(), orderItemsByOrderId.get(orderId)));
+        // 订单行按 50 单批量查询：各批次直接从当前线程提交，与订单头的并发查询同时进行
+        CompletableFuture<List<LazadaOrderModels.MultipleOrderItemsResponse>> orderItemsFuture = AsyncCalls.allOf(
+            orderItemBatches(orderIds).stream()
+                .map(batchOrderIds -> this.<LazadaOrderModels.MultipleOrderItemsResponse>submitAsync(authContext,
+                    () -> lazadaApiClient.getMultipleOrderItems(authContext, batchOrderIds)))
+                .collect(Collectors.toList()));
+
+        // Lazada 没有按订单号批量查询订单头的接口，只对调用方没有持有订单头的订单逐个并发查询
+        List<String> missingHeaderIds = orderIds.stream()
+            .filter(orderId -> !knownHeaders.containsKey(orderId))
+            .distinct()
+            .collect(Collectors.toList());
+        Map<String, LazadaOrderModels.Order> headers = new HashMap<>(knownHeaders);
+        List<LazadaOrderModels.Order> fetchedHeaders;
+        try {
+            fetchedHeaders = fanOut(authContext, missingHeaderIds, orderId -> lazadaApiClient.getOrder(authContext, orderId).getData());
+        } catch (RuntimeException e) {
+            orderItemsFuture.cancel(true);
+            throw e;
+        }
+        for (int index = 0; index < missingHeaderIds.size(); index++) {
+            if (fetchedHeaders.get(index) != null) {
+                headers.put(missingHeaderIds.get(index), fetchedHeaders.get(index));
             }
         }
-        return result;
+
+        Map<String, List<LazadaOrderModels.OrderItem>> orderItemsByOrderId;
+        try {
+            orderItemsByOrderId = groupOrderItems(orderItemsFuture.join());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new EcommIntegrationException("【Lazada】批量查询订单行失败", e.getCause());
+        }
+
+        return timedMapping(() -> {
+            List<UnifiedOrder> result = new ArrayList<>();
+            for (String orderId : orderIds) {
+                LazadaOrderModels.Order header = headers.get(orderId);
+                if (header != null) {
+                    result.add(mapToUnifiedOrder(header, orderItemsByOrderId.get(orderId)));
+                }
+            }
+            return result;
+        });
     }
 
     @Override
@@ -435,12 +593,107 @@ public class LazadaAdapter extends AbstractAdapter implements EcommOrderService,
         if (!StringUtils.hasText(packageId)) {
             throw new EcommIntegrationException("【Lazada】packageId 不能为空。");
         }
+        return cachedDocument(packageId, LABEL_CACHE_TYPE, () -> loadPackageDocument(authContext, Collections.singletonList(packageId)));
+    }
 
-        LazadaFulfillmentModels.PackageRef packageRef = new LazadaFulfillmentModels.PackageRef();
-        packageRef.setPackageId(packageId);
+    /**
+     * 批量获取面单：GetPackageDocument 一次最多传入 {@value #MAX_DOCUMENT_PACKAGES} 个包裹，返回合并后的一个 PDF。
+     * 平台对整批返回成功或失败，某一批失败时逐个包裹重试，见 {@link #loadDocumentBatch}。
+     */
+    @Override
+    public List<PackageDocumentResult> getPackageDocuments(AuthContext authContext, List<PackageDocumentRef> packages) {
+        if (CollectionUtils.isEmpty(packages)) {
+            return Collections.emptyList();
+        }
+        List<PackageDocumentRef> valid = new ArrayList<>();
+        for (PackageDocumentRef ref : packages) {
+            if (StringUtils.hasText(ref.getPackageId())) {
+                valid.add(ref);
+            }
+        }
+        // 命中缓存的包裹直接返回，其余包裹按批合并下载
+        List<PackageDocumentResult> validResults = cachedDocuments(valid, LABEL_CACHE_TYPE, refs -> loadPackageDocumentBatches(authContext, refs));
+        Map<PackageDocumentRef, PackageDocumentResult> resultsByRef = new IdentityHashMap<>();
+        for (int index = 0; index < valid.size(); index++) {
+            resultsByRef.put(valid.get(index), validResults.get(index));
+        }
+        List<PackageDocumentResult> results = new ArrayList<>(packages.size());
+        for (PackageDocumentRef ref : packages) {
+            PackageDocumentResult result = resultsByRef.get(ref);
+            results.add(result != null ? result : PackageDocumentResult.failure(ref, "【Lazada】packageId 不能为空。"));
+        }
+        return results;
+    }
+
+    private List<PackageDocumentResult> loadPackageDocumentBatches(AuthContext authContext, List<PackageDocumentRef> refs) {
+        List<List<PackageDocumentRef>> batches = new ArrayList<>();
+        for (int index = 0; index < refs.size(); index += MAX_DOCUMENT_PACKAGES) {
+            batches.add(refs.subList(index, Math.min(index + MAX_DOCUMENT_PACKAGES, refs.size())));
+        }
+        List<PackageDocumentResult> results = new ArrayList<>(refs.size());
+        fanOut(authContext, batches, batch -> loadDocumentBatch(LABEL_CACHE_TYPE, batch,
+            packageIds -> loadPackageDocument(authContext, packageIds))).forEach(results::addAll);
+        return results;
+    }
+
+    /**
+     * 以流式方式获取面单：pdf_url 的下载响应直接写入 {@code sink}；平台只返回 Base64 内容时解码后写出。
+     */
+    @Override
+    public DocumentMetadata writePackageDocument(AuthContext authContext, String orderId, String packageId, DocumentSink sink) {
+        if (!StringUtils.hasText(packageId)) {
+            throw new EcommIntegrationException("【Lazada】packageId 不能为空。");
+        }
+        return cachedDocument(packageId, LABEL_CACHE_TYPE, sink, target -> {
+            LazadaFulfillmentModels.PackageDocumentData data = requestPackageDocument(authContext, Collections.singletonList(packageId));
+            DocumentMetadata metadata;
+            if (StringUtils.hasText(data.getPdfUrl())) {
+                metadata = lazadaApiClient.downloadPdf(data.getPdfUrl(), target);
+            } else if (StringUtils.hasText(data.getFile())) {
+                try {
+                    metadata = DocumentMetadata.builder()
+                        .mimeType("application/pdf")
+                        .size(target.write(lazadaApiClient.decodeDocumentFile(data.getFile())))
+                        .build();
+                } catch (IOException e) {
+                    throw new EcommIntegrationException("【Lazada】写出面单文件失败，packageId=" + packageId, e);
+                }
+            } else {
+                throw new EcommIntegrationException("【Lazada】面单响应既没有 pdf_url，也没有 file 内容。");
+            }
+            metadata.setPackageId(packageId);
+            return metadata;
+        });
+    }
+
+    private FulfillmentDocument loadPackageDocument(AuthContext authContext, List<String> packageIds) {
+        LazadaFulfillmentModels.PackageDocumentData data = requestPackageDocument(authContext, packageIds);
+        byte[] content;
+        if (StringUtils.hasText(data.getPdfUrl())) {
+            content = lazadaApiClient.downloadPdf(data.getPdfUrl());
+        } else if (StringUtils.hasText(data.getFile())) {
+            content = lazadaApiClient.decodeDocumentFile(data.getFile());
+        } else {
+            throw new EcommIntegrationException("【Lazada】面单响应既没有 pdf_url，也没有 file 内容。");
+        }
+        return FulfillmentDocument.builder()
+            .packageId(packageIds.size() == 1 ? packageIds.get(0) : null)
+            .packageIds(packageIds)
+            .mimeType("application/pdf")
+            .content(content)
+            .build();
+    }
+
+    private LazadaFulfillmentModels.PackageDocumentData requestPackageDocument(AuthContext authContext, List<String> packageIds) {
+        List<LazadaFulfillmentModels.PackageRef> packageRefs = new ArrayList<>(packageIds.size());
+        for (String packageId : packageIds) {
+            LazadaFulfillmentModels.PackageRef packageRef = new LazadaFulfillmentModels.PackageRef();
+            packageRef.setPackageId(packageId);
+            packageRefs.add(packageRef);
+        }
         LazadaFulfillmentModels.PackageDocumentRequest request = new LazadaFulfillmentModels.PackageDocumentRequest();
         request.setDocType("PDF");
-        request.setPackages(Collections.singletonList(packageRef));
+        request.setPackages(packageRefs);
         request.setPrintItemList(Boolean.FALSE);
 
         LazadaFulfillmentModels.PackageDocumentResponse response = lazadaApiClient.getPackageDocument(authContext, request);
@@ -450,21 +703,7 @@ public class LazadaAdapter extends AbstractAdapter implements EcommOrderService,
         if (data == null) {
             throw new EcommIntegrationException("【Lazada】面单响应缺少 data。");
         }
-        if (StringUtils.hasText(data.getPdfUrl())) {
-            return FulfillmentDocument.builder()
-                .packageId(packageId)
-                .mimeType("application/pdf")
-                .content(lazadaApiClient.downloadPdf(data.getPdfUrl()))
-                .build();
-        }
-        if (StringUtils.hasText(data.getFile())) {
-            return FulfillmentDocument.builder()
-                .packageId(packageId)
-                .mimeType("application/pdf")
-                .content(lazadaApiClient.decodeDocumentFile(data.getFile()))
-                .build();
-        }
-        throw new EcommIntegrationException("【Lazada】面单响应既没有 pdf_url，也没有 file 内容。");
+        return data;
     }
 
     @Override
@@ -593,11 +832,21 @@ public class LazadaAdapter extends AbstractAdapter implements EcommOrderService,
             return Collections.emptyMap();
         }
 
-        Map<String, List<LazadaOrderModels.OrderItem>> result = new HashMap<>();
+        return groupOrderItems(fanOut(authContext, orderItemBatches(orderIds),
+            batchOrderIds -> lazadaApiClient.getMultipleOrderItems(authContext, batchOrderIds)));
+    }
+
+    private List<List<String>> orderItemBatches(List<String> orderIds) {
+        List<List<String>> batches = new ArrayList<>();
         for (int index = 0; index < orderIds.size(); index += MAX_BATCH_ORDER_IDS) {
-            int end = Math.min(index + MAX_BATCH_ORDER_IDS, orderIds.size());
-            List<String> batchOrderIds = orderIds.subList(index, end);
-            LazadaOrderModels.MultipleOrderItemsResponse response = lazadaApiClient.getMultipleOrderItems(authContext, batchOrderIds);
+            batches.add(orderIds.subList(index, Math.min(index + MAX_BATCH_ORDER_IDS, orderIds.size())));
+        }
+        return batches;
+    }
+
+    private Map<String, List<LazadaOrderModels.OrderItem>> groupOrderItems(List<LazadaOrderModels.MultipleOrderItemsResponse> responses) {
+        Map<String, List<LazadaOrderModels.OrderItem>> result = new HashMap<>();
+        for (LazadaOrderModels.MultipleOrderItemsResponse response : responses) {
             if (CollectionUtils.isEmpty(response.getData())) {
                 continue;
             }
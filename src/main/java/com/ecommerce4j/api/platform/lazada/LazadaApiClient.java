@@ -1,12 +1,21 @@
 package com.ecommerce4j.api.platform.lazada;
 
 import com.ecommerce4j.api.dto.AuthContext;
+import com.ecommerce4j.api.dto.DocumentMetadata;
+import com.ecommerce4j.api.exception.AuthExpiredException;
 import com.ecommerce4j.api.exception.EcommIntegrationException;
+import com.ecommerce4j.api.platform.http.AsyncCalls;
+import com.ecommerce4j.api.platform.http.DocumentDownloads;
+import com.ecommerce4j.api.platform.http.DocumentSink;
+import com.ecommerce4j.api.platform.http.JsonBodyReader;
+import com.ecommerce4j.api.platform.http.RateLimitExceededException;
+import com.ecommerce4j.api.platform.http.SellerTag;
 import com.ecommerce4j.api.platform.lazada.dto.LazadaAuthModels;
 import com.ecommerce4j.api.platform.lazada.dto.LazadaFulfillmentModels;
 import com.ecommerce4j.api.platform.lazada.dto.LazadaOrderModels;
 import com.ecommerce4j.api.platform.lazada.dto.LazadaResponse;
 import com.ecommerce4j.api.platform.lazada.dto.LazadaTraceModels;
+import com.ecommerce4j.api.platform.sign.LazadaSigner;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import okhttp3.HttpUrl;
@@ -17,10 +26,7 @@ import okhttp3.Response;
 import okhttp3.ResponseBody;
 import org.springframework.util.StringUtils;
 
-import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.HashMap;
@@ -29,7 +35,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
-import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Lazada Open Platform 请求客户端
@@ -37,7 +43,10 @@ import java.util.TreeMap;
 class LazadaApiClient {
 
     private static final String SIGN_METHOD = "sha256";
-    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    /**
+     * 访问令牌无效或过期的错误码
+     */
+    private static final String AUTH_EXPIRED_CODE = "IllegalAccessToken";
 
     private static final Map<String, String> DEFAULT_SITE_ENDPOINTS = Map.of(
         "sg", "https://api.lazada.sg/rest",
@@ -52,7 +61,10 @@ class LazadaApiClient {
     private final OkHttpClient downloadClient;
     private final ObjectMapper objectMapper;
     private final String appKey;
-    private final String appSecret;
+    /**
+     * app_secret 为空时为 null，签名时报错
+     */
+    private final LazadaSigner signer;
     private final String authBaseUrl;
     private final Map<String, String> siteEndpoints;
 
@@ -76,7 +88,7 @@ class LazadaApiClient {
         this.downloadClient = downloadClient;
         this.objectMapper = objectMapper;
         this.appKey = appKey;
-        this.appSecret = appSecret;
+        this.signer = StringUtils.hasText(appSecret) ? new LazadaSigner(appSecret) : null;
         this.authBaseUrl = authBaseUrl;
         this.siteEndpoints = new HashMap<>(DEFAULT_SITE_ENDPOINTS);
         if (siteEndpoints != null) {
@@ -88,60 +100,81 @@ class LazadaApiClient {
         }
     }
 
+    /**
+     * 所有站点都使用同一个网关，用于指向本地模拟服务
+     */
+    static Map<String, String> sameEndpointForAllSites(String baseUrl) {
+        Map<String, String> endpoints = new HashMap<>();
+        for (String site : DEFAULT_SITE_ENDPOINTS.keySet()) {
+            endpoints.put(site, baseUrl);
+        }
+        return endpoints;
+    }
+
     LazadaAuthModels.TokenResponse exchangeCodeForTokens(String code) {
         Map<String, String> parameters = new LinkedHashMap<>();
         parameters.put("code", code);
-        return executePost(authBaseUrl, "/auth/token/create", buildCommonParameters(null), parameters, new TypeReference<>() {});
+        return executePost(null, authBaseUrl, "/auth/token/create", buildCommonParameters(null), parameters, new TypeReference<>() {});
     }
 
     LazadaAuthModels.TokenResponse refreshTokens(String refreshToken) {
         Map<String, String> parameters = new LinkedHashMap<>();
         parameters.put("refresh_token", refreshToken);
-        return executePost(authBaseUrl, "/auth/token/refresh", buildCommonParameters(null), parameters, new TypeReference<>() {});
+        return executePost(null, authBaseUrl, "/auth/token/refresh", buildCommonParameters(null), parameters, new TypeReference<>() {});
+    }
+
+    CompletableFuture<LazadaAuthModels.TokenResponse> refreshTokensAsync(String refreshToken) {
+        Map<String, String> parameters = new LinkedHashMap<>();
+        parameters.put("refresh_token", refreshToken);
+        return executePostAsync(null, authBaseUrl, "/auth/token/refresh", buildCommonParameters(null), parameters, new TypeReference<>() {});
     }
 
     LazadaAuthModels.SellerResponse getSeller(AuthContext authContext) {
-        return executeGet(resolveSiteBaseUrl(authContext), "/seller/get", buildCommonParameters(authContext == null ? null : authContext.getAccessToken()), Collections.emptyMap(), new TypeReference<>() {});
+        return executeGet(authContext, resolveSiteBaseUrl(authContext), "/seller/get", buildCommonParameters(authContext == null ? null : authContext.getAccessToken()), Collections.emptyMap(), new TypeReference<>() {});
+    }
+
+    CompletableFuture<LazadaAuthModels.SellerResponse> getSellerAsync(AuthContext authContext) {
+        return executeGetAsync(authContext, resolveSiteBaseUrl(authContext), "/seller/get", buildCommonParameters(authContext == null ? null : authContext.getAccessToken()), Collections.emptyMap(), new TypeReference<>() {});
     }
 
     LazadaOrderModels.OrdersResponse getOrders(AuthContext authContext, Map<String, String> queryParameters) {
-        return executeGet(resolveSiteBaseUrl(authContext), "/orders/get", buildCommonParameters(authContext == null ? null : authContext.getAccessToken()), queryParameters, new TypeReference<>() {});
+        return executeGet(authContext, resolveSiteBaseUrl(authContext), "/orders/get", buildCommonParameters(authContext == null ? null : authContext.getAccessToken()), queryParameters, new TypeReference<>() {});
     }
 
     LazadaOrderModels.OrderResponse getOrder(AuthContext authContext, String orderId) {
         Map<String, String> queryParameters = new LinkedHashMap<>();
         queryParameters.put("order_id", orderId);
-        return executeGet(resolveSiteBaseUrl(authContext), "/order/get", buildCommonParameters(authContext == null ? null : authContext.getAccessToken()), queryParameters, new TypeReference<>() {});
+        return executeGet(authContext, resolveSiteBaseUrl(authContext), "/order/get", buildCommonParameters(authContext == null ? null : authContext.getAccessToken()), queryParameters, new TypeReference<>() {});
     }
 
     LazadaOrderModels.OrderItemsResponse getOrderItems(AuthContext authContext, String orderId) {
         Map<String, String> queryParameters = new LinkedHashMap<>();
         queryParameters.put("order_id", orderId);
-        return executeGet(resolveSiteBaseUrl(authContext), "/order/items/get", buildCommonParameters(authContext == null ? null : authContext.getAccessToken()), queryParameters, new TypeReference<>() {});
+        return executeGet(authContext, resolveSiteBaseUrl(authContext), "/order/items/get", buildCommonParameters(authContext == null ? null : authContext.getAccessToken()), queryParameters, new TypeReference<>() {});
     }
 
     LazadaOrderModels.MultipleOrderItemsResponse getMultipleOrderItems(AuthContext authContext, List<String> orderIds) {
         Map<String, String> queryParameters = new LinkedHashMap<>();
         queryParameters.put("order_ids", objectToJson(orderIds));
-        return executeGet(resolveSiteBaseUrl(authContext), "/orders/items/get", buildCommonParameters(authContext == null ? null : authContext.getAccessToken()), queryParameters, new TypeReference<>() {});
+        return executeGet(authContext, resolveSiteBaseUrl(authContext), "/orders/items/get", buildCommonParameters(authContext == null ? null : authContext.getAccessToken()), queryParameters, new TypeReference<>() {});
     }
 
     LazadaFulfillmentModels.ShipmentProvidersResponse getShipmentProviders(AuthContext authContext,
                                                                            LazadaFulfillmentModels.ShipmentProvidersRequest request) {
-        return executePost(resolveSiteBaseUrl(authContext), "/order/shipment/providers/get", buildCommonParameters(authContext == null ? null : authContext.getAccessToken()), Collections.singletonMap("getShipmentProvidersReq", objectToJson(request)), new TypeReference<>() {});
+        return executePost(authContext, resolveSiteBaseUrl(authContext), "/order/shipment/providers/get", buildCommonParameters(authContext == null ? null : authContext.getAccessToken()), Collections.singletonMap("getShipmentProvidersReq", objectToJson(request)), new TypeReference<>() {});
     }
 
     LazadaFulfillmentModels.PackResponse pack(AuthContext authContext, LazadaFulfillmentModels.PackRequest request) {
-        return executePost(resolveSiteBaseUrl(authContext), "/order/fulfill/pack", buildCommonParameters(authContext == null ? null : authContext.getAccessToken()), Collections.singletonMap("packReq", objectToJson(request)), new TypeReference<>() {});
+        return executePost(authContext, resolveSiteBaseUrl(authContext), "/order/fulfill/pack", buildCommonParameters(authContext == null ? null : authContext.getAccessToken()), Collections.singletonMap("packReq", objectToJson(request)), new TypeReference<>() {});
     }
 
     LazadaFulfillmentModels.PackageDocumentResponse getPackageDocument(AuthContext authContext,
                                                                        LazadaFulfillmentModels.PackageDocumentRequest request) {
-        return executePost(resolveSiteBaseUrl(authContext), "/order/package/document/get", buildCommonParameters(authContext == null ? null : authContext.getAccessToken()), Collections.singletonMap("getDocumentReq", objectToJson(request)), new TypeReference<>() {});
+        return executePost(authContext, resolveSiteBaseUrl(authContext), "/order/package/document/get", buildCommonParameters(authContext == null ? null : authContext.getAccessToken()), Collections.singletonMap("getDocumentReq", objectToJson(request)), new TypeReference<>() {});
     }
 
     LazadaFulfillmentModels.ReadyToShipResponse readyToShip(AuthContext authContext, LazadaFulfillmentModels.ReadyToShipRequest request) {
-        return executePost(resolveSiteBaseUrl(authContext), "/order/package/rts", buildCommonParameters(authContext == null ? null : authContext.getAccessToken()), Collections.singletonMap("readyToShipReq", objectToJson(request)), new TypeReference<>() {});
+        return executePost(authContext, resolveSiteBaseUrl(authContext), "/order/package/rts", buildCommonParameters(authContext == null ? null : authContext.getAccessToken()), Collections.singletonMap("readyToShipReq", objectToJson(request)), new TypeReference<>() {});
     }
 
     LazadaTraceModels.OrderTraceResponse getOrderTrace(AuthContext authContext,
@@ -154,7 +187,7 @@ class LazadaApiClient {
             queryParameters.put("ofcPackageIdList", objectToJson(packageIds));
         }
         queryParameters.put("locale", StringUtils.hasText(locale) ? locale : "en");
-        return executeGet(resolveSiteBaseUrl(authContext), "/logistic/order/trace", buildCommonParameters(authContext == null ? null : authContext.getAccessToken()), queryParameters, new TypeReference<>() {});
+        return executeGet(authContext, resolveSiteBaseUrl(authContext), "/logistic/order/trace", buildCommonParameters(authContext == null ? null : authContext.getAccessToken()), queryParameters, new TypeReference<>() {});
     }
 
     byte[] downloadPdf(String url) {
@@ -163,11 +196,25 @@ class LazadaApiClient {
             if (!response.isSuccessful()) {
                 ResponseBody responseBody = response.body();
                 String bodyText = responseBody == null ? "" : responseBody.string();
-                throw new EcommIntegrationException("【Lazada】下载 PDF 失败，url=" + url + "，status=" + response.code() + "，body=" + bodyText);
+                throw new EcommIntegrationException("【Lazada】下载 PDF 失败，url=" + url + "，status=" + response.code() + "，body=" + bodyText, response.code());
             }
             return Objects.requireNonNull(response.body(), "【Lazada】下载 PDF 响应体为空。").bytes();
         } catch (IOException e) {
-            throw new EcommIntegrationException("【Lazada】下载 PDF 失败，url=" + url, e);
+            throw RateLimitExceededException.wrap("【Lazada】下载 PDF 失败，url=" + url, e);
+        }
+    }
+
+    DocumentMetadata downloadPdf(String url, DocumentSink sink) {
+        Request request = new Request.Builder().url(url).get().build();
+        try (Response response = downloadClient.newCall(request).execute()) {
+            if (!response.isSuccessful()) {
+                ResponseBody responseBody = response.body();
+                String bodyText = responseBody == null ? "" : responseBody.string();
+                throw new EcommIntegrationException("【Lazada】下载 PDF 失败，url=" + url + "，status=" + response.code() + "，body=" + bodyText, response.code());
+            }
+            return DocumentDownloads.copy(response.body(), sink, "application/pdf");
+        } catch (IOException e) {
+            throw RateLimitExceededException.wrap("【Lazada】下载 PDF 失败，url=" + url, e);
         }
     }
 
@@ -179,44 +226,63 @@ class LazadaApiClient {
         }
     }
 
-    private <T extends LazadaResponse> T executeGet(String baseUrl,
+    private <T extends LazadaResponse> T executeGet(AuthContext authContext,
+                                                String baseUrl,
                                                     String path,
                                                     Map<String, String> commonParameters,
                                                     Map<String, String> businessParameters,
                                                     TypeReference<T> typeReference) {
+        return execute(buildGetRequest(authContext, baseUrl, path, commonParameters, businessParameters), path, typeReference);
+    }
+
+    private <T extends LazadaResponse> CompletableFuture<T> executeGetAsync(AuthContext authContext,
+                                                                        String baseUrl,
+                                                                            String path,
+                                                                            Map<String, String> commonParameters,
+                                                                            Map<String, String> businessParameters,
+                                                                            TypeReference<T> typeReference) {
+        return executeAsync(buildGetRequest(authContext, baseUrl, path, commonParameters, businessParameters), path, typeReference);
+    }
+
+    private <T extends LazadaResponse> T executePost(AuthContext authContext,
+                                                 String baseUrl,
+                                                     String path,
+                                                     Map<String, String> commonParameters,
+                                                     Map<String, String> businessParameters,
+                                                     TypeReference<T> typeReference) {
+        return execute(buildPostRequest(authContext, baseUrl, path, commonParameters, businessParameters), path, typeReference);
+    }
+
+    private <T extends LazadaResponse> CompletableFuture<T> executePostAsync(AuthContext authContext,
+                                                                         String baseUrl,
+                                                                             String path,
+                                                                             Map<String, String> commonParameters,
+                                                                             Map<String, String> businessParameters,
+                                                                             TypeReference<T> typeReference) {
+        return executeAsync(buildPostRequest(authContext, baseUrl, path, commonParameters, businessParameters), path, typeReference);
+    }
+
+    private Request buildGetRequest(AuthContext authContext,
+                                    String baseUrl,
+                                    String path,
+                                    Map<String, String> commonParameters,
+                                    Map<String, String> businessParameters) {
         Map<String, String> requestParameters = new LinkedHashMap<>(commonParameters);
         requestParameters.putAll(businessParameters);
         requestParameters.put("sign", sign(path, requestParameters));
 
-        Request request;
         HttpUrl.Builder urlBuilder = Objects.requireNonNull(HttpUrl.parse(baseUrl + path), "【Lazada】URL 无效。").newBuilder();
         for (Map.Entry<String, String> entry : requestParameters.entrySet()) {
             urlBuilder.addQueryParameter(entry.getKey(), entry.getValue());
         }
-        request = new Request.Builder().url(urlBuilder.build()).get().build();
-
-        try (Response response = httpClient.newCall(request).execute()) {
-            ResponseBody responseBody = response.body();
-            String responseText = responseBody == null ? null : responseBody.string();
-            if (!response.isSuccessful()) {
-                throw new EcommIntegrationException("【Lazada】请求失败，path=" + path + "，status=" + response.code() + "，body=" + responseText);
-            }
-            if (!StringUtils.hasText(responseText)) {
-                throw new EcommIntegrationException("【Lazada】接口响应体为空，path=" + path);
-            }
-            T parsed = objectMapper.readValue(responseText, typeReference);
-            validateTopLevelResponse(parsed, path);
-            return parsed;
-        } catch (IOException e) {
-            throw new EcommIntegrationException("【Lazada】请求失败，path=" + path, e);
-        }
+        return SellerTag.tag(new Request.Builder(), authContext).url(urlBuilder.build()).get().build();
     }
 
-    private <T extends LazadaResponse> T executePost(String baseUrl,
-                                                     String path,
-                                                     Map<String, String> commonParameters,
-                                                     Map<String, String> businessParameters,
-                                                     TypeReference<T> typeReference) {
+    private Request buildPostRequest(AuthContext authContext,
+                                     String baseUrl,
+                                     String path,
+                                     Map<String, String> commonParameters,
+                                     Map<String, String> businessParameters) {
         Map<String, String> signParameters = new LinkedHashMap<>(commonParameters);
         signParameters.putAll(businessParameters);
         String sign = sign(path, signParameters);
@@ -232,26 +298,48 @@ class LazadaApiClient {
             bodyBuilder.add(entry.getKey(), entry.getValue());
         }
 
-        Request request = new Request.Builder()
+        return SellerTag.tag(new Request.Builder(), authContext)
             .url(urlBuilder.build())
             .post(bodyBuilder.build())
             .build();
+    }
 
+    private <T extends LazadaResponse> T execute(Request request, String path, TypeReference<T> typeReference) {
         try (Response response = httpClient.newCall(request).execute()) {
-            ResponseBody responseBody = response.body();
-            String responseText = responseBody == null ? null : responseBody.string();
-            if (!response.isSuccessful()) {
-                throw new EcommIntegrationException("【Lazada】请求失败，path=" + path + "，status=" + response.code() + "，body=" + responseText);
+            return readResponse(response, path, typeReference);
+        } catch (IOException e) {
+            throw RateLimitExceededException.wrap("【Lazada】请求失败，path=" + path, e);
+        }
+    }
+
+    /**
+     * 异步执行请求，响应在 OkHttp 回调线程上解析；取消返回的 Future 时取消底层请求。
+     */
+    private <T extends LazadaResponse> CompletableFuture<T> executeAsync(Request request, String path, TypeReference<T> typeReference) {
+        return AsyncCalls.handle(AsyncCalls.enqueue(httpClient, request), (response, error) -> {
+            if (error != null) {
+                throw RateLimitExceededException.wrap("【Lazada】请求失败，path=" + path, error);
             }
-            if (!StringUtils.hasText(responseText)) {
-                throw new EcommIntegrationException("【Lazada】接口响应体为空，path=" + path);
+            try (response) {
+                return readResponse(response, path, typeReference);
+            } catch (IOException e) {
+                throw RateLimitExceededException.wrap("【Lazada】请求失败，path=" + path, e);
             }
-            T parsed = objectMapper.readValue(responseText, typeReference);
-            validateTopLevelResponse(parsed, path);
-            return parsed;
-        } catch (IOException e) {
-            throw new EcommIntegrationException("【Lazada】请求失败，path=" + path, e);
+        });
+    }
+
+    private <T extends LazadaResponse> T readResponse(Response response, String path, TypeReference<T> typeReference) throws IOException {
+        ResponseBody responseBody = response.body();
+        if (!response.isSuccessful()) {
+            String responseText = responseBody == null ? null : responseBody.string();
+            throw new EcommIntegrationException("【Lazada】请求失败，path=" + path + "，status=" + response.code() + "，body=" + responseText, response.code());
         }
+        T parsed = JsonBodyReader.read(objectMapper, responseBody, typeReference);
+        if (parsed == null) {
+            throw new EcommIntegrationException("【Lazada】接口响应体为空，path=" + path);
+        }
+        validateTopLevelResponse(parsed, path);
+        return parsed;
     }
 
     private void validateTopLevelResponse(LazadaResponse response, String path) {
@@ -272,6 +360,9 @@ class LazadaApiClient {
             if (StringUtils.hasText(response.getRequestId())) {
                 builder.append("，requestId=").append(response.getRequestId());
             }
+            if (AUTH_EXPIRED_CODE.equals(response.getCode())) {
+                throw new AuthExpiredException(builder.toString());
+            }
             throw new EcommIntegrationException(builder.toString());
         }
     }
@@ -300,26 +391,10 @@ class LazadaApiClient {
     }
 
     private String sign(String path, Map<String, String> parameters) {
-        TreeMap<String, String> sortedParameters = new TreeMap<>(parameters);
-        StringBuilder builder = new StringBuilder(path);
-        for (Map.Entry<String, String> entry : sortedParameters.entrySet()) {
-            if ("sign".equals(entry.getKey())) {
-                continue;
-            }
-            builder.append(entry.getKey()).append(entry.getValue());
-        }
-        try {
-            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
-            mac.init(new SecretKeySpec(appSecret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM));
-            byte[] digest = mac.doFinal(builder.toString().getBytes(StandardCharsets.UTF_8));
-            StringBuilder hex = new StringBuilder(digest.length * 2);
-            for (byte value : digest) {
-                hex.append(String.format(Locale.ROOT, "%02X", value));
-            }
-            return hex.toString();
-        } catch (Exception e) {
-            throw new EcommIntegrationException("【Lazada】签名失败，path=" + path, e);
+        if (signer == null) {
+            throw new EcommIntegrationException("【Lazada】签名失败，应用密钥（app_secret）不能为空，path=" + path);
         }
+        return signer.sign(path, parameters);
     }
 
     private String objectToJson(Object value) {
@@ -9,6 +9,10 @@ import com.ecommerce4j.api.enums.FulfillmentType;
 import com.ecommerce4j.api.enums.Platform;
 import com.ecommerce4j.api.exception.EcommIntegrationException;
 import com.ecommerce4j.api.platform.AbstractAdapter;
+import com.ecommerce4j.api.platform.http.AsyncCalls;
+import com.ecommerce4j.api.platform.http.SellerTag;
+import com.ecommerce4j.api.platform.cache.CachedLabel;
+import com.ecommerce4j.api.platform.http.DocumentSink;
 import com.ecommerce4j.api.platform.mercadolibre.dto.*;
 import com.fasterxml.jackson.core.type.TypeReference;
 import lombok.extern.slf4j.Slf4j;
@@ -22,6 +26,7 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
@@ -38,8 +43,23 @@ public class MercadoLibreAdapter extends AbstractAdapter implements EcommOrderSe
     @Value("${mercado.redirect_uri}")
     private String redirectUri;
 
+    /**
+     * API 网关，联调或压测时可指向本地模拟服务
+     */
+    @Value("${mercado.api_base_url:" + DEFAULT_API_BASE_URL + "}")
+    private String apiBaseUrl = DEFAULT_API_BASE_URL;
+
     // Mercado Libre API 基础URL
-    private static final String API_BASE_URL = "https://api.mercadolibre.com";
+    private static final String DEFAULT_API_BASE_URL = "https://api.mercadolibre.com";
+    /**
+     * /shipment_labels 单次请求的 shipment_ids 上限
+     */
+    private static final int MAX_LABEL_SHIPMENT_IDS = 50;
+
+    /**
+     * 面单缓存中的文档类型
+     */
+    private static final String LABEL_CACHE_TYPE = "pdf";
 
     // Mercado Libre 授权URL (以墨西哥为例，实际应用中可能需要根据国家配置)
     // https://auth.mercadolibre.com/{country_code}/authorization
@@ -48,6 +68,10 @@ public class MercadoLibreAdapter extends AbstractAdapter implements EcommOrderSe
     // JSON媒体类型
     private static final MediaType JSON_MEDIA_TYPE = MediaType.get("application/json; charset=utf-8");
 
+    public MercadoLibreAdapter() {
+        super(Platform.MERCADO_LIBRE);
+    }
+
     /**
      * 构建并返回 Mercado Libre 授权URL。
      *
@@ -69,9 +93,21 @@ public class MercadoLibreAdapter extends AbstractAdapter implements EcommOrderSe
 
     @Override
     public UnifiedShopInfo getShopInfo(AuthContext authContext) {
-        String url = API_BASE_URL + "/users/me";
-        Request request = this.buildRequest(authContext.getAccessToken(), url, "GET", null);
+        String url = apiBaseUrl + "/users/me";
+        Request request = this.buildRequest(authContext, url, "GET", null);
         MercadoLibreUserInfo userInfo = executeRequest(request, new TypeReference<>() {});
+        return mapToShopInfo(authContext, userInfo);
+    }
+
+    @Override
+    public CompletableFuture<UnifiedShopInfo> getShopInfoAsync(AuthContext authContext) {
+        String url = apiBaseUrl + "/users/me";
+        Request request = this.buildRequest(authContext, url, "GET", null);
+        return AsyncCalls.thenApply(executeRequestAsync(request, new TypeReference<MercadoLibreUserInfo>() {}),
+            userInfo -> mapToShopInfo(authContext, userInfo));
+    }
+
+    private UnifiedShopInfo mapToShopInfo(AuthContext authContext, MercadoLibreUserInfo userInfo) {
         if (Objects.isNull(userInfo)) {
             return null;
         }
@@ -103,7 +139,7 @@ public class MercadoLibreAdapter extends AbstractAdapter implements EcommOrderSe
             .build();
 
         Request request = new Request.Builder()
-            .url(API_BASE_URL + "/oauth/token")
+            .url(apiBaseUrl + "/oauth/token")
             .post(formBody)
             .addHeader("Content-Type", "application/x-www-form-urlencoded")
             .addHeader("Accept", "application/json")
@@ -126,6 +162,21 @@ public class MercadoLibreAdapter extends AbstractAdapter implements EcommOrderSe
             throw new EcommIntegrationException("【Meli】刷新令牌不可用，无法刷新。");
         }
 
+        MercadoLibreTokenData tokenData = executeRequest(buildRefreshTokenRequest(authContext), new TypeReference<>() {
+        });
+        return mapRefreshedTokens(authContext, tokenData);
+    }
+
+    @Override
+    public CompletableFuture<AuthContext> refreshTokensAsync(AuthContext authContext) {
+        if (!StringUtils.hasText(authContext.getRefreshToken())) {
+            return CompletableFuture.failedFuture(new EcommIntegrationException("【Meli】刷新令牌不可用，无法刷新。"));
+        }
+        return AsyncCalls.thenApply(executeRequestAsync(buildRefreshTokenRequest(authContext), new TypeReference<MercadoLibreTokenData>() {}),
+            tokenData -> mapRefreshedTokens(authContext, tokenData));
+    }
+
+    private Request buildRefreshTokenRequest(AuthContext authContext) {
         RequestBody formBody = new FormBody.Builder()
             .add("grant_type", "refresh_token")
             .add("client_id", appId)
@@ -133,16 +184,15 @@ public class MercadoLibreAdapter extends AbstractAdapter implements EcommOrderSe
             .add("refresh_token", authContext.getRefreshToken())
             .build();
 
-        Request request = new Request.Builder()
-            .url(API_BASE_URL + "/oauth/token")
+        return new Request.Builder()
+            .url(apiBaseUrl + "/oauth/token")
             .post(formBody)
             .addHeader("Content-Type", "application/x-www-form-urlencoded")
             .addHeader("Accept", "application/json")
             .build();
+    }
 
-        MercadoLibreTokenData tokenData = executeRequest(request, new TypeReference<>() {
-        });
-
+    private AuthContext mapRefreshedTokens(AuthContext authContext, MercadoLibreTokenData tokenData) {
         // Meli 在刷新时可能会返回一个新的 refresh_token，也可能不返回。
         // 如果返回了新的，需要用新的覆盖旧的。如果没返回，继续使用旧的。
         String newRefreshToken = StringUtils.hasText(tokenData.getRefreshToken()) ? tokenData.getRefreshToken() : authContext.getRefreshToken();
@@ -166,6 +216,18 @@ public class MercadoLibreAdapter extends AbstractAdapter implements EcommOrderSe
             throw new EcommIntegrationException("【Meli】订单 " + orderId + " 没有有效的货运信息(shipping_id)。");
         }
 
+        // 补打面单时直接使用本地缓存，不再查询货运详情和下载
+        CachedLabel cached = labelCache.get(platform, shipmentId, LABEL_CACHE_TYPE);
+        if (cached != null) {
+            return FulfillmentAction.builder()
+                .fulfillmentType(FulfillmentType.DOWNLOAD_LABEL)
+                .trackingNumber(shipmentId)
+                .labelContent(cached.toBytes())
+                .receiverName(Objects.toString(cached.getAttribute(CachedLabel.RECEIVER_NAME), ""))
+                .labelMimeType(cached.getMimeType())
+                .build();
+        }
+
         // 2. 获取货运详情以检查状态
         MercadoLibreShipment shipment = internalGetShipmentDetails(authContext, shipmentId);
         if (shipment == null) {
@@ -174,25 +236,147 @@ public class MercadoLibreAdapter extends AbstractAdapter implements EcommOrderSe
         }
 
         // 3. 下载面单
-        String labelUrl = API_BASE_URL + "/shipment_labels";
+        String labelUrl = apiBaseUrl + "/shipment_labels";
         Map<String, Object> params = new HashMap<>();
         params.put("shipment_ids", shipmentId);
         params.put("response_type", "pdf");
-        Request labelRequest = buildRequest(authContext.getAccessToken(), labelUrl, "GET", params);
+        Request labelRequest = buildRequest(authContext, labelUrl, "GET", params);
         byte[] labelBytes = executeRequestForBytes(labelRequest);
+        String receiverName = Objects.isNull(shipment.getDestination()) ? "" : shipment.getDestination().getReceiverName();
         if (labelBytes == null || labelBytes.length == 0) {
             log.error("【Meli】下载面单失败，返回内容为空。Shipment ID: " + shipmentId);
+        } else {
+            labelCache.put(platform, shipmentId, LABEL_CACHE_TYPE, "application/pdf",
+                Collections.singletonMap(CachedLabel.RECEIVER_NAME, receiverName), labelBytes);
         }
 
         return FulfillmentAction.builder()
             .fulfillmentType(FulfillmentType.DOWNLOAD_LABEL)
             .trackingNumber(shipment.getId())
             .labelContent(labelBytes)
-            .receiverName(Objects.isNull(shipment.getDestination()) ? "" : shipment.getDestination().getReceiverName())
+            .receiverName(receiverName)
             .labelMimeType("application/pdf") // Meli 通常返回PDF
             .build();
     }
 
+    /**
+     * 下载单个货运单的面单。
+     *
+     * @param authContext 认证上下文
+     * @param packageId   Meli 的 shipment ID
+     * @return 面单文档
+     */
+    @Override
+    public FulfillmentDocument getPackageDocument(AuthContext authContext, String packageId) {
+        if (!StringUtils.hasText(packageId)) {
+            throw new EcommIntegrationException("【Meli】shipment ID 不能为空。");
+        }
+        return cachedDocument(packageId, LABEL_CACHE_TYPE, () -> downloadShipmentLabels(authContext, Collections.singletonList(packageId)));
+    }
+
+    /**
+     * 批量下载面单：/shipment_labels 一次最多传入 {@value #MAX_LABEL_SHIPMENT_IDS} 个 shipment_ids，返回合并后的一个 PDF。
+     * 未传 packageId 的包裹先按订单号（或 Pack ID）查询 shipment ID；某一批失败时逐个 shipment 重试，见 {@link #loadDocumentBatch}。
+     *
+     * @param authContext 认证上下文
+     * @param packages    包裹列表，packageId 为 shipment ID
+     * @return 与输入顺序一一对应的结果，packageId 为实际使用的 shipment ID
+     */
+    @Override
+    public List<PackageDocumentResult> getPackageDocuments(AuthContext authContext, List<PackageDocumentRef> packages) {
+        if (CollectionUtils.isEmpty(packages)) {
+            return Collections.emptyList();
+        }
+        // 1. 补全 shipment ID
+        List<PackageDocumentRef> resolvedRefs = fanOut(authContext, packages, ref -> {
+            if (StringUtils.hasText(ref.getPackageId())) {
+                return ref;
+            }
+            String shipmentId = null;
+            try {
+                shipmentId = resolveShipmentId(authContext, ref.getOrderId());
+            } catch (RuntimeException e) {
+                log.warn("【Meli】订单 {} 查询 shipment ID 失败: {}", ref.getOrderId(), e.getMessage());
+            }
+            return new PackageDocumentRef(ref.getAuthContext(), ref.getOrderId(), shipmentId);
+        });
+
+        // 2. 命中缓存的直接返回，其余按 shipment_labels 的上限分批合并下载
+        PackageDocumentResult[] results = new PackageDocumentResult[resolvedRefs.size()];
+        List<Integer> labelIndexes = new ArrayList<>();
+        List<PackageDocumentRef> labelRefs = new ArrayList<>();
+        for (int index = 0; index < resolvedRefs.size(); index++) {
+            PackageDocumentRef ref = resolvedRefs.get(index);
+            if (StringUtils.hasText(ref.getPackageId())) {
+                labelIndexes.add(index);
+                labelRefs.add(ref);
+            } else {
+                results[index] = PackageDocumentResult.failure(ref, "【Meli】订单 " + ref.getOrderId() + " 没有有效的货运信息(shipping_id)。");
+            }
+        }
+        List<PackageDocumentResult> labelResults = cachedDocuments(labelRefs, LABEL_CACHE_TYPE, refs -> downloadLabelBatches(authContext, refs));
+        for (int offset = 0; offset < labelIndexes.size(); offset++) {
+            results[labelIndexes.get(offset)] = labelResults.get(offset);
+        }
+        return Arrays.asList(results);
+    }
+
+    private List<PackageDocumentResult> downloadLabelBatches(AuthContext authContext, List<PackageDocumentRef> refs) {
+        List<List<PackageDocumentRef>> batches = new ArrayList<>();
+        for (int index = 0; index < refs.size(); index += MAX_LABEL_SHIPMENT_IDS) {
+            batches.add(refs.subList(index, Math.min(index + MAX_LABEL_SHIPMENT_IDS, refs.size())));
+        }
+        List<PackageDocumentResult> results = new ArrayList<>(refs.size());
+        fanOut(authContext, batches, batch -> loadDocumentBatch(LABEL_CACHE_TYPE, batch,
+            shipmentIds -> downloadShipmentLabels(authContext, shipmentIds))).forEach(results::addAll);
+        return results;
+    }
+
+    /**
+     * 以流式方式下载面单，直接写入 {@code sink}。
+     *
+     * @param authContext 认证上下文
+     * @param orderId     订单ID（或 Pack ID），packageId 为空时用于查询 shipment ID
+     * @param packageId   Meli 的 shipment ID，可以为空
+     * @param sink        写出目标
+     * @return 面单元数据，packageId 为实际使用的 shipment ID
+     */
+    @Override
+    public DocumentMetadata writePackageDocument(AuthContext authContext, String orderId, String packageId, DocumentSink sink) {
+        String shipmentId = StringUtils.hasText(packageId) ? packageId : resolveShipmentId(authContext, orderId);
+        if (!StringUtils.hasText(shipmentId)) {
+            throw new EcommIntegrationException("【Meli】订单 " + orderId + " 没有有效的货运信息(shipping_id)。");
+        }
+        return cachedDocument(shipmentId, LABEL_CACHE_TYPE, sink, target -> {
+            DocumentMetadata metadata = executeRequestToSink(buildLabelRequest(authContext, Collections.singletonList(shipmentId)), target, "application/pdf");
+            if (metadata.getSize() == 0) {
+                throw new EcommIntegrationException("【Meli】下载面单失败，返回内容为空。Shipment ID: " + shipmentId);
+            }
+            metadata.setPackageId(shipmentId);
+            return metadata;
+        });
+    }
+
+    private Request buildLabelRequest(AuthContext authContext, List<String> shipmentIds) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("shipment_ids", String.join(",", shipmentIds));
+        params.put("response_type", "pdf");
+        return buildRequest(authContext, apiBaseUrl + "/shipment_labels", "GET", params);
+    }
+
+    private FulfillmentDocument downloadShipmentLabels(AuthContext authContext, List<String> shipmentIds) {
+        byte[] labelBytes = executeRequestForBytes(buildLabelRequest(authContext, shipmentIds));
+        if (labelBytes == null || labelBytes.length == 0) {
+            throw new EcommIntegrationException("【Meli】下载面单失败，返回内容为空。Shipment IDs: " + shipmentIds);
+        }
+        return FulfillmentDocument.builder()
+            .packageId(shipmentIds.size() == 1 ? shipmentIds.get(0) : null)
+            .packageIds(shipmentIds)
+            .mimeType("application/pdf")
+            .content(labelBytes)
+            .build();
+    }
+
     /**
      * 提交卖家发货的物流追踪信息 (适用于 me1 模式)。
      *
@@ -209,13 +393,13 @@ public class MercadoLibreAdapter extends AbstractAdapter implements EcommOrderSe
         }
 
         // 根据文档，更新运单号和承运商信息通常是对shipment资源进行PUT操作
-        String url = API_BASE_URL + "/shipments/" + shipmentId;
+        String url = apiBaseUrl + "/shipments/" + shipmentId;
         Map<String, Object> body = new HashMap<>();
         body.put("status", "shipped");
         body.put("tracking_number", trackingInfo.getTrackingNumber());
         body.put("tracking_method", trackingInfo.getShippingProviderId());
 
-        Request request = buildRequest(authContext.getAccessToken(), url, "PUT", body);
+        Request request = buildRequest(authContext, url, "PUT", body);
         // 执行请求并期望一个成功的响应 (e.g., 200 OK)
         executeRequest(request, new TypeReference<Object>() {
         });
@@ -300,7 +484,10 @@ public class MercadoLibreAdapter extends AbstractAdapter implements EcommOrderSe
      */
     @Override
     public PaginatedResult<UnifiedOrder> getOrders(AuthContext authContext, OrderQuery query) {
+        return timedPage(() -> searchOrders(authContext, query));
+    }
 
+    private PaginatedResult<UnifiedOrder> searchOrders(AuthContext authContext, OrderQuery query) {
         // 分页参数: Meli使用offset/limit，我们需要从pageToken(这里用作offset)和pageSize转换
         int limit = query.getPageSize() > 0 ? query.getPageSize() : 50;
         int offset = Objects.isNull(query.getPageToken()) ? 0 : Integer.parseInt(query.getPageToken());
@@ -325,8 +512,8 @@ public class MercadoLibreAdapter extends AbstractAdapter implements EcommOrderSe
         if (StringUtils.hasText(query.getOrderStatus())) {
             queryParams.put("order.status", query.getOrderStatus());
         }
-        String url = API_BASE_URL + "/orders/search";
-        Request request = buildRequest(authContext.getAccessToken(), url, "GET", queryParams);
+        String url = apiBaseUrl + "/orders/search";
+        Request request = buildRequest(authContext, url, "GET", queryParams);
 
         MercadoLibreOrderSearchResponse response = executeRequest(request, new TypeReference<>() {});
 
@@ -346,42 +533,8 @@ public class MercadoLibreAdapter extends AbstractAdapter implements EcommOrderSe
             });
         }
 
-        // 合单处理（如果有packId，则已packId进行合单）
-        List<UnifiedOrder> unifiedOrders = new ArrayList<>();
-        Set<String> processedPackIds = new HashSet<>(); // 用于记录本批次已处理过的packId
-        for (MercadoLibreOrder rawOrder : results) {
-            // 检查是否有 Pack ID
-            String packId = rawOrder.getPackId();
-            if (StringUtils.hasText(packId)) {
-                // 如果是合单，且本批次还没处理过这个包
-                if (!processedPackIds.contains(packId)) {
-                    try {
-                        // 调用 Pack 接口获取包内所有 Order ID
-                        List<String> packOrderIds = internalGetOrderIdsInPack(authContext, packId);
-                        // 获取包内所有子订单的详细信息
-                        List<UnifiedOrder> childOrders = getOrderDetails(authContext, packOrderIds);
-                        if (!CollectionUtils.isEmpty(childOrders)) {
-                            // 将多个子订单合并为一个 UnifiedOrder
-                            UnifiedOrder combinedOrder = mergePackToUnifiedOrder(packId, childOrders);
-                            unifiedOrders.add(combinedOrder);
-                        }
-
-                        // 标记该 Pack 已处理
-                        processedPackIds.add(packId);
-                    } catch (Exception e) {
-                        log.info("【Meli】处理合单失败，PackID: {}", packId, e);
-                        // 降级处理：如果合单逻辑失败，尝试按单品处理当前单
-                        unifiedOrders.add(mapToUnifiedOrder(authContext, rawOrder));
-                    }
-                } else {
-                    // 如果这个 packId 已经处理过了（比如列表里先有了 Order A 属于 Pack 1，现在是 Order B 也属于 Pack 1），直接跳过
-                    log.debug("【Meli】PackID {} 已在当前批次处理过，跳过子订单 {}", packId, rawOrder.getId());
-                }
-            } else {
-                // 没有 Pack ID，按普通单处理
-                unifiedOrders.add(mapToUnifiedOrder(authContext, rawOrder));
-            }
-        }
+        // 合单处理（如果有packId，则以packId进行合单）
+        List<UnifiedOrder> unifiedOrders = resolveOrdersWithPacks(authContext, results);
 
         // 从所有订单中收集不重复的商品ID
         Set<String> itemIds = unifiedOrders.stream()
@@ -434,16 +587,17 @@ public class MercadoLibreAdapter extends AbstractAdapter implements EcommOrderSe
         List<String> itemIdList = new ArrayList<>(itemIds);
         Map<String, MercadoLibreItem> itemDetailMap = new ConcurrentHashMap<>();
 
-        // 将ID列表分割成多个批次进行处理
+        // 将ID列表分割成多个批次，并发处理
+        List<List<String>> batches = new ArrayList<>();
         for (int i = 0; i < itemIdList.size(); i += BATCH_SIZE) {
-            int end = Math.min(i + BATCH_SIZE, itemIdList.size());
-            List<String> batchIds = itemIdList.subList(i, end);
-
+            batches.add(itemIdList.subList(i, Math.min(i + BATCH_SIZE, itemIdList.size())));
+        }
+        fanOut(authContext, batches, batchIds -> {
             String idsParam = String.join(",", batchIds);
-            String url = API_BASE_URL + "/items?ids=" + idsParam;
+            String url = apiBaseUrl + "/items?ids=" + idsParam;
             Map<String, Object> queryParams = Collections.singletonMap("ids", idsParam);
 
-            Request request = buildRequest(authContext.getAccessToken(), url, "GET", queryParams);
+            Request request = buildRequest(authContext, url, "GET", queryParams);
 
             try {
                 List<MercadoLibreItemMultigetResponse> responses = executeRequest(request, new TypeReference<>() {
@@ -459,7 +613,8 @@ public class MercadoLibreAdapter extends AbstractAdapter implements EcommOrderSe
                 log.error("【Meli】批量获取商品信息失败，IDs: {}", idsParam, e);
                 // 单个批次失败不应中断整个流程，仅记录日志
             }
-        }
+            return batchIds.size();
+        });
         return itemDetailMap;
     }
 
@@ -477,58 +632,183 @@ public class MercadoLibreAdapter extends AbstractAdapter implements EcommOrderSe
             return Collections.emptyList();
         }
 
-        List<UnifiedOrder> resultList = new ArrayList<>();
-
-        for (String id : orderIds) {
-            // 1. 尝试作为普通订单获取
+        // 1. 并发尝试作为普通订单获取（映射时还会查询货运信息，一并放在并发任务里）
+        List<UnifiedOrder> directOrders = fanOut(authContext, orderIds, id -> {
             MercadoLibreOrder order = null;
             try {
                 order = internalGetOrderDetails(authContext, id);
             } catch (Exception ignored) {
 
             }
+            return order == null ? null : mapToUnifiedOrder(authContext, order);
+        });
+
+        // 2. 请求订单详情找不到的id有可能是packId，并发尝试作为packId获取子订单ID
+        List<String> candidatePackIds = new ArrayList<>();
+        for (int i = 0; i < orderIds.size(); i++) {
+            if (directOrders.get(i) == null) {
+                candidatePackIds.add(orderIds.get(i));
+            }
+        }
+        List<List<String>> packChildIds = fanOut(authContext, candidatePackIds, id -> {
+            try {
+                return internalGetOrderIdsInPack(authContext, id);
+            } catch (Exception e) {
+                log.warn("【Meli】ID {} 既不是有效订单也不是有效 Pack", id);
+                return Collections.<String>emptyList();
+            }
+        });
+        Map<String, List<String>> packOrderIds = new HashMap<>();
+        for (int i = 0; i < candidatePackIds.size(); i++) {
+            packOrderIds.put(candidatePackIds.get(i), packChildIds.get(i));
+        }
+
+        // 3. 并发获取所有子订单详情，任一子订单映射失败时整个 Pack 不返回，不输出缺少子订单的合单
+        Set<String> failedPackIds = ConcurrentHashMap.newKeySet();
+        Map<String, List<UnifiedOrder>> packChildren = fetchPackChildren(authContext, packOrderIds, failedPackIds);
+
+        List<UnifiedOrder> resultList = new ArrayList<>();
+        for (int i = 0; i < orderIds.size(); i++) {
+            UnifiedOrder order = directOrders.get(i);
             if (order != null) {
                 // 成功获取到普通订单
-                resultList.add(mapToUnifiedOrder(authContext, order));
+                resultList.add(order);
+                continue;
+            }
+            if (failedPackIds.contains(orderIds.get(i))) {
+                log.warn("【Meli】ID {} 既不是有效订单也不是有效 Pack", orderIds.get(i));
+                continue;
+            }
+            // 合并为 Pack Order
+            UnifiedOrder packOrder = mergePackToUnifiedOrder(orderIds.get(i), packChildren.get(orderIds.get(i)));
+            if (packOrder != null) {
+                resultList.add(packOrder);
+            }
+        }
+        return resultList;
+    }
+
+    /**
+     * 将一页订单列表转换为统一订单，合单（packId 相同）合并为一个订单。
+     * <p>
+     * 合单的子订单 ID、子订单详情和普通订单的货运信息都通过 I/O 执行器并发获取，
+     * 整页耗时取决于最慢的一次调用而不是所有调用之和；输出顺序与原订单列表一致。
+     */
+    private List<UnifiedOrder> resolveOrdersWithPacks(AuthContext authContext, List<MercadoLibreOrder> results) {
+        // 1. 并发调用 Pack 接口获取包内所有 Order ID，失败的包降级为按单品处理
+        List<String> packIds = results.stream()
+            .map(MercadoLibreOrder::getPackId)
+            .filter(StringUtils::hasText)
+            .distinct()
+            .collect(Collectors.toList());
+        List<List<String>> packChildIds = fanOut(authContext, packIds, packId -> {
+            try {
+                return internalGetOrderIdsInPack(authContext, packId);
+            } catch (Exception e) {
+                log.info("【Meli】处理合单失败，PackID: {}", packId, e);
+                return null;
+            }
+        });
+        Map<String, List<String>> packOrderIds = new HashMap<>();
+        Set<String> failedPackIds = ConcurrentHashMap.newKeySet();
+        for (int i = 0; i < packIds.size(); i++) {
+            if (packChildIds.get(i) == null) {
+                failedPackIds.add(packIds.get(i));
             } else {
-                // 当前的id请求订单详情找不到，那么有可能是packId，尝试作为packId获取
-                try {
-                    List<String> childIds = internalGetOrderIdsInPack(authContext, id);
-                    if (!CollectionUtils.isEmpty(childIds)) {
-                        // 递归获取子订单详情
-                        List<UnifiedOrder> childUnifiedOrders = childIds.parallelStream() // 并行流
-                            .map(childId -> {
-                                try {
-                                    return internalGetOrderDetails(authContext, childId);
-                                } catch (Exception e) {
-                                    log.error("【Meli】并发获取子单详情失败 ID: {}", childId, e);
-                                    return null;
-                                }
-                            })
-                            .filter(Objects::nonNull)
-                            .map(o -> mapToUnifiedOrder(authContext, o))
-                            .collect(Collectors.toList());
-                        // 合并为 Pack Order
-                        UnifiedOrder packOrder = mergePackToUnifiedOrder(id, childUnifiedOrders);
-                        if (packOrder != null) {
-                            resultList.add(packOrder);
-                        }
-                    }
-                } catch (Exception e) {
-                    log.warn("【Meli】ID {} 既不是有效订单也不是有效 Pack", id);
+                packOrderIds.put(packIds.get(i), packChildIds.get(i));
+            }
+        }
+
+        // 2. 并发获取子订单详情，再并发映射普通订单（映射时需要查询货运信息）
+        Map<String, List<UnifiedOrder>> packChildren = fetchPackChildren(authContext, packOrderIds, failedPackIds);
+        Map<MercadoLibreOrder, UnifiedOrder> singleOrders = mapSingleOrders(authContext, results, failedPackIds);
+
+        // 3. 按原顺序组装
+        List<UnifiedOrder> unifiedOrders = new ArrayList<>();
+        Set<String> processedPackIds = new HashSet<>(); // 用于记录本批次已处理过的packId
+        for (MercadoLibreOrder rawOrder : results) {
+            String packId = rawOrder.getPackId();
+            if (!StringUtils.hasText(packId) || failedPackIds.contains(packId)) {
+                // 没有 Pack ID 按普通单处理；合单逻辑失败的降级为按单品处理
+                unifiedOrders.add(singleOrders.get(rawOrder));
+            } else if (processedPackIds.add(packId)) {
+                // 将多个子订单合并为一个 UnifiedOrder
+                UnifiedOrder combinedOrder = mergePackToUnifiedOrder(packId, packChildren.get(packId));
+                if (combinedOrder != null) {
+                    unifiedOrders.add(combinedOrder);
                 }
+            } else {
+                // 如果这个 packId 已经处理过了（比如列表里先有了 Order A 属于 Pack 1，现在是 Order B 也属于 Pack 1），直接跳过
+                log.debug("【Meli】PackID {} 已在当前批次处理过，跳过子订单 {}", packId, rawOrder.getId());
             }
+        }
+        return unifiedOrders;
+    }
 
+    /**
+     * 并发获取所有合单的子订单详情，返回 packId 到子订单列表的映射（保持子订单顺序）。
+     * 子订单映射失败时把该包记入 failedPackIds，由调用方决定降级为单品还是整包跳过。
+     */
+    private Map<String, List<UnifiedOrder>> fetchPackChildren(AuthContext authContext,
+                                                              Map<String, List<String>> packOrderIds,
+                                                              Set<String> failedPackIds) {
+        List<String[]> childRefs = new ArrayList<>(); // [packId, childId]
+        packOrderIds.forEach((packId, childIds) -> childIds.forEach(childId -> childRefs.add(new String[]{packId, childId})));
+
+        List<UnifiedOrder> children = fanOut(authContext, childRefs, ref -> {
+            MercadoLibreOrder childOrder;
+            try {
+                childOrder = internalGetOrderDetails(authContext, ref[1]);
+            } catch (Exception e) {
+                log.error("【Meli】并发获取子单详情失败 ID: {}", ref[1], e);
+                return null;
+            }
+            if (childOrder == null) {
+                return null;
+            }
+            try {
+                return mapToUnifiedOrder(authContext, childOrder);
+            } catch (Exception e) {
+                log.info("【Meli】处理合单失败，PackID: {}", ref[0], e);
+                failedPackIds.add(ref[0]);
+                return null;
+            }
+        });
+
+        Map<String, List<UnifiedOrder>> packChildren = new HashMap<>();
+        for (int i = 0; i < childRefs.size(); i++) {
+            List<UnifiedOrder> list = packChildren.computeIfAbsent(childRefs.get(i)[0], key -> new ArrayList<>());
+            if (children.get(i) != null) {
+                list.add(children.get(i));
+            }
         }
-        return resultList;
+        return packChildren;
+    }
+
+    /**
+     * 并发映射不属于合单（或合单处理失败）的订单，返回原始订单到统一订单的映射。
+     */
+    private Map<MercadoLibreOrder, UnifiedOrder> mapSingleOrders(AuthContext authContext,
+                                                      List<MercadoLibreOrder> results,
+                                                      Set<String> failedPackIds) {
+        List<MercadoLibreOrder> singles = results.stream()
+            .filter(order -> !StringUtils.hasText(order.getPackId()) || failedPackIds.contains(order.getPackId()))
+            .collect(Collectors.toList());
+        List<UnifiedOrder> mapped = fanOut(authContext, singles,
+            order -> mapToUnifiedOrder(authContext, order));
+        Map<MercadoLibreOrder, UnifiedOrder> singleOrders = new IdentityHashMap<>();
+        for (int i = 0; i < singles.size(); i++) {
+            singleOrders.put(singles.get(i), mapped.get(i));
+        }
+        return singleOrders;
     }
 
     /**
      * 获取单个订单的完整详情。
      */
     private MercadoLibreOrder internalGetOrderDetails(AuthContext authContext, String orderId) {
-        String url = API_BASE_URL + "/orders/" + orderId;
-        Request request = buildRequest(authContext.getAccessToken(), url, "GET", null);
+        String url = apiBaseUrl + "/orders/" + orderId;
+        Request request = buildRequest(authContext, url, "GET", null);
         try {
             return executeRequest(request, new TypeReference<>() {
             });
@@ -546,8 +826,8 @@ public class MercadoLibreAdapter extends AbstractAdapter implements EcommOrderSe
      * 获取单个货运的完整详情。
      */
     private MercadoLibreShipment internalGetShipmentDetails(AuthContext authContext, String shipmentId) {
-        String url = API_BASE_URL + "/shipments/" + shipmentId;
-        Request request = new Request.Builder()
+        String url = apiBaseUrl + "/shipments/" + shipmentId;
+        Request request = SellerTag.tag(new Request.Builder(), authContext)
             .url(url)
             .get()
             .addHeader("Authorization", "Bearer " + authContext.getAccessToken())
@@ -573,8 +853,8 @@ public class MercadoLibreAdapter extends AbstractAdapter implements EcommOrderSe
      * @return
      */
     private MercadoLibreShipmentHistoryResponse internalGetShipmentHistory(AuthContext authContext, String shipmentId) {
-        String url = API_BASE_URL + "/shipments/" + shipmentId + "/history";
-        Request request = buildRequest(authContext.getAccessToken(), url, "GET", null);
+        String url = apiBaseUrl + "/shipments/" + shipmentId + "/history";
+        Request request = buildRequest(authContext, url, "GET", null);
         return executeRequest(request, new TypeReference<>() {});
     }
 
@@ -582,17 +862,17 @@ public class MercadoLibreAdapter extends AbstractAdapter implements EcommOrderSe
     /**
      * 构建一个通用的API请求。
      *
-     * @param accessToken 访问令牌
+     * @param authContext 认证上下文，提供访问令牌和卖家 ID
      * @param url         API路径 (例如, baseurl/orders/search)
      * @param method      HTTP方法 ("GET", "POST", "PUT")
      * @param params      请求参数。对于GET，会作为URL查询参数；对于POST/PUT，会序列化为JSON请求体。
      * @return 构建好的 OkHttp Request 对象
      */
-    private Request buildRequest(String accessToken, String url, String method, Map<String, Object> params) {
+    private Request buildRequest(AuthContext authContext, String url, String method, Map<String, Object> params) {
         // 1. 构建基础URL
         HttpUrl.Builder urlBuilder = Objects.requireNonNull(HttpUrl.parse(url)).newBuilder();
-        Request.Builder requestBuilder = new Request.Builder()
-            .addHeader("Authorization", "Bearer " + accessToken);
+        Request.Builder requestBuilder = SellerTag.tag(new Request.Builder(), authContext)
+            .addHeader("Authorization", "Bearer " + authContext.getAccessToken());
 
         RequestBody body = null;
 
@@ -740,10 +1020,10 @@ public class MercadoLibreAdapter extends AbstractAdapter implements EcommOrderSe
      * 调用 Pack API 获取合单内的所有 Order ID
      */
     private List<String> internalGetOrderIdsInPack(AuthContext authContext, String packId) {
-        String url = API_BASE_URL + "/packs/" + packId;
+        String url = apiBaseUrl + "/packs/" + packId;
 
         // 将 params 传入 buildRequest (原来是 null)
-        Request request = buildRequest(authContext.getAccessToken(), url, "GET", null);
+        Request request = buildRequest(authContext, url, "GET", null);
         // 使用 Map 接收响应，避免创建太多 DTO
         Map<String, Object> response = executeRequest(request, new TypeReference<>() {});
 
@@ -834,8 +1114,8 @@ public class MercadoLibreAdapter extends AbstractAdapter implements EcommOrderSe
 
         try {
             // 调用 Pack 接口 (复用之前提到的获取 Pack 详情逻辑，或者这里单独写个简单的)
-            String packUrl = API_BASE_URL + "/packs/" + orderOrPackId;
-            Request request = buildRequest(authContext.getAccessToken(), packUrl, "GET", null);
+            String packUrl = apiBaseUrl + "/packs/" + orderOrPackId;
+            Request request = buildRequest(authContext, packUrl, "GET", null);
 
             // 解析 Pack 响应
             Map<String, Object> packResponse = executeRequest(request, new TypeReference<>() {});
@@ -19,10 +19,13 @@ import com.ecommerce4j.api.enums.FulfillmentType;
 import com.ecommerce4j.api.enums.Platform;
 import com.ecommerce4j.api.exception.EcommIntegrationException;
 import com.ecommerce4j.api.platform.AbstractAdapter;
+import com.ecommerce4j.api.platform.http.AsyncCalls;
+import com.ecommerce4j.api.platform.http.SellerTag;
 import com.ecommerce4j.api.platform.shein.dto.SheinApiResponse;
 import com.ecommerce4j.api.platform.shein.dto.SheinCarrierInfo;
 import com.ecommerce4j.api.platform.shein.dto.SheinCredentialData;
 import com.ecommerce4j.api.platform.shein.dto.SheinStatusMapper;
+import com.ecommerce4j.api.platform.sign.SheinSigner;
 import com.fasterxml.jackson.core.type.TypeReference;
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.HttpUrl;
@@ -34,13 +37,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
-import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
 import java.math.BigDecimal;
-import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Base64;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -49,7 +48,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Random;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -60,7 +59,6 @@ import java.util.stream.Collectors;
 public class SheinSelfOperatedAdapter extends AbstractAdapter implements EcommOrderService, EcommFulfillmentService, EcommLogisticsService, EcommAuthorizationService {
 
     private static final MediaType JSON_MEDIA_TYPE = MediaType.get("application/json; charset=utf-8");
-    private static final String HMAC_ALGORITHM = "HmacSHA256";
     private static final String DEFAULT_AUTH_PATH = "/open-api/auth/get-by-token";
     private static final String DEFAULT_ORDER_SEARCH_PATH = "/open-api/order/search";
     private static final String DEFAULT_ORDER_DETAIL_PATH = "/open-api/order/details";
@@ -68,8 +66,6 @@ public class SheinSelfOperatedAdapter extends AbstractAdapter implements EcommOr
     private static final String DEFAULT_TRACKING_QUERY_PATH = "/open-api/order/tracking";
     private static final String DEFAULT_CARRIER_LIST_PATH = "/open-api/logistics/carriers";
     private static final String DEFAULT_SHOP_INFO_PATH = "/open-api/shop/info";
-    private static final String RANDOM_KEY_ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstvuwxyz1234567890";
-    private static final Random RANDOM = new Random();
 
     @Value("${shein.app_id}")
     private String appId;
@@ -113,13 +109,31 @@ public class SheinSelfOperatedAdapter extends AbstractAdapter implements EcommOr
     @Value("${shein.authorize_path:/#/empower}")
     private String authorizePath;
 
+    public SheinSelfOperatedAdapter() {
+        super(Platform.SHEIN_MX_SELF);
+    }
+
     /**
      * 获取订单列表。
      */
     @Override
     public PaginatedResult<UnifiedOrder> getOrders(AuthContext authContext, OrderQuery query) {
+        return timedPage(() -> searchOrders(authContext, query));
+    }
+
+    @Override
+    public CompletableFuture<PaginatedResult<UnifiedOrder>> getOrdersAsync(AuthContext authContext, OrderQuery query) {
+        validateMerchantCredentials(authContext);
+        return AsyncCalls.thenApply(executeSignedPostAsync(authContext, normalizeApiPath(orderSearchPath), buildOrderSearchBody(query)),
+            payload -> mapOrderPage(payload, query));
+    }
+
+    private PaginatedResult<UnifiedOrder> searchOrders(AuthContext authContext, OrderQuery query) {
         validateMerchantCredentials(authContext);
+        return mapOrderPage(executeSignedPost(authContext, normalizeApiPath(orderSearchPath), buildOrderSearchBody(query)), query);
+    }
 
+    private Map<String, Object> buildOrderSearchBody(OrderQuery query) {
         Map<String, Object> body = new LinkedHashMap<>();
         body.put("pageNo", parsePageNo(query.getPageToken()));
         body.put("pageSize", query.getPageSize() > 0 ? query.getPageSize() : 50);
@@ -132,11 +146,13 @@ public class SheinSelfOperatedAdapter extends AbstractAdapter implements EcommOr
         if (StringUtils.hasText(query.getOrderStatus())) {
             body.put("orderStatus", query.getOrderStatus());
         }
+        return body;
+    }
 
-        Map<String, Object> payload = executeSignedPost(authContext, normalizeApiPath(orderSearchPath), body);
-        List<UnifiedOrder> orders = extractOrderList(payload).stream()
+    private PaginatedResult<UnifiedOrder> mapOrderPage(Map<String, Object> payload, OrderQuery query) {
+        List<UnifiedOrder> orders = timedMapping(() -> extractOrderList(payload).stream()
             .map(this::mapToUnifiedOrder)
-            .collect(Collectors.toList());
+            .collect(Collectors.toList()));
 
         String nextPageToken = resolveNextPageToken(payload, query.getPageToken(), orders.size(), query.getPageSize());
         return new PaginatedResult<>(orders, nextPageToken);
@@ -154,11 +170,25 @@ public class SheinSelfOperatedAdapter extends AbstractAdapter implements EcommOr
 
         Map<String, Object> body = new LinkedHashMap<>();
         body.put("orderIds", orderIds);
+        return mapOrderList(executeSignedPost(authContext, normalizeApiPath(orderDetailPath), body));
+    }
+
+    @Override
+    public CompletableFuture<List<UnifiedOrder>> getOrderDetailsAsync(AuthContext authContext, List<String> orderIds) {
+        validateMerchantCredentials(authContext);
+        if (CollectionUtils.isEmpty(orderIds)) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("orderIds", orderIds);
+        return AsyncCalls.thenApply(executeSignedPostAsync(authContext, normalizeApiPath(orderDetailPath), body), this::mapOrderList);
+    }
 
-        Map<String, Object> payload = executeSignedPost(authContext, normalizeApiPath(orderDetailPath), body);
-        return extractOrderList(payload).stream()
+    private List<UnifiedOrder> mapOrderList(Map<String, Object> payload) {
+        return timedMapping(() -> extractOrderList(payload).stream()
             .map(this::mapToUnifiedOrder)
-            .collect(Collectors.toList());
+            .collect(Collectors.toList()));
     }
 
     /**
@@ -218,8 +248,19 @@ public class SheinSelfOperatedAdapter extends AbstractAdapter implements EcommOr
 
         Map<String, Object> body = new LinkedHashMap<>();
         body.put("orderId", orderId);
+        return mapShipment(executeSignedPost(authContext, normalizeApiPath(trackingQueryPath), body));
+    }
 
-        Map<String, Object> payload = executeSignedPost(authContext, normalizeApiPath(trackingQueryPath), body);
+    @Override
+    public CompletableFuture<UnifiedShipment> getTrackingEventsAsync(AuthContext authContext, String orderId) {
+        validateMerchantCredentials(authContext);
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("orderId", orderId);
+        return AsyncCalls.thenApply(executeSignedPostAsync(authContext, normalizeApiPath(trackingQueryPath), body), this::mapShipment);
+    }
+
+    private UnifiedShipment mapShipment(Map<String, Object> payload) {
         UnifiedShipment shipment = new UnifiedShipment();
 
         Map<String, Object> shipmentMap = firstMap(payload, "shipment", "delivery", "logistics", "data");
@@ -377,6 +418,12 @@ public class SheinSelfOperatedAdapter extends AbstractAdapter implements EcommOr
             resolveOpenKeyId(authContext), resolveSecretKey(authContext), new TypeReference<SheinApiResponse<Map<String, Object>>>() {});
     }
 
+    private CompletableFuture<Map<String, Object>> executeSignedPostAsync(AuthContext authContext, String path, Map<String, Object> body) {
+        Request request = buildSignedPostRequest(path, body, resolveOpenKeyId(authContext), resolveSecretKey(authContext), authContext);
+        return AsyncCalls.thenApply(executeRequestAsync(request, new TypeReference<SheinApiResponse<Map<String, Object>>>() {}),
+            response -> extractPayload(response, path));
+    }
+
     private <T> T executeSignedPostForData(AuthContext authContext,
                                           String path,
                                           Map<String, Object> body,
@@ -384,7 +431,10 @@ public class SheinSelfOperatedAdapter extends AbstractAdapter implements EcommOr
                                           String secretKey,
                                           TypeReference<SheinApiResponse<T>> typeReference) {
         Request request = buildSignedPostRequest(path, body, openKeyId, secretKey, authContext);
-        SheinApiResponse<T> response = executeRequest(request, typeReference);
+        return extractPayload(executeRequest(request, typeReference), path);
+    }
+
+    private <T> T extractPayload(SheinApiResponse<T> response, String path) {
         validateResponse(response, path);
         T payload = firstNonNull(response.getData(), response.getInfo(), response.getResult());
         if (payload == null) {
@@ -410,11 +460,11 @@ public class SheinSelfOperatedAdapter extends AbstractAdapter implements EcommOr
         }
 
         String timestamp = String.valueOf(Instant.now().toEpochMilli());
-        String randomKey = generateRandomKey(5);
-        String signature = generateSignature(openKeyId, secretKey, path, timestamp, randomKey);
+        String randomKey = SheinSigner.randomKey(5);
+        String signature = SheinSigner.sign(openKeyId, secretKey, path, timestamp, randomKey);
 
         HttpUrl url = Objects.requireNonNull(HttpUrl.parse(apiBaseUrl + path), "SHEIN API URL invalid");
-        Request.Builder builder = new Request.Builder()
+        Request.Builder builder = SellerTag.tag(new Request.Builder(), authContext)
             .url(url)
             .post(RequestBody.create(requestBody, JSON_MEDIA_TYPE))
             .addHeader("Content-Type", "application/json")
@@ -428,28 +478,6 @@ public class SheinSelfOperatedAdapter extends AbstractAdapter implements EcommOr
         return builder.build();
     }
 
-    /**
-     * SHEIN 签名逻辑：
-     * 1. VALUE = openKeyId + "&" + timestamp + "&" + path
-     * 2. KEY = secretKey + randomKey
-     * 3. HMAC-SHA256 结果先转 hex，再对 hex 字符串做 Base64
-     * 4. 最终签名 = randomKey + base64(hexString)
-     */
-    private String generateSignature(String openKeyId, String secretKey, String path, String timestamp, String randomKey) {
-        String value = openKeyId + "&" + timestamp + "&" + path;
-        String key = secretKey + randomKey;
-        try {
-            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
-            mac.init(new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM));
-            byte[] digest = mac.doFinal(value.getBytes(StandardCharsets.UTF_8));
-            String hex = bytesToHex(digest);
-            String base64 = Base64.getEncoder().encodeToString(hex.getBytes(StandardCharsets.UTF_8));
-            return randomKey + base64;
-        } catch (Exception e) {
-            throw new EcommIntegrationException("【SHEIN】生成签名失败", e);
-        }
-    }
-
     private AuthContext mapToAuthContext(SheinCredentialData credentialData) {
         if (credentialData == null) {
             throw new EcommIntegrationException("【SHEIN】授权响应为空。");
@@ -705,22 +733,6 @@ public class SheinSelfOperatedAdapter extends AbstractAdapter implements EcommOr
         return path.startsWith("/") ? path.substring(1) : path;
     }
 
-    private String generateRandomKey(int length) {
-        StringBuilder builder = new StringBuilder(length);
-        for (int i = 0; i < length; i++) {
-            builder.append(RANDOM_KEY_ALPHABET.charAt(RANDOM.nextInt(RANDOM_KEY_ALPHABET.length())));
-        }
-        return builder.toString();
-    }
-
-    private String bytesToHex(byte[] bytes) {
-        StringBuilder builder = new StringBuilder(bytes.length * 2);
-        for (byte aByte : bytes) {
-            builder.append(String.format("%02x", aByte));
-        }
-        return builder.toString();
-    }
-
     private String readString(Map<String, Object> map, String... keys) {
         if (map == null || keys == null) {
             return null;
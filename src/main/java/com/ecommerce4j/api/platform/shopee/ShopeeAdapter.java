@@ -5,12 +5,15 @@ import com.ecommerce4j.api.EcommFulfillmentService;
 import com.ecommerce4j.api.EcommLogisticsService;
 import com.ecommerce4j.api.EcommOrderService;
 import com.ecommerce4j.api.dto.AuthContext;
+import com.ecommerce4j.api.dto.DocumentMetadata;
 import com.ecommerce4j.api.dto.FulfillmentAction;
 import com.ecommerce4j.api.dto.FulfillmentDocument;
 import com.ecommerce4j.api.dto.FulfillmentPackRequest;
 import com.ecommerce4j.api.dto.FulfillmentPackageResult;
 import com.ecommerce4j.api.dto.FulfillmentProviderOption;
 import com.ecommerce4j.api.dto.OrderQuery;
+import com.ecommerce4j.api.dto.PackageDocumentRef;
+import com.ecommerce4j.api.dto.PackageDocumentResult;
 import com.ecommerce4j.api.dto.PaginatedResult;
 import com.ecommerce4j.api.dto.TrackingInfo;
 import com.ecommerce4j.api.dto.UnifiedAddress;
@@ -23,6 +26,9 @@ import com.ecommerce4j.api.enums.FulfillmentType;
 import com.ecommerce4j.api.enums.Platform;
 import com.ecommerce4j.api.exception.EcommIntegrationException;
 import com.ecommerce4j.api.platform.AbstractAdapter;
+import com.ecommerce4j.api.platform.concurrent.OrderPagePublisher;
+import com.ecommerce4j.api.platform.http.AsyncCalls;
+import com.ecommerce4j.api.platform.http.DocumentSink;
 import com.ecommerce4j.api.platform.shopee.dto.ShopeeModels;
 import com.ecommerce4j.api.platform.shopee.dto.ShopeeStatusMapper;
 import jakarta.annotation.PostConstruct;
@@ -34,15 +40,33 @@ import org.springframework.util.StringUtils;
 import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Shopee 平台适配器
@@ -60,6 +84,11 @@ public class ShopeeAdapter extends AbstractAdapter implements EcommOrderService,
     private static final String MODE_NON_INTEGRATED = "non_integrated";
     private static final String DEFAULT_SHIPPING_DOCUMENT_TYPE = "NORMAL_AIR_WAYBILL";
 
+    /**
+     * 面单缓存中的文档类型：面单类型由 get_shipping_document_parameter 的建议值决定，按包裹缓存
+     */
+    private static final String LABEL_CACHE_TYPE = "SUGGESTED";
+
     @Value("${shopee.partner_id:0}")
     private long partnerId;
 
@@ -75,17 +104,39 @@ public class ShopeeAdapter extends AbstractAdapter implements EcommOrderService,
     @Value("${shopee.gateway_region:sg}")
     private String gatewayRegion;
 
+    /**
+     * 覆盖 API 网关域名（如本地模拟服务），为空时按 environment 与 gateway_region 选择
+     */
+    @Value("${shopee.api_base_url:}")
+    private String apiBaseUrl;
+
+    /**
+     * 覆盖授权页域名，为空时按 environment 与 gateway_region 选择
+     */
+    @Value("${shopee.auth_base_url:}")
+    private String authBaseUrl;
+
     @Value("${shopee.shipping_document_poll_attempts:5}")
     private int shippingDocumentPollAttempts;
 
     @Value("${shopee.shipping_document_poll_interval_ms:1000}")
     private long shippingDocumentPollIntervalMs;
 
+    @Value("${shopee.backfill_window_concurrency:4}")
+    private int backfillWindowConcurrency = 4;
+
     private ShopeeApiClient shopeeApiClient;
 
+    private volatile ShopeeDocumentPoller documentPoller;
+
+    public ShopeeAdapter() {
+        super(Platform.SHOPEE);
+    }
+
     @PostConstruct
     void initClient() {
-        this.shopeeApiClient = new ShopeeApiClient(httpClient, downloadClient, objectMapper, partnerId, partnerKey, environment, gatewayRegion);
+        this.shopeeApiClient = new ShopeeApiClient(httpClient(), downloadClient(), objectMapper, partnerId, partnerKey, environment, gatewayRegion,
+            apiBaseUrl, authBaseUrl);
     }
 
     @Override
@@ -113,7 +164,20 @@ public class ShopeeAdapter extends AbstractAdapter implements EcommOrderService,
 
     @Override
     public AuthContext refreshTokens(AuthContext authContext) {
-        ShopeeModels.TokenResponse response = shopeeApiClient.refreshAccessToken(authContext);
+        return mapRefreshedTokens(authContext, shopeeApiClient.refreshAccessToken(authContext));
+    }
+
+    @Override
+    public CompletableFuture<AuthContext> refreshTokensAsync(AuthContext authContext) {
+        try {
+            return AsyncCalls.thenApply(shopeeApiClient.refreshAccessTokenAsync(authContext),
+                response -> mapRefreshedTokens(authContext, response));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private AuthContext mapRefreshedTokens(AuthContext authContext, ShopeeModels.TokenResponse response) {
         AuthContext refreshed = mapToAuthContext(response);
         refreshed.setShopId(StringUtils.hasText(refreshed.getShopId()) ? refreshed.getShopId() : authContext.getShopId());
         refreshed.setMerchantId(StringUtils.hasText(refreshed.getMerchantId()) ? refreshed.getMerchantId() : authContext.getMerchantId());
@@ -125,7 +189,15 @@ public class ShopeeAdapter extends AbstractAdapter implements EcommOrderService,
 
     @Override
     public UnifiedShopInfo getShopInfo(AuthContext authContext) {
-        ShopeeModels.ShopInfoResponse response = shopeeApiClient.getShopInfo(authContext);
+        return mapShopInfo(authContext, shopeeApiClient.getShopInfo(authContext));
+    }
+
+    @Override
+    public CompletableFuture<UnifiedShopInfo> getShopInfoAsync(AuthContext authContext) {
+        return AsyncCalls.thenApply(shopeeApiClient.getShopInfoAsync(authContext), response -> mapShopInfo(authContext, response));
+    }
+
+    private UnifiedShopInfo mapShopInfo(AuthContext authContext, ShopeeModels.ShopInfoResponse response) {
         String sellerType = Boolean.TRUE.equals(response.getCb()) ? "CB" : "LOCAL";
         if (StringUtils.hasText(response.getShopFulfillmentFlag())) {
             sellerType = sellerType + ":" + response.getShopFulfillmentFlag();
@@ -142,26 +214,111 @@ public class ShopeeAdapter extends AbstractAdapter implements EcommOrderService,
             .build();
     }
 
+    @Override
+    public Duration getMaxQueryWindow() {
+        return MAX_ORDER_QUERY_RANGE;
+    }
+
     @Override
     public PaginatedResult<UnifiedOrder> getOrders(AuthContext authContext, OrderQuery query) {
-        if (query == null) {
-            throw new EcommIntegrationException("【Shopee】订单查询参数不能为空");
-        }
+        return timedPage(() -> {
+            PaginatedResult<String> page = listOrderSns(authContext, query, query == null ? null : query.getPageToken());
+            return new PaginatedResult<>(getOrderDetails(authContext, page.getData()), page.getNextPageToken());
+        });
+    }
+
+    /**
+     * 以流水线方式读取订单：当前页的详情批次并发查询时，下一页的订单列表已经在请求中。
+     * <p>
+     * 返回顺序与逐页调用 {@link #getOrders} 一致，时间范围同样不能超过 15 天，超过请使用 {@link #backfillOrders}。
+     * 返回的 Stream 是惰性的，提前结束消费时请关闭 Stream，以取消尚未完成的请求。
+     *
+     * @param authContext 认证上下文
+     * @param query       查询条件，pageToken 作为起始游标
+     * @return 订单流
+     */
+    public Stream<UnifiedOrder> streamOrders(AuthContext authContext, OrderQuery query) {
+        // 提前校验查询参数，避免错误在消费时才抛出
+        validateOrderQuery(query);
+        OrderQuery pinnedQuery = pinEndTime(query);
+        return pipelineOrders(authContext, query.getPageToken(),
+            pageToken -> listOrderSns(authContext, pinnedQuery, pageToken),
+            MAX_BATCH_ORDER_IDS,
+            batch -> loadOrderDetailBatch(authContext, batch));
+    }
+
+    /**
+     * 基于 OkHttp 回调的异步订单查询：列表返回后立即并发发出详情批次，整个过程不占用线程等待。
+     */
+    @Override
+    public CompletableFuture<PaginatedResult<UnifiedOrder>> getOrdersAsync(AuthContext authContext, OrderQuery query) {
+        return getOrdersAsync(authContext, query, () -> false);
+    }
+
+    /**
+     * @param stopped 列表返回后、发出详情批次前检查，返回 true 时不再查询详情，返回的 Future 以取消结束。
+     *                列表响应可能在调用方取消之前已经到达，单靠取消 Future 无法阻止详情请求发出
+     */
+    private CompletableFuture<PaginatedResult<UnifiedOrder>> getOrdersAsync(AuthContext authContext, OrderQuery query, BooleanSupplier stopped) {
+        Map<String, String> queryParameters;
+        try {
+            queryParameters = orderListParameters(query, query == null ? null : query.getPageToken());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture<PaginatedResult<String>> orderSns = AsyncCalls.thenApply(
+            shopeeApiClient.getOrderListAsync(authContext, queryParameters), this::toOrderSnPage);
+        // 取消返回的 Future 时取消当前在途的列表或详情请求
+        return AsyncCalls.thenCompose(orderSns, page -> {
+            if (stopped.getAsBoolean()) {
+                CompletableFuture<PaginatedResult<UnifiedOrder>> cancelled = new CompletableFuture<>();
+                cancelled.cancel(false);
+                return cancelled;
+            }
+            return AsyncCalls.thenApply(getOrderDetailsAsync(authContext, page.getData()),
+                orders -> new PaginatedResult<>(orders, page.getNextPageToken()));
+        });
+    }
+
+    /**
+     * 与默认实现相同，但未指定结束时间时在订阅前固定为当前时间，保证各页游标对应同一个时间范围。
+     */
+    @Override
+    public Flow.Publisher<UnifiedOrder> publishOrders(AuthContext authContext, OrderQuery query) {
+        validateOrderQuery(query);
+        OrderQuery pinnedQuery = pinEndTime(query);
+        return new OrderPagePublisher(query.getPageToken(),
+            pageToken -> getOrdersAsync(authContext, pinnedQuery.toBuilder().pageToken(pageToken).build()));
+    }
+
+    /**
+     * 未指定结束时间时固定为当前时间，保证各页游标对应同一个时间范围；分页令牌不复制
+     */
+    private OrderQuery pinEndTime(OrderQuery query) {
+        boolean byUpdateTime = query.getUpdateTimeFrom() != null;
+        Instant now = Instant.now();
+        return OrderQuery.builder()
+            .createTimeFrom(query.getCreateTimeFrom())
+            .createTimeTo(!byUpdateTime && query.getCreateTimeTo() == null ? now : query.getCreateTimeTo())
+            .updateTimeFrom(query.getUpdateTimeFrom())
+            .updateTimeTo(byUpdateTime && query.getUpdateTimeTo() == null ? now : query.getUpdateTimeTo())
+            .orderStatus(query.getOrderStatus())
+            .pageSize(query.getPageSize())
+            .build();
+    }
+
+    private PaginatedResult<String> listOrderSns(AuthContext authContext, OrderQuery query, String pageToken) {
+        return toOrderSnPage(shopeeApiClient.getOrderList(authContext, orderListParameters(query, pageToken)));
+    }
+
+    private Map<String, String> orderListParameters(OrderQuery query, String pageToken) {
+        validateOrderQuery(query);
         Instant from = query.getUpdateTimeFrom() != null ? query.getUpdateTimeFrom() : query.getCreateTimeFrom();
         Instant to = query.getUpdateTimeFrom() != null ? query.getUpdateTimeTo() : query.getCreateTimeTo();
         String timeRangeField = query.getUpdateTimeFrom() != null ? "update_time" : "create_time";
-        if (from == null) {
-            throw new EcommIntegrationException("【Shopee】订单查询需要传入更新时间开始值（updateTimeFrom）或创建时间开始值（createTimeFrom）");
-        }
         if (to == null) {
             to = Instant.now();
         }
-        if (!from.isBefore(to)) {
-            throw new EcommIntegrationException("【Shopee】查询开始时间必须早于结束时间");
-        }
-        if (Duration.between(from, to).compareTo(MAX_ORDER_QUERY_RANGE) > 0) {
-            throw new EcommIntegrationException("【Shopee】订单列表接口单次查询时间范围不能超过 15 天");
-        }
 
         int pageSize = query.getPageSize() > 0 ? Math.min(query.getPageSize(), MAX_PAGE_SIZE) : DEFAULT_PAGE_SIZE;
         Map<String, String> queryParameters = new LinkedHashMap<>();
@@ -171,14 +328,16 @@ public class ShopeeAdapter extends AbstractAdapter implements EcommOrderService,
         queryParameters.put("page_size", String.valueOf(pageSize));
         queryParameters.put("request_order_status_pending", "true");
         queryParameters.put("response_optional_fields", "order_status");
-        if (StringUtils.hasText(query.getPageToken())) {
-            queryParameters.put("cursor", query.getPageToken());
+        if (StringUtils.hasText(pageToken)) {
+            queryParameters.put("cursor", pageToken);
         }
         if (StringUtils.hasText(query.getOrderStatus())) {
             queryParameters.put("order_status", query.getOrderStatus());
         }
+        return queryParameters;
+    }
 
-        ShopeeModels.OrderListResponse response = shopeeApiClient.getOrderList(authContext, queryParameters);
+    private PaginatedResult<String> toOrderSnPage(ShopeeModels.OrderListResponse response) {
         ShopeeModels.OrderListData data = response.getResponse();
         if (data == null || CollectionUtils.isEmpty(data.getOrderList())) {
             return new PaginatedResult<>(Collections.emptyList(), null);
@@ -188,9 +347,81 @@ public class ShopeeAdapter extends AbstractAdapter implements EcommOrderService,
             .map(ShopeeModels.OrderSummary::getOrderSn)
             .filter(StringUtils::hasText)
             .collect(Collectors.toList());
-        List<UnifiedOrder> details = getOrderDetails(authContext, orderIds);
         String nextPageToken = Boolean.TRUE.equals(data.getMore()) ? data.getNextCursor() : null;
-        return new PaginatedResult<>(details, nextPageToken);
+        return new PaginatedResult<>(orderIds, nextPageToken);
+    }
+
+    private void validateOrderQuery(OrderQuery query) {
+        if (query == null) {
+            throw new EcommIntegrationException("【Shopee】订单查询参数不能为空");
+        }
+        Instant from = query.getUpdateTimeFrom() != null ? query.getUpdateTimeFrom() : query.getCreateTimeFrom();
+        Instant to = query.getUpdateTimeFrom() != null ? query.getUpdateTimeTo() : query.getCreateTimeTo();
+        if (from == null) {
+            throw new EcommIntegrationException("【Shopee】订单查询需要传入更新时间开始值（updateTimeFrom）或创建时间开始值（createTimeFrom）");
+        }
+        if (to == null) {
+            to = Instant.now();
+        }
+        if (!from.isBefore(to)) {
+            throw new EcommIntegrationException("【Shopee】查询开始时间必须早于结束时间");
+        }
+        if (Duration.between(from, to).compareTo(MAX_ORDER_QUERY_RANGE) > 0) {
+            throw new EcommIntegrationException("【Shopee】订单列表接口单次查询时间范围不能超过 15 天。");
+        }
+    }
+
+    /**
+     * 历史订单回填。
+     * <p>
+     * 把任意长度的时间范围拆成不超过 15 天的窗口，多个窗口并发按游标分页，
+     * 结果按窗口时间先后合并为一个流，并按 order_sn 去重，因为窗口边界上的订单可能被相邻两个窗口同时返回。
+     * 按创建时间回填时窗口互不重叠，只保留上一个和当前窗口的 order_sn；按更新时间回填时，回填期间被更新的订单
+     * 可能出现在任意后续窗口，需要保留全部 order_sn，内存占用随订单数线性增长（每个 order_sn 约 100 字节，百万订单约 100MB），
+     * 订单量很大时请按创建时间回填，或分多次调用缩小时间范围。
+     * 窗口内逐页输出：页与页之间保持平台的分页顺序，每页内按查询使用的时间字段升序。
+     * <p>
+     * 返回的 Stream 是惰性的：最多同时拉取 {@code shopee.backfill_window_concurrency} 个窗口，每个窗口最多缓冲两页，
+     * 最早的窗口消费完后才会开始新的窗口。提前结束消费时请关闭 Stream，关闭后各窗口停止翻页并取消在途请求。
+     *
+     * @param authContext 认证上下文
+     * @param query       查询条件，时间范围不受 15 天限制，pageToken 会被忽略
+     * @return 按时间有序、去重后的订单流
+     */
+    public Stream<UnifiedOrder> backfillOrders(AuthContext authContext, OrderQuery query) {
+        if (query == null) {
+            throw new EcommIntegrationException("【Shopee】订单查询参数不能为空");
+        }
+        boolean byUpdateTime = query.getUpdateTimeFrom() != null;
+        Instant from = byUpdateTime ? query.getUpdateTimeFrom() : query.getCreateTimeFrom();
+        Instant to = byUpdateTime ? query.getUpdateTimeTo() : query.getCreateTimeTo();
+        if (from == null) {
+            throw new EcommIntegrationException("【Shopee】订单回填需要传入更新时间开始值（updateTimeFrom）或创建时间开始值（createTimeFrom）");
+        }
+        if (to == null) {
+            to = Instant.now();
+        }
+
+        List<OrderQuery> windows = new ArrayList<>();
+        for (Instant windowFrom = from; windowFrom.isBefore(to); ) {
+            Instant windowTo = windowFrom.plus(MAX_ORDER_QUERY_RANGE);
+            if (windowTo.isAfter(to)) {
+                windowTo = to;
+            }
+            windows.add(OrderQuery.builder()
+                .createTimeFrom(byUpdateTime ? null : windowFrom)
+                .createTimeTo(byUpdateTime ? null : windowTo)
+                .updateTimeFrom(byUpdateTime ? windowFrom : null)
+                .updateTimeTo(byUpdateTime ? windowTo : null)
+                .orderStatus(query.getOrderStatus())
+                .pageSize(query.getPageSize())
+                .build());
+            windowFrom = windowTo;
+        }
+
+        BackfillIterator iterator = new BackfillIterator(authContext, windows, byUpdateTime);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(iterator::close);
     }
 
     @Override
@@ -198,21 +429,48 @@ public class ShopeeAdapter extends AbstractAdapter implements EcommOrderService,
         if (CollectionUtils.isEmpty(orderIds)) {
             return Collections.emptyList();
         }
-        List<UnifiedOrder> result = new ArrayList<>();
+        List<List<String>> batches = new ArrayList<>();
         for (int index = 0; index < orderIds.size(); index += MAX_BATCH_ORDER_IDS) {
-            int end = Math.min(index + MAX_BATCH_ORDER_IDS, orderIds.size());
-            List<String> batch = orderIds.subList(index, end);
-            ShopeeModels.OrderDetailResponse response = shopeeApiClient.getOrderDetail(authContext, batch, DEFAULT_ORDER_DETAIL_FIELDS, true);
-            if (response.getResponse() == null || CollectionUtils.isEmpty(response.getResponse().getOrderList())) {
-                continue;
-            }
-            response.getResponse().getOrderList().stream()
-                .map(this::mapToUnifiedOrder)
-                .forEach(result::add);
+            batches.add(orderIds.subList(index, Math.min(index + MAX_BATCH_ORDER_IDS, orderIds.size())));
         }
+        // 多个批次并发请求，结果按批次顺序拼接
+        List<List<UnifiedOrder>> batchResults = fanOut(authContext, batches, batch -> loadOrderDetailBatch(authContext, batch));
+        List<UnifiedOrder> result = new ArrayList<>();
+        batchResults.forEach(result::addAll);
         return result;
     }
 
+    @Override
+    public CompletableFuture<List<UnifiedOrder>> getOrderDetailsAsync(AuthContext authContext, List<String> orderIds) {
+        if (CollectionUtils.isEmpty(orderIds)) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        List<CompletableFuture<List<UnifiedOrder>>> batches = new ArrayList<>();
+        for (int index = 0; index < orderIds.size(); index += MAX_BATCH_ORDER_IDS) {
+            List<String> batch = orderIds.subList(index, Math.min(index + MAX_BATCH_ORDER_IDS, orderIds.size()));
+            batches.add(AsyncCalls.thenApply(shopeeApiClient.getOrderDetailAsync(authContext, batch, DEFAULT_ORDER_DETAIL_FIELDS, true),
+                this::mapOrderDetails));
+        }
+        return AsyncCalls.thenApply(AsyncCalls.allOf(batches), batchResults -> {
+            List<UnifiedOrder> result = new ArrayList<>();
+            batchResults.forEach(result::addAll);
+            return result;
+        });
+    }
+
+    private List<UnifiedOrder> loadOrderDetailBatch(AuthContext authContext, List<String> orderSns) {
+        return mapOrderDetails(shopeeApiClient.getOrderDetail(authContext, orderSns, DEFAULT_ORDER_DETAIL_FIELDS, true));
+    }
+
+    private List<UnifiedOrder> mapOrderDetails(ShopeeModels.OrderDetailResponse response) {
+        if (response.getResponse() == null || CollectionUtils.isEmpty(response.getResponse().getOrderList())) {
+            return Collections.emptyList();
+        }
+        return timedMapping(() -> response.getResponse().getOrderList().stream()
+            .map(this::mapToUnifiedOrder)
+            .collect(Collectors.toList()));
+    }
+
     @Override
     public FulfillmentAction prepareFulfillment(AuthContext authContext, String orderId, boolean autoShipIfMissing) {
         ShopeeModels.Order order = loadSingleOrder(authContext, orderId);
@@ -370,6 +628,182 @@ public class ShopeeAdapter extends AbstractAdapter implements EcommOrderService,
         if (!StringUtils.hasText(orderId) || !StringUtils.hasText(packageId)) {
             throw new EcommIntegrationException("【Shopee】获取面单时订单号（orderId）和包裹号（packageId）都不能为空");
         }
+        return cachedDocument(packageId, LABEL_CACHE_TYPE, () -> {
+            ShopeeModels.DocumentOrder documentOrder = createShippingDocument(authContext, orderId, packageId);
+            awaitDocumentReady(documentPoller().awaitReady(authContext, documentOrder));
+            return downloadShippingDocument(authContext, documentOrder);
+        });
+    }
+
+    /**
+     * 以流式方式获取面单：等待生成完成后，下载响应直接写入 {@code sink}。
+     */
+    @Override
+    public DocumentMetadata writePackageDocument(AuthContext authContext, String orderId, String packageId, DocumentSink sink) {
+        if (!StringUtils.hasText(orderId) || !StringUtils.hasText(packageId)) {
+            throw new EcommIntegrationException("【Shopee】获取面单时订单号（orderId）和包裹号（packageId）都不能为空");
+        }
+        return cachedDocument(packageId, LABEL_CACHE_TYPE, sink, target -> {
+            ShopeeModels.DocumentOrder documentOrder = createShippingDocument(authContext, orderId, packageId);
+            awaitDocumentReady(documentPoller().awaitReady(authContext, documentOrder));
+            DocumentMetadata metadata = shopeeApiClient.downloadShippingDocument(authContext, documentOrder.getShippingDocumentType(),
+                Collections.singletonList(documentOrder), target);
+            metadata.setPackageId(packageId);
+            return metadata;
+        });
+    }
+
+    /**
+     * 异步获取面单：创建与下载在 I/O 执行器上执行，等待面单生成期间由批量轮询器定时查询，不占用线程。
+     * 取消返回的 Future 会取消当前所处的阶段：排队中的创建或下载任务不再执行，等待中的包裹在下一次轮询时移出队列。
+     */
+    @Override
+    public CompletableFuture<FulfillmentDocument> getPackageDocumentAsync(AuthContext authContext, String orderId, String packageId) {
+        if (!StringUtils.hasText(orderId) || !StringUtils.hasText(packageId)) {
+            return CompletableFuture.failedFuture(new EcommIntegrationException("【Shopee】获取面单时订单号（orderId）和包裹号（packageId）都不能为空"));
+        }
+        FulfillmentDocument cached = lookupCachedDocument(packageId, LABEL_CACHE_TYPE);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        return AsyncCalls.thenCompose(submitAsync(authContext, () -> createShippingDocument(authContext, orderId, packageId)),
+            documentOrder -> AsyncCalls.thenCompose(documentPoller().awaitReady(authContext, documentOrder),
+                ready -> submitAsync(authContext, () -> {
+                    FulfillmentDocument document = downloadShippingDocument(authContext, documentOrder);
+                    cacheDocument(packageId, LABEL_CACHE_TYPE, document);
+                    return document;
+                })));
+    }
+
+    /**
+     * 批量获取面单：每 {@value ShopeeDocumentPoller#MAX_BATCH_SIZE} 个包裹为一批，面单参数、创建、下载各调用一次平台接口，
+     * 等待生成时由批量轮询器统一查询；同一批中面单类型相同的包裹下载为一个合并的 PDF。
+     */
+    @Override
+    public List<PackageDocumentResult> getPackageDocuments(AuthContext authContext, List<PackageDocumentRef> packages) {
+        if (CollectionUtils.isEmpty(packages)) {
+            return Collections.emptyList();
+        }
+        return cachedDocuments(packages, LABEL_CACHE_TYPE, refs -> {
+            List<List<PackageDocumentRef>> batches = new ArrayList<>();
+            for (int index = 0; index < refs.size(); index += ShopeeDocumentPoller.MAX_BATCH_SIZE) {
+                batches.add(refs.subList(index, Math.min(index + ShopeeDocumentPoller.MAX_BATCH_SIZE, refs.size())));
+            }
+            List<PackageDocumentResult> results = new ArrayList<>(refs.size());
+            fanOut(authContext, batches, batch -> loadDocumentBatch(authContext, batch)).forEach(results::addAll);
+            return results;
+        });
+    }
+
+    private List<PackageDocumentResult> loadDocumentBatch(AuthContext authContext, List<PackageDocumentRef> batch) {
+        List<DocumentJob> jobs = new ArrayList<>(batch.size());
+        for (PackageDocumentRef ref : batch) {
+            DocumentJob job = new DocumentJob(ref);
+            if (!StringUtils.hasText(ref.getOrderId()) || !StringUtils.hasText(ref.getPackageId())) {
+                job.fail("【Shopee】获取面单时订单号（orderId）和包裹号（packageId）都不能为空");
+            }
+            jobs.add(job);
+        }
+        try {
+            resolveDocumentTypes(authContext, pendingJobs(jobs));
+            createShippingDocuments(authContext, pendingJobs(jobs));
+
+            List<DocumentJob> creating = pendingJobs(jobs);
+            List<CompletableFuture<Void>> ready = documentPoller().awaitReady(authContext,
+                creating.stream().map(job -> job.documentOrder).collect(Collectors.toList()));
+            for (int index = 0; index < creating.size(); index++) {
+                creating.get(index).ready = ready.get(index);
+            }
+            Map<String, List<DocumentJob>> readyByType = new LinkedHashMap<>();
+            for (DocumentJob job : creating) {
+                try {
+                    awaitDocumentReady(job.ready);
+                    readyByType.computeIfAbsent(job.documentOrder.getShippingDocumentType(), type -> new ArrayList<>()).add(job);
+                } catch (RuntimeException e) {
+                    job.fail(e.getMessage());
+                }
+            }
+            readyByType.forEach((documentType, readyJobs) -> downloadMergedDocument(authContext, documentType, readyJobs));
+        } catch (RuntimeException e) {
+            // 整批请求失败（网络异常、令牌失效等），尚未完成的包裹全部记为失败
+            pendingJobs(jobs).forEach(job -> job.fail(e.getMessage()));
+        }
+        return jobs.stream().map(job -> job.result).collect(Collectors.toList());
+    }
+
+    private void resolveDocumentTypes(AuthContext authContext, List<DocumentJob> jobs) {
+        if (jobs.isEmpty()) {
+            return;
+        }
+        List<ShopeeModels.DocumentOrder> baseOrders = jobs.stream()
+            .map(job -> documentOrder(job.ref.getOrderId(), job.ref.getPackageId(), null))
+            .collect(Collectors.toList());
+        ShopeeModels.ShippingDocumentParameterResponse response = shopeeApiClient.getShippingDocumentParameter(authContext, baseOrders);
+        Map<String, ShopeeModels.ShippingDocumentParameterResult> parameters = new HashMap<>();
+        if (response != null && response.getResponse() != null && response.getResponse().getResultList() != null) {
+            for (ShopeeModels.ShippingDocumentParameterResult result : response.getResponse().getResultList()) {
+                parameters.put(ShopeeDocumentPoller.documentKey(result.getOrderSn(), result.getPackageNumber()), result);
+            }
+        }
+        for (DocumentJob job : jobs) {
+            ShopeeModels.ShippingDocumentParameterResult result =
+                parameters.get(ShopeeDocumentPoller.documentKey(job.ref.getOrderId(), job.ref.getPackageId()));
+            if (result != null && StringUtils.hasText(result.getFailError())) {
+                job.fail("【Shopee】查询面单参数失败，错误码=" + result.getFailError() + "，错误信息=" + result.getFailMessage());
+                continue;
+            }
+            String documentType = result == null ? null : suggestedDocumentType(result);
+            job.documentOrder = documentOrder(job.ref.getOrderId(), job.ref.getPackageId(),
+                StringUtils.hasText(documentType) ? documentType : DEFAULT_SHIPPING_DOCUMENT_TYPE);
+        }
+    }
+
+    private void createShippingDocuments(AuthContext authContext, List<DocumentJob> jobs) {
+        if (jobs.isEmpty()) {
+            return;
+        }
+        List<ShopeeModels.DocumentOrder> documentOrders = jobs.stream().map(job -> job.documentOrder).collect(Collectors.toList());
+        ShopeeModels.ShippingDocumentOperationResponse response = shopeeApiClient.createShippingDocument(authContext, documentOrders);
+        Map<String, ShopeeModels.ShippingDocumentOperationResult> results = new HashMap<>();
+        if (response != null && response.getResponse() != null && response.getResponse().getResultList() != null) {
+            for (ShopeeModels.ShippingDocumentOperationResult result : response.getResponse().getResultList()) {
+                results.put(ShopeeDocumentPoller.documentKey(result.getOrderSn(), result.getPackageNumber()), result);
+            }
+        }
+        for (DocumentJob job : jobs) {
+            ShopeeModels.ShippingDocumentOperationResult result =
+                results.get(ShopeeDocumentPoller.documentKey(job.ref.getOrderId(), job.ref.getPackageId()));
+            if (result != null && StringUtils.hasText(result.getFailError())) {
+                job.fail("【Shopee】创建面单失败，错误码=" + result.getFailError() + "，错误信息=" + result.getFailMessage());
+            }
+        }
+    }
+
+    private void downloadMergedDocument(AuthContext authContext, String documentType, List<DocumentJob> jobs) {
+        try {
+            List<ShopeeModels.DocumentOrder> documentOrders = jobs.stream().map(job -> job.documentOrder).collect(Collectors.toList());
+            byte[] content = shopeeApiClient.downloadShippingDocument(authContext, documentType, documentOrders);
+            List<String> packageIds = jobs.stream().map(job -> job.ref.getPackageId()).collect(Collectors.toList());
+            FulfillmentDocument document = FulfillmentDocument.builder()
+                .packageId(packageIds.size() == 1 ? packageIds.get(0) : null)
+                .packageIds(packageIds)
+                .mimeType("application/pdf")
+                .content(content)
+                .build();
+            jobs.forEach(job -> job.result = PackageDocumentResult.success(job.ref, document));
+        } catch (RuntimeException e) {
+            jobs.forEach(job -> job.fail(e.getMessage()));
+        }
+    }
+
+    private static List<DocumentJob> pendingJobs(List<DocumentJob> jobs) {
+        return jobs.stream().filter(job -> job.result == null).collect(Collectors.toList());
+    }
+
+    /**
+     * 查询面单类型并创建面单任务，返回带面单类型的包裹
+     */
+    private ShopeeModels.DocumentOrder createShippingDocument(AuthContext authContext, String orderId, String packageId) {
         ShopeeModels.DocumentOrder baseOrder = documentOrder(orderId, packageId, null);
         ShopeeModels.ShippingDocumentParameterResponse parameterResponse =
             shopeeApiClient.getShippingDocumentParameter(authContext, Collections.singletonList(baseOrder));
@@ -380,10 +814,14 @@ public class ShopeeAdapter extends AbstractAdapter implements EcommOrderService,
 
         ShopeeModels.DocumentOrder documentOrder = documentOrder(orderId, packageId, documentType);
         validateDocumentOperation(shopeeApiClient.createShippingDocument(authContext, Collections.singletonList(documentOrder)), "创建面单");
-        waitUntilDocumentReady(authContext, documentOrder);
-        byte[] content = shopeeApiClient.downloadShippingDocument(authContext, documentType, Collections.singletonList(documentOrder));
+        return documentOrder;
+    }
+
+    private FulfillmentDocument downloadShippingDocument(AuthContext authContext, ShopeeModels.DocumentOrder documentOrder) {
+        byte[] content = shopeeApiClient.downloadShippingDocument(authContext, documentOrder.getShippingDocumentType(),
+            Collections.singletonList(documentOrder));
         return FulfillmentDocument.builder()
-            .packageId(packageId)
+            .packageId(documentOrder.getPackageNumber())
             .mimeType("application/pdf")
             .content(content)
             .build();
@@ -394,12 +832,42 @@ public class ShopeeAdapter extends AbstractAdapter implements EcommOrderService,
         ShopeeModels.Order order = loadSingleOrder(authContext, orderId);
         String packageNumber = resolveFirstPackageNumber(order);
         ShopeeModels.TrackingInfoResponse response = shopeeApiClient.getTrackingInfo(authContext, orderId, packageNumber);
+        return buildShipment(order, packageNumber, resolveTrackingNumber(authContext, orderId, packageNumber), response);
+    }
+
+    /**
+     * 基于 OkHttp 回调的异步物流轨迹查询：取得包裹号后，轨迹与运单号两个请求并发发出。
+     */
+    @Override
+    public CompletableFuture<UnifiedShipment> getTrackingEventsAsync(AuthContext authContext, String orderId) {
+        if (!StringUtils.hasText(orderId)) {
+            return CompletableFuture.failedFuture(new EcommIntegrationException("【Shopee】订单号（orderId）不能为空"));
+        }
+        CompletableFuture<ShopeeModels.OrderDetailResponse> detail =
+            shopeeApiClient.getOrderDetailAsync(authContext, Collections.singletonList(orderId), DEFAULT_ORDER_DETAIL_FIELDS, true);
+        return AsyncCalls.thenCompose(detail, response -> {
+            ShopeeModels.Order order = firstOrder(response, orderId);
+            String packageNumber = resolveFirstPackageNumber(order);
+            CompletableFuture<String> trackingNumber = AsyncCalls.thenApply(
+                shopeeApiClient.getTrackingNumberAsync(authContext, orderId, packageNumber), this::toTrackingNumber);
+            CompletableFuture<ShopeeModels.TrackingInfoResponse> trackingInfo =
+                shopeeApiClient.getTrackingInfoAsync(authContext, orderId, packageNumber);
+            return AsyncCalls.linkCancellation(
+                trackingInfo.thenCombine(trackingNumber, (info, number) -> buildShipment(order, packageNumber, number, info)),
+                trackingInfo, trackingNumber);
+        });
+    }
+
+    private UnifiedShipment buildShipment(ShopeeModels.Order order,
+                                          String packageNumber,
+                                          String trackingNumber,
+                                          ShopeeModels.TrackingInfoResponse response) {
         ShopeeModels.TrackingInfoData data = response.getResponse();
         UnifiedShipment shipment = new UnifiedShipment();
         shipment.setShipmentId(packageNumber);
         shipment.setCarrier(resolveCarrier(order));
         shipment.setShippingAddress(mapToUnifiedAddress(order.getRecipientAddress()));
-        shipment.setTrackingNumber(resolveTrackingNumber(authContext, orderId, packageNumber));
+        shipment.setTrackingNumber(trackingNumber);
         if (data == null) {
             shipment.setTrackingEvents(Collections.emptyList());
             return shipment;
@@ -460,6 +928,10 @@ public class ShopeeAdapter extends AbstractAdapter implements EcommOrderService,
             throw new EcommIntegrationException("【Shopee】订单号（orderId）不能为空");
         }
         ShopeeModels.OrderDetailResponse response = shopeeApiClient.getOrderDetail(authContext, Collections.singletonList(orderId), DEFAULT_ORDER_DETAIL_FIELDS, true);
+        return firstOrder(response, orderId);
+    }
+
+    private ShopeeModels.Order firstOrder(ShopeeModels.OrderDetailResponse response, String orderId) {
         if (response.getResponse() == null || CollectionUtils.isEmpty(response.getResponse().getOrderList())) {
             throw new EcommIntegrationException("【Shopee】未找到订单，订单号=" + orderId);
         }
@@ -567,7 +1039,10 @@ public class ShopeeAdapter extends AbstractAdapter implements EcommOrderService,
     }
 
     private String resolveTrackingNumber(AuthContext authContext, String orderId, String packageNumber) {
-        ShopeeModels.TrackingNumberResponse response = shopeeApiClient.getTrackingNumber(authContext, orderId, packageNumber);
+        return toTrackingNumber(shopeeApiClient.getTrackingNumber(authContext, orderId, packageNumber));
+    }
+
+    private String toTrackingNumber(ShopeeModels.TrackingNumberResponse response) {
         if (response.getResponse() == null) {
             return null;
         }
@@ -577,34 +1052,35 @@ public class ShopeeAdapter extends AbstractAdapter implements EcommOrderService,
         return response.getResponse().getFirstMileTrackingNumber();
     }
 
-    private void waitUntilDocumentReady(AuthContext authContext, ShopeeModels.DocumentOrder documentOrder) {
-        int attempts = Math.max(1, shippingDocumentPollAttempts);
-        for (int index = 0; index < attempts; index++) {
-            ShopeeModels.ShippingDocumentOperationResponse response =
-                shopeeApiClient.getShippingDocumentResult(authContext, Collections.singletonList(documentOrder));
-            ShopeeModels.ShippingDocumentOperationResult result = firstDocumentResult(response);
-            if (result != null && StringUtils.hasText(result.getFailError())) {
-                throw new EcommIntegrationException("【Shopee】面单生成失败，错误码=" + result.getFailError() + "，错误信息=" + result.getFailMessage());
-            }
-            if (result != null && "READY".equalsIgnoreCase(result.getStatus())) {
-                return;
-            }
-            if (index + 1 < attempts) {
-                sleepBeforeNextPoll();
+    /**
+     * 面单轮询器在首次使用时创建，轮询次数与间隔取当时的配置
+     */
+    private ShopeeDocumentPoller documentPoller() {
+        ShopeeDocumentPoller poller = documentPoller;
+        if (poller == null) {
+            synchronized (this) {
+                poller = documentPoller;
+                if (poller == null) {
+                    poller = new ShopeeDocumentPoller(shopeeApiClient, shippingDocumentPollAttempts, shippingDocumentPollIntervalMs);
+                    documentPoller = poller;
+                }
             }
         }
-        throw new EcommIntegrationException("【Shopee】面单生成超时，请稍后重试");
+        return poller;
     }
 
-    private void sleepBeforeNextPoll() {
-        if (shippingDocumentPollIntervalMs <= 0) {
-            return;
-        }
+    private void awaitDocumentReady(CompletableFuture<Void> ready) {
         try {
-            Thread.sleep(shippingDocumentPollIntervalMs);
+            ready.get();
         } catch (InterruptedException e) {
+            ready.cancel(true);
             Thread.currentThread().interrupt();
             throw new EcommIntegrationException("【Shopee】等待面单生成时线程被中断", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new EcommIntegrationException("【Shopee】等待面单生成失败", e.getCause());
         }
     }
 
@@ -630,6 +1106,10 @@ public class ShopeeAdapter extends AbstractAdapter implements EcommOrderService,
         if (StringUtils.hasText(result.getFailError())) {
             throw new EcommIntegrationException("【Shopee】查询面单参数失败，错误码=" + result.getFailError() + "，错误信息=" + result.getFailMessage());
         }
+        return suggestedDocumentType(result);
+    }
+
+    private static String suggestedDocumentType(ShopeeModels.ShippingDocumentParameterResult result) {
         if (StringUtils.hasText(result.getSuggestShippingDocumentType())) {
             return result.getSuggestShippingDocumentType();
         }
@@ -766,4 +1246,335 @@ public class ShopeeAdapter extends AbstractAdapter implements EcommOrderService,
             return new ProviderCodeParts(primary, secondary);
         }
     }
+
+    /**
+     * 按窗口顺序逐页消费、滑动预取后续窗口的回填迭代器。
+     * <p>
+     * 每个窗口独立按游标翻页，最多缓冲 {@link #WINDOW_PAGE_BUFFER} 页；一页到达后即可输出，不等整个窗口拉完。
+     * 分页通过 {@link #getOrdersAsync} 发出，列表与详情批次都不占用执行器线程。
+     */
+    private class BackfillIterator implements Iterator<UnifiedOrder> {
+
+        /**
+         * 每个窗口最多缓冲的已到达分页数
+         */
+        private static final int WINDOW_PAGE_BUFFER = 2;
+
+        private final AuthContext authContext;
+
+        private final List<OrderQuery> windows;
+
+        private final boolean byUpdateTime;
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private final Condition pageArrived = lock.newCondition();
+
+        /**
+         * 以下字段只在持有 lock 时访问
+         */
+        private final Deque<BackfillWindow> activeWindows = new ArrayDeque<>();
+
+        private int nextWindowIndex;
+
+        private boolean closed;
+
+        /**
+         * 以下字段只在消费线程访问
+         */
+        private Set<String> previousWindowSns = Collections.emptySet();
+
+        /**
+         * 当前窗口已输出的 order_sn；按更新时间回填时不按窗口轮换，保留全部已输出的 order_sn
+         */
+        private Set<String> seenOrderSns = new HashSet<>();
+
+        /**
+         * 当前页、上一页所属的窗口
+         */
+        private BackfillWindow pageWindow;
+
+        private BackfillWindow lastPageWindow;
+
+        private Iterator<UnifiedOrder> current = Collections.emptyIterator();
+
+        private UnifiedOrder next;
+
+        private BackfillIterator(AuthContext authContext, List<OrderQuery> windows, boolean byUpdateTime) {
+            this.authContext = authContext;
+            this.windows = windows;
+            this.byUpdateTime = byUpdateTime;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                if (current.hasNext()) {
+                    UnifiedOrder candidate = current.next();
+                    if (!previousWindowSns.contains(candidate.getOrderId()) && seenOrderSns.add(candidate.getOrderId())) {
+                        next = candidate;
+                    }
+                    continue;
+                }
+                List<UnifiedOrder> page = awaitPage();
+                if (page == null) {
+                    return false;
+                }
+                if (!byUpdateTime && lastPageWindow != null && pageWindow != lastPageWindow) {
+                    // 创建时间窗口互不重叠，重复只会出现在相邻窗口的边界上
+                    previousWindowSns = seenOrderSns;
+                    seenOrderSns = new HashSet<>();
+                }
+                lastPageWindow = pageWindow;
+                current = page.iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public UnifiedOrder next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            UnifiedOrder result = next;
+            next = null;
+            return result;
+        }
+
+        /**
+         * 取出最早窗口的下一页，窗口全部结束或迭代器已关闭时返回 null。
+         */
+        private List<UnifiedOrder> awaitPage() {
+            while (true) {
+                List<UnifiedOrder> page = null;
+                Throwable failure = null;
+                List<BackfillWindow> toFetch;
+                lock.lock();
+                try {
+                    if (closed) {
+                        return null;
+                    }
+                    fillWindows();
+                    BackfillWindow head = activeWindows.peekFirst();
+                    if (head == null) {
+                        return null;
+                    }
+                    if (head.failure != null) {
+                        failure = head.failure;
+                    } else if (!head.pages.isEmpty()) {
+                        page = head.pages.poll();
+                        pageWindow = head;
+                    } else if (head.isFinished()) {
+                        activeWindows.pollFirst();
+                        continue;
+                    }
+                    toFetch = claimFetches();
+                    if (page == null && failure == null && toFetch.isEmpty()) {
+                        pageArrived.await();
+                        continue;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    failure = new EcommIntegrationException("【Shopee】等待订单回填分页时线程被中断", e);
+                    toFetch = Collections.emptyList();
+                } finally {
+                    lock.unlock();
+                }
+                toFetch.forEach(this::startFetch);
+                if (failure != null) {
+                    close();
+                    if (failure instanceof RuntimeException) {
+                        throw (RuntimeException) failure;
+                    }
+                    throw new EcommIntegrationException("【Shopee】订单回填窗口执行失败", failure);
+                }
+                if (page != null) {
+                    return page;
+                }
+            }
+        }
+
+        /**
+         * 补充窗口直到达到并发上限，调用方持有 lock。
+         */
+        private void fillWindows() {
+            int concurrency = Math.max(1, backfillWindowConcurrency);
+            while (activeWindows.size() < concurrency && nextWindowIndex < windows.size()) {
+                activeWindows.add(new BackfillWindow(windows.get(nextWindowIndex++)));
+            }
+        }
+
+        /**
+         * 标记可以请求下一页的窗口，实际请求在释放 lock 后由 {@link #startFetch} 发出。调用方持有 lock。
+         */
+        private List<BackfillWindow> claimFetches() {
+            if (closed) {
+                return Collections.emptyList();
+            }
+            List<BackfillWindow> claimed = new ArrayList<>();
+            for (BackfillWindow window : activeWindows) {
+                if (window.canFetch()) {
+                    window.loading = true;
+                    claimed.add(window);
+                }
+            }
+            return claimed;
+        }
+
+        private void startFetch(BackfillWindow window) {
+            CompletableFuture<PaginatedResult<UnifiedOrder>> page;
+            try {
+                page = getOrdersAsync(authContext, window.query.toBuilder().pageToken(window.cursor).build(), this::isClosed);
+            } catch (RuntimeException e) {
+                lock.lock();
+                try {
+                    window.loading = false;
+                    window.failure = e;
+                    pageArrived.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+                return;
+            }
+            boolean cancelPage;
+            lock.lock();
+            try {
+                window.loading = false;
+                cancelPage = closed;
+                if (!cancelPage) {
+                    window.inFlight = page;
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (cancelPage) {
+                page.cancel(true);
+                return;
+            }
+            page.whenComplete((result, error) -> onPage(window, page, result, error));
+        }
+
+        private void onPage(BackfillWindow window,
+                            CompletableFuture<PaginatedResult<UnifiedOrder>> page,
+                            PaginatedResult<UnifiedOrder> result,
+                            Throwable error) {
+            List<BackfillWindow> toFetch;
+            lock.lock();
+            try {
+                if (window.inFlight != page) {
+                    return;
+                }
+                window.inFlight = null;
+                if (error != null) {
+                    window.failure = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                } else {
+                    if (result != null && !CollectionUtils.isEmpty(result.getData())) {
+                        window.pages.add(sortByTime(result.getData()));
+                    }
+                    window.cursor = result == null ? null : result.getNextPageToken();
+                    window.exhausted = !StringUtils.hasText(window.cursor);
+                }
+                toFetch = claimFetches();
+                pageArrived.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            toFetch.forEach(this::startFetch);
+        }
+
+        private List<UnifiedOrder> sortByTime(List<UnifiedOrder> orders) {
+            Function<UnifiedOrder, Instant> timeField = byUpdateTime ? UnifiedOrder::getUpdateTime : UnifiedOrder::getCreateTime;
+            List<UnifiedOrder> sorted = new ArrayList<>(orders);
+            sorted.sort(Comparator.comparing(timeField, Comparator.nullsLast(Comparator.naturalOrder())));
+            return sorted;
+        }
+
+        private boolean isClosed() {
+            lock.lock();
+            try {
+                return closed;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * 停止翻页并取消所有窗口在途的分页请求；可以从任意线程调用。
+         */
+        private void close() {
+            List<CompletableFuture<PaginatedResult<UnifiedOrder>>> inFlight = new ArrayList<>();
+            lock.lock();
+            try {
+                closed = true;
+                for (BackfillWindow window : activeWindows) {
+                    if (window.inFlight != null) {
+                        inFlight.add(window.inFlight);
+                        window.inFlight = null;
+                    }
+                    window.pages.clear();
+                }
+                activeWindows.clear();
+                nextWindowIndex = windows.size();
+                pageArrived.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            inFlight.forEach(future -> future.cancel(true));
+        }
+    }
+
+    /**
+     * 回填窗口的翻页状态，只在持有所属迭代器的 lock 时访问
+     */
+    private static class BackfillWindow {
+
+        private final OrderQuery query;
+
+        private final Deque<List<UnifiedOrder>> pages = new ArrayDeque<>();
+
+        private CompletableFuture<PaginatedResult<UnifiedOrder>> inFlight;
+
+        private String cursor;
+
+        private boolean loading;
+
+        private boolean exhausted;
+
+        private Throwable failure;
+
+        private BackfillWindow(OrderQuery query) {
+            this.query = query;
+        }
+
+        private boolean canFetch() {
+            return !exhausted && failure == null && !loading && inFlight == null
+                && pages.size() < BackfillIterator.WINDOW_PAGE_BUFFER;
+        }
+
+        private boolean isFinished() {
+            return exhausted && !loading && inFlight == null && pages.isEmpty();
+        }
+    }
+
+    /**
+     * 批量获取面单时单个包裹的处理状态
+     */
+    private static class DocumentJob {
+
+        private final PackageDocumentRef ref;
+
+        private ShopeeModels.DocumentOrder documentOrder;
+
+        private CompletableFuture<Void> ready;
+
+        private PackageDocumentResult result;
+
+        private DocumentJob(PackageDocumentRef ref) {
+            this.ref = ref;
+        }
+
+        private void fail(String errorMessage) {
+            result = PackageDocumentResult.failure(ref, errorMessage);
+        }
+    }
 }
@@ -1,9 +1,18 @@
 package com.ecommerce4j.api.platform.shopee;
 
 import com.ecommerce4j.api.dto.AuthContext;
+import com.ecommerce4j.api.dto.DocumentMetadata;
+import com.ecommerce4j.api.exception.AuthExpiredException;
 import com.ecommerce4j.api.exception.EcommIntegrationException;
+import com.ecommerce4j.api.platform.http.AsyncCalls;
+import com.ecommerce4j.api.platform.http.DocumentDownloads;
+import com.ecommerce4j.api.platform.http.DocumentSink;
+import com.ecommerce4j.api.platform.http.JsonBodyReader;
+import com.ecommerce4j.api.platform.http.RateLimitExceededException;
+import com.ecommerce4j.api.platform.http.SellerTag;
 import com.ecommerce4j.api.platform.shopee.dto.ShopeeModels;
 import com.ecommerce4j.api.platform.shopee.dto.ShopeeResponse;
+import com.ecommerce4j.api.platform.sign.ShopeeSigner;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import okhttp3.HttpUrl;
@@ -15,8 +24,6 @@ import okhttp3.Response;
 import okhttp3.ResponseBody;
 import org.springframework.util.StringUtils;
 
-import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
@@ -26,6 +33,8 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Shopee OpenAPI v2 请求客户端
@@ -48,14 +57,21 @@ class ShopeeApiClient {
     static final String PATH_LOGISTICS_DOWNLOAD_SHIPPING_DOCUMENT = "/api/v2/logistics/download_shipping_document";
     static final String PATH_LOGISTICS_GET_TRACKING_INFO = "/api/v2/logistics/get_tracking_info";
 
-    private static final String HMAC_ALGORITHM = "HmacSHA256";
     private static final MediaType JSON = MediaType.parse("application/json; charset=utf-8");
 
+    /**
+     * 访问令牌无效或过期的错误码（invalid_acceess_token 为平台原样拼写）
+     */
+    private static final Set<String> AUTH_EXPIRED_ERRORS = Set.of("invalid_access_token", "invalid_acceess_token");
+
     private final OkHttpClient httpClient;
     private final OkHttpClient downloadClient;
     private final ObjectMapper objectMapper;
     private final long partnerId;
-    private final String partnerKey;
+    /**
+     * partner_key 为空时为 null，签名时报错，不影响构建授权链接等不需要签名的操作
+     */
+    private final ShopeeSigner signer;
     private final String gatewayBaseUrl;
     private final String authBaseUrl;
 
@@ -66,9 +82,25 @@ class ShopeeApiClient {
                     String partnerKey,
                     String environment,
                     String gatewayRegion) {
+        this(httpClient, downloadClient, objectMapper, partnerId, partnerKey, environment, gatewayRegion, null, null);
+    }
+
+    /**
+     * @param gatewayBaseUrl 覆盖 API 网关域名，为空时按环境和区域选择
+     * @param authBaseUrl    覆盖授权页地址，为空时按环境和区域选择
+     */
+    ShopeeApiClient(OkHttpClient httpClient,
+                    OkHttpClient downloadClient,
+                    ObjectMapper objectMapper,
+                    long partnerId,
+                    String partnerKey,
+                    String environment,
+                    String gatewayRegion,
+                    String gatewayBaseUrl,
+                    String authBaseUrl) {
         this(httpClient, downloadClient, objectMapper, partnerId, partnerKey, new EndpointConfig(
-            resolveGatewayBaseUrl(environment, gatewayRegion),
-            resolveAuthBaseUrl(environment, gatewayRegion)));
+            StringUtils.hasText(gatewayBaseUrl) ? gatewayBaseUrl : resolveGatewayBaseUrl(environment, gatewayRegion),
+            StringUtils.hasText(authBaseUrl) ? authBaseUrl : resolveAuthBaseUrl(environment, gatewayRegion)));
     }
 
     /**
@@ -94,7 +126,7 @@ class ShopeeApiClient {
         this.downloadClient = downloadClient;
         this.objectMapper = objectMapper;
         this.partnerId = partnerId;
-        this.partnerKey = partnerKey;
+        this.signer = StringUtils.hasText(partnerKey) ? new ShopeeSigner(partnerId, partnerKey) : null;
         this.gatewayBaseUrl = trimTrailingSlash(endpointConfig.gatewayBaseUrl);
         this.authBaseUrl = trimTrailingSlash(endpointConfig.authBaseUrl);
     }
@@ -122,6 +154,14 @@ class ShopeeApiClient {
     }
 
     ShopeeModels.TokenResponse refreshAccessToken(AuthContext authContext) {
+        return executePost(PATH_AUTH_ACCESS_TOKEN_GET, SignScope.PUBLIC, null, refreshTokenBody(authContext), new TypeReference<>() {});
+    }
+
+    CompletableFuture<ShopeeModels.TokenResponse> refreshAccessTokenAsync(AuthContext authContext) {
+        return executePostAsync(PATH_AUTH_ACCESS_TOKEN_GET, SignScope.PUBLIC, null, refreshTokenBody(authContext), new TypeReference<>() {});
+    }
+
+    private Map<String, Object> refreshTokenBody(AuthContext authContext) {
         if (authContext == null || !StringUtils.hasText(authContext.getRefreshToken())) {
             throw new EcommIntegrationException("【Shopee】刷新令牌（refresh_token）不能为空");
         }
@@ -135,28 +175,51 @@ class ShopeeApiClient {
         } else {
             throw new EcommIntegrationException("【Shopee】刷新令牌时授权上下文必须包含店铺 ID（shopId）或商家 ID（merchantId）");
         }
-        return executePost(PATH_AUTH_ACCESS_TOKEN_GET, SignScope.PUBLIC, null, body, new TypeReference<>() {});
+        return body;
     }
 
     ShopeeModels.ShopInfoResponse getShopInfo(AuthContext authContext) {
         return executeGet(PATH_SHOP_GET_INFO, SignScope.SHOP, authContext, Collections.emptyMap(), new TypeReference<>() {});
     }
 
+    CompletableFuture<ShopeeModels.ShopInfoResponse> getShopInfoAsync(AuthContext authContext) {
+        return executeGetAsync(PATH_SHOP_GET_INFO, SignScope.SHOP, authContext, Collections.emptyMap(), new TypeReference<>() {});
+    }
+
     ShopeeModels.OrderListResponse getOrderList(AuthContext authContext, Map<String, String> queryParameters) {
         return executeGet(PATH_ORDER_GET_LIST, SignScope.SHOP, authContext, queryParameters, new TypeReference<>() {});
     }
 
+    CompletableFuture<ShopeeModels.OrderListResponse> getOrderListAsync(AuthContext authContext, Map<String, String> queryParameters) {
+        return executeGetAsync(PATH_ORDER_GET_LIST, SignScope.SHOP, authContext, queryParameters, new TypeReference<>() {});
+    }
+
     ShopeeModels.OrderDetailResponse getOrderDetail(AuthContext authContext,
                                                     List<String> orderSnList,
                                                     String responseOptionalFields,
                                                     boolean requestPendingStatus) {
+        return executeGet(PATH_ORDER_GET_DETAIL, SignScope.SHOP, authContext,
+            orderDetailParameters(orderSnList, responseOptionalFields, requestPendingStatus), new TypeReference<>() {});
+    }
+
+    CompletableFuture<ShopeeModels.OrderDetailResponse> getOrderDetailAsync(AuthContext authContext,
+                                                                            List<String> orderSnList,
+                                                                            String responseOptionalFields,
+                                                                            boolean requestPendingStatus) {
+        return executeGetAsync(PATH_ORDER_GET_DETAIL, SignScope.SHOP, authContext,
+            orderDetailParameters(orderSnList, responseOptionalFields, requestPendingStatus), new TypeReference<>() {});
+    }
+
+    private Map<String, String> orderDetailParameters(List<String> orderSnList,
+                                                      String responseOptionalFields,
+                                                      boolean requestPendingStatus) {
         Map<String, String> queryParameters = new LinkedHashMap<>();
         queryParameters.put("order_sn_list", String.join(",", orderSnList));
         queryParameters.put("request_order_status_pending", String.valueOf(requestPendingStatus));
         if (StringUtils.hasText(responseOptionalFields)) {
             queryParameters.put("response_optional_fields", responseOptionalFields);
         }
-        return executeGet(PATH_ORDER_GET_DETAIL, SignScope.SHOP, authContext, queryParameters, new TypeReference<>() {});
+        return queryParameters;
     }
 
     ShopeeModels.ShippingParameterResponse getShippingParameter(AuthContext authContext,
@@ -177,13 +240,21 @@ class ShopeeApiClient {
     ShopeeModels.TrackingNumberResponse getTrackingNumber(AuthContext authContext,
                                                           String orderSn,
                                                           String packageNumber) {
-        Map<String, String> queryParameters = new LinkedHashMap<>();
-        queryParameters.put("order_sn", orderSn);
-        if (StringUtils.hasText(packageNumber)) {
-            queryParameters.put("package_number", packageNumber);
-        }
+        return executeGet(PATH_LOGISTICS_GET_TRACKING_NUMBER, SignScope.SHOP, authContext,
+            trackingNumberParameters(orderSn, packageNumber), new TypeReference<>() {});
+    }
+
+    CompletableFuture<ShopeeModels.TrackingNumberResponse> getTrackingNumberAsync(AuthContext authContext,
+                                                                                  String orderSn,
+                                                                                  String packageNumber) {
+        return executeGetAsync(PATH_LOGISTICS_GET_TRACKING_NUMBER, SignScope.SHOP, authContext,
+            trackingNumberParameters(orderSn, packageNumber), new TypeReference<>() {});
+    }
+
+    private Map<String, String> trackingNumberParameters(String orderSn, String packageNumber) {
+        Map<String, String> queryParameters = packageParameters(orderSn, packageNumber);
         queryParameters.put("response_optional_fields", "first_mile_tracking_number");
-        return executeGet(PATH_LOGISTICS_GET_TRACKING_NUMBER, SignScope.SHOP, authContext, queryParameters, new TypeReference<>() {});
+        return queryParameters;
     }
 
     ShopeeModels.ShippingDocumentParameterResponse getShippingDocumentParameter(AuthContext authContext,
@@ -207,6 +278,13 @@ class ShopeeApiClient {
         return executePost(PATH_LOGISTICS_GET_SHIPPING_DOCUMENT_RESULT, SignScope.SHOP, authContext, body, new TypeReference<>() {});
     }
 
+    CompletableFuture<ShopeeModels.ShippingDocumentOperationResponse> getShippingDocumentResultAsync(AuthContext authContext,
+                                                                                                 List<ShopeeModels.DocumentOrder> orders) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("order_list", orders);
+        return executePostAsync(PATH_LOGISTICS_GET_SHIPPING_DOCUMENT_RESULT, SignScope.SHOP, authContext, body, new TypeReference<>() {});
+    }
+
     byte[] downloadShippingDocument(AuthContext authContext,
                                     String shippingDocumentType,
                                     List<ShopeeModels.DocumentOrder> orders) {
@@ -218,21 +296,43 @@ class ShopeeApiClient {
         return executePostForBytes(PATH_LOGISTICS_DOWNLOAD_SHIPPING_DOCUMENT, authContext, body);
     }
 
+    DocumentMetadata downloadShippingDocument(AuthContext authContext,
+                                              String shippingDocumentType,
+                                              List<ShopeeModels.DocumentOrder> orders,
+                                              DocumentSink sink) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        if (StringUtils.hasText(shippingDocumentType)) {
+            body.put("shipping_document_type", shippingDocumentType);
+        }
+        body.put("order_list", orders);
+        return executePostToSink(PATH_LOGISTICS_DOWNLOAD_SHIPPING_DOCUMENT, authContext, body, sink);
+    }
+
     ShopeeModels.TrackingInfoResponse getTrackingInfo(AuthContext authContext, String orderSn, String packageNumber) {
+        return executeGet(PATH_LOGISTICS_GET_TRACKING_INFO, SignScope.SHOP, authContext,
+            packageParameters(orderSn, packageNumber), new TypeReference<>() {});
+    }
+
+    CompletableFuture<ShopeeModels.TrackingInfoResponse> getTrackingInfoAsync(AuthContext authContext, String orderSn, String packageNumber) {
+        return executeGetAsync(PATH_LOGISTICS_GET_TRACKING_INFO, SignScope.SHOP, authContext,
+            packageParameters(orderSn, packageNumber), new TypeReference<>() {});
+    }
+
+    private Map<String, String> packageParameters(String orderSn, String packageNumber) {
         Map<String, String> queryParameters = new LinkedHashMap<>();
         queryParameters.put("order_sn", orderSn);
         if (StringUtils.hasText(packageNumber)) {
             queryParameters.put("package_number", packageNumber);
         }
-        return executeGet(PATH_LOGISTICS_GET_TRACKING_INFO, SignScope.SHOP, authContext, queryParameters, new TypeReference<>() {});
+        return queryParameters;
     }
 
     String signPublic(String path, long timestamp) {
-        return hmacSha256(String.valueOf(partnerId) + path + timestamp);
+        return requireSigner().signPublic(path, timestamp);
     }
 
     String signShop(String path, long timestamp, String accessToken, String shopId) {
-        return hmacSha256(String.valueOf(partnerId) + path + timestamp + accessToken + shopId);
+        return requireSigner().signShop(path, timestamp, accessToken, shopId);
     }
 
     String getGatewayBaseUrl() {
@@ -248,6 +348,31 @@ class ShopeeApiClient {
                                                     AuthContext authContext,
                                                     Map<String, String> businessParameters,
                                                     TypeReference<T> typeReference) {
+        return executeJsonRequest(buildGetRequest(path, signScope, authContext, businessParameters), path, typeReference);
+    }
+
+    private <T extends ShopeeResponse> CompletableFuture<T> executeGetAsync(String path,
+                                                                           SignScope signScope,
+                                                                           AuthContext authContext,
+                                                                           Map<String, String> businessParameters,
+                                                                           TypeReference<T> typeReference) {
+        Request request = buildGetRequest(path, signScope, authContext, businessParameters);
+        return AsyncCalls.handle(AsyncCalls.enqueue(httpClient, request), (response, error) -> {
+            if (error != null) {
+                throw RateLimitExceededException.wrap("【Shopee】接口请求失败，接口=" + path, error);
+            }
+            try (response) {
+                return readJsonResponse(response, path, typeReference);
+            } catch (IOException e) {
+                throw RateLimitExceededException.wrap("【Shopee】接口请求失败，接口=" + path, e);
+            }
+        });
+    }
+
+    private Request buildGetRequest(String path,
+                                    SignScope signScope,
+                                    AuthContext authContext,
+                                    Map<String, String> businessParameters) {
         long timestamp = Instant.now().getEpochSecond();
         Map<String, String> commonParameters = buildCommonParameters(path, signScope, authContext, timestamp);
 
@@ -263,11 +388,10 @@ class ShopeeApiClient {
             }
         }
 
-        Request request = new Request.Builder()
+        return sellerTagged(signScope, authContext)
             .url(urlBuilder.build())
             .get()
             .build();
-        return executeJsonRequest(request, path, typeReference);
     }
 
     private <T extends ShopeeResponse> T executePost(String path,
@@ -275,6 +399,28 @@ class ShopeeApiClient {
                                                      AuthContext authContext,
                                                      Object body,
                                                      TypeReference<T> typeReference) {
+        return executeJsonRequest(buildPostRequest(path, signScope, authContext, body), path, typeReference);
+    }
+
+    private <T extends ShopeeResponse> CompletableFuture<T> executePostAsync(String path,
+                                                                            SignScope signScope,
+                                                                            AuthContext authContext,
+                                                                            Object body,
+                                                                            TypeReference<T> typeReference) {
+        Request request = buildPostRequest(path, signScope, authContext, body);
+        return AsyncCalls.handle(AsyncCalls.enqueue(httpClient, request), (response, error) -> {
+            if (error != null) {
+                throw RateLimitExceededException.wrap("【Shopee】接口请求失败，接口=" + path, error);
+            }
+            try (response) {
+                return readJsonResponse(response, path, typeReference);
+            } catch (IOException e) {
+                throw RateLimitExceededException.wrap("【Shopee】接口请求失败，接口=" + path, e);
+            }
+        });
+    }
+
+    private Request buildPostRequest(String path, SignScope signScope, AuthContext authContext, Object body) {
         long timestamp = Instant.now().getEpochSecond();
         Map<String, String> commonParameters = buildCommonParameters(path, signScope, authContext, timestamp);
         HttpUrl.Builder urlBuilder = Objects.requireNonNull(HttpUrl.parse(gatewayBaseUrl + path), "【Shopee】请求 URL 无效").newBuilder();
@@ -282,31 +428,28 @@ class ShopeeApiClient {
             urlBuilder.addQueryParameter(entry.getKey(), entry.getValue());
         }
 
-        Request request = new Request.Builder()
+        return sellerTagged(signScope, authContext)
             .url(urlBuilder.build())
             .post(RequestBody.create(objectToJson(body), JSON))
             .build();
-        return executeJsonRequest(request, path, typeReference);
     }
 
-    private byte[] executePostForBytes(String path, AuthContext authContext, Object body) {
-        long timestamp = Instant.now().getEpochSecond();
-        Map<String, String> commonParameters = buildCommonParameters(path, SignScope.SHOP, authContext, timestamp);
-        HttpUrl.Builder urlBuilder = Objects.requireNonNull(HttpUrl.parse(gatewayBaseUrl + path), "【Shopee】请求 URL 无效").newBuilder();
-        for (Map.Entry<String, String> entry : commonParameters.entrySet()) {
-            urlBuilder.addQueryParameter(entry.getKey(), entry.getValue());
-        }
+    /**
+     * 店铺级请求附加卖家标识，供限流和指标按店铺区分；公共接口（授权、刷新令牌）不附加。
+     */
+    private Request.Builder sellerTagged(SignScope signScope, AuthContext authContext) {
+        Request.Builder builder = new Request.Builder();
+        return signScope == SignScope.SHOP ? SellerTag.tag(builder, authContext) : builder;
+    }
 
-        Request request = new Request.Builder()
-            .url(urlBuilder.build())
-            .post(RequestBody.create(objectToJson(body), JSON))
-            .build();
+    private byte[] executePostForBytes(String path, AuthContext authContext, Object body) {
+        Request request = buildPostRequest(path, SignScope.SHOP, authContext, body);
 
         try (Response response = downloadClient.newCall(request).execute()) {
             ResponseBody responseBody = response.body();
             byte[] bytes = responseBody == null ? new byte[0] : responseBody.bytes();
             if (!response.isSuccessful()) {
-                throw new EcommIntegrationException("【Shopee】文件请求失败，接口=" + path + "，状态码=" + response.code() + "，响应=" + new String(bytes, StandardCharsets.UTF_8));
+                throw new EcommIntegrationException("【Shopee】文件请求失败，接口=" + path + "，状态码=" + response.code() + "，响应=" + new String(bytes, StandardCharsets.UTF_8), response.code());
             }
             String contentType = response.header("Content-Type");
             if (contentType != null && contentType.toLowerCase(Locale.ROOT).contains("application/json")) {
@@ -315,7 +458,31 @@ class ShopeeApiClient {
             }
             return bytes;
         } catch (IOException e) {
-            throw new EcommIntegrationException("【Shopee】文件请求失败，接口=" + path, e);
+            throw RateLimitExceededException.wrap("【Shopee】文件请求失败，接口=" + path, e);
+        }
+    }
+
+    /**
+     * 下载文件并流式写入 sink；平台以 JSON 返回错误时先校验再写出，文件内容不在堆上保留
+     */
+    private DocumentMetadata executePostToSink(String path, AuthContext authContext, Object body, DocumentSink sink) {
+        Request request = buildPostRequest(path, SignScope.SHOP, authContext, body);
+
+        try (Response response = downloadClient.newCall(request).execute()) {
+            ResponseBody responseBody = response.body();
+            if (!response.isSuccessful()) {
+                String bodyText = responseBody == null ? "" : responseBody.string();
+                throw new EcommIntegrationException("【Shopee】文件请求失败，接口=" + path + "，状态码=" + response.code() + "，响应=" + bodyText, response.code());
+            }
+            String contentType = response.header("Content-Type");
+            if (responseBody != null && contentType != null && contentType.toLowerCase(Locale.ROOT).contains("application/json")) {
+                byte[] bytes = responseBody.bytes();
+                validateTopLevelResponse(objectMapper.readValue(bytes, ShopeeResponse.class), path);
+                return DocumentMetadata.builder().mimeType("application/json").size(sink.write(bytes)).build();
+            }
+            return DocumentDownloads.copy(responseBody, sink, "application/pdf");
+        } catch (IOException e) {
+            throw RateLimitExceededException.wrap("【Shopee】文件请求失败，接口=" + path, e);
         }
     }
 
@@ -323,20 +490,30 @@ class ShopeeApiClient {
                                                             String path,
                                                             TypeReference<T> typeReference) {
         try (Response response = httpClient.newCall(request).execute()) {
-            ResponseBody responseBody = response.body();
+            return readJsonResponse(response, path, typeReference);
+        } catch (IOException e) {
+            throw RateLimitExceededException.wrap("【Shopee】接口请求失败，接口=" + path, e);
+        }
+    }
+
+    private <T extends ShopeeResponse> T readJsonResponse(Response response,
+                                                          String path,
+                                                          TypeReference<T> typeReference) throws IOException {
+        ResponseBody responseBody = response.body();
+        if (!response.isSuccessful()) {
             String responseText = responseBody == null ? null : responseBody.string();
-            if (!response.isSuccessful()) {
-                throw new EcommIntegrationException("【Shopee】接口请求失败，接口=" + path + "，状态码=" + response.code() + "，响应=" + responseText);
+            String message = "【Shopee】接口请求失败，接口=" + path + "，状态码=" + response.code() + "，响应=" + responseText;
+            if (isAuthExpired(responseText)) {
+                throw new AuthExpiredException(message, response.code());
             }
-            if (!StringUtils.hasText(responseText)) {
-                throw new EcommIntegrationException("【Shopee】接口响应体为空，接口=" + path);
-            }
-            T parsed = objectMapper.readValue(responseText, typeReference);
-            validateTopLevelResponse(parsed, path);
-            return parsed;
-        } catch (IOException e) {
-            throw new EcommIntegrationException("【Shopee】接口请求失败，接口=" + path, e);
+            throw new EcommIntegrationException(message, response.code());
+        }
+        T parsed = JsonBodyReader.read(objectMapper, responseBody, typeReference);
+        if (parsed == null) {
+            throw new EcommIntegrationException("【Shopee】接口响应体为空，接口=" + path);
         }
+        validateTopLevelResponse(parsed, path);
+        return parsed;
     }
 
     private void validateTopLevelResponse(ShopeeResponse response, String path) {
@@ -344,8 +521,24 @@ class ShopeeApiClient {
             throw new EcommIntegrationException("【Shopee】接口响应为空，接口=" + path);
         }
         if (StringUtils.hasText(response.getError())) {
-            throw new EcommIntegrationException("【Shopee】接口调用失败，接口=" + path + "，错误码=" + response.getError() + "，错误信息=" + response.getMessage() + "，请求ID=" + response.getRequestId());
+            String message = "【Shopee】接口调用失败，接口=" + path + "，错误码=" + response.getError() + "，错误信息=" + response.getMessage() + "，请求ID=" + response.getRequestId();
+            if (AUTH_EXPIRED_ERRORS.contains(response.getError())) {
+                throw new AuthExpiredException(message);
+            }
+            throw new EcommIntegrationException(message);
+        }
+    }
+
+    private static boolean isAuthExpired(String responseText) {
+        if (!StringUtils.hasText(responseText)) {
+            return false;
+        }
+        for (String error : AUTH_EXPIRED_ERRORS) {
+            if (responseText.contains("\"" + error + "\"")) {
+                return true;
+            }
         }
+        return false;
     }
 
     private Map<String, String> buildCommonParameters(String path,
@@ -380,22 +573,11 @@ class ShopeeApiClient {
         }
     }
 
-    private String hmacSha256(String baseString) {
-        if (!StringUtils.hasText(partnerKey)) {
+    private ShopeeSigner requireSigner() {
+        if (signer == null) {
             throw new EcommIntegrationException("【Shopee】合作伙伴密钥（partner_key）不能为空");
         }
-        try {
-            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
-            mac.init(new SecretKeySpec(partnerKey.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM));
-            byte[] digest = mac.doFinal(baseString.getBytes(StandardCharsets.UTF_8));
-            StringBuilder hex = new StringBuilder(digest.length * 2);
-            for (byte value : digest) {
-                hex.append(String.format(Locale.ROOT, "%02x", value));
-            }
-            return hex.toString();
-        } catch (Exception e) {
-            throw new EcommIntegrationException("【Shopee】请求签名失败", e);
-        }
+        return signer;
     }
 
     private static void putLongIfPresent(Map<String, Object> body, String key, String value) {
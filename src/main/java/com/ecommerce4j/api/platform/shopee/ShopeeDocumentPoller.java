@@ -0,0 +1,252 @@
+package com.ecommerce4j.api.platform.shopee;
+
+import com.ecommerce4j.api.dto.AuthContext;
+import com.ecommerce4j.api.exception.EcommIntegrationException;
+import com.ecommerce4j.api.platform.shopee.dto.ShopeeModels;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Shopee 面单就绪状态的批量异步轮询器。
+ * <p>
+ * create_shipping_document 之后面单需要一段时间才能生成。轮询器按店铺汇总等待中的包裹，
+ * 每个轮询周期用 get_shipping_document_result 一次查询同一店铺的多个包裹（每次最多 {@value #MAX_BATCH_SIZE} 个）；
+ * 轮询由定时器调度、请求基于 OkHttp 回调，等待期间不占用任何业务线程。
+ * <p>
+ * 包裹的面单就绪时完成对应的 Future；平台返回失败或超过轮询次数时以 {@link EcommIntegrationException} 异常完成。
+ * 轮询周期内新加入的包裹会合并到下一个周期的请求中。
+ */
+class ShopeeDocumentPoller {
+
+    /**
+     * get_shipping_document_result 单次请求的最大包裹数
+     */
+    static final int MAX_BATCH_SIZE = 50;
+
+    private static final String STATUS_READY = "READY";
+
+    private final ShopeeApiClient shopeeApiClient;
+
+    private final int pollAttempts;
+
+    private final long pollIntervalMs;
+
+    /**
+     * key 为店铺ID；队列清空后移除，入队和移除都在 compute 内完成，避免包裹加入已被移除的队列
+     */
+    private final Map<String, ShopQueue> shopQueues = new ConcurrentHashMap<>();
+
+    ShopeeDocumentPoller(ShopeeApiClient shopeeApiClient, int pollAttempts, long pollIntervalMs) {
+        this.shopeeApiClient = shopeeApiClient;
+        this.pollAttempts = Math.max(1, pollAttempts);
+        this.pollIntervalMs = Math.max(0L, pollIntervalMs);
+    }
+
+    /**
+     * 等待包裹的面单生成完成。
+     *
+     * @param authContext   店铺授权上下文，同一店铺的多个包裹合并查询时使用最近一次传入的上下文
+     * @param documentOrder 已调用 create_shipping_document 的包裹
+     * @return 面单就绪时完成的 Future；取消后该包裹不再参与轮询
+     */
+    CompletableFuture<Void> awaitReady(AuthContext authContext, ShopeeModels.DocumentOrder documentOrder) {
+        return awaitReady(authContext, Collections.singletonList(documentOrder)).get(0);
+    }
+
+    /**
+     * 等待同一店铺的多个包裹的面单生成完成，所有包裹加入队列后才安排轮询，保证首次查询就是一个批次。
+     *
+     * @return 与输入顺序一一对应的 Future
+     */
+    List<CompletableFuture<Void>> awaitReady(AuthContext authContext, List<ShopeeModels.DocumentOrder> documentOrders) {
+        List<PendingDocument> pendings = new ArrayList<>(documentOrders.size());
+        List<CompletableFuture<Void>> futures = new ArrayList<>(documentOrders.size());
+        for (ShopeeModels.DocumentOrder documentOrder : documentOrders) {
+            PendingDocument pending = new PendingDocument(documentOrder);
+            pendings.add(pending);
+            futures.add(pending.future);
+        }
+        ShopQueue shopQueue = shopQueues.compute(String.valueOf(authContext.getShopId()), (key, existing) -> {
+            ShopQueue queue = existing != null ? existing : new ShopQueue(key);
+            queue.authContext = authContext;
+            queue.pending.addAll(pendings);
+            return queue;
+        });
+        schedule(shopQueue, 0L);
+        return futures;
+    }
+
+    /**
+     * @return 等待中的包裹数
+     */
+    int getPendingCount() {
+        return shopQueues.values().stream().mapToInt(shopQueue -> shopQueue.pending.size()).sum();
+    }
+
+    /**
+     * @return 仍有等待中的包裹或正在轮询的店铺数
+     */
+    int getShopCount() {
+        return shopQueues.size();
+    }
+
+    private void schedule(ShopQueue shopQueue, long delayMs) {
+        if (shopQueue.scheduled.compareAndSet(false, true)) {
+            TimerHolder.TIMER.schedule(() -> poll(shopQueue), delayMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 取出店铺当前所有等待中的包裹，按批次并发查询；全部批次返回后再安排下一个周期。
+     */
+    private void poll(ShopQueue shopQueue) {
+        List<CompletableFuture<Void>> batches = new ArrayList<>();
+        List<PendingDocument> batch = new ArrayList<>();
+        PendingDocument next;
+        while ((next = shopQueue.pending.poll()) != null) {
+            if (next.future.isDone()) {
+                continue;
+            }
+            batch.add(next);
+            if (batch.size() == MAX_BATCH_SIZE) {
+                batches.add(pollBatch(shopQueue, batch));
+                batch = new ArrayList<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            batches.add(pollBatch(shopQueue, batch));
+        }
+        CompletableFuture.allOf(batches.toArray(new CompletableFuture<?>[0]))
+            .whenComplete((ignored, error) -> {
+                shopQueue.scheduled.set(false);
+                if (!shopQueue.pending.isEmpty()) {
+                    schedule(shopQueue, pollIntervalMs);
+                } else {
+                    prune(shopQueue);
+                }
+            });
+    }
+
+    /**
+     * 移除已清空且没有安排轮询的店铺队列，店铺数量很多时避免队列只增不减
+     */
+    private void prune(ShopQueue shopQueue) {
+        shopQueues.computeIfPresent(shopQueue.shopId, (key, queue) ->
+            queue == shopQueue && queue.pending.isEmpty() && !queue.scheduled.get() ? null : queue);
+    }
+
+    private CompletableFuture<Void> pollBatch(ShopQueue shopQueue, List<PendingDocument> batch) {
+        List<ShopeeModels.DocumentOrder> orders = new ArrayList<>(batch.size());
+        batch.forEach(pending -> orders.add(pending.documentOrder));
+        CompletableFuture<ShopeeModels.ShippingDocumentOperationResponse> call;
+        try {
+            call = shopeeApiClient.getShippingDocumentResultAsync(shopQueue.authContext, orders);
+        } catch (RuntimeException e) {
+            call = CompletableFuture.failedFuture(e);
+        }
+        return call.handle((response, error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                batch.forEach(pending -> pending.future.completeExceptionally(cause));
+                return null;
+            }
+            Map<String, ShopeeModels.ShippingDocumentOperationResult> results = indexResults(response);
+            for (PendingDocument pending : batch) {
+                onResult(shopQueue, pending, results.get(documentKey(pending.documentOrder.getOrderSn(), pending.documentOrder.getPackageNumber())));
+            }
+            return null;
+        });
+    }
+
+    private void onResult(ShopQueue shopQueue, PendingDocument pending, ShopeeModels.ShippingDocumentOperationResult result) {
+        if (result != null && StringUtils.hasText(result.getFailError())) {
+            pending.future.completeExceptionally(new EcommIntegrationException(
+                "【Shopee】面单生成失败，错误码=" + result.getFailError() + "，错误信息=" + result.getFailMessage()));
+        } else if (result != null && STATUS_READY.equalsIgnoreCase(result.getStatus())) {
+            pending.future.complete(null);
+        } else if (++pending.attempts >= pollAttempts) {
+            pending.future.completeExceptionally(new EcommIntegrationException("【Shopee】面单生成超时，请稍后重试"));
+        } else {
+            shopQueue.pending.add(pending);
+        }
+    }
+
+    private static Map<String, ShopeeModels.ShippingDocumentOperationResult> indexResults(ShopeeModels.ShippingDocumentOperationResponse response) {
+        Map<String, ShopeeModels.ShippingDocumentOperationResult> results = new HashMap<>();
+        if (response == null || response.getResponse() == null || CollectionUtils.isEmpty(response.getResponse().getResultList())) {
+            return results;
+        }
+        for (ShopeeModels.ShippingDocumentOperationResult result : response.getResponse().getResultList()) {
+            results.put(documentKey(result.getOrderSn(), result.getPackageNumber()), result);
+        }
+        return results;
+    }
+
+    static String documentKey(String orderSn, String packageNumber) {
+        return orderSn + ":" + packageNumber;
+    }
+
+    /**
+     * 单个店铺的等待队列
+     */
+    private static class ShopQueue {
+
+        private final String shopId;
+
+        private final Queue<PendingDocument> pending = new ConcurrentLinkedQueue<>();
+
+        /**
+         * 是否已安排（或正在执行）轮询周期，保证同一店铺同时只有一个周期
+         */
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private volatile AuthContext authContext;
+
+        private ShopQueue(String shopId) {
+            this.shopId = shopId;
+        }
+    }
+
+    private static class PendingDocument {
+
+        private final ShopeeModels.DocumentOrder documentOrder;
+
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        /**
+         * 已查询次数，只在轮询周期内访问
+         */
+        private int attempts;
+
+        private PendingDocument(ShopeeModels.DocumentOrder documentOrder) {
+            this.documentOrder = documentOrder;
+        }
+    }
+
+    /**
+     * 所有店铺共用的定时器线程，只负责发起异步请求，不执行阻塞操作
+     */
+    private static class TimerHolder {
+
+        private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ecommerce4j-shopee-document-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,363 @@
+package com.ecommerce4j.api.platform.sign;
+
+import com.ecommerce4j.api.exception.EcommIntegrationException;
+
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * HMAC-SHA256 签名器，各平台签名共用的底层实现。
+ * <p>
+ * 一个实例对应一个密钥。{@link Mac} 只在创建会话时 getInstance / init 一次，签名结束后会话放回固定大小的槽位数组，
+ * 下次直接取用已初始化的 Mac。槽位通过 CAS 取还，不加锁也不分配对象；没有使用 ThreadLocal，
+ * 因为虚拟线程模式下每个任务都是新线程，线程本地变量无法复用，还会随着签名器实例增多而泄漏。
+ * <p>
+ * 消息按 UTF-8 分段编码进会话内的缓冲区后送入 Mac，摘要的十六进制 / Base64 编码写入会话内的字符数组，
+ * 一次签名只分配结果字符串。
+ */
+public final class HmacSha256Signer {
+
+    static final String ALGORITHM = "HmacSHA256";
+
+    private static final int DIGEST_LENGTH = 32;
+
+    private static final int POOL_SIZE = Math.max(8, Integer.highestOneBit(Runtime.getRuntime().availableProcessors()) * 4);
+
+    private static final char[] HEX_LOWER = "0123456789abcdef".toCharArray();
+
+    private static final char[] HEX_UPPER = "0123456789ABCDEF".toCharArray();
+
+    private static final char[] BASE64 = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".toCharArray();
+
+    /**
+     * 密钥每次都不同的签名（如 SHEIN 的 secretKey + randomKey）共用的会话池，只复用 Mac 实例，每次重新 init
+     */
+    private static final HmacSha256Signer DYNAMIC_KEY = new HmacSha256Signer(null);
+
+    private final SecretKeySpec key;
+
+    private final AtomicReferenceArray<Session> pool = new AtomicReferenceArray<>(POOL_SIZE);
+
+    private HmacSha256Signer(SecretKeySpec key) {
+        this.key = key;
+    }
+
+    /**
+     * 创建使用固定密钥的签名器，应在适配器或客户端中持有并复用
+     *
+     * @param secret 密钥，按 UTF-8 编码
+     */
+    public static HmacSha256Signer of(String secret) {
+        if (secret == null || secret.isEmpty()) {
+            throw new EcommIntegrationException("【Ecommerce4j】签名密钥不能为空");
+        }
+        return new HmacSha256Signer(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+    }
+
+    /**
+     * 开始一次签名，使用完后必须关闭会话
+     */
+    public Session begin() {
+        Session session = acquire();
+        return session == null ? new Session(this, newMac(key)) : session;
+    }
+
+    /**
+     * 使用一次性的密钥开始签名。Mac 实例仍然复用，但每次都要按新密钥初始化
+     *
+     * @param secret 本次签名的密钥，按 UTF-8 编码
+     */
+    public static Session begin(String secret) {
+        if (secret == null || secret.isEmpty()) {
+            throw new EcommIntegrationException("【Ecommerce4j】签名密钥不能为空");
+        }
+        Session session = DYNAMIC_KEY.acquire();
+        if (session == null) {
+            session = new Session(DYNAMIC_KEY, newMac(null));
+        }
+        try {
+            session.mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+        } catch (GeneralSecurityException e) {
+            throw new EcommIntegrationException("【Ecommerce4j】初始化签名密钥失败", e);
+        }
+        return session;
+    }
+
+    private Session acquire() {
+        int start = probe();
+        for (int i = 0; i < POOL_SIZE; i++) {
+            int index = (start + i) & (POOL_SIZE - 1);
+            Session session = pool.get(index);
+            if (session != null && pool.compareAndSet(index, session, null)) {
+                return session;
+            }
+        }
+        return null;
+    }
+
+    private void release(Session session) {
+        int start = probe();
+        for (int i = 0; i < POOL_SIZE; i++) {
+            int index = (start + i) & (POOL_SIZE - 1);
+            if (pool.get(index) == null && pool.compareAndSet(index, null, session)) {
+                return;
+            }
+        }
+        // 槽位已满说明瞬时并发超过了池大小，多出的会话直接丢弃
+    }
+
+    /**
+     * 按线程 ID 分散起始槽位，减少并发签名时在同一个槽位上的 CAS 竞争
+     */
+    private static int probe() {
+        return Long.hashCode(Thread.currentThread().getId()) * 0x9E3779B9 >>> 16;
+    }
+
+    private static Mac newMac(SecretKeySpec key) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            if (key != null) {
+                mac.init(key);
+            }
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new EcommIntegrationException("【Ecommerce4j】初始化 HmacSHA256 失败", e);
+        }
+    }
+
+    /**
+     * 一次签名的会话：依次写入消息片段，最后取一次结果。
+     * <p>
+     * 会话不是线程安全的，只能在取得它的线程内使用；关闭后归还签名器，不能再次使用。
+     */
+    public static final class Session implements AutoCloseable {
+
+        private static final int BUFFER_SIZE = 512;
+
+        private final HmacSha256Signer owner;
+
+        private final Mac mac;
+
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+
+        private int position;
+
+        private final byte[] digest = new byte[DIGEST_LENGTH];
+
+        private final char[] chars = new char[4 * (DIGEST_LENGTH * 2 + 2) / 3];
+
+        private String[] keys = new String[16];
+
+        private Session(HmacSha256Signer owner, Mac mac) {
+            this.owner = owner;
+            this.mac = mac;
+        }
+
+        /**
+         * 写入一段已编码的字节，通常是预先计算好的固定前缀
+         */
+        public Session update(byte[] bytes) {
+            flush();
+            mac.update(bytes);
+            return this;
+        }
+
+        /**
+         * 按 UTF-8 写入文本，与 {@link StringBuilder#append(CharSequence)} 一致，null 写作 "null"
+         */
+        public Session update(CharSequence text) {
+            if (text == null) {
+                text = "null";
+            }
+            int length = text.length();
+            for (int i = 0; i < length; i++) {
+                char c = text.charAt(i);
+                if (position > BUFFER_SIZE - 4) {
+                    flush();
+                }
+                if (c < 0x80) {
+                    buffer[position++] = (byte) c;
+                } else if (c < 0x800) {
+                    buffer[position++] = (byte) (0xC0 | c >> 6);
+                    buffer[position++] = (byte) (0x80 | c & 0x3F);
+                } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                    buffer[position++] = (byte) (0xF0 | codePoint >> 18);
+                    buffer[position++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                    buffer[position++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                    buffer[position++] = (byte) (0x80 | codePoint & 0x3F);
+                } else if (Character.isSurrogate(c)) {
+                    // 与 String#getBytes(UTF_8) 一致，不成对的代理项替换为 '?'
+                    buffer[position++] = '?';
+                } else {
+                    buffer[position++] = (byte) (0xE0 | c >> 12);
+                    buffer[position++] = (byte) (0x80 | c >> 6 & 0x3F);
+                    buffer[position++] = (byte) (0x80 | c & 0x3F);
+                }
+            }
+            return this;
+        }
+
+        /**
+         * 写入单个 ASCII 字符，如分隔符
+         */
+        public Session update(char c) {
+            if (c >= 0x80) {
+                return update(String.valueOf(c));
+            }
+            if (position == BUFFER_SIZE) {
+                flush();
+            }
+            buffer[position++] = (byte) c;
+            return this;
+        }
+
+        /**
+         * 以十进制写入整数，如时间戳、合作伙伴 ID
+         */
+        public Session update(long value) {
+            if (value == Long.MIN_VALUE) {
+                return update(Long.toString(value));
+            }
+            if (position > BUFFER_SIZE - 20) {
+                flush();
+            }
+            if (value < 0) {
+                buffer[position++] = '-';
+                value = -value;
+            }
+            int end = position + digits(value);
+            int index = end;
+            do {
+                buffer[--index] = (byte) ('0' + value % 10);
+                value /= 10;
+            } while (value != 0);
+            position = end;
+            return this;
+        }
+
+        /**
+         * 按键名字典序写入参数（与 TreeMap 顺序一致），每个参数写作 key + value
+         *
+         * @param skipKey 不参与签名的参数名，可以为 null
+         */
+        public Session updateSorted(Map<String, String> parameters, String skipKey) {
+            if (parameters == null || parameters.isEmpty()) {
+                return this;
+            }
+            int count = sortKeys(parameters.keySet(), skipKey);
+            for (int i = 0; i < count; i++) {
+                String name = keys[i];
+                keys[i] = null;
+                update(name).update(parameters.get(name));
+            }
+            return this;
+        }
+
+        /**
+         * 结束签名，返回小写十六进制摘要
+         */
+        public String hex() {
+            return hex(HEX_LOWER);
+        }
+
+        /**
+         * 结束签名，返回大写十六进制摘要
+         */
+        public String hexUpperCase() {
+            return hex(HEX_UPPER);
+        }
+
+        /**
+         * 结束签名，返回“小写十六进制摘要”这串 ASCII 文本的 Base64 编码
+         */
+        public String base64Hex() {
+            finish();
+            int hexLength = DIGEST_LENGTH * 2;
+            int out = 0;
+            for (int i = 0; i < hexLength; i += 3) {
+                int b0 = hexDigit(i);
+                int b1 = i + 1 < hexLength ? hexDigit(i + 1) : 0;
+                int b2 = i + 2 < hexLength ? hexDigit(i + 2) : 0;
+                chars[out++] = BASE64[b0 >> 2];
+                chars[out++] = BASE64[(b0 & 0x03) << 4 | b1 >> 4];
+                chars[out++] = i + 1 < hexLength ? BASE64[(b1 & 0x0F) << 2 | b2 >> 6] : '=';
+                chars[out++] = i + 2 < hexLength ? BASE64[b2 & 0x3F] : '=';
+            }
+            return new String(chars, 0, out);
+        }
+
+        @Override
+        public void close() {
+            // 中途异常时 Mac 里可能残留部分消息
+            position = 0;
+            mac.reset();
+            owner.release(this);
+        }
+
+        private String hex(char[] alphabet) {
+            finish();
+            for (int i = 0; i < DIGEST_LENGTH; i++) {
+                chars[2 * i] = alphabet[(digest[i] >> 4) & 0x0F];
+                chars[2 * i + 1] = alphabet[digest[i] & 0x0F];
+            }
+            return new String(chars, 0, DIGEST_LENGTH * 2);
+        }
+
+        private int hexDigit(int index) {
+            int value = digest[index >> 1];
+            return HEX_LOWER[(index & 1) == 0 ? (value >> 4) & 0x0F : value & 0x0F];
+        }
+
+        private void finish() {
+            flush();
+            try {
+                mac.doFinal(digest, 0);
+            } catch (ShortBufferException e) {
+                throw new EcommIntegrationException("【Ecommerce4j】计算签名失败", e);
+            }
+        }
+
+        private void flush() {
+            if (position > 0) {
+                mac.update(buffer, 0, position);
+                position = 0;
+            }
+        }
+
+        private int sortKeys(Set<String> names, String skipKey) {
+            if (keys.length < names.size()) {
+                keys = new String[Integer.highestOneBit(names.size()) << 1];
+            }
+            int count = 0;
+            for (String name : names) {
+                if (skipKey != null && skipKey.equals(name)) {
+                    continue;
+                }
+                // 参数一般不超过十几个，插入排序比复制到 TreeMap 更省
+                int index = count++;
+                while (index > 0 && keys[index - 1].compareTo(name) > 0) {
+                    keys[index] = keys[index - 1];
+                    index--;
+                }
+                keys[index] = name;
+            }
+            return count;
+        }
+
+        private static int digits(long value) {
+            int digits = 1;
+            while (value >= 10) {
+                value /= 10;
+                digits++;
+            }
+            return digits;
+        }
+    }
+}
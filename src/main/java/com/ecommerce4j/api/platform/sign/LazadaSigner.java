@@ -0,0 +1,25 @@
+package com.ecommerce4j.api.platform.sign;
+
+import java.util.Map;
+
+/**
+ * Lazada Open Platform 签名。
+ * <p>
+ * 签名串为 path + 按键名排序的 key + value（不含 sign），结果为大写十六进制。
+ */
+public final class LazadaSigner {
+
+    private static final String SIGN_PARAMETER = "sign";
+
+    private final HmacSha256Signer signer;
+
+    public LazadaSigner(String appSecret) {
+        this.signer = HmacSha256Signer.of(appSecret);
+    }
+
+    public String sign(String path, Map<String, String> parameters) {
+        try (HmacSha256Signer.Session session = signer.begin()) {
+            return session.update(path).updateSorted(parameters, SIGN_PARAMETER).hexUpperCase();
+        }
+    }
+}
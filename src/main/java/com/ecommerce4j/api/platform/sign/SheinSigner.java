@@ -0,0 +1,42 @@
+package com.ecommerce4j.api.platform.sign;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * SHEIN 开放平台签名。
+ * <ol>
+ *     <li>VALUE = openKeyId + "&" + timestamp + "&" + path</li>
+ *     <li>KEY = secretKey + randomKey</li>
+ *     <li>HMAC-SHA256 结果先转小写 hex，再对 hex 字符串做 Base64</li>
+ *     <li>最终签名 = randomKey + base64(hexString)</li>
+ * </ol>
+ * 密钥包含每次随机生成的 randomKey，无法预先初始化 Mac，只复用 Mac 实例。
+ */
+public final class SheinSigner {
+
+    /**
+     * 与平台示例代码一致的随机串字母表（包括其中 "stvu" 的顺序）
+     */
+    private static final String RANDOM_KEY_ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstvuwxyz1234567890";
+
+    private SheinSigner() {
+    }
+
+    public static String sign(String openKeyId, String secretKey, String path, String timestamp, String randomKey) {
+        try (HmacSha256Signer.Session session = HmacSha256Signer.begin(secretKey + randomKey)) {
+            return randomKey + session.update(openKeyId).update('&').update(timestamp).update('&').update(path).base64Hex();
+        }
+    }
+
+    /**
+     * 生成签名用的随机串，使用 {@link ThreadLocalRandom}，并发请求之间没有竞争
+     */
+    public static String randomKey(int length) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = RANDOM_KEY_ALPHABET.charAt(random.nextInt(RANDOM_KEY_ALPHABET.length()));
+        }
+        return new String(chars);
+    }
+}
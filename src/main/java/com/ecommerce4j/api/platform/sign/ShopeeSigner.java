@@ -0,0 +1,52 @@
+package com.ecommerce4j.api.platform.sign;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shopee Open Platform v2 签名。
+ * <p>
+ * 签名串为 partner_id + path + timestamp，店铺级接口再追加 access_token + shop_id，结果为小写十六进制。
+ * partner_id + path 的 UTF-8 字节按 path 缓存，接口路径是有限的常量。
+ */
+public final class ShopeeSigner {
+
+    private final HmacSha256Signer signer;
+
+    private final String partnerId;
+
+    private final Map<String, byte[]> prefixes = new ConcurrentHashMap<>();
+
+    public ShopeeSigner(long partnerId, String partnerKey) {
+        this.signer = HmacSha256Signer.of(partnerKey);
+        this.partnerId = String.valueOf(partnerId);
+    }
+
+    /**
+     * 公共接口（授权、刷新令牌）签名
+     */
+    public String signPublic(String path, long timestamp) {
+        try (HmacSha256Signer.Session session = signer.begin()) {
+            return session.update(prefix(path)).update(timestamp).hex();
+        }
+    }
+
+    /**
+     * 店铺级接口签名
+     */
+    public String signShop(String path, long timestamp, String accessToken, String shopId) {
+        try (HmacSha256Signer.Session session = signer.begin()) {
+            return session.update(prefix(path)).update(timestamp).update(accessToken).update(shopId).hex();
+        }
+    }
+
+    private byte[] prefix(String path) {
+        byte[] prefix = prefixes.get(path);
+        if (prefix == null) {
+            prefix = (partnerId + path).getBytes(StandardCharsets.UTF_8);
+            prefixes.putIfAbsent(path, prefix);
+        }
+        return prefix;
+    }
+}
@@ -0,0 +1,52 @@
+package com.ecommerce4j.api.platform.sign;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * TikTok Shop 签名。
+ * <p>
+ * 签名串为 app_secret + path + 按键名排序的 key + value + 请求体 + app_secret，结果为小写十六进制。
+ * app_secret + path 的 UTF-8 字节按 path 缓存。
+ */
+public final class TikTokSigner {
+
+    private final HmacSha256Signer signer;
+
+    private final String appSecret;
+
+    private final byte[] suffix;
+
+    private final Map<String, byte[]> prefixes = new ConcurrentHashMap<>();
+
+    public TikTokSigner(String appSecret) {
+        this.signer = HmacSha256Signer.of(appSecret);
+        this.appSecret = appSecret;
+        this.suffix = appSecret.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param path   API 路径
+     * @param params 查询参数，不含 sign
+     * @param body   请求体，GET 请求为 null
+     */
+    public String sign(String path, Map<String, String> params, String body) {
+        try (HmacSha256Signer.Session session = signer.begin()) {
+            session.update(prefix(path)).updateSorted(params, null);
+            if (body != null) {
+                session.update(body);
+            }
+            return session.update(suffix).hex();
+        }
+    }
+
+    private byte[] prefix(String path) {
+        byte[] prefix = prefixes.get(path);
+        if (prefix == null) {
+            prefix = (appSecret + path).getBytes(StandardCharsets.UTF_8);
+            prefixes.putIfAbsent(path, prefix);
+        }
+        return prefix;
+    }
+}
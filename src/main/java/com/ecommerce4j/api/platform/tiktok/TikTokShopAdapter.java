@@ -7,8 +7,14 @@ import com.ecommerce4j.api.EcommOrderService;
 import com.ecommerce4j.api.dto.*;
 import com.ecommerce4j.api.enums.FulfillmentType;
 import com.ecommerce4j.api.enums.Platform;
+import com.ecommerce4j.api.exception.AuthExpiredException;
 import com.ecommerce4j.api.exception.EcommIntegrationException;
 import com.ecommerce4j.api.platform.AbstractAdapter;
+import com.ecommerce4j.api.platform.cache.CachedLabel;
+import com.ecommerce4j.api.platform.http.AsyncCalls;
+import com.ecommerce4j.api.platform.http.DocumentSink;
+import com.ecommerce4j.api.platform.http.SellerTag;
+import com.ecommerce4j.api.platform.sign.TikTokSigner;
 import com.ecommerce4j.api.platform.tiktok.dto.*;
 import com.fasterxml.jackson.core.type.TypeReference;
 import lombok.extern.slf4j.Slf4j;
@@ -21,15 +27,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
-import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
 import java.math.BigDecimal;
 import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -49,16 +51,45 @@ public class TikTokShopAdapter extends AbstractAdapter implements EcommOrderServ
     @Value("${tiktok.auth_url}")
     private String authUrl;
 
+    /**
+     * 开放平台 API 网关，联调或压测时可指向本地模拟服务
+     */
+    @Value("${tiktok.api_base_url:" + DEFAULT_API_BASE_URL + "}")
+    private String apiBaseUrl = DEFAULT_API_BASE_URL;
+
+    /**
+     * 令牌接口域名
+     */
+    @Value("${tiktok.auth_base_url:" + DEFAULT_AUTH_BASE_URL + "}")
+    private String authBaseUrl = DEFAULT_AUTH_BASE_URL;
+
+    /**
+     * 按 appSecret 预先初始化的签名器，首次签名时创建
+     */
+    private volatile TikTokSigner signer;
+
 
     // TikTok API基础URL
-    private static final String API_BASE_URL = "https://open-api.tiktokglobalshop.com";
+    private static final String DEFAULT_API_BASE_URL = "https://open-api.tiktokglobalshop.com";
+
+    private static final String DEFAULT_AUTH_BASE_URL = "https://auth.tiktok-shops.com";
 
-    private static final String AUTH_BASE_URL = "https://auth.tiktok-shops.com";
-    // HMAC签名算法
-    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    /**
+     * 面单缓存中的文档类型，与 shipping_documents 的请求参数一致
+     */
+    private static final String LABEL_CACHE_TYPE = "SHIPPING_LABEL_A6_PDF";
+
+    /**
+     * 访问令牌无效（105001）或过期（105002）的错误码
+     */
+    private static final Set<Integer> AUTH_EXPIRED_CODES = Set.of(105001, 105002);
     // JSON媒体类型
     private static final MediaType JSON_MEDIA_TYPE = MediaType.get("application/json; charset=utf-8");
 
+    public TikTokShopAdapter() {
+        super(Platform.TIKTOK_SHOP);
+    }
+
     // --- EcommAuthorizationService 授权服务 ---
 
     /**
@@ -78,10 +109,21 @@ public class TikTokShopAdapter extends AbstractAdapter implements EcommOrderServ
 
     @Override
     public UnifiedShopInfo getShopInfo(AuthContext authContext) {
+        return mapShopInfo(authContext, executeRequest(buildShopInfoRequest(authContext), new TypeReference<TikTokApiResponse<TikTokShopInfo>>() {}));
+    }
+
+    @Override
+    public CompletableFuture<UnifiedShopInfo> getShopInfoAsync(AuthContext authContext) {
+        return AsyncCalls.thenApply(executeRequestAsync(buildShopInfoRequest(authContext), new TypeReference<TikTokApiResponse<TikTokShopInfo>>() {}),
+            response -> mapShopInfo(authContext, response));
+    }
+
+    private Request buildShopInfoRequest(AuthContext authContext) {
         String path = "/authorization/202309/shops";
-        Request request = buildSignedRequestNoShopCipher("GET", path, authContext, null, null);
-        TikTokApiResponse<TikTokShopInfo> response = executeRequest(request, new TypeReference<>() {
-        });
+        return buildSignedRequestNoShopCipher("GET", path, authContext, null, null);
+    }
+
+    private UnifiedShopInfo mapShopInfo(AuthContext authContext, TikTokApiResponse<TikTokShopInfo> response) {
         TikTokShopInfo tikTokShopInfo = response.getData();
         if (Objects.isNull(tikTokShopInfo) || CollectionUtils.isEmpty(tikTokShopInfo.getShops())) {
             return null;
@@ -109,7 +151,7 @@ public class TikTokShopAdapter extends AbstractAdapter implements EcommOrderServ
     @Override
     public AuthContext exchangeCodeForTokens(String code) {
         String path = "/api/v2/token/get";
-        String url = AUTH_BASE_URL + path + "?app_key=" + appKey + "&app_secret=" + appSecret +
+        String url = authBaseUrl + path + "?app_key=" + appKey + "&app_secret=" + appSecret +
             "&auth_code=" + code + "&grant_type=authorized_code";
 
         // 构建GET请求
@@ -129,16 +171,28 @@ public class TikTokShopAdapter extends AbstractAdapter implements EcommOrderServ
      */
     @Override
     public AuthContext refreshTokens(AuthContext authContext) {
-        String path = "/api/v2/token/refresh";
-        String url = AUTH_BASE_URL + path + "?app_key=" + appKey + "&app_secret=" + appSecret +
-            "&refresh_token=" + authContext.getRefreshToken() + "&grant_type=refresh_token";
-
-        Request request = new Request.Builder().url(url).get().build();
-        TikTokApiResponse<TikTokTokenData> response = executeRequest(request, new TypeReference<>() {});
+        TikTokApiResponse<TikTokTokenData> response = executeRequest(buildRefreshTokenRequest(authContext), new TypeReference<>() {});
         validateResponse(response);
         return mapToAuthContext(response.getData());
     }
 
+    @Override
+    public CompletableFuture<AuthContext> refreshTokensAsync(AuthContext authContext) {
+        CompletableFuture<TikTokApiResponse<TikTokTokenData>> response =
+            executeRequestAsync(buildRefreshTokenRequest(authContext), new TypeReference<>() {});
+        return AsyncCalls.thenApply(response, tokenResponse -> {
+            validateResponse(tokenResponse);
+            return mapToAuthContext(tokenResponse.getData());
+        });
+    }
+
+    private Request buildRefreshTokenRequest(AuthContext authContext) {
+        String path = "/api/v2/token/refresh";
+        String url = authBaseUrl + path + "?app_key=" + appKey + "&app_secret=" + appSecret +
+            "&refresh_token=" + authContext.getRefreshToken() + "&grant_type=refresh_token";
+        return new Request.Builder().url(url).get().build();
+    }
+
     // --- EcommOrderService 订单服务 ---
 
     /**
@@ -150,6 +204,21 @@ public class TikTokShopAdapter extends AbstractAdapter implements EcommOrderServ
      */
     @Override
     public PaginatedResult<UnifiedOrder> getOrders(AuthContext authContext, OrderQuery query) {
+        return timedPage(() -> searchOrders(authContext, query));
+    }
+
+    @Override
+    public CompletableFuture<PaginatedResult<UnifiedOrder>> getOrdersAsync(AuthContext authContext, OrderQuery query) {
+        return AsyncCalls.thenApply(executeRequestAsync(buildSearchOrdersRequest(authContext, query),
+            new TypeReference<TikTokApiResponse<Map<String, Object>>>() {}), this::mapOrderPage);
+    }
+
+    private PaginatedResult<UnifiedOrder> searchOrders(AuthContext authContext, OrderQuery query) {
+        return mapOrderPage(executeRequest(buildSearchOrdersRequest(authContext, query),
+            new TypeReference<TikTokApiResponse<Map<String, Object>>>() {}));
+    }
+
+    private Request buildSearchOrdersRequest(AuthContext authContext, OrderQuery query) {
         String path = "/order/202309/orders/search";
 
         Map<String, String> queryParams = new HashMap<>();
@@ -182,9 +251,10 @@ public class TikTokShopAdapter extends AbstractAdapter implements EcommOrderServ
             throw new EcommIntegrationException("【TikTok】序列化订单查询请求体失败", e);
         }
 
-        Request request = buildSignedRequest("POST", path, authContext, queryParams, requestBody);
+        return buildSignedRequest("POST", path, authContext, queryParams, requestBody);
+    }
 
-        TikTokApiResponse<Map<String, Object>> response = executeRequest(request, new TypeReference<TikTokApiResponse<Map<String, Object>>>() {});
+    private PaginatedResult<UnifiedOrder> mapOrderPage(TikTokApiResponse<Map<String, Object>> response) {
         validateResponse(response);
 
         Map<String, Object> data = response.getData();
@@ -195,12 +265,12 @@ public class TikTokShopAdapter extends AbstractAdapter implements EcommOrderServ
         @SuppressWarnings("unchecked")
         List<Map<String, Object>> orderList = (List<Map<String, Object>>) data.get("orders");
 
-        List<UnifiedOrder> unifiedOrders = orderList.stream()
+        List<UnifiedOrder> unifiedOrders = timedMapping(() -> orderList.stream()
             .map(orderMap -> {
                 TikTokOrder tikTokOrder = objectMapper.convertValue(orderMap, TikTokOrder.class);
                 return mapToUnifiedOrder(tikTokOrder);
             })
-            .collect(Collectors.toList());
+            .collect(Collectors.toList()));
 
         // 从响应中提取 next_page_token 用于下一次请求
         String nextPageToken = (String) data.get("next_page_token");
@@ -217,13 +287,26 @@ public class TikTokShopAdapter extends AbstractAdapter implements EcommOrderServ
      */
     @Override
     public List<UnifiedOrder> getOrderDetails(AuthContext authContext, List<String> orderIds) {
+        return mapOrderDetails(executeRequest(buildOrderDetailsRequest(authContext, orderIds),
+            new TypeReference<TikTokApiResponse<Map<String, Object>>>() {}));
+    }
+
+    @Override
+    public CompletableFuture<List<UnifiedOrder>> getOrderDetailsAsync(AuthContext authContext, List<String> orderIds) {
+        return AsyncCalls.thenApply(executeRequestAsync(buildOrderDetailsRequest(authContext, orderIds),
+            new TypeReference<TikTokApiResponse<Map<String, Object>>>() {}), this::mapOrderDetails);
+    }
+
+    private Request buildOrderDetailsRequest(AuthContext authContext, List<String> orderIds) {
         String path = "/order/202309/orders";
         Map<String, String> queryParams = new HashMap<>();
         // 将订单ID列表拼接成逗号分隔的字符串
         queryParams.put("ids", String.join(",", orderIds));
+        return buildSignedRequest("GET", path, authContext, queryParams, null);
+    }
 
-        Request request = buildSignedRequest("GET", path, authContext, queryParams, null);
-        TikTokApiResponse<Map<String, Object>> response = executeRequest(request, new TypeReference<TikTokApiResponse<Map<String, Object>>>() {});
+    @SuppressWarnings("unchecked")
+    private List<UnifiedOrder> mapOrderDetails(TikTokApiResponse<Map<String, Object>> response) {
         validateResponse(response);
 
         List<Map<String, Object>> orderList = (List<Map<String, Object>>) response.getData().get("orders");
@@ -231,12 +314,12 @@ public class TikTokShopAdapter extends AbstractAdapter implements EcommOrderServ
             return Collections.emptyList();
         }
 
-        return orderList.stream()
+        return timedMapping(() -> orderList.stream()
             .map(orderMap -> {
                 TikTokOrder tikTokOrder = objectMapper.convertValue(orderMap, TikTokOrder.class);
                 return mapToUnifiedOrder(tikTokOrder);
             })
-            .collect(Collectors.toList());
+            .collect(Collectors.toList()));
     }
 
     // --- EcommFulfillmentService 履约服务 ---
@@ -269,14 +352,25 @@ public class TikTokShopAdapter extends AbstractAdapter implements EcommOrderServ
             .findFirst()
             .orElse(null);
 
-        String path = String.format("/fulfillment/202309/packages/%s/shipping_documents", tiktokShippingPackage.getId());
-        Map<String, String> queryParams = new HashMap<>();
-        queryParams.put("document_type", "SHIPPING_LABEL");
-        queryParams.put("document_size", "A6");
-        queryParams.put("document_format", "PDF");
+        String receiverName = Optional.ofNullable(orders.get(0))
+            .map(UnifiedOrder::getShipment)
+            .map(UnifiedShipment::getShippingAddress)
+            .map(UnifiedAddress::getFullName)
+            .orElse("");
+
+        // 补打面单时直接使用本地缓存，不再查询面单地址和下载
+        CachedLabel cached = labelCache.get(platform, tiktokShippingPackage.getId(), LABEL_CACHE_TYPE);
+        if (cached != null) {
+            return FulfillmentAction.builder()
+                .fulfillmentType(FulfillmentType.DOWNLOAD_LABEL)
+                .trackingNumber(cached.getAttribute(CachedLabel.TRACKING_NUMBER))
+                .receiverName(receiverName)
+                .labelContent(cached.toBytes())
+                .labelMimeType(cached.getMimeType())
+                .build();
+        }
 
-        Request request = buildSignedRequest("GET", path, authContext, queryParams, null);
-        TikTokApiResponse<TikTokShippingDocumentResponse> response = executeRequest(request, new TypeReference<>() {});
+        TikTokApiResponse<TikTokShippingDocumentResponse> response = getShippingDocument(authContext, tiktokShippingPackage.getId());
 
         if (Objects.isNull(response.getData()) || !StringUtils.hasText(response.getData().getDocUrl())) {
             if (autoShipIfMissing && "AWAITING_SHIPMENT".equals(rawOrder.getStatus())) {
@@ -292,27 +386,87 @@ public class TikTokShopAdapter extends AbstractAdapter implements EcommOrderServ
             throw new EcommIntegrationException("未查询到面单文件，订单id:"+ orderId);
         }
 
-        String docUrl = response.getData().getDocUrl();
-        Request fileUrlRequest = new Request
-            .Builder()
-            .url(docUrl)
-            .build();
-        byte[] labelBytes = executeRequestForBytes(fileUrlRequest);
+        byte[] labelBytes = downloadDocument(response.getData().getDocUrl());
+        labelCache.put(platform, tiktokShippingPackage.getId(), LABEL_CACHE_TYPE, "application/pdf",
+            Collections.singletonMap(CachedLabel.TRACKING_NUMBER, response.getData().getTrackingNumber()), labelBytes);
 
         return FulfillmentAction.builder()
             .fulfillmentType(FulfillmentType.DOWNLOAD_LABEL)
             .trackingNumber(response.getData().getTrackingNumber())
-            // 处理收货人名称
-            .receiverName(Optional.ofNullable(orders.get(0))
-                .map(UnifiedOrder::getShipment)
-                .map(UnifiedShipment::getShippingAddress)
-                .map(UnifiedAddress::getFullName)
-                .orElse(""))
+            .receiverName(receiverName)
             .labelContent(labelBytes)
             .labelMimeType("application/pdf") // PDF格式
             .build();
     }
 
+    /**
+     * 获取包裹面单（A6 PDF）。
+     *
+     * @param authContext 认证上下文
+     * @param packageId   TikTok 包裹ID
+     * @return 面单文档
+     */
+    @Override
+    public FulfillmentDocument getPackageDocument(AuthContext authContext, String packageId) {
+        if (!StringUtils.hasText(packageId)) {
+            throw new EcommIntegrationException("【TikTok】packageId 不能为空。");
+        }
+        return cachedDocument(packageId, LABEL_CACHE_TYPE, () -> FulfillmentDocument.builder()
+            .packageId(packageId)
+            .mimeType("application/pdf")
+            .content(downloadDocument(getShippingDocumentUrl(authContext, packageId)))
+            .build());
+    }
+
+    /**
+     * 以流式方式下载包裹面单，直接写入 {@code sink}。
+     *
+     * @param authContext 认证上下文
+     * @param orderId     TikTok 订单ID，不使用
+     * @param packageId   TikTok 包裹ID
+     * @param sink        写出目标
+     * @return 面单元数据
+     */
+    @Override
+    public DocumentMetadata writePackageDocument(AuthContext authContext, String orderId, String packageId, DocumentSink sink) {
+        if (!StringUtils.hasText(packageId)) {
+            throw new EcommIntegrationException("【TikTok】packageId 不能为空。");
+        }
+        return cachedDocument(packageId, LABEL_CACHE_TYPE, sink, target -> {
+            Request fileUrlRequest = new Request.Builder().url(getShippingDocumentUrl(authContext, packageId)).build();
+            DocumentMetadata metadata = executeRequestToSink(fileUrlRequest, target, "application/pdf");
+            metadata.setPackageId(packageId);
+            return metadata;
+        });
+    }
+
+    private String getShippingDocumentUrl(AuthContext authContext, String packageId) {
+        TikTokApiResponse<TikTokShippingDocumentResponse> response = getShippingDocument(authContext, packageId);
+        if (Objects.isNull(response.getData()) || !StringUtils.hasText(response.getData().getDocUrl())) {
+            throw new EcommIntegrationException("【TikTok】未查询到面单文件，包裹id:" + packageId);
+        }
+        return response.getData().getDocUrl();
+    }
+
+    private TikTokApiResponse<TikTokShippingDocumentResponse> getShippingDocument(AuthContext authContext, String packageId) {
+        String path = String.format("/fulfillment/202309/packages/%s/shipping_documents", packageId);
+        Map<String, String> queryParams = new HashMap<>();
+        queryParams.put("document_type", "SHIPPING_LABEL");
+        queryParams.put("document_size", "A6");
+        queryParams.put("document_format", "PDF");
+
+        Request request = buildSignedRequest("GET", path, authContext, queryParams, null);
+        return executeRequest(request, new TypeReference<>() {});
+    }
+
+    private byte[] downloadDocument(String docUrl) {
+        Request fileUrlRequest = new Request
+            .Builder()
+            .url(docUrl)
+            .build();
+        return executeRequestForBytes(fileUrlRequest);
+    }
+
     /**
      * 提交卖家发货的物流追踪信息。
      *
@@ -358,9 +512,23 @@ public class TikTokShopAdapter extends AbstractAdapter implements EcommOrderServ
      */
     @Override
     public UnifiedShipment getTrackingEvents(AuthContext authContext, String orderId) {
+        return mapTrackingEvents(executeRequest(buildTrackingRequest(authContext, orderId),
+            new TypeReference<TikTokApiResponse<Map<String, Object>>>() {}));
+    }
+
+    @Override
+    public CompletableFuture<UnifiedShipment> getTrackingEventsAsync(AuthContext authContext, String orderId) {
+        return AsyncCalls.thenApply(executeRequestAsync(buildTrackingRequest(authContext, orderId),
+            new TypeReference<TikTokApiResponse<Map<String, Object>>>() {}), this::mapTrackingEvents);
+    }
+
+    private Request buildTrackingRequest(AuthContext authContext, String orderId) {
         String path = String.format("/fulfillment/202309/orders/%s/tracking", orderId);
-        Request request = buildSignedRequest("GET", path, authContext, new HashMap<>(), null);
-        TikTokApiResponse<Map<String, Object>> response = executeRequest(request, new TypeReference<TikTokApiResponse<Map<String, Object>>>() {});
+        return buildSignedRequest("GET", path, authContext, new HashMap<>(), null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private UnifiedShipment mapTrackingEvents(TikTokApiResponse<Map<String, Object>> response) {
         validateResponse(response);
 
         // 从响应中提取追踪历史列表
@@ -409,11 +577,11 @@ public class TikTokShopAdapter extends AbstractAdapter implements EcommOrderServ
         finalQueryParams.put("sign", sign);
 
         // 3. 构建包含所有 Query 参数的 URL
-        HttpUrl.Builder urlBuilder = HttpUrl.parse(API_BASE_URL + path).newBuilder();
+        HttpUrl.Builder urlBuilder = HttpUrl.parse(apiBaseUrl + path).newBuilder();
         finalQueryParams.forEach(urlBuilder::addQueryParameter);
 
         // 4. 构建 Request
-        Request.Builder requestBuilder = new Request.Builder()
+        Request.Builder requestBuilder = SellerTag.tag(new Request.Builder(), authContext)
             .url(urlBuilder.build())
             .addHeader("x-tts-access-token", authContext.getAccessToken())
             .addHeader("Content-Type", "application/json");
@@ -457,11 +625,11 @@ public class TikTokShopAdapter extends AbstractAdapter implements EcommOrderServ
         finalQueryParams.put("sign", sign);
 
         // 3. 构建包含所有 Query 参数的 URL
-        HttpUrl.Builder urlBuilder = HttpUrl.parse(API_BASE_URL + path).newBuilder();
+        HttpUrl.Builder urlBuilder = HttpUrl.parse(apiBaseUrl + path).newBuilder();
         finalQueryParams.forEach(urlBuilder::addQueryParameter);
 
         // 4. 构建 Request
-        Request.Builder requestBuilder = new Request.Builder()
+        Request.Builder requestBuilder = SellerTag.tag(new Request.Builder(), authContext)
             .url(urlBuilder.build())
             .addHeader("x-tts-access-token", authContext.getAccessToken())
             .addHeader("Content-Type", "application/json");
@@ -485,28 +653,13 @@ public class TikTokShopAdapter extends AbstractAdapter implements EcommOrderServ
      * @return HMAC-SHA256签名字符串
      */
     private String generateSign(String path, Map<String, String> params, String body) {
-        // 使用TreeMap按键名排序参数
-        TreeMap<String, String> sortedParams = new TreeMap<>(params);
-        StringBuilder baseString = new StringBuilder();
-        baseString.append(path);
-        // 拼接path和所有参数键值对
-        for (Map.Entry<String, String> entry : sortedParams.entrySet()) {
-            baseString.append(entry.getKey()).append(entry.getValue());
-        }
-        // 如果有请求体，也拼接进去
-        if (body != null) {
-            baseString.append(body);
-        }
-        // 构造最终的签名字符串：appSecret + baseString + appSecret
-        String stringToSign = this.appSecret + baseString + this.appSecret;
-        try {
-            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
-            mac.init(new SecretKeySpec(appSecret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM));
-            byte[] hash = mac.doFinal(stringToSign.getBytes(StandardCharsets.UTF_8));
-            return bytesToHex(hash);
-        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
-            throw new EcommIntegrationException("生成TikTok API签名失败", e);
+        // 签名串：appSecret + path + 按键名排序的参数 + 请求体 + appSecret
+        TikTokSigner current = signer;
+        if (current == null) {
+            current = new TikTokSigner(appSecret);
+            signer = current;
         }
+        return current.sign(path, params, body);
     }
 
     /**
@@ -518,7 +671,11 @@ public class TikTokShopAdapter extends AbstractAdapter implements EcommOrderServ
     private void validateResponse(TikTokApiResponse<?> response) {
         if (response.getCode() != 0) {
             log.error("TikTok API错误。代码: {}, 信息: {}, 请求ID: {}", response.getCode(), response.getMessage(), response.getRequestId());
-            throw new EcommIntegrationException(String.format("TikTok API错误: %s (代码: %d)", response.getMessage(), response.getCode()));
+            String message = String.format("TikTok API错误: %s (代码: %d)", response.getMessage(), response.getCode());
+            if (AUTH_EXPIRED_CODES.contains(response.getCode())) {
+                throw new AuthExpiredException(message);
+            }
+            throw new EcommIntegrationException(message);
         }
     }
 
@@ -610,22 +767,4 @@ public class TikTokShopAdapter extends AbstractAdapter implements EcommOrderServ
             .sellerId(tokenData.getOpenId()) // 将open_id存储在sellerId中
             .build();
     }
-
-    /**
-     * 将字节数组转换为十六进制字符串。
-     *
-     * @param hash 字节数组
-     * @return 十六进制字符串
-     */
-    private static String bytesToHex(byte[] hash) {
-        StringBuilder hexString = new StringBuilder(2 * hash.length);
-        for (byte b : hash) {
-            String hex = Integer.toHexString(0xff & b);
-            if (hex.length() == 1) {
-                hexString.append('0');
-            }
-            hexString.append(hex);
-        }
-        return hexString.toString();
-    }
 }
@@ -0,0 +1,49 @@
+package com.ecommerce4j.config;
+
+import com.ecommerce4j.api.platform.http.ApiMetrics;
+import com.ecommerce4j.api.platform.http.MicrometerApiMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Arrays;
+
+/**
+ * 平台 API 调用指标的配置类。
+ * <p>
+ * 只有类路径上存在 Micrometer 时才会加载；应用中存在 {@link MeterRegistry} Bean（例如引入了
+ * spring-boot-starter-actuator）时注册 {@link MicrometerApiMetrics}，否则使用 {@link ApiMetrics#NOOP}，
+ * 不会给 HTTP 客户端增加任何开销。
+ * <p>
+ * 配置项：{@code ecommerce4j.metrics.enabled}（默认 true）、{@code ecommerce4j.metrics.shop_tag}（是否按卖家 ID 输出店铺标签，默认 false）、
+ * {@code ecommerce4j.metrics.percentiles}（客户端百分位，默认 0.5,0.95,0.99，留空表示不计算）、
+ * {@code ecommerce4j.metrics.percentile_histogram}（是否发布百分位直方图，默认 true）。
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+public class Ecommerce4jMetricsConfiguration {
+
+    @Bean
+    public ApiMetrics ecommerce4jApiMetrics(ObjectProvider<MeterRegistry> meterRegistry,
+                                            @Value("${ecommerce4j.metrics.enabled:true}") boolean enabled,
+                                            @Value("${ecommerce4j.metrics.shop_tag:false}") boolean shopTagEnabled,
+                                            @Value("${ecommerce4j.metrics.percentiles:0.5,0.95,0.99}") String percentiles,
+                                            @Value("${ecommerce4j.metrics.percentile_histogram:true}") boolean percentileHistogram) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (!enabled || registry == null) {
+            return ApiMetrics.NOOP;
+        }
+        return new MicrometerApiMetrics(registry, shopTagEnabled, parsePercentiles(percentiles), percentileHistogram);
+    }
+
+    private static double[] parsePercentiles(String percentiles) {
+        return Arrays.stream(percentiles.split(","))
+            .map(String::trim)
+            .filter(value -> !value.isEmpty())
+            .mapToDouble(Double::parseDouble)
+            .toArray();
+    }
+}
@@ -5,6 +5,7 @@ import com.ecommerce4j.api.EcommFulfillmentService;
 import com.ecommerce4j.api.EcommLogisticsService;
 import com.ecommerce4j.api.EcommOrderService;
 import com.ecommerce4j.api.enums.Platform;
+import com.ecommerce4j.core.resilience.PlatformGuardRegistry;
 import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
@@ -34,17 +35,22 @@ public class PlatformFactory {
     // 注入 ApplicationContext 以便获取Bean的名称
     private final ApplicationContext applicationContext;
 
+    // 按平台提供隔离舱与熔断保护，一个平台故障不会拖垮其他平台
+    private final PlatformGuardRegistry platformGuardRegistry;
+
     @Autowired
     public PlatformFactory(List<EcommAuthorizationService> authServiceList,
                            List<EcommOrderService> orderServiceList,
                            List<EcommFulfillmentService> fulfillmentServiceList,
                            List<EcommLogisticsService> logisticsServiceList,
-                           ApplicationContext applicationContext) {
+                           ApplicationContext applicationContext,
+                           PlatformGuardRegistry platformGuardRegistry) {
         this.authServiceList = authServiceList;
         this.orderServiceList = orderServiceList;
         this.fulfillmentServiceList = fulfillmentServiceList;
         this.logisticsServiceList = logisticsServiceList;
         this.applicationContext = applicationContext;
+        this.platformGuardRegistry = platformGuardRegistry;
     }
 
     /**
@@ -61,6 +67,7 @@ public class PlatformFactory {
 
     /**
      * 通用的转换方法，将服务列表转换为 Platform -> Service 的 Map。
+     * Map 中保存的是带隔离舱与熔断保护的代理，见 {@link PlatformGuardRegistry}。
      * @param serviceList Spring注入的服务列表
      * @param <T> 服务接口类型
      * @return 组装好的Map
@@ -72,13 +79,15 @@ public class PlatformFactory {
 
         // 使用 ApplicationContext 来反向查找每个Bean实例的名称
         // 然后将 Bean 名称转换为 Platform 枚举
-        return serviceList.stream()
+        Map<Platform, T> services = serviceList.stream()
             .collect(Collectors.toMap(
                 this::findPlatformByBean, // Key: Platform 枚举
                 Function.identity(), // Value: 服务实例本身
                 (existing, replacement) -> existing, // 合并函数，如果key重复则保留现有的
                 () -> new EnumMap<>(Platform.class) // 指定Map的类型为EnumMap，性能更高
             ));
+        services.replaceAll(platformGuardRegistry::protect);
+        return services;
     }
 
     /**
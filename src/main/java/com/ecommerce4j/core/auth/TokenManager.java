@@ -0,0 +1,323 @@
+package com.ecommerce4j.core.auth;
+
+import com.ecommerce4j.api.EcommAuthorizationService;
+import com.ecommerce4j.api.dto.AuthContext;
+import com.ecommerce4j.api.enums.Platform;
+import com.ecommerce4j.api.exception.AuthExpiredException;
+import com.ecommerce4j.api.exception.EcommIntegrationException;
+import com.ecommerce4j.api.platform.concurrent.AsyncSupport;
+import com.ecommerce4j.api.platform.concurrent.IoTaskExecutor;
+import com.ecommerce4j.core.PlatformFactory;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 访问令牌生命周期管理。
+ * <p>
+ * 按“平台:店铺”缓存 {@link AuthContext}，并负责：
+ * <ul>
+ *     <li>后台定时扫描，在访问令牌过期前 {@code refresh_ahead_seconds} 主动刷新；</li>
+ *     <li>同一店铺的并发刷新合并为一次（single-flight），避免旧令牌被平台作废后其它线程再用旧 refresh_token 刷新失败；</li>
+ *     <li>{@link #execute} 遇到令牌失效错误时刷新并重试一次。</li>
+ * </ul>
+ * 刷新成功后回调所有 {@link TokenRefreshListener}，由调用方持久化新的令牌。
+ * <p>
+ * 配置项：{@code ecommerce4j.token.refresh_ahead_seconds}、{@code ecommerce4j.token.check_interval_seconds}
+ * （0 表示不启用后台刷新）。
+ */
+@Slf4j
+@Service
+public class TokenManager {
+
+    /**
+     * 同步调用时，距离过期不足该时长即先刷新，避免请求在途中过期
+     */
+    private static final Duration EXPIRY_SKEW = Duration.ofSeconds(30);
+
+    private final Function<Platform, EcommAuthorizationService> authorizationServices;
+
+    @Value("${ecommerce4j.token.refresh_ahead_seconds:300}")
+    private long refreshAheadSeconds = 300;
+
+    @Value("${ecommerce4j.token.check_interval_seconds:60}")
+    private long checkIntervalSeconds = 60;
+
+    @Autowired(required = false)
+    private List<TokenRefreshListener> listeners = Collections.emptyList();
+
+    @Autowired(required = false)
+    private IoTaskExecutor ioTaskExecutor;
+
+    /**
+     * key 为 “平台:店铺标识”
+     */
+    private final Map<String, AuthContext> contexts = new ConcurrentHashMap<>();
+
+    /**
+     * 正在进行中的刷新，同一店铺同时只有一个
+     */
+    private final Map<String, CompletableFuture<AuthContext>> inFlight = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService scheduler;
+
+    @Autowired
+    public TokenManager(PlatformFactory platformFactory) {
+        this(platformFactory::getAuthorizationService);
+    }
+
+    TokenManager(Function<Platform, EcommAuthorizationService> authorizationServices) {
+        this.authorizationServices = authorizationServices;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (checkIntervalSeconds <= 0) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ecommerce4j-token-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::refreshExpiring, checkIntervalSeconds, checkIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 登记店铺的授权上下文。已登记的店铺保留访问令牌过期时间较晚的一份，
+     * 避免调用方从数据库读出的旧令牌覆盖已经刷新过的新令牌。
+     *
+     * @return 当前生效的授权上下文
+     */
+    public AuthContext register(AuthContext authContext) {
+        return contexts.merge(keyOf(authContext), authContext, TokenManager::newer);
+    }
+
+    /**
+     * 移除店铺的授权上下文，例如店铺解除授权后
+     */
+    public void remove(AuthContext authContext) {
+        contexts.remove(keyOf(authContext));
+    }
+
+    /**
+     * 获取店铺当前可用的授权上下文，未登记时自动登记；令牌已过期或即将过期时先同步刷新。
+     */
+    public AuthContext getValid(AuthContext authContext) {
+        AuthContext current = register(authContext);
+        if (isExpiring(current, EXPIRY_SKEW)) {
+            return refresh(current);
+        }
+        return current;
+    }
+
+    /**
+     * 刷新店铺令牌。同一店铺并发调用只会向平台发起一次刷新，其余调用等待并共享结果；
+     * 传入的令牌已经被其它线程刷新过时，直接返回新令牌。
+     *
+     * @param stale 调用方手上的（可能已失效的）授权上下文
+     * @return 刷新后的授权上下文
+     */
+    public AuthContext refresh(AuthContext stale) {
+        String key = keyOf(stale);
+        AuthContext current = contexts.get(key);
+        if (current != null && !Objects.equals(current.getAccessToken(), stale.getAccessToken())) {
+            return current;
+        }
+        CompletableFuture<AuthContext> flight = new CompletableFuture<>();
+        CompletableFuture<AuthContext> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            return join(existing);
+        }
+        try {
+            // 读取 current 之后、登记 flight 之前，其它线程可能已经完成了一次刷新并移除了它的 flight，
+            // 此时再用旧的刷新令牌请求平台会失败（部分平台刷新后旧的刷新令牌立即失效），直接返回新令牌
+            AuthContext latest = contexts.get(key);
+            if (latest != null && !Objects.equals(latest.getAccessToken(), stale.getAccessToken())) {
+                flight.complete(latest);
+                return latest;
+            }
+            AuthContext base = latest == null ? stale : latest;
+            AuthContext refreshed = authorizationServices.apply(base.getPlatform()).refreshTokens(base);
+            if (refreshed == null || !StringUtils.hasText(refreshed.getAccessToken())) {
+                throw new EcommIntegrationException("【Ecommerce4j】" + key + " 刷新令牌未返回新的访问令牌");
+            }
+            contexts.put(key, refreshed);
+            log.info("【Ecommerce4j】{} 访问令牌已刷新，过期时间 {}", key, refreshed.getAccessTokenExpiresAt());
+            notifyListeners(base, refreshed);
+            flight.complete(refreshed);
+            return refreshed;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * 使用店铺当前可用的令牌执行调用，平台返回令牌失效时刷新并重试一次。
+     *
+     * @param authContext 店铺授权上下文
+     * @param call        实际调用，参数为当前可用的授权上下文
+     */
+    public <T> T execute(AuthContext authContext, Function<AuthContext, T> call) {
+        AuthContext current = getValid(authContext);
+        try {
+            return call.apply(current);
+        } catch (EcommIntegrationException e) {
+            if (!isAuthExpired(e)) {
+                throw e;
+            }
+            log.info("【Ecommerce4j】{} 访问令牌已失效，刷新后重试：{}", keyOf(current), e.getMessage());
+            return call.apply(refresh(current));
+        }
+    }
+
+    /**
+     * 扫描所有已登记店铺，对即将过期的令牌发起后台刷新。由定时任务调用，也可以手动触发。
+     *
+     * @return 本轮所有刷新结束（无论成败）时完成的 Future
+     */
+    public CompletableFuture<Void> refreshExpiring() {
+        Duration ahead = Duration.ofSeconds(refreshAheadSeconds);
+        Instant now = Instant.now();
+        List<CompletableFuture<?>> refreshes = new ArrayList<>();
+        for (AuthContext authContext : contexts.values()) {
+            if (!isExpiring(authContext, ahead)) {
+                continue;
+            }
+            String key = keyOf(authContext);
+            if (authContext.getRefreshTokenExpiresAt() != null && !authContext.getRefreshTokenExpiresAt().isAfter(now)) {
+                log.warn("【Ecommerce4j】{} 刷新令牌已过期，需要重新授权", key);
+                continue;
+            }
+            try {
+                // 与该卖家的扇出任务共用同一组并发许可，不为每个店铺另建一个许可条目
+                refreshes.add(ioTaskExecutor().submit(authContext.getPlatform(), AsyncSupport.sellerKey(authContext), () -> refresh(authContext))
+                    .handle((refreshed, error) -> {
+                        if (error != null) {
+                            log.warn("【Ecommerce4j】{} 后台刷新令牌失败", key, unwrap(error));
+                        }
+                        return null;
+                    }));
+            } catch (RuntimeException e) {
+                log.warn("【Ecommerce4j】{} 后台刷新令牌提交失败", key, e);
+            }
+        }
+        return CompletableFuture.allOf(refreshes.toArray(new CompletableFuture<?>[0]));
+    }
+
+    /**
+     * @return 已登记的店铺数量
+     */
+    public int size() {
+        return contexts.size();
+    }
+
+    /**
+     * 是否为访问令牌无效或过期导致的失败
+     */
+    public static boolean isAuthExpired(Throwable throwable) {
+        for (Throwable current = throwable; current != null; current = current.getCause()) {
+            if (current instanceof AuthExpiredException) {
+                return true;
+            }
+            if (current instanceof EcommIntegrationException && ((EcommIntegrationException) current).getStatusCode() == 401) {
+                return true;
+            }
+            if (current.getCause() == current) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    private IoTaskExecutor ioTaskExecutor() {
+        return ioTaskExecutor == null ? IoTaskExecutor.defaults() : ioTaskExecutor;
+    }
+
+    private void notifyListeners(AuthContext previous, AuthContext refreshed) {
+        for (TokenRefreshListener listener : listeners) {
+            try {
+                listener.onRefreshed(previous, refreshed);
+            } catch (RuntimeException e) {
+                log.warn("【Ecommerce4j】令牌刷新回调执行失败", e);
+            }
+        }
+    }
+
+    private static boolean isExpiring(AuthContext authContext, Duration ahead) {
+        Instant expiresAt = authContext.getAccessTokenExpiresAt();
+        return expiresAt != null && !expiresAt.isAfter(Instant.now().plus(ahead));
+    }
+
+    private static AuthContext newer(AuthContext existing, AuthContext candidate) {
+        if (existing.getAccessTokenExpiresAt() == null) {
+            return candidate;
+        }
+        if (candidate.getAccessTokenExpiresAt() == null) {
+            // 无法判断新旧时，只有令牌确实不同才替换
+            return Objects.equals(existing.getAccessToken(), candidate.getAccessToken()) ? existing : candidate;
+        }
+        return candidate.getAccessTokenExpiresAt().isBefore(existing.getAccessTokenExpiresAt()) ? existing : candidate;
+    }
+
+    private static String keyOf(AuthContext authContext) {
+        if (authContext == null || authContext.getPlatform() == null) {
+            throw new EcommIntegrationException("【Ecommerce4j】授权上下文缺少平台信息");
+        }
+        for (String candidate : new String[] {authContext.getShopId(), authContext.getSellerId(), authContext.getOpenKeyId(),
+            authContext.getMerchantId(), authContext.getAccountId()}) {
+            if (StringUtils.hasText(candidate)) {
+                return authContext.getPlatform().name() + ":" + candidate;
+            }
+        }
+        throw new EcommIntegrationException("【Ecommerce4j】" + authContext.getPlatform().getDescription() + " 授权上下文缺少店铺标识");
+    }
+
+    private static AuthContext join(CompletableFuture<AuthContext> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = unwrap(e);
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new EcommIntegrationException("【Ecommerce4j】刷新令牌失败", cause);
+        }
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+    }
+}
@@ -0,0 +1,19 @@
+package com.ecommerce4j.core.auth;
+
+import com.ecommerce4j.api.dto.AuthContext;
+
+/**
+ * {@link TokenManager} 刷新令牌成功后的回调。
+ * <p>
+ * 部分平台（如 Mercado Libre、Shopee）刷新后旧的 refresh_token 立即失效，实现类应在回调中持久化新的令牌，
+ * 否则应用重启后将无法再次刷新。回调可能在后台刷新线程上执行，需要保证线程安全。
+ */
+@FunctionalInterface
+public interface TokenRefreshListener {
+
+    /**
+     * @param previous  刷新前的授权上下文
+     * @param refreshed 刷新后的授权上下文
+     */
+    void onRefreshed(AuthContext previous, AuthContext refreshed);
+}
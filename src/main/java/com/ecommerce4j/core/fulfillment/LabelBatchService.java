@@ -0,0 +1,165 @@
+package com.ecommerce4j.core.fulfillment;
+
+import com.ecommerce4j.api.EcommFulfillmentService;
+import com.ecommerce4j.api.dto.AuthContext;
+import com.ecommerce4j.api.dto.PackageDocumentRef;
+import com.ecommerce4j.api.dto.PackageDocumentResult;
+import com.ecommerce4j.api.exception.AuthExpiredException;
+import com.ecommerce4j.api.exception.EcommIntegrationException;
+import com.ecommerce4j.api.exception.PlatformUnavailableException;
+import com.ecommerce4j.api.platform.concurrent.AsyncSupport;
+import com.ecommerce4j.api.platform.concurrent.IoTaskExecutor;
+import com.ecommerce4j.core.PlatformFactory;
+import com.ecommerce4j.core.sync.SyncThreadFactory;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.CollectionUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 跨平台、跨店铺批量获取面单。
+ * <p>
+ * 调用方传入一批包裹（每个包裹带所属店铺的 {@link AuthContext}），服务按“平台 + 店铺”分组，
+ * 每组调用一次 {@link EcommFulfillmentService#getPackageDocuments}，由各平台适配器合并为尽量少的平台请求；
+ * 不同店铺的分组在有界线程池上并发执行。
+ * 单个包裹或店铺失败不影响其它包裹：店铺整组失败时逐个包裹重试（令牌失效、平台熔断等与包裹无关的失败除外），
+ * 结果与输入顺序一一对应。
+ * <p>
+ * 配置项：{@code ecommerce4j.label.parallelism}（同时处理的店铺数），线程类型跟随 {@code ecommerce4j.io.mode}。
+ */
+@Slf4j
+@Service
+public class LabelBatchService {
+
+    private static final int DEFAULT_PARALLELISM = 8;
+
+    private final PlatformFactory platformFactory;
+
+    @Value("${ecommerce4j.label.parallelism:" + DEFAULT_PARALLELISM + "}")
+    private int parallelism = DEFAULT_PARALLELISM;
+
+    @Autowired(required = false)
+    private IoTaskExecutor ioTaskExecutor;
+
+    /**
+     * 按店铺执行批量面单的有界线程池
+     */
+    private ExecutorService shopExecutor;
+
+    @Autowired
+    public LabelBatchService(PlatformFactory platformFactory) {
+        this.platformFactory = platformFactory;
+    }
+
+    @PostConstruct
+    public void init() {
+        IoTaskExecutor executor = ioTaskExecutor != null ? ioTaskExecutor : IoTaskExecutor.defaults();
+        ThreadFactory virtualThreads = executor.newVirtualThreadFactory("ecommerce4j-label-virtual-");
+        this.shopExecutor = Executors.newFixedThreadPool(Math.max(1, parallelism),
+            virtualThreads != null ? virtualThreads : new SyncThreadFactory("ecommerce4j-label-"));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        shopExecutor.shutdownNow();
+    }
+
+    /**
+     * 批量获取面单，阻塞直到所有店铺完成。
+     *
+     * @param packages 包裹列表，可以来自不同平台、不同店铺，每个包裹都必须带 authContext
+     * @return 与输入顺序一一对应的结果；平台合并下载时同一批包裹共用一个文档实例
+     */
+    public List<PackageDocumentResult> getDocuments(List<PackageDocumentRef> packages) {
+        if (CollectionUtils.isEmpty(packages)) {
+            return Collections.emptyList();
+        }
+        PackageDocumentResult[] results = new PackageDocumentResult[packages.size()];
+        Map<String, List<Integer>> indexesByShop = new LinkedHashMap<>();
+        for (int index = 0; index < packages.size(); index++) {
+            AuthContext authContext = packages.get(index).getAuthContext();
+            if (authContext == null || authContext.getPlatform() == null) {
+                results[index] = PackageDocumentResult.failure(packages.get(index), "批量获取面单时每个包裹都必须带所属店铺的授权上下文");
+                continue;
+            }
+            indexesByShop.computeIfAbsent(authContext.getPlatform() + ":" + AsyncSupport.sellerKey(authContext), key -> new ArrayList<>())
+                .add(index);
+        }
+
+        List<Future<?>> futures = new ArrayList<>(indexesByShop.size());
+        for (List<Integer> indexes : indexesByShop.values()) {
+            futures.add(shopExecutor.submit(() -> runShop(packages, indexes, results)));
+        }
+        for (Future<?> future : futures) {
+            await(future);
+        }
+        return Arrays.asList(results);
+    }
+
+    private void runShop(List<PackageDocumentRef> packages, List<Integer> indexes, PackageDocumentResult[] results) {
+        AuthContext authContext = packages.get(indexes.get(0)).getAuthContext();
+        List<PackageDocumentRef> shopPackages = new ArrayList<>(indexes.size());
+        indexes.forEach(index -> shopPackages.add(packages.get(index)));
+        EcommFulfillmentService fulfillmentService = null;
+        try {
+            fulfillmentService = platformFactory.getFulfillmentService(authContext.getPlatform());
+            List<PackageDocumentResult> shopResults = fulfillmentService.getPackageDocuments(authContext, shopPackages);
+            for (int offset = 0; offset < indexes.size(); offset++) {
+                results[indexes.get(offset)] = shopResults.get(offset);
+            }
+            return;
+        } catch (RuntimeException e) {
+            log.warn("【Ecommerce4j-批量面单】{} 店铺 {} 获取面单失败：{}", authContext.getPlatform(), AsyncSupport.sellerKey(authContext), e.getMessage(), e);
+            if (fulfillmentService == null || indexes.size() == 1 || !isPackageRetryable(e)) {
+                indexes.forEach(index -> results[index] = PackageDocumentResult.failure(packages.get(index), e.getMessage()));
+                return;
+            }
+        }
+        // 整组失败可能只是其中某个包裹无效，逐个重试
+        for (Integer index : indexes) {
+            PackageDocumentRef ref = packages.get(index);
+            try {
+                results[index] = fulfillmentService.getPackageDocuments(authContext, Collections.singletonList(ref)).get(0);
+            } catch (RuntimeException e) {
+                results[index] = PackageDocumentResult.failure(ref, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 令牌失效、平台熔断等与具体包裹无关的失败逐个重试也不会成功
+     */
+    private static boolean isPackageRetryable(RuntimeException e) {
+        return !(e instanceof AuthExpiredException) && !(e instanceof PlatformUnavailableException);
+    }
+
+    private static void await(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EcommIntegrationException("批量获取面单线程被中断", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new EcommIntegrationException("批量获取面单任务执行失败", cause);
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.ecommerce4j.core.resilience;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 基于最近 N 次调用结果的熔断器。
+ * <p>
+ * 关闭状态下，最近 {@code windowSize} 次调用中失败率或慢调用率超过阈值（且调用数不少于 {@code minimumCalls}）时打开，
+ * {@code slowCallMs} 不大于 0 时不统计慢调用；
+ * 打开 {@code openDurationMs} 后进入半开状态，放行 {@code halfOpenProbes} 个探测调用，
+ * 全部成功则关闭，任意一个失败或慢调用则重新打开。
+ * <p>
+ * 每次状态切换都会开始一个新的周期，{@link #tryAcquire} 返回放行时的周期编号；调用结束时只计入同一周期内的结果，
+ * 例如关闭状态下放行、半开后才返回的慢调用不会被当作探测结果，也不会让半开探测计数变为负数。
+ * <p>
+ * 每次平台调用都会进入这里，使用 {@link ReentrantLock} 而不是 synchronized，
+ * 大量虚拟线程争用同一平台的熔断器时不会钉住（pin）载体线程。
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * {@link #tryAcquire} 拒绝调用时的返回值
+     */
+    public static final long REJECTED = -1L;
+
+    private final int windowSize;
+
+    private final int minimumCalls;
+
+    private final int failureRateThreshold;
+
+    private final long slowCallNanos;
+
+    private final int slowCallRateThreshold;
+
+    private final long openDurationNanos;
+
+    private final int halfOpenProbes;
+
+    private final boolean[] failed;
+
+    private final boolean[] slow;
+
+    private int position;
+
+    private int recorded;
+
+    private int failures;
+
+    private int slowCalls;
+
+    private State state = State.CLOSED;
+
+    private long openedAtNanos;
+
+    /**
+     * 状态切换的次数，用于识别调用是在哪个周期内放行的
+     */
+    private long epoch;
+
+    private int halfOpenInFlight;
+
+    private int halfOpenSucceeded;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public CircuitBreaker(int windowSize,
+                          int minimumCalls,
+                          int failureRateThreshold,
+                          long slowCallMs,
+                          int slowCallRateThreshold,
+                          long openDurationMs,
+                          int halfOpenProbes) {
+        this.windowSize = Math.max(1, windowSize);
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, this.windowSize));
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(slowCallMs);
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(openDurationMs);
+        this.halfOpenProbes = Math.max(1, halfOpenProbes);
+        this.failed = new boolean[this.windowSize];
+        this.slow = new boolean[this.windowSize];
+    }
+
+    /**
+     * 是否允许本次调用。放行时调用结束后必须用返回的许可调用 {@link #onResult} 或 {@link #release}。
+     *
+     * @return 放行时所处周期的许可，拒绝时返回 {@link #REJECTED}
+     */
+    public long tryAcquire() {
+        lock.lock();
+        try {
+            if (state == State.OPEN) {
+                if (System.nanoTime() - openedAtNanos < openDurationNanos) {
+                    return REJECTED;
+                }
+                state = State.HALF_OPEN;
+                epoch++;
+                halfOpenInFlight = 0;
+                halfOpenSucceeded = 0;
+            }
+            if (state == State.HALF_OPEN) {
+                if (halfOpenInFlight >= halfOpenProbes) {
+                    return REJECTED;
+                }
+                halfOpenInFlight++;
+            }
+            return epoch;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 记录一次调用结果
+     *
+     * @param permit        {@link #tryAcquire} 返回的许可
+     * @param failure       是否为平台侧失败（超时、连接异常、5xx、429）
+     * @param durationNanos 调用耗时
+     */
+    public void onResult(long permit, boolean failure, long durationNanos) {
+        lock.lock();
+        try {
+            if (permit != epoch) {
+                // 放行后熔断器已经切换过状态（如熔断前发出、半开后才返回的调用），结果不再计入
+                return;
+            }
+            boolean slowCall = slowCallNanos > 0 && durationNanos >= slowCallNanos;
+            if (state == State.HALF_OPEN) {
+                halfOpenInFlight--;
+                if (failure || slowCall) {
+                    open();
+                } else if (++halfOpenSucceeded >= halfOpenProbes) {
+                    close();
+                }
+                return;
+            }
+            if (recorded == windowSize) {
+                failures -= failed[position] ? 1 : 0;
+                slowCalls -= slow[position] ? 1 : 0;
+            } else {
+                recorded++;
+            }
+            failed[position] = failure;
+            slow[position] = slowCall;
+            failures += failure ? 1 : 0;
+            slowCalls += slowCall ? 1 : 0;
+            position = (position + 1) % windowSize;
+
+            if (recorded >= minimumCalls
+                && (failures * 100 >= failureRateThreshold * recorded || slowCalls * 100 >= slowCallRateThreshold * recorded)) {
+                open();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 放弃已获取的调用许可（调用未实际执行）
+     *
+     * @param permit {@link #tryAcquire} 返回的许可
+     */
+    public void release(long permit) {
+        lock.lock();
+        try {
+            if (permit == epoch && state == State.HALF_OPEN && halfOpenInFlight > 0) {
+                halfOpenInFlight--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public State getState() {
+        lock.lock();
+        try {
+            if (state == State.OPEN && System.nanoTime() - openedAtNanos >= openDurationNanos) {
+                return State.HALF_OPEN;
+            }
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 当前窗口内的失败率（百分比）
+     */
+    public int getFailureRate() {
+        lock.lock();
+        try {
+            return recorded == 0 ? 0 : failures * 100 / recorded;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 当前窗口内的慢调用率（百分比）
+     */
+    public int getSlowCallRate() {
+        lock.lock();
+        try {
+            return recorded == 0 ? 0 : slowCalls * 100 / recorded;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 距离进入半开状态的剩余毫秒数，非打开状态为 0
+     */
+    public long getRemainingOpenMillis() {
+        lock.lock();
+        try {
+            if (state != State.OPEN) {
+                return 0L;
+            }
+            return Math.max(0L, TimeUnit.NANOSECONDS.toMillis(openDurationNanos - (System.nanoTime() - openedAtNanos)));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        epoch++;
+        openedAtNanos = System.nanoTime();
+        halfOpenInFlight = 0;
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        epoch++;
+        position = 0;
+        recorded = 0;
+        failures = 0;
+        slowCalls = 0;
+    }
+}
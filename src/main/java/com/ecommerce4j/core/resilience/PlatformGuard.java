@@ -0,0 +1,194 @@
+package com.ecommerce4j.core.resilience;
+
+import com.ecommerce4j.api.enums.Platform;
+import com.ecommerce4j.api.exception.EcommIntegrationException;
+import com.ecommerce4j.api.exception.PlatformUnavailableException;
+import com.ecommerce4j.api.platform.http.RateLimitExceededException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 单个平台的隔离舱（限制同时在途的调用数）与熔断器组合。
+ * <p>
+ * 只有平台侧故障计入熔断：I/O 异常（超时、连接失败）、HTTP 5xx 和 429。
+ * 参数校验、订单不存在等业务错误说明平台仍然可用，按成功处理；本地限流排队超时（{@link RateLimitExceededException}）请求没有发出，同样不计入。
+ */
+public class PlatformGuard {
+
+    private final Platform platform;
+
+    private final Semaphore bulkhead;
+
+    private final int maxConcurrentCalls;
+
+    private final long maxWaitMs;
+
+    private final CircuitBreaker circuitBreaker;
+
+    private final AtomicLong successfulCalls = new AtomicLong();
+
+    private final AtomicLong failedCalls = new AtomicLong();
+
+    private final AtomicLong rejectedByBulkhead = new AtomicLong();
+
+    private final AtomicLong rejectedByCircuitBreaker = new AtomicLong();
+
+    public PlatformGuard(Platform platform, int maxConcurrentCalls, long maxWaitMs, CircuitBreaker circuitBreaker) {
+        this.platform = platform;
+        this.maxConcurrentCalls = Math.max(1, maxConcurrentCalls);
+        this.bulkhead = new Semaphore(this.maxConcurrentCalls);
+        this.maxWaitMs = maxWaitMs;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    /**
+     * 在隔离舱和熔断器保护下执行调用
+     *
+     * @throws PlatformUnavailableException 平台已熔断或并发调用数已满
+     */
+    public <T> T execute(Callable<T> call) throws Exception {
+        return execute(call, true);
+    }
+
+    /**
+     * 在隔离舱和熔断器保护下执行调用
+     *
+     * @param slowCallTracked 是否按耗时统计慢调用；批量、流式等耗时不代表单次平台响应时间的调用传 false，只统计失败
+     * @throws PlatformUnavailableException 平台已熔断或并发调用数已满
+     */
+    public <T> T execute(Callable<T> call, boolean slowCallTracked) throws Exception {
+        if (!acquireBulkhead()) {
+            rejectedByBulkhead.incrementAndGet();
+            throw new PlatformUnavailableException("【Ecommerce4j】" + platform.getDescription()
+                + " 同时在途的调用已达上限 " + maxConcurrentCalls + "，请稍后重试");
+        }
+        try {
+            long permit = circuitBreaker.tryAcquire();
+            if (permit == CircuitBreaker.REJECTED) {
+                rejectedByCircuitBreaker.incrementAndGet();
+                throw new PlatformUnavailableException("【Ecommerce4j】" + platform.getDescription()
+                    + " 已熔断，" + circuitBreaker.getRemainingOpenMillis() + "ms 后尝试恢复");
+            }
+            long start = System.nanoTime();
+            try {
+                T result = call.call();
+                record(permit, null, start, slowCallTracked);
+                return result;
+            } catch (Exception | Error e) {
+                record(permit, e, start, slowCallTracked);
+                throw e;
+            }
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    /**
+     * 在隔离舱和熔断器保护下执行异步调用，Future 完成时记录结果并释放隔离舱。
+     * <p>
+     * 异步调用不阻塞调用线程等待隔离舱，并发数已满时立即拒绝；Future 完成或被取消前持续占用一个并发数。
+     *
+     * @throws PlatformUnavailableException 平台已熔断或并发调用数已满
+     */
+    public <T> CompletableFuture<T> executeAsync(Callable<CompletableFuture<T>> call) throws Exception {
+        return executeAsync(call, true);
+    }
+
+    /**
+     * 同 {@link #executeAsync(Callable)}
+     *
+     * @param slowCallTracked 是否按耗时统计慢调用，见 {@link #execute(Callable, boolean)}
+     */
+    public <T> CompletableFuture<T> executeAsync(Callable<CompletableFuture<T>> call, boolean slowCallTracked) throws Exception {
+        if (!bulkhead.tryAcquire()) {
+            rejectedByBulkhead.incrementAndGet();
+            throw new PlatformUnavailableException("【Ecommerce4j】" + platform.getDescription()
+                + " 同时在途的调用已达上限 " + maxConcurrentCalls + "，请稍后重试");
+        }
+        long permit = circuitBreaker.tryAcquire();
+        if (permit == CircuitBreaker.REJECTED) {
+            bulkhead.release();
+            rejectedByCircuitBreaker.incrementAndGet();
+            throw new PlatformUnavailableException("【Ecommerce4j】" + platform.getDescription()
+                + " 已熔断，" + circuitBreaker.getRemainingOpenMillis() + "ms 后尝试恢复");
+        }
+        long start = System.nanoTime();
+        CompletableFuture<T> future;
+        try {
+            future = call.call();
+        } catch (Exception | Error e) {
+            bulkhead.release();
+            record(permit, e, start, slowCallTracked);
+            throw e;
+        }
+        if (future == null) {
+            bulkhead.release();
+            circuitBreaker.release(permit);
+            return null;
+        }
+        future.whenComplete((result, error) -> {
+            bulkhead.release();
+            record(permit, error, start, slowCallTracked);
+        });
+        return future;
+    }
+
+    public PlatformGuardStats getStats() {
+        return new PlatformGuardStats(
+            platform,
+            circuitBreaker.getState(),
+            circuitBreaker.getFailureRate(),
+            circuitBreaker.getSlowCallRate(),
+            maxConcurrentCalls - bulkhead.availablePermits(),
+            maxConcurrentCalls,
+            successfulCalls.get(),
+            failedCalls.get(),
+            rejectedByBulkhead.get(),
+            rejectedByCircuitBreaker.get());
+    }
+
+    private void record(long permit, Throwable error, long startNanos, boolean slowCallTracked) {
+        boolean failure = error != null && isPlatformFailure(error);
+        circuitBreaker.onResult(permit, failure, slowCallTracked ? System.nanoTime() - startNanos : 0L);
+        (failure ? failedCalls : successfulCalls).incrementAndGet();
+    }
+
+    private boolean acquireBulkhead() {
+        if (maxWaitMs <= 0) {
+            return bulkhead.tryAcquire();
+        }
+        try {
+            return bulkhead.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    static boolean isPlatformFailure(Throwable throwable) {
+        for (Throwable current = throwable; current != null; current = current.getCause()) {
+            if (current instanceof PlatformUnavailableException || current instanceof RateLimitExceededException) {
+                return false;
+            }
+            if (current instanceof EcommIntegrationException) {
+                int statusCode = ((EcommIntegrationException) current).getStatusCode();
+                if (statusCode >= 500 || statusCode == 429) {
+                    return true;
+                }
+            }
+            if (current instanceof IOException && !(current instanceof JsonProcessingException)) {
+                return true;
+            }
+            if (current.getCause() == current) {
+                break;
+            }
+        }
+        return false;
+    }
+}
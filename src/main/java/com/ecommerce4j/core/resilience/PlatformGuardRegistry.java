@@ -0,0 +1,231 @@
+package com.ecommerce4j.core.resilience;
+
+import com.ecommerce4j.api.EcommOrderService;
+import com.ecommerce4j.api.dto.AuthContext;
+import com.ecommerce4j.api.enums.Platform;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+import java.util.stream.BaseStream;
+
+/**
+ * 按平台维护隔离舱与熔断器，并为平台服务生成受保护的代理，由 {@link com.ecommerce4j.core.PlatformFactory} 使用。
+ * <p>
+ * 某个平台变慢或故障时，该平台同时在途的调用数被限制在 {@code max_concurrent_calls} 以内，超出立即失败；
+ * 失败率或慢调用率超过阈值后熔断，期间调用直接抛出
+ * {@link com.ecommerce4j.api.exception.PlatformUnavailableException}，不再占用业务线程等待超时，其他平台不受影响。
+ * <p>
+ * 默认启用，隔离舱为每平台 64 个并发、{@code max_wait_ms=0}：同一平台同时在途的服务方法调用
+ * （含排队中的异步调用、多店铺同步的各个窗口）超过 64 个时，多出的调用立即以 PlatformUnavailableException 失败而不是等待。
+ * 多店铺高并发的应用请按并发量调大 {@code max_concurrent_calls}、设置 {@code max_wait_ms}，或关闭 {@code enabled}。
+ * <p>
+ * 熔断统计的是整个服务方法，而不是单次 HTTP 请求：一次方法调用可能包含扇出的多次请求、限流排队、重试退避和面单轮询，
+ * 因此慢调用统计默认关闭（{@code slow_call_ms=0}）；开启时批量方法（带集合参数）和流式方法（返回 Stream / Iterator / Publisher）
+ * 只统计失败，不按耗时计入慢调用。
+ * <p>
+ * 代理对象是适配器类的子类，可以继续强转为具体适配器（如 ShopeeAdapter）调用平台特有方法。
+ * 返回 CompletableFuture 的异步方法同样占用隔离舱并发数（满时立即拒绝而不等待），Future 完成时释放并记录熔断结果。
+ * 返回惰性 Stream 的方法（如 backfillOrders）只保护 Stream 的创建，不覆盖后续消费。
+ * <p>
+ * 全局配置 {@code ecommerce4j.resilience.*}，可用 {@code <平台前缀>.resilience.*} 按平台覆盖：
+ * {@code enabled}、{@code max_concurrent_calls}、{@code max_wait_ms}、{@code window_size}、{@code minimum_calls}、
+ * {@code failure_rate_threshold}、{@code slow_call_ms}、{@code slow_call_rate_threshold}、{@code open_duration_ms}、
+ * {@code half_open_probes}。
+ */
+@Slf4j
+@Component
+public class PlatformGuardRegistry {
+
+    /**
+     * 不访问平台接口的方法，不计入熔断统计
+     */
+    private static final Set<String> UNGUARDED_METHODS = Set.of("getAuthorizationUrl", "getMaxQueryWindow");
+
+    private static final String SERVICE_PACKAGE = EcommOrderService.class.getPackageName();
+
+    @Value("${ecommerce4j.resilience.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${ecommerce4j.resilience.max_concurrent_calls:64}")
+    private int maxConcurrentCalls = 64;
+
+    @Value("${ecommerce4j.resilience.max_wait_ms:0}")
+    private long maxWaitMs;
+
+    @Value("${ecommerce4j.resilience.window_size:50}")
+    private int windowSize = 50;
+
+    @Value("${ecommerce4j.resilience.minimum_calls:20}")
+    private int minimumCalls = 20;
+
+    @Value("${ecommerce4j.resilience.failure_rate_threshold:50}")
+    private int failureRateThreshold = 50;
+
+    /**
+     * 不大于 0 时不统计慢调用
+     */
+    @Value("${ecommerce4j.resilience.slow_call_ms:0}")
+    private long slowCallMs;
+
+    @Value("${ecommerce4j.resilience.slow_call_rate_threshold:80}")
+    private int slowCallRateThreshold = 80;
+
+    @Value("${ecommerce4j.resilience.open_duration_ms:30000}")
+    private long openDurationMs = 30_000L;
+
+    @Value("${ecommerce4j.resilience.half_open_probes:3}")
+    private int halfOpenProbes = 3;
+
+    @Autowired(required = false)
+    private Environment environment;
+
+    private final Map<Platform, PlatformGuard> guards = new ConcurrentHashMap<>();
+
+    /**
+     * 同一个适配器实例实现了多个服务接口，只生成一个代理
+     */
+    private final Map<Object, Object> proxies = new IdentityHashMap<>();
+
+    public boolean isEnabled(Platform platform) {
+        return Boolean.parseBoolean(resolve(platform, "enabled", String.valueOf(enabled)));
+    }
+
+    public PlatformGuard guard(Platform platform) {
+        return guards.computeIfAbsent(platform, key -> new PlatformGuard(
+            key,
+            resolveInt(key, "max_concurrent_calls", maxConcurrentCalls),
+            resolveLong(key, "max_wait_ms", maxWaitMs),
+            new CircuitBreaker(
+                resolveInt(key, "window_size", windowSize),
+                resolveInt(key, "minimum_calls", minimumCalls),
+                resolveInt(key, "failure_rate_threshold", failureRateThreshold),
+                resolveLong(key, "slow_call_ms", slowCallMs),
+                resolveInt(key, "slow_call_rate_threshold", slowCallRateThreshold),
+                resolveLong(key, "open_duration_ms", openDurationMs),
+                resolveInt(key, "half_open_probes", halfOpenProbes))));
+    }
+
+    /**
+     * 所有已使用平台的隔离舱与熔断器状态
+     */
+    public List<PlatformGuardStats> getStats() {
+        List<PlatformGuardStats> stats = new ArrayList<>();
+        guards.values().forEach(guard -> stats.add(guard.getStats()));
+        return stats;
+    }
+
+    /**
+     * 为平台服务生成受保护的代理，未启用时原样返回
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized <T> T protect(Platform platform, T service) {
+        if (!isEnabled(platform)) {
+            return service;
+        }
+        return (T) proxies.computeIfAbsent(service, target -> {
+            PlatformGuard guard = guard(platform);
+            ProxyFactory proxyFactory = new ProxyFactory(target);
+            proxyFactory.setProxyTargetClass(true);
+            proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+                if (!isGuarded(invocation.getMethod(), target.getClass())) {
+                    return invocation.proceed();
+                }
+                boolean slowCallTracked = isSlowCallTracked(invocation.getMethod());
+                if (CompletableFuture.class.isAssignableFrom(invocation.getMethod().getReturnType())) {
+                    return guard.executeAsync(() -> {
+                        try {
+                            return (CompletableFuture<?>) invocation.proceed();
+                        } catch (Exception | Error e) {
+                            throw e;
+                        } catch (Throwable e) {
+                            throw new IllegalStateException(e);
+                        }
+                    }, slowCallTracked);
+                }
+                return guard.execute(() -> {
+                    try {
+                        return invocation.proceed();
+                    } catch (Exception | Error e) {
+                        throw e;
+                    } catch (Throwable e) {
+                        throw new IllegalStateException(e);
+                    }
+                }, slowCallTracked);
+            });
+            log.info("【Ecommerce4j】{} 服务已启用隔离舱与熔断保护", platform.getDescription());
+            return proxyFactory.getProxy(target.getClass().getClassLoader());
+        });
+    }
+
+    private static boolean isGuarded(Method method, Class<?> targetClass) {
+        if (!Modifier.isPublic(method.getModifiers())
+            || method.getDeclaringClass() == Object.class
+            || UNGUARDED_METHODS.contains(method.getName())) {
+            return false;
+        }
+        if (Arrays.asList(method.getParameterTypes()).contains(AuthContext.class)) {
+            return true;
+        }
+        // 授权码换取令牌等不带 AuthContext 的服务接口方法
+        for (Class<?> serviceInterface : ClassUtils.getAllInterfacesForClassAsSet(targetClass)) {
+            if (SERVICE_PACKAGE.equals(serviceInterface.getPackageName())
+                && ClassUtils.hasMethod(serviceInterface, method.getName(), method.getParameterTypes())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 批量方法和流式方法的耗时取决于数据量或消费速度，不代表平台响应快慢，不计入慢调用
+     */
+    private static boolean isSlowCallTracked(Method method) {
+        Class<?> returnType = method.getReturnType();
+        if (BaseStream.class.isAssignableFrom(returnType)
+            || Iterator.class.isAssignableFrom(returnType)
+            || Flow.Publisher.class.isAssignableFrom(returnType)) {
+            return false;
+        }
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            if (Collection.class.isAssignableFrom(parameterType) || parameterType.isArray()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int resolveInt(Platform platform, String key, int defaultValue) {
+        return Integer.parseInt(resolve(platform, key, String.valueOf(defaultValue)));
+    }
+
+    private long resolveLong(Platform platform, String key, long defaultValue) {
+        return Long.parseLong(resolve(platform, key, String.valueOf(defaultValue)));
+    }
+
+    private String resolve(Platform platform, String key, String defaultValue) {
+        if (environment == null || platform == null) {
+            return defaultValue;
+        }
+        String value = environment.getProperty(platform.getConfigPrefix() + ".resilience." + key);
+        return value == null ? defaultValue : value.trim();
+    }
+}
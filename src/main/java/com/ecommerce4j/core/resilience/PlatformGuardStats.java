@@ -0,0 +1,42 @@
+package com.ecommerce4j.core.resilience;
+
+import com.ecommerce4j.api.enums.Platform;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 单个平台隔离舱与熔断器的状态快照
+ */
+@Data
+@AllArgsConstructor
+public class PlatformGuardStats {
+
+    private Platform platform;
+
+    private CircuitBreaker.State circuitState;
+
+    /**
+     * 熔断统计窗口内的失败率（百分比）
+     */
+    private int failureRate;
+
+    /**
+     * 熔断统计窗口内的慢调用率（百分比）
+     */
+    private int slowCallRate;
+
+    /**
+     * 当前在途调用数
+     */
+    private int activeCalls;
+
+    private int maxConcurrentCalls;
+
+    private long successfulCalls;
+
+    private long failedCalls;
+
+    private long rejectedByBulkhead;
+
+    private long rejectedByCircuitBreaker;
+}
@@ -0,0 +1,22 @@
+package com.ecommerce4j.core.sync;
+
+import com.ecommerce4j.api.dto.AuthContext;
+import com.ecommerce4j.api.dto.UnifiedOrder;
+
+import java.util.List;
+
+/**
+ * 全量同步时接收每一页订单的回调。
+ * <p>
+ * 不同店铺、不同时间窗口的页会在多个线程上并发回调，实现类需要保证线程安全。
+ * 回调抛出异常时，该时间窗口停止继续翻页，并记录到对应店铺的同步结果中。
+ */
+@FunctionalInterface
+public interface OrderPageConsumer {
+
+    /**
+     * @param authContext 该页所属店铺的授权上下文
+     * @param orders      当前页的订单
+     */
+    void onPage(AuthContext authContext, List<UnifiedOrder> orders);
+}
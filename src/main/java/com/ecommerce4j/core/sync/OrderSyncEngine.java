@@ -0,0 +1,300 @@
+package com.ecommerce4j.core.sync;
+
+import com.ecommerce4j.api.EcommOrderService;
+import com.ecommerce4j.api.dto.AuthContext;
+import com.ecommerce4j.api.dto.OrderQuery;
+import com.ecommerce4j.api.dto.PaginatedResult;
+import com.ecommerce4j.api.dto.UnifiedOrder;
+import com.ecommerce4j.api.enums.Platform;
+import com.ecommerce4j.api.exception.EcommIntegrationException;
+import com.ecommerce4j.api.platform.concurrent.IoTaskExecutor;
+import com.ecommerce4j.core.PlatformFactory;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 多店铺、多平台订单全量同步引擎。
+ * <p>
+ * 调用方传入一批店铺的 {@link AuthContext} 和一个 {@link OrderQuery}，引擎负责：
+ * <ul>
+ *     <li>按平台允许的最大时间范围（{@link EcommOrderService#getMaxQueryWindow()}）和配置的窗口大小拆分查询时间段；</li>
+ *     <li>所有店铺、所有时间窗口在有界线程池上并发分页；</li>
+ *     <li>每个窗口在回调处理当前页的同时预取下一页。</li>
+ * </ul>
+ * 单个店铺或窗口失败不会影响其它店铺，失败原因记录在 {@link ShopSyncResult#getErrors()} 中。
+ * <p>
+ * 配置项：{@code ecommerce4j.sync.parallelism}（同时分页的窗口数）、{@code ecommerce4j.sync.window_hours}（默认窗口大小，0 表示不拆分），
+ * 窗口大小可按平台覆盖，如 {@code lazada.sync.window_hours=6}。
+ * <p>
+ * 线程类型跟随 {@code ecommerce4j.io.mode}：I/O 执行器使用虚拟线程时，窗口和预取线程也使用虚拟线程，
+ * 同时分页的窗口数仍受 {@code parallelism} 限制。
+ */
+@Slf4j
+@Service
+public class OrderSyncEngine {
+
+    private static final int DEFAULT_PARALLELISM = 16;
+    private static final long DEFAULT_WINDOW_HOURS = 24;
+
+    private final PlatformFactory platformFactory;
+
+    @Value("${ecommerce4j.sync.parallelism:" + DEFAULT_PARALLELISM + "}")
+    private int parallelism;
+
+    @Value("${ecommerce4j.sync.window_hours:" + DEFAULT_WINDOW_HOURS + "}")
+    private long windowHours;
+
+    @Autowired(required = false)
+    private Environment environment;
+
+    @Autowired(required = false)
+    private IoTaskExecutor ioTaskExecutor;
+
+    /**
+     * 执行窗口分页任务的有界线程池
+     */
+    private ExecutorService windowExecutor;
+
+    /**
+     * 预取下一页的线程池，每个在途窗口最多占用一个线程
+     */
+    private ExecutorService prefetchExecutor;
+
+    @Autowired
+    public OrderSyncEngine(PlatformFactory platformFactory) {
+        this.platformFactory = platformFactory;
+    }
+
+    @PostConstruct
+    public void init() {
+        IoTaskExecutor executor = ioTaskExecutor != null ? ioTaskExecutor : IoTaskExecutor.defaults();
+        ThreadFactory windowThreads = executor.newVirtualThreadFactory("ecommerce4j-sync-virtual-");
+        ThreadFactory prefetchThreads = executor.newVirtualThreadFactory("ecommerce4j-sync-prefetch-virtual-");
+        this.windowExecutor = Executors.newFixedThreadPool(Math.max(1, parallelism),
+            windowThreads != null ? windowThreads : new SyncThreadFactory("ecommerce4j-sync-"));
+        this.prefetchExecutor = Executors.newCachedThreadPool(
+            prefetchThreads != null ? prefetchThreads : new SyncThreadFactory("ecommerce4j-sync-prefetch-"));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        windowExecutor.shutdownNow();
+        prefetchExecutor.shutdownNow();
+    }
+
+    /**
+     * 同步多个店铺的订单，阻塞直到所有店铺完成。
+     *
+     * @param authContexts 店铺授权上下文列表，可以来自不同平台
+     * @param query        查询条件，其中的 pageToken 会被忽略
+     * @param consumer     每一页订单的回调，会被并发调用
+     * @return 同步汇总结果
+     */
+    public OrderSyncResult syncOrders(List<AuthContext> authContexts, OrderQuery query, OrderPageConsumer consumer) {
+        if (query == null) {
+            throw new EcommIntegrationException("订单同步查询参数不能为空");
+        }
+        if (consumer == null) {
+            throw new EcommIntegrationException("订单同步回调不能为空");
+        }
+        long startNanos = System.nanoTime();
+        if (CollectionUtils.isEmpty(authContexts)) {
+            return new OrderSyncResult(Collections.emptyList(), Duration.ZERO);
+        }
+
+        // 按“窗口序号”轮询排列各店铺的任务，使每个店铺的首个窗口最先开始
+        List<ShopSyncResult> shopResults = new ArrayList<>();
+        List<List<SyncWindow>> windowsByShop = new ArrayList<>();
+        for (AuthContext authContext : authContexts) {
+            ShopSyncResult shopResult = new ShopSyncResult(authContext.getPlatform(), shopKey(authContext));
+            shopResults.add(shopResult);
+            try {
+                EcommOrderService orderService = platformFactory.getOrderService(authContext.getPlatform());
+                windowsByShop.add(splitWindows(authContext, orderService, query, shopResult));
+            } catch (RuntimeException e) {
+                shopResult.recordError("无法创建同步任务：" + e.getMessage());
+                windowsByShop.add(Collections.emptyList());
+            }
+        }
+
+        List<Future<?>> futures = new ArrayList<>();
+        int maxWindows = windowsByShop.stream().mapToInt(List::size).max().orElse(0);
+        for (int index = 0; index < maxWindows; index++) {
+            for (List<SyncWindow> windows : windowsByShop) {
+                if (index < windows.size()) {
+                    SyncWindow window = windows.get(index);
+                    futures.add(windowExecutor.submit(() -> runWindow(window, consumer)));
+                }
+            }
+        }
+        for (Future<?> future : futures) {
+            await(future);
+        }
+        return new OrderSyncResult(shopResults, Duration.ofNanos(System.nanoTime() - startNanos));
+    }
+
+    private List<SyncWindow> splitWindows(AuthContext authContext,
+                                          EcommOrderService orderService,
+                                          OrderQuery query,
+                                          ShopSyncResult shopResult) {
+        boolean byUpdateTime = query.getUpdateTimeFrom() != null;
+        Instant from = byUpdateTime ? query.getUpdateTimeFrom() : query.getCreateTimeFrom();
+        Instant to = byUpdateTime ? query.getUpdateTimeTo() : query.getCreateTimeTo();
+        Duration windowSize = resolveWindowSize(authContext.getPlatform(), orderService);
+        if (from == null || windowSize == null) {
+            return Collections.singletonList(new SyncWindow(authContext, orderService, copyQuery(query, byUpdateTime, from, to), shopResult));
+        }
+        if (to == null) {
+            to = Instant.now();
+        }
+
+        List<SyncWindow> windows = new ArrayList<>();
+        Instant windowFrom = from;
+        while (windowFrom.isBefore(to)) {
+            Instant windowTo = windowFrom.plus(windowSize);
+            if (windowTo.isAfter(to)) {
+                windowTo = to;
+            }
+            windows.add(new SyncWindow(authContext, orderService, copyQuery(query, byUpdateTime, windowFrom, windowTo), shopResult));
+            windowFrom = windowTo;
+        }
+        return windows;
+    }
+
+    /**
+     * 窗口大小取平台配置（或全局配置）与平台接口允许的最大范围中较小的一个，返回 null 表示不拆分。
+     */
+    private Duration resolveWindowSize(Platform platform, EcommOrderService orderService) {
+        long hours = windowHours;
+        if (environment != null && platform != null) {
+            Long platformHours = environment.getProperty(platform.getConfigPrefix() + ".sync.window_hours", Long.class);
+            if (platformHours != null) {
+                hours = platformHours;
+            }
+        }
+        Duration configured = hours > 0 ? Duration.ofHours(hours) : null;
+        Duration platformMax = orderService.getMaxQueryWindow();
+        if (configured == null) {
+            return platformMax;
+        }
+        if (platformMax == null) {
+            return configured;
+        }
+        return configured.compareTo(platformMax) <= 0 ? configured : platformMax;
+    }
+
+    /**
+     * 逐页拉取一个时间窗口，当前页交给回调处理的同时预取下一页。
+     */
+    private void runWindow(SyncWindow window, OrderPageConsumer consumer) {
+        ShopSyncResult shopResult = window.shopResult;
+        Future<PaginatedResult<UnifiedOrder>> pending = prefetchExecutor.submit(() -> fetchPage(window, null));
+        try {
+            while (pending != null) {
+                PaginatedResult<UnifiedOrder> page = await(pending);
+                String nextPageToken = page == null ? null : page.getNextPageToken();
+                pending = StringUtils.hasText(nextPageToken)
+                    ? prefetchExecutor.submit(() -> fetchPage(window, nextPageToken))
+                    : null;
+
+                List<UnifiedOrder> orders = page == null || page.getData() == null ? Collections.emptyList() : page.getData();
+                shopResult.recordPage(orders.size());
+                if (!orders.isEmpty()) {
+                    consumer.onPage(window.authContext, orders);
+                }
+            }
+        } catch (RuntimeException e) {
+            if (pending != null) {
+                pending.cancel(true);
+            }
+            log.warn("【Ecommerce4j-订单同步】{} 店铺 {} 时间窗口同步失败：{}", shopResult.getPlatform(), shopResult.getShopKey(), e.getMessage(), e);
+            shopResult.recordError(describeWindow(window.query) + " 同步失败：" + e.getMessage());
+        }
+    }
+
+    private PaginatedResult<UnifiedOrder> fetchPage(SyncWindow window, String pageToken) {
+        OrderQuery pageQuery = copyQuery(window.query, false, window.query.getCreateTimeFrom(), window.query.getCreateTimeTo());
+        pageQuery.setPageToken(pageToken);
+        return window.orderService.getOrders(window.authContext, pageQuery);
+    }
+
+    /**
+     * 复制查询条件并替换用于拆分的时间范围（byUpdateTime 为 true 时替换更新时间，否则替换创建时间），分页令牌不复制。
+     */
+    private static OrderQuery copyQuery(OrderQuery query, boolean byUpdateTime, Instant from, Instant to) {
+        return OrderQuery.builder()
+            .createTimeFrom(byUpdateTime ? query.getCreateTimeFrom() : from)
+            .createTimeTo(byUpdateTime ? query.getCreateTimeTo() : to)
+            .updateTimeFrom(byUpdateTime ? from : query.getUpdateTimeFrom())
+            .updateTimeTo(byUpdateTime ? to : query.getUpdateTimeTo())
+            .orderStatus(query.getOrderStatus())
+            .pageSize(query.getPageSize())
+            .filterFullStock(query.isFilterFullStock())
+            .build();
+    }
+
+    private static String describeWindow(OrderQuery query) {
+        if (query.getUpdateTimeFrom() != null) {
+            return "[update " + query.getUpdateTimeFrom() + " ~ " + query.getUpdateTimeTo() + ")";
+        }
+        return "[create " + query.getCreateTimeFrom() + " ~ " + query.getCreateTimeTo() + ")";
+    }
+
+    private static String shopKey(AuthContext authContext) {
+        return authContext.getSellerId() != null ? authContext.getSellerId() : authContext.getShopId();
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EcommIntegrationException("订单同步线程被中断", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new EcommIntegrationException("订单同步任务执行失败", cause);
+        }
+    }
+
+    /**
+     * 一个店铺的一个时间窗口
+     */
+    private static class SyncWindow {
+
+        private final AuthContext authContext;
+
+        private final EcommOrderService orderService;
+
+        private final OrderQuery query;
+
+        private final ShopSyncResult shopResult;
+
+        private SyncWindow(AuthContext authContext, EcommOrderService orderService, OrderQuery query, ShopSyncResult shopResult) {
+            this.authContext = authContext;
+            this.orderService = orderService;
+            this.query = query;
+            this.shopResult = shopResult;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.ecommerce4j.core.sync;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 一次全量同步的汇总结果
+ */
+@Data
+@AllArgsConstructor
+public class OrderSyncResult {
+
+    /**
+     * 每个店铺的同步结果
+     */
+    private List<ShopSyncResult> shops;
+
+    /**
+     * 本次同步耗时
+     */
+    private Duration elapsed;
+
+    public long getTotalOrders() {
+        return shops.stream().mapToLong(shop -> shop.getOrderCount().get()).sum();
+    }
+
+    public boolean isSuccess() {
+        return shops.stream().allMatch(ShopSyncResult::isSuccess);
+    }
+}
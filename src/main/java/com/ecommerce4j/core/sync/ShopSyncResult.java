@@ -0,0 +1,49 @@
+package com.ecommerce4j.core.sync;
+
+import com.ecommerce4j.api.enums.Platform;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 单个店铺的同步结果
+ */
+@Data
+public class ShopSyncResult {
+
+    /**
+     * 平台
+     */
+    private final Platform platform;
+
+    /**
+     * 店铺标识（sellerId，没有则为 shopId）
+     */
+    private final String shopKey;
+
+    private final AtomicLong orderCount = new AtomicLong();
+
+    private final AtomicInteger pageCount = new AtomicInteger();
+
+    /**
+     * 失败的时间窗口及原因，为空表示全部成功
+     */
+    private final List<String> errors = Collections.synchronizedList(new ArrayList<>());
+
+    public boolean isSuccess() {
+        return errors.isEmpty();
+    }
+
+    void recordPage(int orders) {
+        pageCount.incrementAndGet();
+        orderCount.addAndGet(orders);
+    }
+
+    void recordError(String error) {
+        errors.add(error);
+    }
+}
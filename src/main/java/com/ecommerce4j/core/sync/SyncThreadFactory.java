@@ -0,0 +1,26 @@
+package com.ecommerce4j.core.sync;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 平台线程模式下 core 层有界线程池（订单同步、批量面单等）使用的线程工厂，按前缀加序号命名，创建守护线程。
+ * 虚拟线程模式下各服务改用 {@link com.ecommerce4j.api.platform.concurrent.IoTaskExecutor#newVirtualThreadFactory}。
+ */
+public class SyncThreadFactory implements ThreadFactory {
+
+    private final String prefix;
+
+    private final AtomicInteger counter = new AtomicInteger();
+
+    public SyncThreadFactory(String prefix) {
+        this.prefix = prefix;
+    }
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    }
+}
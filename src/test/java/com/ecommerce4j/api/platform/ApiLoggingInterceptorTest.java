@@ -0,0 +1,31 @@
+package com.ecommerce4j.api.platform;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ApiLoggingInterceptorTest {
+
+    @Test
+    @DisplayName("截断的预览回退到 UTF-8 字符边界")
+    void trimsTruncatedPreviewToCharacterBoundary() {
+        byte[] body = "{\"msg\":\"订单não\"}".getBytes(StandardCharsets.UTF_8);
+        // "{\"msg\":\"" 占 8 字节，“订”占 3 字节，在“单”的中间截断
+        assertEquals("{\"msg\":\"订", ApiLoggingInterceptor.decodePreview(Arrays.copyOf(body, 13), true));
+        assertEquals("{\"msg\":\"订单", ApiLoggingInterceptor.decodePreview(Arrays.copyOf(body, 14), true));
+        // “ã”占 2 字节，只保留首字节时去掉
+        assertEquals("{\"msg\":\"订单n", ApiLoggingInterceptor.decodePreview(Arrays.copyOf(body, 16), true));
+        assertEquals("{\"msg\":\"订单nã", ApiLoggingInterceptor.decodePreview(Arrays.copyOf(body, 17), true));
+    }
+
+    @Test
+    @DisplayName("未截断的预览按原样解码")
+    void decodesCompleteBody() {
+        byte[] body = "{\"msg\":\"订单\"}".getBytes(StandardCharsets.UTF_8);
+        assertEquals("{\"msg\":\"订单\"}", ApiLoggingInterceptor.decodePreview(body, false));
+    }
+}
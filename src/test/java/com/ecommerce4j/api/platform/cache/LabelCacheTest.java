@@ -0,0 +1,130 @@
+package com.ecommerce4j.api.platform.cache;
+
+import com.ecommerce4j.api.dto.DocumentMetadata;
+import com.ecommerce4j.api.enums.Platform;
+import com.ecommerce4j.api.exception.EcommIntegrationException;
+import com.ecommerce4j.api.platform.http.DocumentSink;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LabelCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("相同内容只保存一份，重启后从磁盘索引恢复并保留附加信息")
+    void storesContentAddressedBlobsAndReloadsIndex() throws Exception {
+        byte[] pdf = "%PDF-1.4 label".getBytes(StandardCharsets.UTF_8);
+        LabelCache cache = LabelCache.open(tempDir, 1024, Duration.ofHours(1));
+        cache.put(Platform.TIKTOK_SHOP, "PKG1", "A6", "application/pdf",
+            Collections.singletonMap(CachedLabel.TRACKING_NUMBER, "TN1"), pdf);
+        cache.put(Platform.TIKTOK_SHOP, "PKG1", "A4", "application/pdf", null, pdf);
+
+        assertEquals(2, cache.size());
+        assertEquals(pdf.length, cache.getTotalBytes());
+        try (Stream<Path> blobs = Files.list(tempDir.resolve("blobs"))) {
+            assertEquals(1, blobs.count());
+        }
+
+        LabelCache reopened = LabelCache.open(tempDir, 1024, Duration.ofHours(1));
+        CachedLabel cached = reopened.get(Platform.TIKTOK_SHOP, "PKG1", "A6");
+        assertNotNull(cached);
+        assertEquals("TN1", cached.getAttribute(CachedLabel.TRACKING_NUMBER));
+        assertEquals("application/pdf", cached.getMimeType());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        assertEquals(pdf.length, cached.writeTo(DocumentSink.of(outputStream)));
+        assertArrayEquals(pdf, outputStream.toByteArray());
+        assertNull(reopened.get(Platform.LAZADA, "PKG1", "A6"));
+    }
+
+    @Test
+    @DisplayName("总字节数超过上限时淘汰最久未使用的条目，过期条目读取时删除")
+    void evictsLeastRecentlyUsedAndExpiredEntries() throws Exception {
+        LabelCache cache = LabelCache.open(tempDir.resolve("lru"), 10, Duration.ofHours(1));
+        cache.put(Platform.LAZADA, "A", "PDF", "application/pdf", null, bytes("AAAA"));
+        cache.put(Platform.LAZADA, "B", "PDF", "application/pdf", null, bytes("BBBB"));
+        assertNotNull(cache.get(Platform.LAZADA, "A", "PDF"));
+        cache.put(Platform.LAZADA, "C", "PDF", "application/pdf", null, bytes("CCCC"));
+
+        assertNull(cache.get(Platform.LAZADA, "B", "PDF"));
+        assertNotNull(cache.get(Platform.LAZADA, "A", "PDF"));
+        assertNotNull(cache.get(Platform.LAZADA, "C", "PDF"));
+        assertEquals(8, cache.getTotalBytes());
+
+        LabelCache expiring = LabelCache.open(tempDir.resolve("ttl"), 1024, Duration.ofMillis(20));
+        expiring.put(Platform.LAZADA, "A", "PDF", "application/pdf", null, bytes("AAAA"));
+        Thread.sleep(50);
+        assertNull(expiring.get(Platform.LAZADA, "A", "PDF"));
+        assertEquals(0, expiring.size());
+        assertEquals(0, expiring.getTotalBytes());
+    }
+
+    @Test
+    @DisplayName("流式写入缓存：下载失败时不留下条目和临时文件")
+    void storesStreamedDownloadsAndDiscardsFailures() throws Exception {
+        LabelCache cache = LabelCache.open(tempDir, 1024, Duration.ofHours(1));
+        byte[] pdf = bytes("%PDF-1.4 streamed");
+
+        CachedLabel stored = cache.store(Platform.SHOPEE, "PKG1", "SUGGESTED", null,
+            sink -> DocumentMetadata.builder().mimeType("application/pdf").size(write(sink, pdf)).build());
+        assertNotNull(stored);
+        assertArrayEquals(pdf, stored.toBytes());
+        assertArrayEquals(pdf, cache.get(Platform.SHOPEE, "PKG1", "SUGGESTED").toBytes());
+
+        EcommIntegrationException failure = assertThrows(EcommIntegrationException.class,
+            () -> cache.store(Platform.SHOPEE, "PKG2", "SUGGESTED", null, sink -> {
+                write(sink, bytes("%PDF-1.4 partial"));
+                throw new EcommIntegrationException("download failed");
+            }));
+        assertEquals("download failed", failure.getMessage());
+        assertNull(cache.get(Platform.SHOPEE, "PKG2", "SUGGESTED"));
+        assertEquals(1, cache.size());
+        try (Stream<Path> temps = Files.list(tempDir.resolve("tmp"))) {
+            assertEquals(0, temps.count());
+        }
+    }
+
+    @Test
+    @DisplayName("缓存文件无法写入时抛出缓存异常，与下载失败区分")
+    void reportsCacheWriteFailureSeparately() throws Exception {
+        LabelCache cache = LabelCache.open(tempDir, 1024, Duration.ofHours(1));
+        Path blobs = tempDir.resolve("blobs");
+        Files.delete(blobs);
+        Files.createFile(blobs);
+
+        assertThrows(LabelCacheException.class, () -> cache.store(Platform.SHOPEE, "PKG1", "SUGGESTED", null,
+            sink -> DocumentMetadata.builder().mimeType("application/pdf").size(write(sink, bytes("%PDF-1.4"))).build()));
+        assertNull(cache.get(Platform.SHOPEE, "PKG1", "SUGGESTED"));
+        try (Stream<Path> temps = Files.list(tempDir.resolve("tmp"))) {
+            assertEquals(0, temps.count());
+        }
+    }
+
+    private static long write(DocumentSink sink, byte[] content) {
+        try {
+            return sink.write(content);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,208 @@
+package com.ecommerce4j.api.platform.concurrent;
+
+import com.ecommerce4j.api.enums.Platform;
+import com.ecommerce4j.api.exception.EcommIntegrationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IoTaskExecutorTest {
+
+    private IoTaskExecutor executor;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        executor = new IoTaskExecutor();
+        setField("perSellerConcurrency", 2);
+        executor.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("并发执行结果按输入顺序返回")
+    void keepsInputOrder() {
+        List<Integer> inputs = new ArrayList<>();
+        for (int index = 0; index < 20; index++) {
+            inputs.add(index);
+        }
+
+        List<Integer> results = executor.mapAll(Platform.MERCADO_LIBRE, "seller-1", inputs, value -> {
+            sleep((20 - value) * 2L);
+            return value * 10;
+        });
+
+        for (int index = 0; index < 20; index++) {
+            assertEquals(index * 10, results.get(index));
+        }
+        assertNotNull(executor.getExecutorType());
+        assertEquals(0, executor.getActiveTasks());
+        assertEquals(0, executor.getQueuedTasks());
+    }
+
+    @Test
+    @DisplayName("同一卖家同时在途任务数不超过配置")
+    void limitsConcurrencyPerSeller() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        List<Integer> inputs = List.of(1, 2, 3, 4, 5, 6, 7, 8);
+
+        executor.mapAll(Platform.MERCADO_LIBRE, "seller-1", inputs, value -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            sleep(20);
+            inFlight.decrementAndGet();
+            return value;
+        });
+
+        assertTrue(maxInFlight.get() <= 2, "maxInFlight=" + maxInFlight.get());
+    }
+
+    @Test
+    @DisplayName("嵌套扇出在当前线程执行，不会因许可耗尽而死锁")
+    void runsNestedFanOutInline() {
+        List<Integer> inputs = List.of(1, 2, 3, 4);
+
+        List<Integer> results = executor.mapAll(Platform.MERCADO_LIBRE, "seller-1", inputs,
+            value -> executor.mapAll(Platform.MERCADO_LIBRE, "seller-1", List.of(value, value), inner -> inner).stream()
+                .mapToInt(Integer::intValue)
+                .sum());
+
+        assertEquals(List.of(2, 4, 6, 8), results);
+    }
+
+    @Test
+    @DisplayName("异步执行的同步调用不算嵌套任务，内部扇出仍然并发执行")
+    void fansOutInsideSupplyAsync() throws Exception {
+        CountDownLatch allStarted = new CountDownLatch(2);
+
+        // 两个扇出任务互相等待，串行执行时第一个任务会等到超时
+        CompletableFuture<List<Boolean>> future = executor.supplyAsync(Platform.MERCADO_LIBRE, "seller-1", () ->
+            executor.mapAll(Platform.MERCADO_LIBRE, "seller-1", List.of(1, 2), value -> {
+                allStarted.countDown();
+                try {
+                    return allStarted.await(2, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }));
+
+        assertEquals(List.of(true, true), future.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("许可耗尽时提交立即返回，任务排队等待许可释放")
+    void queuesSubmitWithoutBlockingCaller() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<CompletableFuture<Integer>> running = new ArrayList<>();
+        for (int index = 0; index < 2; index++) {
+            int value = index;
+            running.add(executor.submit(Platform.SHOPEE, "shop-1", () -> {
+                await(release);
+                return value;
+            }));
+        }
+
+        long start = System.nanoTime();
+        CompletableFuture<Integer> queued = executor.submit(Platform.SHOPEE, "shop-1", () -> 2);
+        CompletableFuture<Integer> cancelled = executor.submit(Platform.SHOPEE, "shop-1", () -> 3);
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 500);
+        assertFalse(queued.isDone());
+
+        cancelled.cancel(false);
+        release.countDown();
+
+        assertEquals(2, queued.get(5, TimeUnit.SECONDS));
+        for (int index = 0; index < running.size(); index++) {
+            assertEquals(index, running.get(index).get(5, TimeUnit.SECONDS));
+        }
+        assertTrue(cancelled.isCancelled());
+    }
+
+    @Test
+    @DisplayName("任务异常原样抛给调用方")
+    void propagatesTaskFailure() {
+        EcommIntegrationException exception = assertThrows(EcommIntegrationException.class, () ->
+            executor.mapAll(Platform.SHOPEE, "shop-1", List.of(1, 2, 3), value -> {
+                if (value == 2) {
+                    throw new EcommIntegrationException("boom");
+                }
+                return value;
+            }));
+
+        assertEquals("boom", exception.getMessage());
+        assertTrue(executor.getFailedTasks() >= 1);
+    }
+
+    @Test
+    @DisplayName("空闲的卖家许可定期清理，有在途任务的卖家保留")
+    void evictsIdleSellerPermits() throws Exception {
+        setField("sellerIdleMs", 50L);
+        for (int index = 0; index < 20; index++) {
+            executor.submit(Platform.SHOPEE, "seller-" + index, () -> 1).get(5, TimeUnit.SECONDS);
+        }
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Integer> busy = executor.submit(Platform.SHOPEE, "seller-busy", () -> {
+            await(release);
+            return 1;
+        });
+        assertEquals(21, sellerPermitKeys().size());
+
+        Thread.sleep(150);
+        executor.submit(Platform.SHOPEE, "seller-new", () -> 1).get(5, TimeUnit.SECONDS);
+
+        assertEquals(Set.of("SHOPEE:seller-busy", "SHOPEE:seller-new"), sellerPermitKeys());
+        release.countDown();
+        assertEquals(1, busy.get(5, TimeUnit.SECONDS));
+    }
+
+    private void setField(String name, Object value) throws Exception {
+        Field field = IoTaskExecutor.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(executor, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<String> sellerPermitKeys() throws Exception {
+        Field field = IoTaskExecutor.class.getDeclaredField("sellerPermits");
+        field.setAccessible(true);
+        return new HashSet<>(((Map<String, ?>) field.get(executor)).keySet());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
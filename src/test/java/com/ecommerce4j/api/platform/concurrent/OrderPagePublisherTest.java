@@ -0,0 +1,132 @@
+package com.ecommerce4j.api.platform.concurrent;
+
+import com.ecommerce4j.api.dto.PaginatedResult;
+import com.ecommerce4j.api.dto.UnifiedOrder;
+import com.ecommerce4j.api.exception.EcommIntegrationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OrderPagePublisherTest {
+
+    @Test
+    @DisplayName("按下游请求量发出订单，自动翻页且最多预取一页")
+    void emitsOrdersWithBackpressureAndPrefetchesOnePage() {
+        Map<String, CompletableFuture<PaginatedResult<UnifiedOrder>>> pages = new ConcurrentHashMap<>();
+        pages.put("", CompletableFuture.completedFuture(page("p2", "A1", "A2")));
+        pages.put("p2", new CompletableFuture<>());
+        List<String> requested = new ArrayList<>();
+        OrderPagePublisher publisher = new OrderPagePublisher(null, token -> {
+            requested.add(token == null ? "" : token);
+            return pages.get(token == null ? "" : token);
+        });
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        assertTrue(requested.isEmpty());
+
+        subscriber.subscription.request(1);
+        // 第一页到达后立即开始下载第二页
+        assertEquals(List.of("A1"), subscriber.orderIds);
+        assertEquals(List.of("", "p2"), requested);
+
+        subscriber.subscription.request(10);
+        assertEquals(List.of("A1", "A2"), subscriber.orderIds);
+        assertFalse(subscriber.completed);
+
+        pages.get("p2").complete(page(null, "B1"));
+        assertEquals(List.of("A1", "A2", "B1"), subscriber.orderIds);
+        assertTrue(subscriber.completed);
+        assertNull(subscriber.error);
+        assertEquals(2, requested.size());
+    }
+
+    @Test
+    @DisplayName("取消订阅会取消在途分页，分页失败通过 onError 结束")
+    void cancelsPendingPageAndPropagatesErrors() {
+        CompletableFuture<PaginatedResult<UnifiedOrder>> pending = new CompletableFuture<>();
+        RecordingSubscriber cancelled = new RecordingSubscriber();
+        new OrderPagePublisher(null, token -> token == null
+            ? CompletableFuture.completedFuture(page("p2", "A1"))
+            : pending).subscribe(cancelled);
+        cancelled.subscription.request(1);
+        cancelled.subscription.cancel();
+        assertTrue(pending.isCancelled());
+        assertFalse(cancelled.completed);
+
+        RecordingSubscriber failed = new RecordingSubscriber();
+        new OrderPagePublisher(null, token -> CompletableFuture.failedFuture(new EcommIntegrationException("boom")))
+            .subscribe(failed);
+        failed.subscription.request(Long.MAX_VALUE);
+        assertTrue(failed.error instanceof EcommIntegrationException);
+        assertTrue(failed.orderIds.isEmpty());
+    }
+
+    @Test
+    @DisplayName("分页加载函数在订阅内部锁之外调用")
+    void invokesPageLoaderOutsideSubscriptionLock() {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        List<Boolean> heldLock = new ArrayList<>();
+        new OrderPagePublisher(null, token -> {
+            heldLock.add(Thread.holdsLock(subscriber.subscription));
+            return CompletableFuture.completedFuture(token == null ? page("p2", "A1") : page(null, "B1"));
+        }).subscribe(subscriber);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertEquals(List.of("A1", "B1"), subscriber.orderIds);
+        assertTrue(subscriber.completed);
+        assertEquals(List.of(false, false), heldLock);
+    }
+
+    private static PaginatedResult<UnifiedOrder> page(String nextPageToken, String... orderIds) {
+        List<UnifiedOrder> orders = new ArrayList<>();
+        for (String orderId : orderIds) {
+            UnifiedOrder order = new UnifiedOrder();
+            order.setOrderId(orderId);
+            orders.add(order);
+        }
+        return new PaginatedResult<>(orders, nextPageToken);
+    }
+
+    private static class RecordingSubscriber implements Flow.Subscriber<UnifiedOrder> {
+
+        private final List<String> orderIds = new ArrayList<>();
+
+        private Flow.Subscription subscription;
+
+        private Throwable error;
+
+        private boolean completed;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(UnifiedOrder item) {
+            orderIds.add(item.getOrderId());
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.ecommerce4j.api.platform.concurrent;
+
+import com.ecommerce4j.api.dto.PaginatedResult;
+import com.ecommerce4j.api.dto.UnifiedOrder;
+import com.ecommerce4j.api.enums.Platform;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PipelinedOrderIteratorTest {
+
+    private IoTaskExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new IoTaskExecutor();
+        executor.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("第一页可以在后续页列表返回前消费，输出保持分页顺序")
+    void consumesFirstPageWithoutWaitingForNextList() {
+        CountDownLatch secondListStarted = new CountDownLatch(1);
+        CountDownLatch releaseSecondList = new CountDownLatch(1);
+        PipelinedOrderIterator<String> iterator = new PipelinedOrderIterator<>(executor, Platform.SHOPEE, "shop-1", null,
+            token -> {
+                if (token == null) {
+                    return new PaginatedResult<>(List.of("SN1", "SN2", "SN3"), "page-2");
+                }
+                secondListStarted.countDown();
+                await(releaseSecondList);
+                return new PaginatedResult<>(List.of("SN4"), null);
+            },
+            2,
+            batch -> batch.stream().map(PipelinedOrderIteratorTest::order).collect(Collectors.toList()),
+            2);
+
+        List<String> orderIds = new ArrayList<>();
+        try {
+            for (int index = 0; index < 3; index++) {
+                assertTrue(iterator.hasNext());
+                orderIds.add(iterator.next().getOrderId());
+            }
+            // 第二页的列表已在后台请求，但第一页的消费不需要等它
+            assertEquals(List.of("SN1", "SN2", "SN3"), orderIds);
+            await(secondListStarted);
+        } finally {
+            releaseSecondList.countDown();
+        }
+
+        iterator.forEachRemaining(order -> orderIds.add(order.getOrderId()));
+        assertEquals(List.of("SN1", "SN2", "SN3", "SN4"), orderIds);
+    }
+
+    private static UnifiedOrder order(String orderId) {
+        UnifiedOrder order = new UnifiedOrder();
+        order.setOrderId(orderId);
+        return order;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.ecommerce4j.api.platform.http;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncCallsTest {
+
+    private MockWebServer server;
+    private OkHttpClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        client = new OkHttpClient();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        server.shutdown();
+        client.dispatcher().executorService().shutdown();
+    }
+
+    @Test
+    @DisplayName("取消组合后的 Future 时取消在途的 OkHttp 请求")
+    void cancelsInFlightCallThroughComposition() throws Exception {
+        server.enqueue(new MockResponse().setBody("first"));
+        server.enqueue(new MockResponse().setBody("second").setHeadersDelay(2, TimeUnit.SECONDS));
+
+        CompletableFuture<CompletableFuture<?>> inner = new CompletableFuture<>();
+        CompletableFuture<String> first = AsyncCalls.thenApply(AsyncCalls.enqueue(client, request("/first")), response -> {
+            response.close();
+            return "next";
+        });
+        CompletableFuture<Integer> composed = AsyncCalls.thenCompose(first, ignored -> {
+            CompletableFuture<Integer> second = AsyncCalls.thenApply(AsyncCalls.enqueue(client, request("/second")), response -> {
+                response.close();
+                return response.code();
+            });
+            inner.complete(second);
+            return second;
+        });
+
+        CompletableFuture<?> secondCall = inner.get(5, TimeUnit.SECONDS);
+        awaitRequests(2);
+        composed.cancel(true);
+
+        // 第二个阶段可能仍在回调线程上挂接，等待取消传递过去
+        assertThrows(CancellationException.class, () -> secondCall.get(5, TimeUnit.SECONDS));
+        awaitIdleCalls();
+        assertEquals(0, client.dispatcher().runningCallsCount());
+    }
+
+    @Test
+    @DisplayName("allOf 按输入顺序返回结果，取消时一并取消各请求")
+    void allOfKeepsOrderAndPropagatesCancel() throws Exception {
+        CompletableFuture<Integer> a = new CompletableFuture<>();
+        CompletableFuture<Integer> b = new CompletableFuture<>();
+        CompletableFuture<List<Integer>> all = AsyncCalls.allOf(List.of(a, b));
+        b.complete(2);
+        a.complete(1);
+        assertEquals(List.of(1, 2), all.get(5, TimeUnit.SECONDS));
+
+        CompletableFuture<Integer> c = new CompletableFuture<>();
+        CompletableFuture<Integer> d = new CompletableFuture<>();
+        AsyncCalls.allOf(List.of(c, d)).cancel(true);
+        assertTrue(c.isCancelled());
+        assertTrue(d.isCancelled());
+    }
+
+    private Request request(String path) {
+        return new Request.Builder().url(server.url(path)).build();
+    }
+
+    private void awaitRequests(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (server.getRequestCount() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private void awaitIdleCalls() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (client.dispatcher().runningCallsCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.ecommerce4j.api.platform.http;
+
+import com.ecommerce4j.api.dto.AuthContext;
+import com.ecommerce4j.api.enums.Platform;
+import com.ecommerce4j.api.platform.concurrent.IoTaskExecutor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okio.Buffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class MicrometerApiMetricsTest {
+
+    private MockWebServer server;
+
+    private SimpleMeterRegistry registry;
+
+    private HttpTransport transport;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        registry = new SimpleMeterRegistry();
+        transport = new HttpTransport();
+        setField(transport, "apiMetrics", new MicrometerApiMetrics(registry, true, new double[]{0.5D, 0.99D}, false));
+        setField(transport, "logLevel", "NONE");
+        transport.init();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        transport.shutdown();
+        server.shutdown();
+    }
+
+    @Test
+    @DisplayName("按平台、路径模板、店铺和状态码记录耗时、字节数和平台错误码")
+    void recordsExchangeAndPlatformErrorCode() throws Exception {
+        String errorBody = "{\"code\":105001,\"message\":\"Invalid shop_cipher\",\"data\":null}";
+        server.enqueue(new MockResponse().setBody(errorBody).setHeader("Content-Type", "application/json"));
+
+        Request request = SellerTag.tag(new Request.Builder(), AuthContext.builder().sellerId("7001").build())
+            .url(server.url("/order/202309/orders/576461234567890123?shop_cipher=ROW_abc"))
+            .build();
+        try (Response response = transport.apiClient(Platform.TIKTOK_SHOP).newCall(request).execute()) {
+            assertEquals(errorBody, response.body().string());
+        }
+
+        Timer timer = registry.find("ecommerce4j.api.requests")
+            .tags("platform", "tiktok", "client", "api", "path", "/order/{id}/orders/{id}", "shop", "7001", "status", "200")
+            .timer();
+        assertNotNull(timer);
+        assertEquals(1L, timer.count());
+
+        Counter errors = registry.find("ecommerce4j.api.errors")
+            .tags("platform", "tiktok", "shop", "7001", "code", "105001")
+            .counter();
+        assertNotNull(errors);
+        assertEquals(1.0D, errors.count());
+
+        DistributionSummary responseSize = registry.find("ecommerce4j.api.response.size").tags("platform", "tiktok").summary();
+        assertNotNull(responseSize);
+        assertEquals(errorBody.getBytes(StandardCharsets.UTF_8).length, (long) responseSize.totalAmount());
+    }
+
+    @Test
+    @DisplayName("下载客户端记录面单大小，不带店铺参数的地址归并为 {document}")
+    void recordsDocumentDownloadSize() throws Exception {
+        byte[] pdf = new byte[10_000];
+        server.enqueue(new MockResponse().setBody(new Buffer().write(pdf)).setHeader("Content-Type", "application/pdf"));
+
+        Request request = new Request.Builder().url(server.url("/labels/a1b2c3d4e5.pdf?Expires=1700000000")).build();
+        try (Response response = transport.downloadClient(Platform.LAZADA).newCall(request).execute()) {
+            assertEquals(pdf.length, response.body().bytes().length);
+        }
+
+        DistributionSummary labels = registry.find("ecommerce4j.label.download.size").tags("platform", "lazada").summary();
+        assertNotNull(labels);
+        assertEquals(1L, labels.count());
+        assertEquals(pdf.length, (long) labels.totalAmount());
+        assertNotNull(registry.find("ecommerce4j.api.requests").tags("client", "download", "path", "{document}").timer());
+        assertNotNull(registry.find("ecommerce4j.http.dispatcher.calls").tags("platform", "lazada", "state", "queued").gauge());
+        assertNotNull(registry.find("ecommerce4j.http.connections").tags("state", "idle").gauge());
+    }
+
+    @Test
+    @DisplayName("按平台约定提取错误码，成功响应不计数")
+    void extractsPlatformSpecificErrorCodes() {
+        assertNull(MetricsInterceptor.extractErrorCode(Platform.SHOPEE, bytes("{\"error\":\"\",\"message\":\"\",\"response\":{}}")));
+        assertEquals("error_auth", MetricsInterceptor.extractErrorCode(Platform.SHOPEE, bytes("{\"request_id\":\"r\",\"error\":\"error_auth\"}")));
+        assertNull(MetricsInterceptor.extractErrorCode(Platform.LAZADA, bytes("{\"data\":{\"orders\":[]},\"code\":\"0\"}")));
+        assertEquals("IllegalAccessToken",
+            MetricsInterceptor.extractErrorCode(Platform.LAZADA, bytes("{\"type\":\"ISV\",\"code\":\"IllegalAccessToken\"}")));
+        assertNull(MetricsInterceptor.extractErrorCode(Platform.TIKTOK_SHOP, bytes("{\"code\":0,\"data\":{}}")));
+        assertNull(MetricsInterceptor.extractErrorCode(Platform.SHEIN_MX_SELF, bytes("not json")));
+    }
+
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("I/O 执行器的队列深度、执行中和累计任务数以 executor 标签输出")
+    void bindsIoExecutorGauges() throws Exception {
+        IoTaskExecutor executor = new IoTaskExecutor();
+        setField(executor, "mode", "platform");
+        setField(executor, "apiMetrics", new MicrometerApiMetrics(registry, false, new double[0], false));
+        executor.init();
+        try {
+            executor.mapAll(Platform.LAZADA, "seller", Arrays.asList(1, 2, 3), value -> value * 2);
+
+            Gauge queued = registry.find("ecommerce4j.io.tasks").tags("executor", "platform", "state", "queued").gauge();
+            assertNotNull(queued);
+            assertEquals(0.0D, queued.value());
+            assertNotNull(registry.find("ecommerce4j.io.tasks").tags("executor", "platform", "state", "active").gauge());
+            FunctionCounter completed = registry.find("ecommerce4j.io.tasks.completed").tags("executor", "platform").functionCounter();
+            assertNotNull(completed);
+            assertEquals(3.0D, completed.count());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static void setField(Object target, String name, Object value) throws Exception {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
@@ -0,0 +1,163 @@
+package com.ecommerce4j.api.platform.http;
+
+import com.ecommerce4j.api.enums.Platform;
+import com.ecommerce4j.api.platform.concurrent.IoTaskExecutor;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.EventListener;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NetworkTimingListenerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private MockWebServer server;
+
+    private SimpleMeterRegistry registry;
+
+    private HttpTransport transport;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        registry = new SimpleMeterRegistry();
+        transport = newTransport(new MicrometerApiMetrics(registry, false, new double[0], false));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        transport.shutdown();
+        server.shutdown();
+    }
+
+    @Test
+    @DisplayName("统计范围内累计各网络阶段、连接复用和解析耗时")
+    void accumulatesPhasesInScope() throws Exception {
+        server.enqueue(json("{\"code\":0,\"data\":{\"orders\":[1,2,3]}}").setHeadersDelay(60, TimeUnit.MILLISECONDS));
+        server.enqueue(json("{\"code\":0,\"data\":{\"orders\":[]}}"));
+
+        ApiTimings timings;
+        try (ApiTimings.Scope scope = ApiTimings.open()) {
+            assertEquals(3, get(transport.apiClient(Platform.LAZADA), "/orders/get").path("data").path("orders").size());
+            get(transport.apiClient(Platform.LAZADA), "/orders/get");
+            timings = scope.timings();
+        }
+        assertNull(ApiTimings.current());
+
+        assertEquals(2L, timings.getCalls());
+        assertEquals(1L, timings.getNewConnections());
+        assertEquals(1L, timings.getReusedConnections());
+        assertTrue(timings.getNanos(ApiTimings.Phase.TTFB) >= TimeUnit.MILLISECONDS.toNanos(50),
+            "TTFB 应包含服务端的响应头延迟: " + timings);
+        assertTrue(timings.getNanos(ApiTimings.Phase.CONNECT) > 0);
+        assertTrue(timings.getNanos(ApiTimings.Phase.PARSE) > 0);
+        assertTrue(timings.getNetworkNanos() >= timings.getNanos(ApiTimings.Phase.TTFB));
+    }
+
+    @Test
+    @DisplayName("按平台和阶段输出网络计时、连接获取和解析指标")
+    void recordsPhaseMetrics() throws Exception {
+        server.enqueue(json("{\"code\":\"0\"}"));
+        server.enqueue(json("{\"code\":\"0\"}"));
+
+        get(transport.apiClient(Platform.SHOPEE), "/api/v2/order/get_order_list");
+        get(transport.apiClient(Platform.SHOPEE), "/api/v2/order/get_order_list");
+
+        Timer ttfb = registry.find("ecommerce4j.api.network")
+            .tags("platform", "shopee", "client", "api", "path", "/api/v2/order/get_order_list", "phase", "ttfb")
+            .timer();
+        assertNotNull(ttfb);
+        assertEquals(2L, ttfb.count());
+        Timer connect = registry.find("ecommerce4j.api.network").tags("platform", "shopee", "phase", "connect").timer();
+        assertNotNull(connect);
+        assertEquals(1L, connect.count());
+
+        Counter reused = registry.find("ecommerce4j.http.connections.acquired").tags("platform", "shopee", "reused", "true").counter();
+        assertNotNull(reused);
+        assertEquals(1.0D, reused.count());
+
+        Timer parse = registry.find("ecommerce4j.api.processing").tags("platform", "shopee", "phase", "parse").timer();
+        assertNotNull(parse);
+        assertEquals(2L, parse.count());
+    }
+
+    @Test
+    @DisplayName("I/O 线程池中的并发请求计入提交线程的统计范围")
+    void propagatesScopeToIoTasks() throws Exception {
+        HttpTransport plain = newTransport(null);
+        try {
+            for (int index = 0; index < 3; index++) {
+                server.enqueue(json("{\"code\":0}"));
+            }
+            OkHttpClient client = plain.apiClient(Platform.TIKTOK_SHOP);
+            List<String> paths = Arrays.asList("/a", "/b", "/c");
+            try (ApiTimings.Scope scope = ApiTimings.open()) {
+                IoTaskExecutor.defaults().mapAll(Platform.TIKTOK_SHOP, null, paths, path -> {
+                    try {
+                        return get(client, path);
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                });
+                assertEquals(3L, scope.timings().getCalls());
+            }
+        } finally {
+            plain.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("没有统计范围且未启用指标时不创建监听器")
+    void skipsListenerWhenNothingToRecord() {
+        OkHttpClient client = new OkHttpClient();
+        EventListener.Factory factory = NetworkTimingListener.factory(Platform.LAZADA, MetricsInterceptor.API_CLIENT, ApiMetrics.NOOP);
+        assertSame(EventListener.NONE, factory.create(client.newCall(new Request.Builder().url(server.url("/")).build())));
+    }
+
+    private JsonNode get(OkHttpClient client, String path) throws Exception {
+        try (Response response = client.newCall(new Request.Builder().url(server.url(path)).build()).execute()) {
+            return JsonBodyReader.read(objectMapper, response.body(), JsonNode.class);
+        }
+    }
+
+    private static MockResponse json(String body) {
+        return new MockResponse().setBody(body).setHeader("Content-Type", "application/json");
+    }
+
+    private static HttpTransport newTransport(ApiMetrics metrics) throws Exception {
+        HttpTransport transport = new HttpTransport();
+        setField(transport, "apiMetrics", metrics);
+        setField(transport, "logLevel", "NONE");
+        transport.init();
+        return transport;
+    }
+
+    private static void setField(Object target, String name, Object value) throws Exception {
+        Field field = HttpTransport.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
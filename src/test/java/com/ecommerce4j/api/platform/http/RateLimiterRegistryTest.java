@@ -0,0 +1,155 @@
+package com.ecommerce4j.api.platform.http;
+
+import com.ecommerce4j.api.dto.AuthContext;
+import com.ecommerce4j.api.enums.Platform;
+import com.ecommerce4j.api.exception.EcommIntegrationException;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RateLimiterRegistryTest {
+
+    private static final String ORDER_DETAIL_PATH = "/api/v2/order/get_order_detail";
+
+    private RateLimiterRegistry registry;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("shopee.rate_limit.qps", "10");
+        properties.put("shopee.rate_limit.burst", "2");
+        properties.put("shopee.rate_limit.path_qps", ORDER_DETAIL_PATH + "=1");
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("test", properties));
+
+        registry = new RateLimiterRegistry();
+        setField("environment", environment);
+    }
+
+    @Test
+    @DisplayName("同一店铺超过 burst 后按 qps 排队")
+    void throttlesPerShopAfterBurst() throws Exception {
+        long waited = 0;
+        for (int index = 0; index < 4; index++) {
+            waited += registry.acquire(Platform.SHOPEE, "shop_id:1", "/api/v2/order/get_order_list");
+        }
+
+        // burst=2，后两次各需约 100ms
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(waited) >= 150, "waited=" + waited);
+        assertEquals(0, registry.acquire(Platform.SHOPEE, "shop_id:2", "/api/v2/order/get_order_list"));
+        assertEquals(0, registry.acquire(Platform.LAZADA, "100001", "/orders/get"));
+    }
+
+    @Test
+    @DisplayName("接口级限流与店铺级限流同时生效并记录统计")
+    void appliesPathLimitAndRecordsStats() throws Exception {
+        registry.acquire(Platform.SHOPEE, "shop_id:1", ORDER_DETAIL_PATH);
+        long waited = registry.acquire(Platform.SHOPEE, "shop_id:1", ORDER_DETAIL_PATH);
+
+        // 接口级 qps=1，第二次约等待 1 秒
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(waited) >= 500, "waited=" + waited);
+        List<RateLimitStats> stats = registry.getStats();
+        RateLimitStats pathStats = stats.stream()
+            .filter(stat -> ORDER_DETAIL_PATH.equals(stat.getPath()))
+            .findFirst()
+            .orElseThrow();
+        assertEquals(2, pathStats.getAcquired());
+        assertEquals(1, pathStats.getThrottled());
+    }
+
+    @Test
+    @DisplayName("排队时间超过上限时直接失败")
+    void failsWhenWaitExceedsLimit() throws Exception {
+        setField("maxWaitMs", 50L);
+        registry.acquire(Platform.SHOPEE, "shop_id:1", ORDER_DETAIL_PATH);
+
+        assertThrows(EcommIntegrationException.class,
+            () -> registry.acquire(Platform.SHOPEE, "shop_id:1", ORDER_DETAIL_PATH));
+    }
+
+    @Test
+    @DisplayName("接口级令牌桶排队超时时退还已预约的店铺令牌")
+    void refundsShopTokenWhenPathReserveFails() throws Exception {
+        setField("maxWaitMs", 50L);
+        registry.acquire(Platform.SHOPEE, "shop_id:1", ORDER_DETAIL_PATH);
+        assertThrows(EcommIntegrationException.class,
+            () -> registry.acquire(Platform.SHOPEE, "shop_id:1", ORDER_DETAIL_PATH));
+
+        // burst=2，失败的那次如果没有退还，这里需要排队约 100ms
+        assertEquals(0, registry.acquire(Platform.SHOPEE, "shop_id:1", "/api/v2/order/get_order_list"));
+    }
+
+    @Test
+    @DisplayName("异步请求排队超时时回调收到限流异常，适配器可还原为原始错误信息")
+    void failsEnqueuedCallWithRateLimitException() throws Exception {
+        setField("maxWaitMs", 50L);
+        registry.acquire(Platform.SHOPEE, "shop_id:1", ORDER_DETAIL_PATH);
+        OkHttpClient client = new OkHttpClient.Builder()
+            .addInterceptor(new RateLimitInterceptor(Platform.SHOPEE, registry))
+            .build();
+        Request request = new Request.Builder().url("http://127.0.0.1:1" + ORDER_DETAIL_PATH + "?shop_id=1").build();
+
+        ExecutionException exception = assertThrows(ExecutionException.class,
+            () -> AsyncCalls.enqueue(client, request).get(5, TimeUnit.SECONDS));
+
+        assertTrue(exception.getCause() instanceof RateLimitExceededException, String.valueOf(exception.getCause()));
+        EcommIntegrationException mapped = RateLimitExceededException.wrap("请求失败", exception.getCause());
+        assertTrue(mapped.getMessage().contains("平台限流排队超过 50ms"), mapped.getMessage());
+    }
+
+    @Test
+    @DisplayName("移除长期未使用且令牌已回满的令牌桶")
+    void evictsIdleBuckets() throws Exception {
+        setField("bucketIdleMs", 1L);
+        registry.acquire(Platform.SHOPEE, "shop_id:1", "/api/v2/order/get_order_list");
+        // qps=10，约 100ms 回满
+        Thread.sleep(300);
+        registry.acquire(Platform.SHOPEE, "shop_id:2", "/api/v2/order/get_order_list");
+
+        List<RateLimitStats> stats = registry.getStats();
+        assertEquals(1, stats.size());
+        assertEquals("shop_id:2", stats.get(0).getShopKey());
+    }
+
+    @Test
+    @DisplayName("解析店铺标识并规范化接口路径")
+    void resolvesShopKeyAndNormalizesPath() {
+        Request shopee = new Request.Builder().url("https://partner.shopeemobile.com/api/v2/order/get_order_list?shop_id=123").build();
+        Request meli = new Request.Builder().url("https://api.mercadolibre.com/orders/2000001234")
+            .header("Authorization", "Bearer token").build();
+        Request tagged = SellerTag.tag(new Request.Builder(), AuthContext.builder().sellerId("2000001").accessToken("token").build())
+            .url("https://api.mercadolibre.com/orders/2000001234")
+            .header("Authorization", "Bearer token").build();
+        Request download = new Request.Builder().url("https://cdn.example.com/label.pdf").build();
+
+        assertEquals("shop_id:123", ApiPaths.resolveShopKey(shopee));
+        // 只带访问令牌的请求不按令牌区分店铺，令牌刷新后配额不会重置
+        assertNull(ApiPaths.resolveShopKey(meli));
+        assertEquals("2000001", ApiPaths.resolveShopKey(tagged));
+        assertNull(ApiPaths.resolveShopKey(download));
+        assertEquals("/orders/{id}/discounts", ApiPaths.normalize("/orders/2000001234/discounts"));
+        assertEquals("/api/v2/order/get_order_list", ApiPaths.normalize("/api/v2/order/get_order_list"));
+    }
+
+    private void setField(String name, Object value) throws Exception {
+        Field field = RateLimiterRegistry.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(registry, value);
+    }
+}
@@ -0,0 +1,99 @@
+package com.ecommerce4j.api.platform.http;
+
+import com.ecommerce4j.api.enums.Platform;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RetryInterceptorTest {
+
+    private MockWebServer server;
+
+    private RetryPolicyRegistry registry;
+
+    private OkHttpClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        registry = new RetryPolicyRegistry();
+        setField("baseDelayMs", 1L);
+        client = new OkHttpClient.Builder()
+            .addInterceptor(new RetryInterceptor(Platform.SHOPEE, registry))
+            .build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    @DisplayName("GET 遇到 503 后重试成功")
+    void retriesIdempotentRequestOnServerError() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(503));
+        server.enqueue(new MockResponse().setResponseCode(200).setBody("ok"));
+
+        try (Response response = client.newCall(new Request.Builder().url(server.url("/api/v2/order/get_order_list")).build()).execute()) {
+            assertEquals(200, response.code());
+        }
+        assertEquals(2, server.getRequestCount());
+        assertEquals(1, registry.getRetryCount(Platform.SHOPEE));
+    }
+
+    @Test
+    @DisplayName("非幂等 POST 遇到 500 不重试，遇到 429 按 Retry-After 重试")
+    void retriesNonIdempotentPostOnlyWhenRejected() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(500));
+        try (Response response = client.newCall(post("/api/v2/logistics/ship_order")).execute()) {
+            assertEquals(500, response.code());
+        }
+        assertEquals(1, server.getRequestCount());
+
+        server.enqueue(new MockResponse().setResponseCode(429).setHeader("Retry-After", "0"));
+        server.enqueue(new MockResponse().setResponseCode(200));
+        try (Response response = client.newCall(post("/api/v2/logistics/ship_order")).execute()) {
+            assertEquals(200, response.code());
+        }
+        assertEquals(3, server.getRequestCount());
+    }
+
+    @Test
+    @DisplayName("Retry-After 超过上限时直接返回原响应")
+    void givesUpWhenRetryAfterTooLong() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(429).setHeader("Retry-After", "3600"));
+
+        try (Response response = client.newCall(new Request.Builder().url(server.url("/orders")).build()).execute()) {
+            assertEquals(429, response.code());
+        }
+        assertEquals(1, server.getRequestCount());
+        assertTrue(RetryInterceptor.parseRetryAfterMillis("Wed, 21 Oct 2015 07:28:00 GMT") >= 0);
+    }
+
+    private Request post(String path) {
+        return new Request.Builder()
+            .url(server.url(path))
+            .post(RequestBody.create("{}", MediaType.get("application/json")))
+            .build();
+    }
+
+    private void setField(String name, Object value) throws Exception {
+        Field field = RetryPolicyRegistry.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(registry, value);
+    }
+}
@@ -0,0 +1,272 @@
+package com.ecommerce4j.api.platform.lazada;
+
+import com.ecommerce4j.api.dto.AuthContext;
+import com.ecommerce4j.api.dto.PackageDocumentRef;
+import com.ecommerce4j.api.dto.PackageDocumentResult;
+import com.ecommerce4j.api.dto.UnifiedOrder;
+import com.ecommerce4j.api.enums.Platform;
+import com.ecommerce4j.api.exception.EcommIntegrationException;
+import com.ecommerce4j.api.platform.concurrent.IoTaskExecutor;
+import com.ecommerce4j.api.platform.lazada.dto.LazadaOrderModels;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LazadaAdapterTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private MockWebServer server;
+    private LazadaApiClient client;
+    private AuthContext authContext;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        OkHttpClient okHttpClient = new OkHttpClient();
+        client = new LazadaApiClient(okHttpClient, okHttpClient, objectMapper, "app-key", "app-secret",
+            server.url("/auth").toString(), LazadaApiClient.sameEndpointForAllSites(server.url("/rest").toString()));
+        authContext = AuthContext.builder()
+            .platform(Platform.LAZADA)
+            .accessToken("access-token")
+            .sellerId("100001")
+            .siteCountry("sg")
+            .build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    @DisplayName("Lazada 批量面单整批失败时逐个包裹重试，无效包裹不影响同批其它包裹")
+    void retriesFailedDocumentBatchPerPackage() throws Exception {
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String body = URLDecoder.decode(request.getBody().readUtf8(), StandardCharsets.UTF_8);
+                if (body.contains("FP_BAD")) {
+                    return json("{\"code\":\"0\",\"request_id\":\"req-doc\",\"result\":{\"success\":false,"
+                        + "\"error_code\":\"PACKAGE_NOT_FOUND\",\"error_msg\":\"package FP_BAD not found\"}}");
+                }
+                String packageId = body.contains("FP1") ? "FP1" : "FP3";
+                return json("{\"code\":\"0\",\"request_id\":\"req-doc\",\"result\":{\"success\":true,"
+                    + "\"data\":{\"doc_type\":\"PDF\",\"file\":\"" + pdfBase64(packageId) + "\"}}}");
+            }
+        });
+
+        List<PackageDocumentResult> results = newAdapter().getPackageDocuments(authContext, List.of(
+            new PackageDocumentRef(null, "O1", "FP1"),
+            new PackageDocumentRef(null, "O2", "FP_BAD"),
+            new PackageDocumentRef(null, "O3", "FP3")));
+
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).isSuccess());
+        assertArrayEquals(pdf("FP1"), results.get(0).getDocument().getContent());
+        assertFalse(results.get(1).isSuccess());
+        assertTrue(results.get(1).getErrorMessage().contains("PACKAGE_NOT_FOUND"));
+        assertTrue(results.get(2).isSuccess());
+        assertArrayEquals(pdf("FP3"), results.get(2).getDocument().getContent());
+        // 整批一次 + 逐个重试三次
+        assertEquals(4, server.getRequestCount());
+    }
+
+    @Test
+    @DisplayName("Lazada 刷新订单复用 rawData 中的订单头，只对缺少订单头的订单调用 /order/get")
+    void refreshOrdersReusesKnownHeaders() throws Exception {
+        AtomicInteger headerRequests = new AtomicInteger();
+        AtomicInteger itemRequests = new AtomicInteger();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String path = request.getRequestUrl().encodedPath();
+                if (path.endsWith("/order/get")) {
+                    headerRequests.incrementAndGet();
+                    return json(orderJson(request.getRequestUrl().queryParameter("order_id")));
+                }
+                itemRequests.incrementAndGet();
+                return json(orderItemsJson(request, "ready_to_ship"));
+            }
+        });
+        LazadaAdapter adapter = newAdapter();
+        List<UnifiedOrder> loaded = adapter.getOrderDetails(authContext, List.of("O1", "O2"));
+        assertEquals(2, headerRequests.get());
+
+        UnifiedOrder withoutHeader = new UnifiedOrder();
+        withoutHeader.setOrderId("O3");
+        List<UnifiedOrder> refreshed = adapter.refreshOrders(authContext, List.of(loaded.get(1), withoutHeader, loaded.get(0)));
+
+        // 只有 O3 需要查询订单头，订单行仍然整批重新查询
+        assertEquals(3, headerRequests.get());
+        assertEquals(2, itemRequests.get());
+        assertEquals(List.of("O2", "O3", "O1"), refreshed.stream().map(UnifiedOrder::getOrderId).collect(Collectors.toList()));
+        assertEquals("ready_to_ship", refreshed.get(0).getShipment().getOriginalStatus());
+        assertEquals("FP-O3", refreshed.get(1).getShipment().getShipmentId());
+    }
+
+    @Test
+    @DisplayName("Lazada 查询订单详情时订单行批次与订单头并发查询同时进行")
+    void loadsOrderItemsAlongsideHeaders() throws Exception {
+        CountDownLatch itemsRequested = new CountDownLatch(1);
+        AtomicBoolean overlapped = new AtomicBoolean(true);
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                String path = request.getRequestUrl().encodedPath();
+                if (path.endsWith("/order/get")) {
+                    // 订单头返回之前订单行请求必须已经发出，串行执行时这里会等待超时
+                    if (!itemsRequested.await(2, TimeUnit.SECONDS)) {
+                        overlapped.set(false);
+                    }
+                    return json(orderJson(request.getRequestUrl().queryParameter("order_id")));
+                }
+                itemsRequested.countDown();
+                return json(orderItemsJson(request, "pending"));
+            }
+        });
+
+        List<UnifiedOrder> orders = newAdapter().getOrderDetails(authContext, List.of("O1", "O2"));
+
+        assertTrue(overlapped.get());
+        assertEquals(List.of("O1", "O2"), orders.stream().map(UnifiedOrder::getOrderId).collect(Collectors.toList()));
+        assertEquals("FP-O2", orders.get(1).getShipment().getShipmentId());
+    }
+
+    @Test
+    @DisplayName("Lazada 订单头查询失败时取消尚未执行的订单行批次")
+    void cancelsOrderItemBatchesWhenHeaderFails() throws Exception {
+        CountDownLatch itemsRequested = new CountDownLatch(1);
+        CountDownLatch releaseItems = new CountDownLatch(1);
+        AtomicInteger itemRequests = new AtomicInteger();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                String path = request.getRequestUrl().encodedPath();
+                if (path.endsWith("/order/get")) {
+                    itemsRequested.await(5, TimeUnit.SECONDS);
+                    return json("{\"code\":\"InvalidOrderId\",\"message\":\"order not found\",\"request_id\":\"req-order\"}");
+                }
+                itemRequests.incrementAndGet();
+                itemsRequested.countDown();
+                releaseItems.await(5, TimeUnit.SECONDS);
+                return json(orderItemsJson(request, "pending"));
+            }
+        });
+        // 每卖家只允许一个在途任务：第一批订单行执行中，其余批次排队
+        IoTaskExecutor executor = new IoTaskExecutor();
+        setField(executor, "perSellerConcurrency", 1);
+        executor.init();
+        LazadaAdapter adapter = newAdapter();
+        adapter.setIoTaskExecutor(executor);
+
+        // 101 个订单分成三批订单行，只有最后一个订单需要查询订单头
+        List<UnifiedOrder> orders = new ArrayList<>();
+        for (int index = 1; index <= 100; index++) {
+            orders.add(orderWithHeader("O" + index));
+        }
+        UnifiedOrder withoutHeader = new UnifiedOrder();
+        withoutHeader.setOrderId("O101");
+        orders.add(withoutHeader);
+        try {
+            EcommIntegrationException error = assertThrows(EcommIntegrationException.class,
+                () -> adapter.refreshOrders(authContext, orders));
+            assertTrue(error.getMessage().contains("InvalidOrderId"));
+        } finally {
+            releaseItems.countDown();
+        }
+
+        Thread.sleep(300);
+        assertEquals(1, itemRequests.get());
+        executor.shutdown();
+    }
+
+    private LazadaAdapter newAdapter() throws Exception {
+        LazadaAdapter adapter = new LazadaAdapter();
+        setField(adapter, "lazadaApiClient", client);
+        return adapter;
+    }
+
+    private void setField(Object target, String name, Object value) throws Exception {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+
+    private static UnifiedOrder orderWithHeader(String orderId) {
+        LazadaOrderModels.Order header = new LazadaOrderModels.Order();
+        header.setOrderId(orderId);
+        UnifiedOrder order = new UnifiedOrder();
+        order.setOrderId(orderId);
+        order.setRawData(Map.of("original_order", header));
+        return order;
+    }
+
+    private static String orderJson(String orderId) {
+        return "{\"code\":\"0\",\"request_id\":\"req-order\",\"data\":{\"order_id\":\"" + orderId
+            + "\",\"order_number\":\"" + orderId + "\"}}";
+    }
+
+    /**
+     * 按请求中的 order_ids 返回订单行，每个订单一行，包裹号为 "FP-订单号"
+     */
+    private static String orderItemsJson(RecordedRequest request, String status) {
+        List<String> orderIds;
+        try {
+            orderIds = OBJECT_MAPPER.readValue(request.getRequestUrl().queryParameter("order_ids"), new TypeReference<List<String>>() {});
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        String groups = orderIds.stream()
+            .map(orderId -> "{\"order_id\":\"" + orderId + "\",\"order_items\":[{\"order_item_id\":\"I-" + orderId
+                + "\",\"order_id\":\"" + orderId + "\",\"status\":\"" + status + "\",\"package_id\":\"FP-" + orderId + "\"}]}")
+            .collect(Collectors.joining(","));
+        return "{\"code\":\"0\",\"request_id\":\"req-items\",\"data\":[" + groups + "]}";
+    }
+
+    private static MockResponse json(String body) {
+        return new MockResponse()
+            .setResponseCode(200)
+            .addHeader("Content-Type", "application/json")
+            .setBody(body);
+    }
+
+    private static byte[] pdf(String packageId) {
+        return ("%PDF-1.4 " + packageId).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String pdfBase64(String packageId) {
+        return Base64.getEncoder().encodeToString(pdf(packageId));
+    }
+}
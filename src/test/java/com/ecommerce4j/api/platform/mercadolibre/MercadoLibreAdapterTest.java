@@ -0,0 +1,252 @@
+package com.ecommerce4j.api.platform.mercadolibre;
+
+import com.ecommerce4j.api.dto.AuthContext;
+import com.ecommerce4j.api.dto.OrderQuery;
+import com.ecommerce4j.api.dto.PackageDocumentRef;
+import com.ecommerce4j.api.dto.PackageDocumentResult;
+import com.ecommerce4j.api.dto.PaginatedResult;
+import com.ecommerce4j.api.dto.UnifiedOrder;
+import com.ecommerce4j.api.enums.Platform;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MercadoLibreAdapterTest {
+
+    private MockWebServer server;
+    private AuthContext authContext;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        authContext = AuthContext.builder()
+            .platform(Platform.MERCADO_LIBRE)
+            .accessToken("access-token")
+            .sellerId("2000001")
+            .build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    @DisplayName("Meli 批量面单整批失败时逐个 shipment 重试，无效 shipment 不影响同批其它包裹")
+    void retriesFailedLabelBatchPerShipment() throws Exception {
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String shipmentIds = request.getRequestUrl().queryParameter("shipment_ids");
+                if (shipmentIds.contains("999")) {
+                    return new MockResponse()
+                        .setResponseCode(400)
+                        .addHeader("Content-Type", "application/json")
+                        .setBody("{\"message\":\"shipment 999 not ready_to_ship\",\"error\":\"bad_request\",\"status\":400}");
+                }
+                return new MockResponse()
+                    .setResponseCode(200)
+                    .addHeader("Content-Type", "application/pdf")
+                    .setBody(new Buffer().write(pdf(shipmentIds)));
+            }
+        });
+
+        List<PackageDocumentResult> results = newAdapter().getPackageDocuments(authContext, List.of(
+            new PackageDocumentRef(null, "O1", "101"),
+            new PackageDocumentRef(null, "O2", "999"),
+            new PackageDocumentRef(null, "O3", "103")));
+
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).isSuccess());
+        assertArrayEquals(pdf("101"), results.get(0).getDocument().getContent());
+        assertFalse(results.get(1).isSuccess());
+        assertTrue(results.get(1).getErrorMessage().contains("not ready_to_ship"));
+        assertTrue(results.get(2).isSuccess());
+        assertArrayEquals(pdf("103"), results.get(2).getDocument().getContent());
+        // 整批一次 + 逐个重试三次
+        assertEquals(4, server.getRequestCount());
+    }
+
+    @Test
+    @DisplayName("Meli getOrdersAsync 默认异步实现内部的货运查询仍然并发执行")
+    void fansOutInsideGetOrdersAsync() throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                String path = request.getRequestUrl().encodedPath();
+                if (path.equals("/orders/search")) {
+                    return json("{\"results\":[" + order(1, null, "501") + "," + order(2, null, "502") + ","
+                        + order(3, null, "503") + "," + order(4, null, "504") + "]}");
+                }
+                if (path.equals("/items")) {
+                    return json("[]");
+                }
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(200);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+                return json("{\"id\":\"" + path.substring(path.lastIndexOf('/') + 1) + "\",\"status\":\"ready_to_ship\"}");
+            }
+        });
+
+        PaginatedResult<UnifiedOrder> page = newAdapter()
+            .getOrdersAsync(authContext, OrderQuery.builder().pageSize(50).build())
+            .get(10, TimeUnit.SECONDS);
+
+        assertEquals(List.of("1", "2", "3", "4"), page.getData().stream().map(UnifiedOrder::getOrderId).collect(Collectors.toList()));
+        assertEquals("ready_to_ship", page.getData().get(0).getOriginalStatus());
+        assertTrue(maxInFlight.get() > 1, "maxInFlight=" + maxInFlight.get());
+    }
+
+    @Test
+    @DisplayName("Meli 订单列表按原顺序输出，同一 Pack 的多个子订单只合并一次")
+    void mergesPacksOnceInListOrder() throws Exception {
+        AtomicInteger packRequests = new AtomicInteger();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                String path = request.getRequestUrl().encodedPath();
+                if (path.equals("/orders/search")) {
+                    return json("{\"results\":[" + order(1, null, null) + "," + order(2, "P1", null) + ","
+                        + order(3, null, null) + "," + order(4, "P1", null) + "]}");
+                }
+                if (path.equals("/packs/P1")) {
+                    packRequests.incrementAndGet();
+                    return json("{\"orders\":[{\"id\":2},{\"id\":4}]}");
+                }
+                if (path.startsWith("/orders/")) {
+                    long id = Long.parseLong(path.substring("/orders/".length()));
+                    // 先请求的子订单后返回，结果顺序不能依赖完成顺序
+                    Thread.sleep(id == 2 ? 100 : 0);
+                    return json(order(id, "P1", null));
+                }
+                return json("[]");
+            }
+        });
+
+        List<UnifiedOrder> orders = newAdapter().getOrders(authContext, OrderQuery.builder().pageSize(50).build()).getData();
+
+        assertEquals(List.of("1", "P1", "3"), orders.stream().map(UnifiedOrder::getOrderId).collect(Collectors.toList()));
+        assertEquals(2, orders.get(1).getOrderItems().size());
+        assertEquals(1, packRequests.get());
+    }
+
+    @Test
+    @DisplayName("Meli Pack 接口失败时该 Pack 的订单降级为单品，位置不变")
+    void fallsBackToSingleOrdersWhenPackFails() throws Exception {
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String path = request.getRequestUrl().encodedPath();
+                if (path.equals("/orders/search")) {
+                    return json("{\"results\":[" + order(1, "P2", null) + "," + order(5, null, null) + ","
+                        + order(2, "P2", null) + "]}");
+                }
+                if (path.equals("/packs/P2")) {
+                    return new MockResponse()
+                        .setResponseCode(400)
+                        .addHeader("Content-Type", "application/json")
+                        .setBody("{\"message\":\"pack P2 unavailable\",\"error\":\"bad_request\",\"status\":400}");
+                }
+                return json("[]");
+            }
+        });
+
+        List<UnifiedOrder> orders = newAdapter().getOrders(authContext, OrderQuery.builder().pageSize(50).build()).getData();
+
+        assertEquals(List.of("1", "5", "2"), orders.stream().map(UnifiedOrder::getOrderId).collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("Meli 按 ID 查询详情时 Pack 子订单映射失败则整个 Pack 不返回，其它订单和 Pack 不受影响")
+    void skipsWholePackWhenChildMappingFails() throws Exception {
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String path = request.getRequestUrl().encodedPath();
+                switch (path) {
+                    case "/orders/P3":
+                    case "/orders/P4":
+                        return new MockResponse().setResponseCode(404).setBody("{\"message\":\"not found\",\"status\":404}");
+                    case "/packs/P3":
+                        return json("{\"orders\":[{\"id\":20},{\"id\":21}]}");
+                    case "/packs/P4":
+                        return json("{\"orders\":[{\"id\":30},{\"id\":31}]}");
+                    case "/orders/20":
+                        return json(order(20, "P3", "520"));
+                    case "/shipments/520":
+                        return new MockResponse()
+                            .setResponseCode(400)
+                            .addHeader("Content-Type", "application/json")
+                            .setBody("{\"message\":\"shipment 520 unavailable\",\"error\":\"bad_request\",\"status\":400}");
+                    default:
+                        if (path.startsWith("/orders/")) {
+                            long id = Long.parseLong(path.substring("/orders/".length()));
+                            return json(order(id, id >= 30 ? "P4" : id >= 20 ? "P3" : null, null));
+                        }
+                        return json("[]");
+                }
+            }
+        });
+
+        List<UnifiedOrder> orders = newAdapter().getOrderDetails(authContext, List.of("10", "P3", "P4", "11"));
+
+        assertEquals(List.of("10", "P4", "11"), orders.stream().map(UnifiedOrder::getOrderId).collect(Collectors.toList()));
+        assertEquals(2, orders.get(1).getOrderItems().size());
+    }
+
+    private MercadoLibreAdapter newAdapter() throws Exception {
+        MercadoLibreAdapter adapter = new MercadoLibreAdapter();
+        String baseUrl = server.url("").toString();
+        setField(adapter, "apiBaseUrl", baseUrl.substring(0, baseUrl.length() - 1));
+        return adapter;
+    }
+
+    private void setField(Object target, String name, Object value) throws Exception {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+
+    private static String order(long id, String packId, String shipmentId) {
+        return "{\"id\":" + id + ",\"status\":\"paid\""
+            + (packId == null ? "" : ",\"pack_id\":\"" + packId + "\"")
+            + ",\"order_items\":[{\"item\":{\"id\":\"MLB" + id + "\",\"title\":\"item " + id + "\"},\"quantity\":1}]"
+            + (shipmentId == null ? "" : ",\"shipping\":{\"id\":\"" + shipmentId + "\"}")
+            + "}";
+    }
+
+    private static MockResponse json(String body) {
+        return new MockResponse()
+            .setResponseCode(200)
+            .addHeader("Content-Type", "application/json")
+            .setBody(body);
+    }
+
+    private static byte[] pdf(String shipmentIds) {
+        return ("%PDF-1.4 " + shipmentIds).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -1,11 +1,14 @@
 package com.ecommerce4j.api.platform.shopee;
 
 import com.ecommerce4j.api.dto.AuthContext;
+import com.ecommerce4j.api.dto.DocumentMetadata;
 import com.ecommerce4j.api.dto.FulfillmentDocument;
 import com.ecommerce4j.api.dto.FulfillmentPackRequest;
 import com.ecommerce4j.api.dto.FulfillmentPackageResult;
 import com.ecommerce4j.api.dto.FulfillmentProviderOption;
 import com.ecommerce4j.api.dto.OrderQuery;
+import com.ecommerce4j.api.dto.PackageDocumentRef;
+import com.ecommerce4j.api.dto.PackageDocumentResult;
 import com.ecommerce4j.api.dto.PaginatedResult;
 import com.ecommerce4j.api.dto.TrackingInfo;
 import com.ecommerce4j.api.dto.UnifiedOrder;
@@ -13,10 +16,13 @@ import com.ecommerce4j.api.dto.UnifiedShipment;
 import com.ecommerce4j.api.enums.Platform;
 import com.ecommerce4j.api.enums.UnifiedOrderStatus;
 import com.ecommerce4j.api.exception.EcommIntegrationException;
+import com.ecommerce4j.api.platform.cache.LabelCache;
+import com.ecommerce4j.api.platform.shopee.dto.ShopeeModels;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
@@ -25,24 +31,37 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 import java.lang.reflect.Field;
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -270,6 +289,234 @@ class ShopeeAdapterTest {
         assertNull(server.takeRequest(100, TimeUnit.MILLISECONDS));
     }
 
+    @Test
+    @DisplayName("Shopee 订单回填按 15 天拆分窗口，合并为有序流并按 order_sn 去重")
+    void backfillsOrdersAcrossWindowsWithDeduplication() throws Exception {
+        long base = 1700000000L;
+        long secondWindowFrom = base + Duration.ofDays(15).getSeconds();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String path = request.getRequestUrl().encodedPath();
+                if (ShopeeApiClient.PATH_ORDER_GET_LIST.equals(path)) {
+                    boolean firstWindow = String.valueOf(base).equals(request.getRequestUrl().queryParameter("time_from"));
+                    return jsonResponse(orderListJson(firstWindow ? List.of("SN2", "SN1") : List.of("SN2", "SN3")));
+                }
+                List<String> orderSns = List.of(request.getRequestUrl().queryParameter("order_sn_list").split(","));
+                return jsonResponse(orderDetailListJson(orderSns, sn -> switch (sn) {
+                    case "SN1" -> base + 3600;
+                    case "SN2" -> secondWindowFrom;
+                    default -> secondWindowFrom + 3600;
+                }));
+            }
+        });
+
+        ShopeeAdapter adapter = newAdapter();
+        OrderQuery query = OrderQuery.builder()
+            .createTimeFrom(Instant.ofEpochSecond(base))
+            .createTimeTo(Instant.ofEpochSecond(base).plus(Duration.ofDays(20)))
+            .build();
+        List<String> orderSns;
+        try (Stream<UnifiedOrder> orders = adapter.backfillOrders(authContext, query)) {
+            orderSns = orders.map(UnifiedOrder::getOrderId).collect(Collectors.toList());
+        }
+
+        assertEquals(List.of("SN1", "SN2", "SN3"), orderSns);
+        assertEquals(4, server.getRequestCount());
+    }
+
+    @Test
+    @DisplayName("Shopee 按创建时间回填只在相邻窗口之间去重，跨多个窗口边界的重复订单各输出一次")
+    void backfillDeduplicatesAdjacentCreateTimeWindows() throws Exception {
+        long base = 1700000000L;
+        long day = Duration.ofDays(1).getSeconds();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String path = request.getRequestUrl().encodedPath();
+                if (ShopeeApiClient.PATH_ORDER_GET_LIST.equals(path)) {
+                    long timeFrom = Long.parseLong(request.getRequestUrl().queryParameter("time_from"));
+                    if (timeFrom == base) {
+                        return jsonResponse(orderListJson(List.of("SN1", "SN2")));
+                    }
+                    // 窗口边界上的订单同时被相邻两个窗口返回
+                    return jsonResponse(orderListJson(timeFrom == base + 15 * day ? List.of("SN2", "SN3", "SN4") : List.of("SN4", "SN5")));
+                }
+                List<String> orderSns = List.of(request.getRequestUrl().queryParameter("order_sn_list").split(","));
+                return jsonResponse(orderDetailListJson(orderSns, sn -> switch (sn) {
+                    case "SN1" -> base + 3600;
+                    case "SN2" -> base + 15 * day;
+                    case "SN3" -> base + 20 * day;
+                    case "SN4" -> base + 30 * day;
+                    default -> base + 35 * day;
+                }));
+            }
+        });
+
+        OrderQuery query = OrderQuery.builder()
+            .createTimeFrom(Instant.ofEpochSecond(base))
+            .createTimeTo(Instant.ofEpochSecond(base + 40 * day))
+            .build();
+        List<String> orderSns;
+        try (Stream<UnifiedOrder> orders = newAdapter().backfillOrders(authContext, query)) {
+            orderSns = orders.map(UnifiedOrder::getOrderId).collect(Collectors.toList());
+        }
+
+        assertEquals(List.of("SN1", "SN2", "SN3", "SN4", "SN5"), orderSns);
+    }
+
+    @Test
+    @DisplayName("Shopee 按更新时间回填时，回填期间被更新到后续窗口的订单不会重复输出")
+    void backfillDeduplicatesAcrossAllUpdateTimeWindows() throws Exception {
+        long base = 1700000000L;
+        long day = Duration.ofDays(1).getSeconds();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String path = request.getRequestUrl().encodedPath();
+                if (ShopeeApiClient.PATH_ORDER_GET_LIST.equals(path)) {
+                    long timeFrom = Long.parseLong(request.getRequestUrl().queryParameter("time_from"));
+                    if (timeFrom == base) {
+                        return jsonResponse(orderListJson(List.of("SN1")));
+                    }
+                    // SN1 在回填过程中被更新，又出现在第三个窗口
+                    return jsonResponse(orderListJson(timeFrom == base + 15 * day ? List.of("SN2") : List.of("SN1", "SN3")));
+                }
+                List<String> orderSns = List.of(request.getRequestUrl().queryParameter("order_sn_list").split(","));
+                return jsonResponse(orderDetailListJson(orderSns, sn -> switch (sn) {
+                    case "SN1" -> base + 3600;
+                    case "SN2" -> base + 20 * day;
+                    default -> base + 35 * day;
+                }));
+            }
+        });
+
+        OrderQuery query = OrderQuery.builder()
+            .updateTimeFrom(Instant.ofEpochSecond(base))
+            .updateTimeTo(Instant.ofEpochSecond(base + 40 * day))
+            .build();
+        List<String> orderSns;
+        try (Stream<UnifiedOrder> orders = newAdapter().backfillOrders(authContext, query)) {
+            orderSns = orders.map(UnifiedOrder::getOrderId).collect(Collectors.toList());
+        }
+
+        assertEquals(List.of("SN1", "SN2", "SN3"), orderSns);
+    }
+
+    @Test
+    @DisplayName("Shopee 订单回填逐页输出，关闭后停止翻页并取消在途请求")
+    void backfillStreamsPagesAndStopsOnClose() throws Exception {
+        CountDownLatch secondPageRequested = new CountDownLatch(1);
+        CountDownLatch releaseSecondPage = new CountDownLatch(1);
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                String path = request.getRequestUrl().encodedPath();
+                if (ShopeeApiClient.PATH_ORDER_GET_LIST.equals(path)) {
+                    if (request.getRequestUrl().queryParameter("cursor") == null) {
+                        return jsonResponse(orderListJson(List.of("SN1"), "page-2"));
+                    }
+                    secondPageRequested.countDown();
+                    releaseSecondPage.await(5, TimeUnit.SECONDS);
+                    return jsonResponse(orderListJson(List.of("SN9")));
+                }
+                List<String> orderSns = List.of(request.getRequestUrl().queryParameter("order_sn_list").split(","));
+                return jsonResponse(orderDetailListJson(orderSns, sn -> 1700000000L));
+            }
+        });
+
+        OrderQuery query = OrderQuery.builder()
+            .createTimeFrom(Instant.ofEpochSecond(1700000000L))
+            .createTimeTo(Instant.ofEpochSecond(1700000000L).plus(Duration.ofDays(1)))
+            .build();
+        Stream<UnifiedOrder> orders = newAdapter().backfillOrders(authContext, query);
+        Iterator<UnifiedOrder> iterator = orders.iterator();
+        try {
+            // 第二页还没有返回，第一页已经可以消费
+            assertEquals("SN1", iterator.next().getOrderId());
+            assertTrue(secondPageRequested.await(5, TimeUnit.SECONDS));
+        } finally {
+            orders.close();
+            releaseSecondPage.countDown();
+        }
+
+        assertFalse(iterator.hasNext());
+        Thread.sleep(200);
+        // 第二页的列表请求被取消，不会再查询 SN9 的详情
+        assertEquals(3, server.getRequestCount());
+    }
+
+    @Test
+    @DisplayName("Shopee 流水线读取订单保持分页顺序")
+    void streamsOrdersAcrossPagesInOrder() throws Exception {
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String path = request.getRequestUrl().encodedPath();
+                if (ShopeeApiClient.PATH_ORDER_GET_LIST.equals(path)) {
+                    String cursor = request.getRequestUrl().queryParameter("cursor");
+                    if (cursor == null) {
+                        return jsonResponse(orderListJson(List.of("SN1", "SN2"), "page-2"));
+                    }
+                    return jsonResponse(orderListJson(List.of("SN3")));
+                }
+                List<String> orderSns = List.of(request.getRequestUrl().queryParameter("order_sn_list").split(","));
+                return jsonResponse(orderDetailListJson(orderSns, sn -> 1700000000L));
+            }
+        });
+
+        OrderQuery query = OrderQuery.builder()
+            .updateTimeFrom(Instant.ofEpochSecond(1700000000L))
+            .updateTimeTo(Instant.ofEpochSecond(1700000000L).plus(Duration.ofDays(1)))
+            .build();
+        List<String> orderSns;
+        try (Stream<UnifiedOrder> orders = newAdapter().streamOrders(authContext, query)) {
+            orderSns = orders.map(UnifiedOrder::getOrderId).collect(Collectors.toList());
+        }
+
+        assertEquals(List.of("SN1", "SN2", "SN3"), orderSns);
+        assertEquals(4, server.getRequestCount());
+    }
+
+    @Test
+    @DisplayName("Shopee 异步查询订单：列表返回后并发查询详情，结果按订单顺序拼接")
+    void getsOrdersAsynchronously() throws Exception {
+        List<String> listed = new ArrayList<>();
+        for (int index = 1; index <= 51; index++) {
+            listed.add("SN" + index);
+        }
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                if (ShopeeApiClient.PATH_ORDER_GET_LIST.equals(request.getRequestUrl().encodedPath())) {
+                    return jsonResponse(orderListJson(listed, "page-2"));
+                }
+                List<String> orderSns = List.of(request.getRequestUrl().queryParameter("order_sn_list").split(","));
+                return jsonResponse(orderDetailListJson(orderSns, sn -> 1700000000L));
+            }
+        });
+        OrderQuery query = OrderQuery.builder()
+            .updateTimeFrom(Instant.ofEpochSecond(1700000000L))
+            .updateTimeTo(Instant.ofEpochSecond(1700000000L).plus(Duration.ofDays(1)))
+            .build();
+
+        PaginatedResult<UnifiedOrder> page = newAdapter().getOrdersAsync(authContext, query).get(5, TimeUnit.SECONDS);
+
+        assertEquals(listed, page.getData().stream().map(UnifiedOrder::getOrderId).collect(Collectors.toList()));
+        assertEquals("page-2", page.getNextPageToken());
+        assertEquals(3, server.getRequestCount());
+
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                return new MockResponse().setResponseCode(500).setBody("{\"error\":\"internal\"}");
+            }
+        });
+        ExecutionException error = assertThrows(ExecutionException.class,
+            () -> newAdapter().getOrderDetailsAsync(authContext, List.of("SN1")).get(5, TimeUnit.SECONDS));
+        assertEquals(500, ((EcommIntegrationException) error.getCause()).getStatusCode());
+    }
+
     @Test
     @DisplayName("Shopee 订单详情按 50 单批量查询")
     void batchesOrderDetailsByFiftyOrders() throws Exception {
@@ -282,10 +529,13 @@ class ShopeeAdapterTest {
 
         newAdapter().getOrderDetails(authContext, orderIds);
 
-        RecordedRequest first = takeRequest();
-        RecordedRequest second = takeRequest();
-        assertEquals(50, first.getRequestUrl().queryParameter("order_sn_list").split(",").length);
-        assertEquals("SN51", second.getRequestUrl().queryParameter("order_sn_list"));
+        // 批次并发请求，到达顺序不固定
+        List<String> batches = new ArrayList<>();
+        batches.add(takeRequest().getRequestUrl().queryParameter("order_sn_list"));
+        batches.add(takeRequest().getRequestUrl().queryParameter("order_sn_list"));
+        batches.sort(Comparator.comparingInt(String::length).reversed());
+        assertEquals(50, batches.get(0).split(",").length);
+        assertEquals("SN51", batches.get(1));
     }
 
     @Test
@@ -479,6 +729,254 @@ class ShopeeAdapterTest {
         assertEquals("NORMAL_AIR_WAYBILL", readBody(downloadRequest).path("shipping_document_type").asText());
     }
 
+    @Test
+    @DisplayName("Shopee 异步面单在等待生成期间取消时，取消传递到轮询队列中的包裹且不再下载")
+    void cancelsAsyncShippingDocumentWhileAwaitingPoll() throws Exception {
+        enqueueJson("""
+            {
+              "error": "",
+              "message": "",
+              "request_id": "req-doc-parameter",
+              "response": {
+                "result_list": [
+                  {"order_sn": "SN1", "package_number": "PKG1", "suggest_shipping_document_type": "NORMAL_AIR_WAYBILL"}
+                ]
+              }
+            }
+            """);
+        enqueueJson("""
+            {
+              "error": "",
+              "message": "",
+              "request_id": "req-doc-create",
+              "response": {
+                "result_list": [
+                  {"order_sn": "SN1", "package_number": "PKG1", "status": "PROCESSING"}
+                ]
+              }
+            }
+            """);
+        CompletableFuture<CompletableFuture<Void>> pollEntry = new CompletableFuture<>();
+        ShopeeDocumentPoller poller = new ShopeeDocumentPoller(client, 3, 0L) {
+            @Override
+            CompletableFuture<Void> awaitReady(AuthContext context, ShopeeModels.DocumentOrder documentOrder) {
+                CompletableFuture<Void> ready = new CompletableFuture<>();
+                pollEntry.complete(ready);
+                return ready;
+            }
+        };
+        ShopeeAdapter adapter = newAdapter();
+        setField(adapter, "documentPoller", poller);
+
+        CompletableFuture<FulfillmentDocument> future = adapter.getPackageDocumentAsync(authContext, "SN1", "PKG1");
+        CompletableFuture<Void> ready = pollEntry.get(2, TimeUnit.SECONDS);
+        future.cancel(true);
+
+        // 取消与阶段衔接可能发生在不同线程，等待取消传递到轮询阶段
+        assertThrows(CancellationException.class, () -> ready.get(2, TimeUnit.SECONDS));
+        assertEquals(2, server.getRequestCount());
+    }
+
+    @Test
+    @DisplayName("Shopee 面单轮询把同一店铺的多个包裹合并为一次查询")
+    void batchesShippingDocumentPollsAcrossOrders() throws Exception {
+        // 第一次查询返回前加入的包裹会合并到下一个轮询周期
+        server.enqueue(new MockResponse()
+            .setResponseCode(200)
+            .addHeader("Content-Type", "application/json")
+            .setHeadersDelay(300, TimeUnit.MILLISECONDS)
+            .setBody(documentResultJson("{\"order_sn\": \"SN1\", \"package_number\": \"PKG1\", \"status\": \"PROCESSING\"}")));
+        enqueueJson(documentResultJson(
+            "{\"order_sn\": \"SN1\", \"package_number\": \"PKG1\", \"status\": \"READY\"}",
+            "{\"order_sn\": \"SN2\", \"package_number\": \"PKG2\", \"fail_error\": \"logistics.package_can_not_print\", \"fail_message\": \"cannot print\"}"));
+        ShopeeDocumentPoller poller = new ShopeeDocumentPoller(client, 3, 0L);
+
+        CompletableFuture<Void> first = poller.awaitReady(authContext, documentOrder("SN1", "PKG1"));
+        assertEquals(1, readBody(takeRequest()).path("order_list").size());
+        CompletableFuture<Void> second = poller.awaitReady(authContext, documentOrder("SN2", "PKG2"));
+
+        first.get(2, TimeUnit.SECONDS);
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> second.get(2, TimeUnit.SECONDS));
+        assertTrue(failure.getCause().getMessage().contains("logistics.package_can_not_print"));
+        RecordedRequest batchRequest = takeRequest();
+        assertEquals(ShopeeApiClient.PATH_LOGISTICS_GET_SHIPPING_DOCUMENT_RESULT, batchRequest.getRequestUrl().encodedPath());
+        assertEquals(2, readBody(batchRequest).path("order_list").size());
+        assertEquals(2, server.getRequestCount());
+        assertEquals(0, poller.getPendingCount());
+        // 最后一个周期结束后移除已清空的店铺队列
+        long deadline = System.currentTimeMillis() + 2000;
+        while (poller.getShopCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, poller.getShopCount());
+    }
+
+    @Test
+    @DisplayName("Shopee 批量面单合并为一次参数、创建、轮询和下载请求，单个包裹失败不影响其它包裹")
+    void getsPackageDocumentsInPlatformBatches() throws Exception {
+        enqueueJson("""
+            {
+              "error": "",
+              "message": "",
+              "request_id": "req-doc-parameter",
+              "response": {
+                "result_list": [
+                  {"order_sn": "SN1", "package_number": "PKG1", "suggest_shipping_document_type": "THERMAL_AIR_WAYBILL"},
+                  {"order_sn": "SN2", "package_number": "PKG2", "fail_error": "logistics.package_not_exist", "fail_message": "not exist"},
+                  {"order_sn": "SN3", "package_number": "PKG3", "suggest_shipping_document_type": "THERMAL_AIR_WAYBILL"}
+                ]
+              }
+            }
+            """);
+        enqueueJson(documentResultJson(
+            "{\"order_sn\": \"SN1\", \"package_number\": \"PKG1\", \"status\": \"PROCESSING\"}",
+            "{\"order_sn\": \"SN3\", \"package_number\": \"PKG3\", \"status\": \"PROCESSING\"}"));
+        enqueueJson(documentResultJson(
+            "{\"order_sn\": \"SN1\", \"package_number\": \"PKG1\", \"status\": \"READY\"}",
+            "{\"order_sn\": \"SN3\", \"package_number\": \"PKG3\", \"status\": \"READY\"}"));
+        byte[] pdf = "%PDF-1.4 merged".getBytes(StandardCharsets.UTF_8);
+        server.enqueue(new MockResponse()
+            .setResponseCode(200)
+            .addHeader("Content-Type", "application/pdf")
+            .setBody(new Buffer().write(pdf)));
+
+        List<PackageDocumentResult> results = newAdapter().getPackageDocuments(authContext, List.of(
+            new PackageDocumentRef(null, "SN1", "PKG1"),
+            new PackageDocumentRef(null, "SN2", "PKG2"),
+            new PackageDocumentRef(null, "SN3", "PKG3")));
+
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).isSuccess(), results.get(0).getErrorMessage());
+        assertFalse(results.get(1).isSuccess());
+        assertTrue(results.get(1).getErrorMessage().contains("logistics.package_not_exist"));
+        assertTrue(results.get(2).isSuccess());
+        assertSame(results.get(0).getDocument(), results.get(2).getDocument());
+        assertEquals(List.of("PKG1", "PKG3"), results.get(0).getDocument().getPackageIds());
+        assertArrayEquals(pdf, results.get(0).getDocument().getContent());
+
+        assertEquals(3, readBody(takeRequest()).path("order_list").size());
+        JsonNode createBody = readBody(takeRequest());
+        assertEquals(2, createBody.path("order_list").size());
+        assertEquals("THERMAL_AIR_WAYBILL", createBody.path("order_list").get(0).path("shipping_document_type").asText());
+        assertEquals(ShopeeApiClient.PATH_LOGISTICS_GET_SHIPPING_DOCUMENT_RESULT, takeRequest().getRequestUrl().encodedPath());
+        JsonNode downloadBody = readBody(takeRequest());
+        assertEquals("THERMAL_AIR_WAYBILL", downloadBody.path("shipping_document_type").asText());
+        assertEquals(2, downloadBody.path("order_list").size());
+        assertEquals(4, server.getRequestCount());
+    }
+
+    @Test
+    @DisplayName("Shopee 面单以流式方式写入文件，返回 MIME 类型和字节数")
+    void writesShippingDocumentToFile(@TempDir Path tempDir) throws Exception {
+        enqueueJson("""
+            {
+              "error": "",
+              "message": "",
+              "request_id": "req-doc-parameter",
+              "response": {
+                "result_list": [
+                  {"order_sn": "SN1", "package_number": "PKG1", "suggest_shipping_document_type": "THERMAL_AIR_WAYBILL"}
+                ]
+              }
+            }
+            """);
+        enqueueJson(documentResultJson("{\"order_sn\": \"SN1\", \"package_number\": \"PKG1\", \"status\": \"PROCESSING\"}"));
+        enqueueJson(documentResultJson("{\"order_sn\": \"SN1\", \"package_number\": \"PKG1\", \"status\": \"READY\"}"));
+        byte[] pdf = "%PDF-1.4 streamed".getBytes(StandardCharsets.UTF_8);
+        server.enqueue(new MockResponse()
+            .setResponseCode(200)
+            .addHeader("Content-Type", "application/pdf")
+            .setBody(new Buffer().write(pdf)));
+        Path file = tempDir.resolve("PKG1.pdf");
+
+        DocumentMetadata metadata = newAdapter().writePackageDocument(authContext, "SN1", "PKG1", file);
+
+        assertEquals("PKG1", metadata.getPackageId());
+        assertEquals("application/pdf", metadata.getMimeType());
+        assertEquals(pdf.length, metadata.getSize());
+        assertArrayEquals(pdf, Files.readAllBytes(file));
+        assertEquals(4, server.getRequestCount());
+    }
+
+    @Test
+    @DisplayName("Shopee 补打面单命中本地缓存，不再调用平台接口")
+    void reprintsShippingDocumentFromLabelCache(@TempDir Path tempDir) throws Exception {
+        enqueueJson("""
+            {
+              "error": "",
+              "message": "",
+              "request_id": "req-doc-parameter",
+              "response": {
+                "result_list": [
+                  {"order_sn": "SN1", "package_number": "PKG1", "suggest_shipping_document_type": "THERMAL_AIR_WAYBILL"}
+                ]
+              }
+            }
+            """);
+        enqueueJson(documentResultJson("{\"order_sn\": \"SN1\", \"package_number\": \"PKG1\", \"status\": \"PROCESSING\"}"));
+        enqueueJson(documentResultJson("{\"order_sn\": \"SN1\", \"package_number\": \"PKG1\", \"status\": \"READY\"}"));
+        byte[] pdf = "%PDF-1.4 cached".getBytes(StandardCharsets.UTF_8);
+        server.enqueue(new MockResponse()
+            .setResponseCode(200)
+            .addHeader("Content-Type", "application/pdf")
+            .setBody(new Buffer().write(pdf)));
+        ShopeeAdapter adapter = newAdapter();
+        adapter.setLabelCache(LabelCache.open(tempDir, 1024 * 1024, Duration.ofHours(1)));
+
+        assertArrayEquals(pdf, adapter.getPackageDocument(authContext, "SN1", "PKG1").getContent());
+        assertEquals(4, server.getRequestCount());
+
+        FulfillmentDocument reprinted = adapter.getPackageDocument(authContext, "SN1", "PKG1");
+        assertArrayEquals(pdf, reprinted.getContent());
+        assertEquals("application/pdf", reprinted.getMimeType());
+        Path file = tempDir.resolve("PKG1.pdf");
+        assertEquals(pdf.length, adapter.writePackageDocument(authContext, "SN1", "PKG1", file).getSize());
+        assertArrayEquals(pdf, Files.readAllBytes(file));
+        List<PackageDocumentResult> results = adapter.getPackageDocuments(authContext, List.of(new PackageDocumentRef(null, "SN1", "PKG1")));
+        assertArrayEquals(pdf, results.get(0).getDocument().getContent());
+        assertEquals(4, server.getRequestCount());
+    }
+
+    @Test
+    @DisplayName("Shopee 面单缓存目录不可写时跳过缓存重新下载，仍写出完整面单")
+    void fallsBackToDirectDownloadWhenLabelCacheIsUnwritable(@TempDir Path tempDir) throws Exception {
+        byte[] pdf = "%PDF-1.4 uncached".getBytes(StandardCharsets.UTF_8);
+        for (int round = 0; round < 2; round++) {
+            enqueueJson("""
+                {
+                  "error": "",
+                  "message": "",
+                  "request_id": "req-doc-parameter",
+                  "response": {
+                    "result_list": [
+                      {"order_sn": "SN1", "package_number": "PKG1", "suggest_shipping_document_type": "THERMAL_AIR_WAYBILL"}
+                    ]
+                  }
+                }
+                """);
+            enqueueJson(documentResultJson("{\"order_sn\": \"SN1\", \"package_number\": \"PKG1\", \"status\": \"PROCESSING\"}"));
+            enqueueJson(documentResultJson("{\"order_sn\": \"SN1\", \"package_number\": \"PKG1\", \"status\": \"READY\"}"));
+            server.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .addHeader("Content-Type", "application/pdf")
+                .setBody(new Buffer().write(pdf)));
+        }
+        Path cacheDir = tempDir.resolve("cache");
+        ShopeeAdapter adapter = newAdapter();
+        adapter.setLabelCache(LabelCache.open(cacheDir, 1024 * 1024, Duration.ofHours(1)));
+        // 内容目录被同名文件占据，下载完成后无法移入缓存
+        Path blobs = cacheDir.resolve("blobs");
+        Files.delete(blobs);
+        Files.createFile(blobs);
+        Path file = tempDir.resolve("PKG1.pdf");
+
+        DocumentMetadata metadata = adapter.writePackageDocument(authContext, "SN1", "PKG1", file);
+
+        assertEquals(pdf.length, metadata.getSize());
+        assertArrayEquals(pdf, Files.readAllBytes(file));
+        assertEquals(8, server.getRequestCount());
+    }
+
     @Test
     @DisplayName("Shopee 物流轨迹按时间升序映射")
     void mapsTrackingEventsInAscendingTime() throws Exception {
@@ -519,6 +1017,25 @@ class ShopeeAdapterTest {
         assertEquals("Delivered", shipment.getTrackingEvents().get(1).getDescription());
     }
 
+    private static ShopeeModels.DocumentOrder documentOrder(String orderSn, String packageNumber) {
+        ShopeeModels.DocumentOrder order = new ShopeeModels.DocumentOrder();
+        order.setOrderSn(orderSn);
+        order.setPackageNumber(packageNumber);
+        order.setShippingDocumentType("NORMAL_AIR_WAYBILL");
+        return order;
+    }
+
+    private static String documentResultJson(String... results) {
+        return """
+            {
+              "error": "",
+              "message": "",
+              "request_id": "req-doc-result",
+              "response": {"result_list": [%s]}
+            }
+            """.formatted(String.join(",", results));
+    }
+
     private ShopeeAdapter newAdapter() throws Exception {
         ShopeeAdapter adapter = new ShopeeAdapter();
         setField(adapter, "shopeeApiClient", client);
@@ -622,6 +1139,48 @@ class ShopeeAdapterTest {
             """, status);
     }
 
+    private MockResponse jsonResponse(String body) {
+        return new MockResponse()
+            .setResponseCode(200)
+            .addHeader("Content-Type", "application/json")
+            .setBody(body);
+    }
+
+    private String orderListJson(List<String> orderSns) {
+        return orderListJson(orderSns, null);
+    }
+
+    private String orderListJson(List<String> orderSns, String nextCursor) {
+        String orders = orderSns.stream()
+            .map(sn -> "{\"order_sn\": \"" + sn + "\", \"order_status\": \"READY_TO_SHIP\"}")
+            .collect(Collectors.joining(","));
+        return """
+            {
+              "error": "",
+              "message": "",
+              "request_id": "req-list",
+              "response": {"more": %s, "next_cursor": "%s", "order_list": [%s]}
+            }
+            """.formatted(nextCursor != null, nextCursor == null ? "" : nextCursor, orders);
+    }
+
+    private String orderDetailListJson(List<String> orderSns, ToLongFunction<String> createTime) {
+        String orders = orderSns.stream()
+            .map(sn -> """
+                {"order_sn": "%s", "region": "SG", "currency": "SGD", "total_amount": 1, "order_status": "READY_TO_SHIP",
+                 "create_time": %d, "update_time": %d, "item_list": [], "package_list": []}
+                """.formatted(sn, createTime.applyAsLong(sn), createTime.applyAsLong(sn)))
+            .collect(Collectors.joining(","));
+        return """
+            {
+              "error": "",
+              "message": "",
+              "request_id": "req-detail",
+              "response": {"order_list": [%s]}
+            }
+            """.formatted(orders);
+    }
+
     private String emptyOrderDetailJson() {
         return """
             {
@@ -0,0 +1,104 @@
+package com.ecommerce4j.api.platform.sign;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PlatformSignersTest {
+
+    private static final String SECRET = "secret-ñ-密钥";
+
+    @Test
+    @DisplayName("各平台签名与逐次拼接字符串再计算 HMAC 的结果一致")
+    void matchesReferenceSignatures() {
+        Map<String, String> params = new HashMap<>();
+        for (int i = 0; i < 40; i++) {
+            params.put("key_" + (char) ('z' - i % 26) + i, "value-" + i + "-值😀");
+        }
+        params.put("sign", "ignored-by-lazada");
+        String body = "{\"order\":\"" + "订单".repeat(400) + "\"}";
+
+        TikTokSigner tikTok = new TikTokSigner(SECRET);
+        StringBuilder tikTokBase = new StringBuilder(SECRET).append("/order/202309/orders/search");
+        new TreeMap<>(params).forEach((key, value) -> tikTokBase.append(key).append(value));
+        assertEquals(hmacHex(SECRET, tikTokBase + body + SECRET), tikTok.sign("/order/202309/orders/search", params, body));
+        assertEquals(hmacHex(SECRET, SECRET + "/shop" + SECRET), tikTok.sign("/shop", null, null));
+
+        StringBuilder lazadaBase = new StringBuilder("/orders/get");
+        new TreeMap<>(params).forEach((key, value) -> {
+            if (!"sign".equals(key)) {
+                lazadaBase.append(key).append(value);
+            }
+        });
+        assertEquals(hmacHex(SECRET, lazadaBase.toString()).toUpperCase(Locale.ROOT), new LazadaSigner(SECRET).sign("/orders/get", params));
+
+        ShopeeSigner shopee = new ShopeeSigner(2001887L, SECRET);
+        assertEquals(hmacHex(SECRET, "2001887/api/v2/order/get_order_list" + Long.MIN_VALUE + "token\uD800" + "12345"),
+            shopee.signShop("/api/v2/order/get_order_list", Long.MIN_VALUE, "token\uD800", "12345"));
+        assertEquals(hmacHex(SECRET, "2001887/api/v2/auth/token/get" + 1700000000L),
+            shopee.signPublic("/api/v2/auth/token/get", 1700000000L));
+
+        String randomKey = SheinSigner.randomKey(5);
+        assertEquals(5, randomKey.length());
+        String expected = randomKey + Base64.getEncoder().encodeToString(
+            hmacHex("shein-secret" + randomKey, "open-key&1700000000000&/open-api/order/search").getBytes(StandardCharsets.UTF_8));
+        assertEquals(expected, SheinSigner.sign("open-key", "shein-secret", "/open-api/order/search", "1700000000000", randomKey));
+    }
+
+    @Test
+    @DisplayName("并发签名复用会话时结果互不干扰")
+    void signsConcurrently() throws Exception {
+        ShopeeSigner shopee = new ShopeeSigner(1L, SECRET);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                long timestamp = 1700000000L + i;
+                futures.add(executor.submit(() -> {
+                    for (int round = 0; round < 200; round++) {
+                        String expected = hmacHex(SECRET, "1/path" + timestamp + "token" + round + "shop");
+                        if (!expected.equals(shopee.signShop("/path", timestamp, "token" + round, "shop"))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> future : futures) {
+                assertTrue(future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static String hmacHex(String key, String message) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            StringBuilder hex = new StringBuilder();
+            for (byte value : mac.doFinal(message.getBytes(StandardCharsets.UTF_8))) {
+                hex.append(String.format(Locale.ROOT, "%02x", value));
+            }
+            return hex.toString();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
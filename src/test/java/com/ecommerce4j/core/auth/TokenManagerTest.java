@@ -0,0 +1,160 @@
+package com.ecommerce4j.core.auth;
+
+import com.ecommerce4j.api.EcommAuthorizationService;
+import com.ecommerce4j.api.dto.AuthContext;
+import com.ecommerce4j.api.dto.UnifiedShopInfo;
+import com.ecommerce4j.api.enums.Platform;
+import com.ecommerce4j.api.exception.AuthExpiredException;
+import com.ecommerce4j.api.exception.EcommIntegrationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenManagerTest {
+
+    private StubAuthorizationService authorizationService;
+    private TokenManager tokenManager;
+
+    @BeforeEach
+    void setUp() {
+        authorizationService = new StubAuthorizationService();
+        tokenManager = new TokenManager(platform -> authorizationService);
+    }
+
+    @Test
+    @DisplayName("同一店铺并发刷新只调用一次平台接口")
+    void deduplicatesConcurrentRefreshes() throws Exception {
+        AuthContext stale = context("token-0", Instant.now().minusSeconds(10));
+        tokenManager.register(stale);
+        authorizationService.refreshDelayMs = 200;
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<AuthContext>> futures = new ArrayList<>();
+        try {
+            for (int index = 0; index < 8; index++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return tokenManager.getValid(context("token-0", Instant.now().minusSeconds(10)));
+                }));
+            }
+            start.countDown();
+            for (Future<AuthContext> future : futures) {
+                assertEquals("token-1", future.get(5, TimeUnit.SECONDS).getAccessToken());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, authorizationService.refreshCalls.get());
+        // 调用方再拿旧令牌刷新时直接返回已刷新的令牌
+        assertEquals("token-1", tokenManager.refresh(stale).getAccessToken());
+        assertEquals(1, authorizationService.refreshCalls.get());
+    }
+
+    @Test
+    @DisplayName("令牌失效时刷新并重试一次，其他错误直接抛出")
+    void retriesOnceOnAuthExpired() {
+        AuthContext authContext = context("token-0", Instant.now().plusSeconds(3600));
+        List<String> usedTokens = new ArrayList<>();
+
+        String result = tokenManager.execute(authContext, current -> {
+            usedTokens.add(current.getAccessToken());
+            if ("token-0".equals(current.getAccessToken())) {
+                throw new AuthExpiredException("【Shopee】接口调用失败，错误码=invalid_acceess_token");
+            }
+            return "ok";
+        });
+
+        assertEquals("ok", result);
+        assertEquals(List.of("token-0", "token-1"), usedTokens);
+        assertEquals(1, authorizationService.refreshCalls.get());
+
+        assertThrows(EcommIntegrationException.class, () -> tokenManager.execute(authContext, current -> {
+            throw new EcommIntegrationException("【Shopee】订单不存在");
+        }));
+        assertEquals(1, authorizationService.refreshCalls.get());
+        assertTrue(TokenManager.isAuthExpired(new EcommIntegrationException("unauthorized", 401)));
+        assertFalse(TokenManager.isAuthExpired(new EcommIntegrationException("forbidden", 403)));
+    }
+
+    @Test
+    @DisplayName("后台扫描只刷新即将过期的令牌")
+    void refreshesAheadOfExpiry() throws Exception {
+        tokenManager.register(context("12345", "token-0", Instant.now().plusSeconds(120)));
+        tokenManager.register(context("67890", "token-0", Instant.now().plusSeconds(3600)));
+
+        CompletableFuture<Void> refreshes = tokenManager.refreshExpiring();
+        refreshes.get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, authorizationService.refreshCalls.get());
+        // 调用方从数据库读出的旧令牌不会覆盖已刷新的令牌
+        assertEquals("token-1", tokenManager.getValid(context("12345", "token-0", Instant.now().plusSeconds(120))).getAccessToken());
+        assertEquals("token-0", tokenManager.getValid(context("67890", "token-0", null)).getAccessToken());
+    }
+
+    private static AuthContext context(String accessToken, Instant expiresAt) {
+        return context("12345", accessToken, expiresAt);
+    }
+
+    private static AuthContext context(String shopId, String accessToken, Instant expiresAt) {
+        return AuthContext.builder()
+            .platform(Platform.SHOPEE)
+            .shopId(shopId)
+            .accessToken(accessToken)
+            .refreshToken("refresh-" + accessToken)
+            .accessTokenExpiresAt(expiresAt)
+            .build();
+    }
+
+    static class StubAuthorizationService implements EcommAuthorizationService {
+
+        final AtomicInteger refreshCalls = new AtomicInteger();
+
+        volatile long refreshDelayMs;
+
+        @Override
+        public String getAuthorizationUrl(String state) {
+            return state;
+        }
+
+        @Override
+        public AuthContext exchangeCodeForTokens(String code) {
+            return null;
+        }
+
+        @Override
+        public AuthContext refreshTokens(AuthContext authContext) {
+            int generation = refreshCalls.incrementAndGet();
+            if (refreshDelayMs > 0) {
+                try {
+                    TimeUnit.MILLISECONDS.sleep(refreshDelayMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return context(authContext.getShopId(), "token-" + generation, Instant.now().plusSeconds(14400));
+        }
+
+        @Override
+        public UnifiedShopInfo getShopInfo(AuthContext authContext) {
+            return null;
+        }
+    }
+}
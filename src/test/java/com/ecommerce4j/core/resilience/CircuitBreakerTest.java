@@ -0,0 +1,39 @@
+package com.ecommerce4j.core.resilience;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class CircuitBreakerTest {
+
+    @Test
+    @DisplayName("关闭状态下放行、半开后才返回的调用不计入探测结果")
+    void ignoresResultsFromEarlierEpochs() throws Exception {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(2, 2, 50, 100, 100, 50, 1);
+        long slowClosedCall = circuitBreaker.tryAcquire();
+        long first = circuitBreaker.tryAcquire();
+        long second = circuitBreaker.tryAcquire();
+        circuitBreaker.onResult(first, true, 0L);
+        circuitBreaker.onResult(second, true, 0L);
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+        Thread.sleep(80);
+        long probe = circuitBreaker.tryAcquire();
+        assertNotEquals(CircuitBreaker.REJECTED, probe);
+        // 熔断前发出的慢调用此时才返回：既不重新打开熔断器，也不释放探测名额
+        circuitBreaker.onResult(slowClosedCall, false, TimeUnit.SECONDS.toNanos(5));
+        circuitBreaker.release(slowClosedCall);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        assertEquals(CircuitBreaker.REJECTED, circuitBreaker.tryAcquire());
+
+        circuitBreaker.onResult(probe, false, 0L);
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        // 半开周期的许可在关闭后同样失效
+        circuitBreaker.onResult(probe, true, 0L);
+        assertEquals(0, circuitBreaker.getFailureRate());
+    }
+}
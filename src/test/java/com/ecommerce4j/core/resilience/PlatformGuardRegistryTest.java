@@ -0,0 +1,176 @@
+package com.ecommerce4j.core.resilience;
+
+import com.ecommerce4j.api.EcommAuthorizationService;
+import com.ecommerce4j.api.dto.AuthContext;
+import com.ecommerce4j.api.dto.UnifiedShopInfo;
+import com.ecommerce4j.api.enums.Platform;
+import com.ecommerce4j.api.exception.EcommIntegrationException;
+import com.ecommerce4j.api.exception.PlatformUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.lang.reflect.Field;
+import java.net.SocketTimeoutException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PlatformGuardRegistryTest {
+
+    private PlatformGuardRegistry registry;
+    private StubAuthorizationService target;
+    private AuthContext authContext;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("shopee.resilience.window_size", "4");
+        properties.put("shopee.resilience.minimum_calls", "4");
+        properties.put("shopee.resilience.failure_rate_threshold", "50");
+        properties.put("shopee.resilience.open_duration_ms", "200");
+        properties.put("shopee.resilience.half_open_probes", "1");
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("test", properties));
+
+        registry = new PlatformGuardRegistry();
+        Field field = PlatformGuardRegistry.class.getDeclaredField("environment");
+        field.setAccessible(true);
+        field.set(registry, environment);
+
+        target = new StubAuthorizationService();
+        authContext = AuthContext.builder()
+            .platform(Platform.SHOPEE)
+            .accessToken("access-token")
+            .shopId("12345")
+            .build();
+    }
+
+    @Test
+    @DisplayName("平台连续 5xx 后熔断快速失败，半开探测成功后恢复")
+    void opensOnServerErrorsAndRecoversAfterProbe() throws Exception {
+        EcommAuthorizationService service = registry.protect(Platform.SHOPEE, target);
+        target.statusCode = 503;
+
+        for (int index = 0; index < 4; index++) {
+            EcommIntegrationException error = assertThrows(EcommIntegrationException.class, () -> service.getShopInfo(authContext));
+            assertEquals(503, error.getStatusCode());
+        }
+        assertThrows(PlatformUnavailableException.class, () -> service.getShopInfo(authContext));
+        assertEquals(4, target.calls.get());
+
+        PlatformGuardStats stats = registry.getStats().get(0);
+        assertEquals(CircuitBreaker.State.OPEN, stats.getCircuitState());
+        assertEquals(4, stats.getFailedCalls());
+        assertEquals(1, stats.getRejectedByCircuitBreaker());
+
+        TimeUnit.MILLISECONDS.sleep(250);
+        target.statusCode = 0;
+        assertEquals("demo", service.getShopInfo(authContext).getShopName());
+        assertEquals(CircuitBreaker.State.CLOSED, registry.guard(Platform.SHOPEE).getStats().getCircuitState());
+    }
+
+    @Test
+    @DisplayName("业务错误不计入熔断，代理仍可强转为具体适配器")
+    void ignoresClientErrorsAndKeepsAdapterType() {
+        EcommAuthorizationService service = registry.protect(Platform.SHOPEE, target);
+        target.statusCode = 400;
+
+        for (int index = 0; index < 5; index++) {
+            assertThrows(EcommIntegrationException.class, () -> service.getShopInfo(authContext));
+        }
+
+        assertEquals(5, target.calls.get());
+        assertEquals(CircuitBreaker.State.CLOSED, registry.guard(Platform.SHOPEE).getStats().getCircuitState());
+        assertTrue(service instanceof StubAuthorizationService);
+        assertSame(service, registry.protect(Platform.SHOPEE, target));
+        assertEquals("state-1", service.getAuthorizationUrl("state-1"));
+        assertTrue(PlatformGuard.isPlatformFailure(new EcommIntegrationException("timeout", new SocketTimeoutException())));
+        assertFalse(PlatformGuard.isPlatformFailure(new PlatformUnavailableException("open")));
+    }
+
+    @Test
+    @DisplayName("慢调用只统计单次调用，批量方法只统计失败")
+    void countsSlowCallsOnlyForSingleCalls() throws Exception {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("shopee.resilience.window_size", "4");
+        properties.put("shopee.resilience.minimum_calls", "4");
+        properties.put("shopee.resilience.slow_call_ms", "20");
+        properties.put("shopee.resilience.slow_call_rate_threshold", "50");
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("test", properties));
+        Field field = PlatformGuardRegistry.class.getDeclaredField("environment");
+        field.setAccessible(true);
+        field.set(registry, environment);
+        StubAuthorizationService service = registry.protect(Platform.SHOPEE, target);
+        target.delayMs = 40;
+
+        for (int index = 0; index < 4; index++) {
+            assertEquals(2, service.getShopInfos(authContext, List.of("1", "2")).size());
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, registry.guard(Platform.SHOPEE).getStats().getCircuitState());
+
+        // 窗口中 4 次批量调用都不算慢调用，再有 2 次慢的单次调用慢调用率即达到 50%
+        service.getShopInfo(authContext);
+        service.getShopInfo(authContext);
+        assertEquals(CircuitBreaker.State.OPEN, registry.guard(Platform.SHOPEE).getStats().getCircuitState());
+    }
+
+    static class StubAuthorizationService implements EcommAuthorizationService {
+
+        final AtomicInteger calls = new AtomicInteger();
+
+        volatile int statusCode;
+
+        volatile long delayMs;
+
+        @Override
+        public String getAuthorizationUrl(String state) {
+            return state;
+        }
+
+        @Override
+        public AuthContext exchangeCodeForTokens(String code) {
+            return null;
+        }
+
+        @Override
+        public AuthContext refreshTokens(AuthContext authContext) {
+            return authContext;
+        }
+
+        @Override
+        public UnifiedShopInfo getShopInfo(AuthContext authContext) {
+            calls.incrementAndGet();
+            sleep(delayMs);
+            if (statusCode > 0) {
+                throw new EcommIntegrationException("【Shopee】接口请求失败，状态码=" + statusCode, statusCode);
+            }
+            return UnifiedShopInfo.builder().shopName("demo").build();
+        }
+
+        public List<UnifiedShopInfo> getShopInfos(AuthContext authContext, List<String> shopIds) {
+            sleep(delayMs);
+            return shopIds.stream().map(shopId -> UnifiedShopInfo.builder().shopName(shopId).build()).collect(Collectors.toList());
+        }
+
+        private static void sleep(long millis) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package com.ecommerce4j.core.sync;
+
+import com.ecommerce4j.api.EcommOrderService;
+import com.ecommerce4j.api.dto.AuthContext;
+import com.ecommerce4j.api.dto.OrderQuery;
+import com.ecommerce4j.api.dto.PaginatedResult;
+import com.ecommerce4j.api.dto.UnifiedOrder;
+import com.ecommerce4j.api.enums.Platform;
+import com.ecommerce4j.api.exception.EcommIntegrationException;
+import com.ecommerce4j.core.PlatformFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OrderSyncEngineTest {
+
+    private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final Map<Platform, EcommOrderService> orderServices = new EnumMap<>(Platform.class);
+    private OrderSyncEngine engine;
+
+    @AfterEach
+    void tearDown() {
+        if (engine != null) {
+            engine.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("配置窗口小于平台最大范围时按配置窗口拆分创建时间")
+    void splitsCreateTimeByConfiguredWindow() throws Exception {
+        StubOrderService service = new StubOrderService(Duration.ofDays(15), 1);
+        orderServices.put(Platform.SHOPEE, service);
+        engine = newEngine(4, 6, Collections.emptyMap());
+
+        OrderSyncResult result = engine.syncOrders(List.of(context(Platform.SHOPEE, "A")),
+            OrderQuery.builder().createTimeFrom(START).createTimeTo(START.plus(Duration.ofHours(24))).build(),
+            (authContext, orders) -> { });
+
+        assertTrue(result.isSuccess());
+        List<OrderQuery> queries = service.firstPageQueries();
+        assertEquals(4, queries.size());
+        for (int index = 0; index < 4; index++) {
+            OrderQuery query = queries.get(index);
+            assertEquals(START.plus(Duration.ofHours(6L * index)), query.getCreateTimeFrom());
+            assertEquals(START.plus(Duration.ofHours(6L * (index + 1))), query.getCreateTimeTo());
+            assertNull(query.getUpdateTimeFrom());
+        }
+    }
+
+    @Test
+    @DisplayName("平台最大范围小于配置窗口时以平台限制为准，平台级配置覆盖全局窗口")
+    void capsWindowAtPlatformMaxAndHonoursPlatformOverride() throws Exception {
+        StubOrderService shopee = new StubOrderService(Duration.ofHours(7), 1);
+        StubOrderService lazada = new StubOrderService(null, 1);
+        orderServices.put(Platform.SHOPEE, shopee);
+        orderServices.put(Platform.LAZADA, lazada);
+        engine = newEngine(4, 24, Map.of("lazada.sync.window_hours", "5"));
+
+        engine.syncOrders(List.of(context(Platform.SHOPEE, "A"), context(Platform.LAZADA, "B")),
+            OrderQuery.builder().createTimeFrom(START).createTimeTo(START.plus(Duration.ofHours(20))).build(),
+            (authContext, orders) -> { });
+
+        assertEquals(List.of(Duration.ofHours(7), Duration.ofHours(7), Duration.ofHours(6)), durations(shopee.firstPageQueries()));
+        assertEquals(List.of(Duration.ofHours(5), Duration.ofHours(5), Duration.ofHours(5), Duration.ofHours(5)),
+            durations(lazada.firstPageQueries()));
+    }
+
+    @Test
+    @DisplayName("指定更新时间时按更新时间拆分，创建时间条件原样保留")
+    void splitsUpdateTimeWindows() throws Exception {
+        StubOrderService service = new StubOrderService(null, 1);
+        orderServices.put(Platform.SHOPEE, service);
+        engine = newEngine(4, 12, Collections.emptyMap());
+        Instant createFrom = START.minus(Duration.ofDays(30));
+
+        engine.syncOrders(List.of(context(Platform.SHOPEE, "A")),
+            OrderQuery.builder()
+                .createTimeFrom(createFrom)
+                .updateTimeFrom(START)
+                .updateTimeTo(START.plus(Duration.ofHours(24)))
+                .build(),
+            (authContext, orders) -> { });
+
+        List<OrderQuery> queries = service.firstPageQueries();
+        assertEquals(2, queries.size());
+        assertEquals(START, queries.get(0).getUpdateTimeFrom());
+        assertEquals(START.plus(Duration.ofHours(12)), queries.get(0).getUpdateTimeTo());
+        assertEquals(START.plus(Duration.ofHours(12)), queries.get(1).getUpdateTimeFrom());
+        assertEquals(START.plus(Duration.ofHours(24)), queries.get(1).getUpdateTimeTo());
+        for (OrderQuery query : queries) {
+            assertEquals(createFrom, query.getCreateTimeFrom());
+            assertNull(query.getCreateTimeTo());
+        }
+    }
+
+    @Test
+    @DisplayName("各店铺的时间窗口按序号轮询提交")
+    void submitsWindowsRoundRobinAcrossShops() throws Exception {
+        StubOrderService service = new StubOrderService(null, 1);
+        orderServices.put(Platform.SHOPEE, service);
+        engine = newEngine(1, 8, Collections.emptyMap());
+
+        engine.syncOrders(List.of(context(Platform.SHOPEE, "A"), context(Platform.SHOPEE, "B")),
+            OrderQuery.builder().createTimeFrom(START).createTimeTo(START.plus(Duration.ofHours(24))).build(),
+            (authContext, orders) -> { });
+
+        // 单线程执行时，调用顺序即提交顺序
+        assertEquals(List.of("A#0", "B#0", "A#1", "B#1", "A#2", "B#2"), service.firstPageCalls());
+    }
+
+    @Test
+    @DisplayName("单个店铺失败或无法创建任务不影响其它店铺")
+    void isolatesFailuresPerShop() throws Exception {
+        StubOrderService service = new StubOrderService(null, 2);
+        service.failingShops.add("B");
+        orderServices.put(Platform.SHOPEE, service);
+        engine = newEngine(4, 12, Collections.emptyMap());
+
+        OrderSyncResult result = engine.syncOrders(
+            List.of(context(Platform.SHOPEE, "A"), context(Platform.SHOPEE, "B"), context(Platform.LAZADA, "C")),
+            OrderQuery.builder().createTimeFrom(START).createTimeTo(START.plus(Duration.ofHours(24))).build(),
+            (authContext, orders) -> { });
+
+        assertFalse(result.isSuccess());
+        ShopSyncResult shopA = result.getShops().get(0);
+        ShopSyncResult shopB = result.getShops().get(1);
+        ShopSyncResult shopC = result.getShops().get(2);
+        assertTrue(shopA.isSuccess());
+        assertEquals(4, shopA.getOrderCount().get());
+        assertEquals(2, shopB.getErrors().size());
+        assertTrue(shopB.getErrors().get(0).contains("同步失败"));
+        assertEquals(1, shopC.getErrors().size());
+        assertTrue(shopC.getErrors().get(0).startsWith("无法创建同步任务"));
+        assertEquals(4, result.getTotalOrders());
+    }
+
+    @Test
+    @DisplayName("回调抛出异常只停止当前时间窗口的翻页")
+    void stopsOnlyTheWindowWhoseConsumerFailed() throws Exception {
+        StubOrderService service = new StubOrderService(null, 3);
+        orderServices.put(Platform.SHOPEE, service);
+        engine = newEngine(4, 12, Collections.emptyMap());
+        Instant failingWindow = START.plus(Duration.ofHours(12));
+        List<String> consumed = Collections.synchronizedList(new ArrayList<>());
+
+        OrderSyncResult result = engine.syncOrders(List.of(context(Platform.SHOPEE, "A"), context(Platform.SHOPEE, "B")),
+            OrderQuery.builder().createTimeFrom(START).createTimeTo(START.plus(Duration.ofHours(24))).build(),
+            (authContext, orders) -> {
+                String orderId = orders.get(0).getOrderId();
+                if (orderId.equals("A@" + failingWindow + "#1")) {
+                    throw new IllegalStateException("写库失败");
+                }
+                consumed.add(orderId);
+            });
+
+        ShopSyncResult shopA = result.getShops().get(0);
+        ShopSyncResult shopB = result.getShops().get(1);
+        assertEquals(1, shopA.getErrors().size());
+        assertTrue(shopA.getErrors().get(0).contains(failingWindow.toString()));
+        assertTrue(shopA.getErrors().get(0).contains("写库失败"));
+        assertTrue(shopB.isSuccess());
+
+        Set<String> consumedSet = new HashSet<>(consumed);
+        assertTrue(consumedSet.containsAll(List.of("A@" + START + "#1", "A@" + START + "#2", "A@" + START + "#3")));
+        assertFalse(consumedSet.contains("A@" + failingWindow + "#2"));
+        assertFalse(consumedSet.contains("A@" + failingWindow + "#3"));
+        assertEquals(6, consumed.stream().filter(orderId -> orderId.startsWith("B@")).count());
+    }
+
+    @Test
+    @DisplayName("查询条件或回调为空时直接拒绝")
+    void rejectsMissingArguments() throws Exception {
+        engine = newEngine(1, 24, Collections.emptyMap());
+
+        assertThrows(EcommIntegrationException.class, () -> engine.syncOrders(List.of(), null, (authContext, orders) -> { }));
+        assertThrows(EcommIntegrationException.class, () -> engine.syncOrders(List.of(), new OrderQuery(), null));
+    }
+
+    private OrderSyncEngine newEngine(int parallelism, long windowHours, Map<String, Object> properties) throws Exception {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("test", properties));
+
+        OrderSyncEngine syncEngine = new OrderSyncEngine(new StubPlatformFactory(orderServices));
+        setField(syncEngine, "parallelism", parallelism);
+        setField(syncEngine, "windowHours", windowHours);
+        setField(syncEngine, "environment", environment);
+        syncEngine.init();
+        return syncEngine;
+    }
+
+    private void setField(Object target, String name, Object value) throws Exception {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+
+    private static AuthContext context(Platform platform, String shopId) {
+        return AuthContext.builder()
+            .platform(platform)
+            .accessToken("access-token")
+            .shopId(shopId)
+            .build();
+    }
+
+    private static List<Duration> durations(List<OrderQuery> queries) {
+        return queries.stream()
+            .map(query -> Duration.between(query.getCreateTimeFrom(), query.getCreateTimeTo()))
+            .collect(Collectors.toList());
+    }
+
+    private static class StubPlatformFactory extends PlatformFactory {
+
+        private final Map<Platform, EcommOrderService> orderServices;
+
+        StubPlatformFactory(Map<Platform, EcommOrderService> orderServices) {
+            super(null, null, null, null, null, null);
+            this.orderServices = orderServices;
+        }
+
+        @Override
+        public EcommOrderService getOrderService(Platform platform) {
+            EcommOrderService service = orderServices.get(platform);
+            if (service == null) {
+                throw new IllegalArgumentException("没有为平台 [" + platform.getDescription() + "] 找到对应的 [Order] 服务实现。");
+            }
+            return service;
+        }
+    }
+
+    /**
+     * 每个时间窗口返回 pagesPerWindow 页、每页一个订单，订单号为 "店铺@窗口起点#页码"
+     */
+    private static class StubOrderService implements EcommOrderService {
+
+        private final Duration maxQueryWindow;
+        private final int pagesPerWindow;
+        private final Set<String> failingShops = Collections.synchronizedSet(new HashSet<>());
+        private final List<OrderQuery> firstPageQueries = new ArrayList<>();
+        private final List<String> firstPageCalls = new ArrayList<>();
+        private final Map<String, Integer> windowIndexes = new HashMap<>();
+
+        StubOrderService(Duration maxQueryWindow, int pagesPerWindow) {
+            this.maxQueryWindow = maxQueryWindow;
+            this.pagesPerWindow = pagesPerWindow;
+        }
+
+        @Override
+        public PaginatedResult<UnifiedOrder> getOrders(AuthContext authContext, OrderQuery query) {
+            String shopId = authContext.getShopId();
+            if (query.getPageToken() == null) {
+                synchronized (this) {
+                    firstPageQueries.add(query);
+                    int windowIndex = windowIndexes.merge(shopId, 1, Integer::sum) - 1;
+                    firstPageCalls.add(shopId + "#" + windowIndex);
+                }
+            }
+            if (failingShops.contains(shopId)) {
+                throw new EcommIntegrationException("【Stub】店铺 " + shopId + " 接口异常");
+            }
+            int page = query.getPageToken() == null ? 1 : Integer.parseInt(query.getPageToken());
+            Instant windowFrom = query.getUpdateTimeFrom() != null ? query.getUpdateTimeFrom() : query.getCreateTimeFrom();
+            UnifiedOrder order = new UnifiedOrder();
+            order.setOrderId(shopId + "@" + windowFrom + "#" + page);
+            return new PaginatedResult<>(List.of(order), page < pagesPerWindow ? String.valueOf(page + 1) : null);
+        }
+
+        @Override
+        public List<UnifiedOrder> getOrderDetails(AuthContext authContext, List<String> orderIds) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public Duration getMaxQueryWindow() {
+            return maxQueryWindow;
+        }
+
+        synchronized List<OrderQuery> firstPageQueries() {
+            List<OrderQuery> queries = new ArrayList<>(firstPageQueries);
+            queries.sort((left, right) -> windowStart(left).compareTo(windowStart(right)));
+            return queries;
+        }
+
+        synchronized List<String> firstPageCalls() {
+            return new ArrayList<>(firstPageCalls);
+        }
+
+        private static Instant windowStart(OrderQuery query) {
+            return query.getUpdateTimeFrom() != null ? query.getUpdateTimeFrom() : query.getCreateTimeFrom();
+        }
+    }
+}